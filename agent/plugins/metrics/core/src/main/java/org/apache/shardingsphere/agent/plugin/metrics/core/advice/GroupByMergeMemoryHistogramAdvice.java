@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.advice;
+
+import org.apache.shardingsphere.agent.api.advice.TargetAdviceObject;
+import org.apache.shardingsphere.agent.api.advice.type.ConstructorAdvice;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.HistogramMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.infra.merge.result.MemoryEstimatedMergedResult;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Group by merge memory histogram advice.
+ */
+public final class GroupByMergeMemoryHistogramAdvice implements ConstructorAdvice {
+    
+    private final MetricConfiguration config = new MetricConfiguration("group_by_merge_memory_bytes",
+            MetricCollectorType.HISTOGRAM, "Estimated memory bytes histogram of group by merging", Collections.emptyList(), Collections.singletonMap("buckets", getBucketsMap()));
+    
+    private static Map<String, Object> getBucketsMap() {
+        Map<String, Object> result = new HashMap<>(4, 1F);
+        result.put("type", "exp");
+        result.put("start", 1024);
+        result.put("factor", 4);
+        result.put("count", 12);
+        return result;
+    }
+    
+    @Override
+    public void onConstructor(final TargetAdviceObject target, final Object[] args, final String pluginType) {
+        if (target instanceof MemoryEstimatedMergedResult) {
+            MetricsCollectorRegistry.<HistogramMetricsCollector>get(config, pluginType).observe(((MemoryEstimatedMergedResult) target).getEstimatedMemoryBytes());
+        }
+    }
+}
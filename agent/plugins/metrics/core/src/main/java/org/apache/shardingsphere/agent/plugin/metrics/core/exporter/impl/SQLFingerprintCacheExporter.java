@@ -0,0 +1,57 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.exporter.MetricsExporter;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngineFactory;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+/**
+ * SQL fingerprint cache exporter.
+ */
+public final class SQLFingerprintCacheExporter implements MetricsExporter {
+    
+    private final MetricConfiguration config = new MetricConfiguration("parsed_sql_fingerprint_cache",
+            MetricCollectorType.GAUGE_METRIC_FAMILY, "SQL fingerprint cache statistics by database type. hit and miss are lookup counts; eviction is evicted parse tree count",
+            Arrays.asList("database_type", "name"), Collections.emptyMap());
+    
+    @Override
+    public Optional<GaugeMetricFamilyMetricsCollector> export(final String pluginType) {
+        GaugeMetricFamilyMetricsCollector result = MetricsCollectorRegistry.get(config, pluginType);
+        result.cleanMetrics();
+        for (Entry<DatabaseType, SQLStatementParserEngine> entry : SQLStatementParserEngineFactory.getAllSQLStatementParserEngines().entrySet()) {
+            CacheStats cacheStats = entry.getValue().getSQLFingerprintCacheStats();
+            String databaseType = entry.getKey().getType();
+            result.addMetric(Arrays.asList(databaseType, "hit"), cacheStats.hitCount());
+            result.addMetric(Arrays.asList(databaseType, "miss"), cacheStats.missCount());
+            result.addMetric(Arrays.asList(databaseType, "eviction"), cacheStats.evictionCount());
+        }
+        return Optional.of(result);
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.agent.plugin.metrics.core.exporter.impl;
+
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.MetricsCollectorRegistry;
+import org.apache.shardingsphere.agent.plugin.metrics.core.collector.type.GaugeMetricFamilyMetricsCollector;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricCollectorType;
+import org.apache.shardingsphere.agent.plugin.metrics.core.config.MetricConfiguration;
+import org.apache.shardingsphere.agent.plugin.metrics.core.fixture.collector.MetricsCollectorFixture;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngine;
+import org.apache.shardingsphere.infra.parser.sql.SQLStatementParserEngineFactory;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.engine.api.CacheOption;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SQLFingerprintCacheExporterTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "MySQL");
+    
+    @AfterEach
+    void reset() {
+        MetricConfiguration config = new MetricConfiguration("parsed_sql_fingerprint_cache", MetricCollectorType.GAUGE_METRIC_FAMILY, null, Arrays.asList("database_type", "name"), Collections.emptyMap());
+        ((MetricsCollectorFixture) MetricsCollectorRegistry.get(config, "FIXTURE")).reset();
+        SQLStatementParserEngineFactory.getSQLStatementParserEngine(databaseType, new CacheOption(128, 1024L), new CacheOption(128, 1024L), new CacheOption(0, 0L));
+    }
+    
+    @Test
+    void assertExport() {
+        SQLStatementParserEngine engine = SQLStatementParserEngineFactory.getSQLStatementParserEngine(databaseType, new CacheOption(128, 1024L), new CacheOption(128, 1024L), new CacheOption(16, 16L));
+        engine.parse("SELECT * FROM t_order WHERE order_id = 1", false);
+        engine.parse("SELECT * FROM t_order WHERE order_id = 2", false);
+        Optional<GaugeMetricFamilyMetricsCollector> collector = new SQLFingerprintCacheExporter().export("FIXTURE");
+        assertTrue(collector.isPresent());
+        assertThat(collector.get().toString(), containsString("hit=1"));
+        assertThat(collector.get().toString(), containsString("miss=1"));
+        assertThat(collector.get().toString(), containsString("eviction=0"));
+    }
+}
@@ -23,6 +23,7 @@ import io.netty.channel.ChannelHandlerContext;
 import org.apache.shardingsphere.database.protocol.codec.DatabasePacketCodecEngine;
 import org.apache.shardingsphere.database.protocol.constant.CommonConstants;
 import org.apache.shardingsphere.database.protocol.mysql.constant.MySQLConstants;
+import org.apache.shardingsphere.database.protocol.mysql.packet.MySQLPacketBatch;
 import org.apache.shardingsphere.database.protocol.mysql.packet.generic.MySQLErrPacket;
 import org.apache.shardingsphere.database.protocol.mysql.payload.MySQLPacketPayload;
 import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
@@ -86,6 +87,10 @@ public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine {
     
     @Override
     public void encode(final ChannelHandlerContext context, final DatabasePacket message, final ByteBuf out) {
+        if (message instanceof MySQLPacketBatch) {
+            writePacketBatch(context, (MySQLPacketBatch) message);
+            return;
+        }
         MySQLPacketPayload payload = new MySQLPacketPayload(prepareMessageHeader(out).markWriterIndex(), getResultCharset(context));
         try {
             message.write(payload);
@@ -103,6 +108,11 @@ public final class MySQLPacketCodecEngine implements DatabasePacketCodecEngine {
         }
     }
     
+    private void writePacketBatch(final ChannelHandlerContext context, final MySQLPacketBatch packetBatch) {
+        packetBatch.assignSequenceIds(context.channel().attr(MySQLConstants.SEQUENCE_ID_ATTRIBUTE_KEY).get().getAndAdd(packetBatch.getPacketCount()));
+        context.write(packetBatch.content().retain());
+    }
+    
     private Charset getResultCharset(final ChannelHandlerContext context) {
         Charset result = context.channel().attr(MySQLConstants.RESULT_CHARSET_ATTRIBUTE_KEY).get();
         return null == result ? context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get() : result;
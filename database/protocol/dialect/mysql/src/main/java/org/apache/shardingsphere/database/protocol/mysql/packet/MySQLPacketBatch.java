@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.database.protocol.mysql.packet;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.DefaultByteBufHolder;
+import lombok.Getter;
+import org.apache.shardingsphere.database.protocol.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.database.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.database.protocol.payload.PacketPayload;
+import org.apache.shardingsphere.infra.exception.generic.UnknownSQLException;
+
+import java.nio.charset.Charset;
+
+/**
+ * Batch of MySQL packets encoded in advance.
+ * 
+ * <p>Packets are encoded with their headers by the thread which produces them, sequence IDs are left blank and assigned by codec in writing order.
+ * The content is released by channel if the batch is discarded before being encoded.</p>
+ */
+public final class MySQLPacketBatch extends DefaultByteBufHolder implements DatabasePacket {
+    
+    public static final int MAX_PACKET_LENGTH = 0xFFFFFF;
+    
+    private static final int HEADER_LENGTH = 4;
+    
+    private final ByteBuf byteBuf;
+    
+    private final MySQLPacketPayload payload;
+    
+    @Getter
+    private int packetCount;
+    
+    public MySQLPacketBatch(final ByteBuf byteBuf, final Charset charset) {
+        super(byteBuf);
+        this.byteBuf = byteBuf;
+        payload = new MySQLPacketPayload(byteBuf, charset);
+    }
+    
+    /**
+     * Add packet.
+     *
+     * @param packet packet to be added
+     * @return added or not, packet which can not fit in one MySQL packet is not added
+     */
+    public boolean add(final MySQLPacket packet) {
+        int headerIndex = byteBuf.writerIndex();
+        byteBuf.writeInt(0);
+        try {
+            packet.write(payload);
+            // CHECKSTYLE:OFF
+        } catch (final RuntimeException ex) {
+            // CHECKSTYLE:ON
+            byteBuf.writerIndex(headerIndex + HEADER_LENGTH);
+            new MySQLErrPacket(new UnknownSQLException(ex).toSQLException()).write(payload);
+        }
+        int payloadLength = byteBuf.writerIndex() - headerIndex - HEADER_LENGTH;
+        if (payloadLength >= MAX_PACKET_LENGTH) {
+            byteBuf.writerIndex(headerIndex);
+            return false;
+        }
+        byteBuf.setMediumLE(headerIndex, payloadLength);
+        packetCount++;
+        return true;
+    }
+    
+    /**
+     * Get encoded size in bytes.
+     *
+     * @return encoded size in bytes
+     */
+    public int getSize() {
+        return byteBuf.readableBytes();
+    }
+    
+    /**
+     * Assign sequence IDs to packets in batch.
+     *
+     * @param firstSequenceId sequence ID of first packet
+     */
+    public void assignSequenceIds(final int firstSequenceId) {
+        int sequenceId = firstSequenceId;
+        for (int headerIndex = byteBuf.readerIndex(); headerIndex < byteBuf.writerIndex(); headerIndex += HEADER_LENGTH + byteBuf.getUnsignedMediumLE(headerIndex)) {
+            byteBuf.setByte(headerIndex + 3, sequenceId++);
+        }
+    }
+    
+    @Override
+    public void write(final PacketPayload payload) {
+        payload.getByteBuf().writeBytes(byteBuf, byteBuf.readerIndex(), byteBuf.readableBytes());
+    }
+}
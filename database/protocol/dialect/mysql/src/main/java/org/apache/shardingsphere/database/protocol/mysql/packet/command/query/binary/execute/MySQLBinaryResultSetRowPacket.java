@@ -19,11 +19,15 @@ package org.apache.shardingsphere.database.protocol.mysql.packet.command.query.b
 
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.database.protocol.binary.BinaryCell;
+import org.apache.shardingsphere.database.protocol.binary.BinaryColumnType;
 import org.apache.shardingsphere.database.protocol.binary.BinaryRow;
 import org.apache.shardingsphere.database.protocol.mysql.packet.MySQLPacket;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.binary.execute.protocol.MySQLBinaryProtocolValueFactory;
 import org.apache.shardingsphere.database.protocol.mysql.payload.MySQLPacketPayload;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Binary result set row packet for MySQL.
  * 
@@ -36,7 +40,18 @@ public final class MySQLBinaryResultSetRowPacket extends MySQLPacket {
     
     private static final int NULL_BITMAP_OFFSET = 2;
     
-    private final BinaryRow row;
+    private final List<BinaryColumnType> columnTypes;
+    
+    private final List<Object> values;
+    
+    public MySQLBinaryResultSetRowPacket(final BinaryRow row) {
+        columnTypes = new ArrayList<>(row.getCells().size());
+        values = new ArrayList<>(row.getCells().size());
+        for (BinaryCell each : row.getCells()) {
+            columnTypes.add(each.getColumnType());
+            values.add(each.getData());
+        }
+    }
     
     @Override
     protected void write(final MySQLPacketPayload payload) {
@@ -52,10 +67,10 @@ public final class MySQLBinaryResultSetRowPacket extends MySQLPacket {
     }
     
     private MySQLNullBitmap getNullBitmap() {
-        MySQLNullBitmap result = new MySQLNullBitmap(row.getCells().size(), NULL_BITMAP_OFFSET);
+        MySQLNullBitmap result = new MySQLNullBitmap(values.size(), NULL_BITMAP_OFFSET);
         int index = 0;
-        for (BinaryCell each : row.getCells()) {
-            if (null == each.getData()) {
+        for (Object each : values) {
+            if (null == each) {
                 result.setNullBit(index);
             }
             index++;
@@ -64,11 +79,12 @@ public final class MySQLBinaryResultSetRowPacket extends MySQLPacket {
     }
     
     private void writeValues(final MySQLPacketPayload payload) {
-        for (BinaryCell each : row.getCells()) {
-            Object data = each.getData();
-            if (null != data) {
-                MySQLBinaryProtocolValueFactory.getBinaryProtocolValue(each.getColumnType()).write(payload, data);
+        int index = 0;
+        for (Object each : values) {
+            if (null != each) {
+                MySQLBinaryProtocolValueFactory.getBinaryProtocolValue(columnTypes.get(index)).write(payload, each);
             }
+            index++;
         }
     }
 }
@@ -74,6 +74,8 @@ public final class MySQLTextResultSetRowPacket extends MySQLPacket {
     private void writeDataIntoPayload(final MySQLPacketPayload payload, final Object data) {
         if (data instanceof byte[]) {
             payload.writeBytesLenenc((byte[]) data);
+        } else if (data instanceof Integer || data instanceof Long || data instanceof Short || data instanceof Byte) {
+            payload.writeLongStringLenenc(((Number) data).longValue());
         } else if (data instanceof Timestamp && 0 == ((Timestamp) data).getNanos()) {
             payload.writeStringLenenc(data.toString().split("\\.")[0]);
         } else if (data instanceof BigDecimal) {
@@ -183,12 +183,12 @@ public final class MySQLPacketPayload implements PacketPayload {
             byteBuf.writeByte((int) value);
             return;
         }
-        if (value < Math.pow(2D, 16D)) {
+        if (value < 0x10000L) {
             byteBuf.writeByte(0xfc);
             byteBuf.writeShortLE((int) value);
             return;
         }
-        if (value < Math.pow(2D, 24D)) {
+        if (value < 0x1000000L) {
             byteBuf.writeByte(0xfd);
             byteBuf.writeMediumLE((int) value);
             return;
@@ -247,6 +247,37 @@ public final class MySQLPacketPayload implements PacketPayload {
         byteBuf.writeBytes(valueBytes);
     }
     
+    /**
+     * Write lenenc string of long value in decimal to byte buffers.
+     * 
+     * <p>Digits are written into byte buffers directly without creating string.</p>
+     *
+     * @param value long value
+     */
+    public void writeLongStringLenenc(final long value) {
+        if (Long.MIN_VALUE == value) {
+            writeStringLenenc(Long.toString(value));
+            return;
+        }
+        long absoluteValue = Math.abs(value);
+        int digitCount = 1;
+        for (long each = absoluteValue; each >= 10L; each /= 10L) {
+            digitCount++;
+        }
+        byteBuf.writeByte(value < 0L ? digitCount + 1 : digitCount);
+        if (value < 0L) {
+            byteBuf.writeByte('-');
+        }
+        byteBuf.ensureWritable(digitCount);
+        int index = byteBuf.writerIndex() + digitCount;
+        byteBuf.writerIndex(index);
+        long remaining = absoluteValue;
+        do {
+            byteBuf.setByte(--index, '0' + (int) (remaining % 10L));
+            remaining /= 10L;
+        } while (remaining > 0L);
+    }
+    
     /**
      * Write lenenc bytes to byte buffers.
      *
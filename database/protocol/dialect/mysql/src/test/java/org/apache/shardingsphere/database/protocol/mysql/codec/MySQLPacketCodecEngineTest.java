@@ -25,6 +25,7 @@ import io.netty.channel.ChannelHandlerContext;
 import io.netty.util.AttributeKey;
 import org.apache.shardingsphere.database.protocol.mysql.constant.MySQLConstants;
 import org.apache.shardingsphere.database.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.database.protocol.mysql.packet.MySQLPacketBatch;
 import org.apache.shardingsphere.database.protocol.mysql.payload.MySQLPacketPayload;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -202,6 +203,20 @@ class MySQLPacketCodecEngineTest {
         verify(byteBuf).setByte(3, 2);
     }
     
+    @Test
+    void assertEncodePacketBatch() {
+        MySQLPacketBatch packetBatch = new MySQLPacketBatch(Unpooled.buffer(), StandardCharsets.UTF_8);
+        packetBatch.add(mock(MySQLPacket.class));
+        packetBatch.add(mock(MySQLPacket.class));
+        context.channel().attr(MySQLConstants.SEQUENCE_ID_ATTRIBUTE_KEY).get().set(3);
+        new MySQLPacketCodecEngine().encode(context, packetBatch, byteBuf);
+        verify(context).write(packetBatch.content());
+        assertThat(packetBatch.content().refCnt(), is(2));
+        assertThat(packetBatch.content().getUnsignedByte(3), is((short) 3));
+        assertThat(packetBatch.content().getUnsignedByte(7), is((short) 4));
+        assertThat(context.channel().attr(MySQLConstants.SEQUENCE_ID_ATTRIBUTE_KEY).get().get(), is(5));
+    }
+    
     @Test
     void assertCreatePacketPayload() {
         assertThat(new MySQLPacketCodecEngine().createPacketPayload(byteBuf, StandardCharsets.UTF_8).getByteBuf(), is(byteBuf));
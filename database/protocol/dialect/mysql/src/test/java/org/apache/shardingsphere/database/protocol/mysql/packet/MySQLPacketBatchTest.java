@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.database.protocol.mysql.packet;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.database.protocol.mysql.packet.generic.MySQLEofPacket;
+import org.apache.shardingsphere.database.protocol.mysql.packet.generic.MySQLErrPacket;
+import org.apache.shardingsphere.database.protocol.mysql.payload.MySQLPacketPayload;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+
+class MySQLPacketBatchTest {
+    
+    @Test
+    void assertAdd() {
+        MySQLPacketBatch actual = new MySQLPacketBatch(Unpooled.buffer(), StandardCharsets.UTF_8);
+        assertTrue(actual.add(new MySQLEofPacket(2)));
+        assertTrue(actual.add(new MySQLEofPacket(2)));
+        assertThat(actual.getPacketCount(), is(2));
+        assertThat(actual.getSize(), is(18));
+        assertThat(actual.content().getUnsignedMediumLE(0), is(5));
+        assertThat(actual.content().getUnsignedByte(4), is((short) MySQLEofPacket.HEADER));
+        assertThat(actual.content().getUnsignedMediumLE(9), is(5));
+        actual.release();
+    }
+    
+    @Test
+    void assertAddOccursException() {
+        MySQLPacket packet = mock(MySQLPacket.class);
+        doThrow(IllegalStateException.class).when(packet).write(any(MySQLPacketPayload.class));
+        MySQLPacketBatch actual = new MySQLPacketBatch(Unpooled.buffer(), StandardCharsets.UTF_8);
+        assertTrue(actual.add(packet));
+        assertThat(actual.getPacketCount(), is(1));
+        assertThat(actual.content().getUnsignedByte(4), is((short) MySQLErrPacket.HEADER));
+        actual.release();
+    }
+    
+    @Test
+    void assertAddPacketMoreThan16MB() {
+        MySQLPacket packet = mock(MySQLPacket.class);
+        doAnswer(invocation -> invocation.<MySQLPacketPayload>getArgument(0).getByteBuf().writeZero(0xFFFFFF)).when(packet).write(any(MySQLPacketPayload.class));
+        MySQLPacketBatch actual = new MySQLPacketBatch(Unpooled.buffer(), StandardCharsets.UTF_8);
+        assertTrue(actual.add(new MySQLEofPacket(2)));
+        assertFalse(actual.add(packet));
+        assertThat(actual.getPacketCount(), is(1));
+        assertThat(actual.getSize(), is(9));
+        actual.release();
+    }
+    
+    @Test
+    void assertAssignSequenceIds() {
+        MySQLPacketBatch actual = new MySQLPacketBatch(Unpooled.buffer(), StandardCharsets.UTF_8);
+        actual.add(new MySQLEofPacket(2));
+        actual.add(new MySQLEofPacket(2));
+        actual.assignSequenceIds(255);
+        assertThat(actual.content().getUnsignedByte(3), is((short) 255));
+        assertThat(actual.content().getUnsignedByte(12), is((short) 0));
+        actual.release();
+    }
+    
+    @Test
+    void assertWrite() {
+        MySQLPacketBatch packetBatch = new MySQLPacketBatch(Unpooled.buffer(), StandardCharsets.UTF_8);
+        packetBatch.add(new MySQLEofPacket(2));
+        ByteBuf actual = Unpooled.buffer();
+        packetBatch.write(new MySQLPacketPayload(actual, StandardCharsets.UTF_8));
+        assertThat(actual.readableBytes(), is(9));
+        assertThat(packetBatch.getSize(), is(9));
+        packetBatch.release();
+    }
+}
@@ -45,4 +45,13 @@ class MySQLBinaryResultSetRowPacketTest {
         verify(payload).writeInt1(0x08);
         verify(payload).writeStringLenenc("value");
     }
+    
+    @Test
+    void assertWriteWithColumnTypesAndValues() {
+        MySQLBinaryResultSetRowPacket actual = new MySQLBinaryResultSetRowPacket(Arrays.asList(MySQLBinaryColumnType.LONG, MySQLBinaryColumnType.STRING), Arrays.asList(null, "value"));
+        actual.write(payload);
+        verify(payload).writeInt1(0x00);
+        verify(payload).writeInt1(0x04);
+        verify(payload).writeStringLenenc("value");
+    }
 }
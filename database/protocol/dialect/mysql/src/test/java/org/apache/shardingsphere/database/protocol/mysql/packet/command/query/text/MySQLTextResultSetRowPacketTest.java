@@ -114,6 +114,15 @@ class MySQLTextResultSetRowPacketTest {
         verify(payload).writeStringLenenc(expectedValue);
     }
     
+    @Test
+    void assertWriteIntegralNumbers() {
+        new MySQLTextResultSetRowPacket(Arrays.asList(1, -2L, (short) 3, (byte) 4)).write((PacketPayload) payload);
+        verify(payload).writeLongStringLenenc(1L);
+        verify(payload).writeLongStringLenenc(-2L);
+        verify(payload).writeLongStringLenenc(3L);
+        verify(payload).writeLongStringLenenc(4L);
+    }
+    
     @Test
     void assertWriteBlob() throws SQLException, IOException {
         byte[] expected = {0x00, (byte) 0x80, (byte) 0xff, 0x41};
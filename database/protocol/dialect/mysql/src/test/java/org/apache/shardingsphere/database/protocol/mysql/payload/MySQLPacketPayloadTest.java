@@ -22,6 +22,8 @@ import io.netty.buffer.ByteBufUtil;
 import io.netty.buffer.Unpooled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -206,6 +208,15 @@ class MySQLPacketPayloadTest {
         verify(byteBuf).writeByte(0);
     }
     
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(longs = {0L, 7L, 10L, -10L, 1234567890123L, Long.MAX_VALUE, Long.MIN_VALUE})
+    void assertWriteLongStringLenenc(final long value) {
+        ByteBuf actual = Unpooled.buffer(1);
+        new MySQLPacketPayload(actual, StandardCharsets.UTF_8).writeLongStringLenenc(value);
+        assertThat(new MySQLPacketPayload(actual, StandardCharsets.UTF_8).readStringLenenc(), is(Long.toString(value)));
+        assertThat(actual.readableBytes(), is(0));
+    }
+    
     @Test
     void assertWriteBytesLenenc() {
         new MySQLPacketPayload(byteBuf, StandardCharsets.UTF_8).writeBytesLenenc("value".getBytes());
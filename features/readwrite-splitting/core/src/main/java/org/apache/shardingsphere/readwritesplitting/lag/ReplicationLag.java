@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Replication lag.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class ReplicationLag {
+    
+    private final long lagMillis;
+    
+    private final long probedMillis;
+    
+    /**
+     * Judge whether replica has applied writes up to timestamp.
+     * 
+     * <p>It is best effort, because probed lag is an estimate by the replica and timestamp is taken from the clock of ShardingSphere.</p>
+     *
+     * @param timestampMillis timestamp millis
+     * @return applied or not
+     */
+    public boolean isAppliedUpTo(final long timestampMillis) {
+        return Long.MAX_VALUE != lagMillis && probedMillis - lagMillis >= timestampMillis;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+
+import java.sql.Connection;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replication lag monitor.
+ * 
+ * <p>Probing starts on first demand, lag of replica which cannot be probed is unknown.</p>
+ */
+@RequiredArgsConstructor
+public final class ReplicationLagMonitor implements AutoCloseable {
+    
+    private static final long PROBE_INTERVAL_MILLIS = 1000L;
+    
+    private final String databaseName;
+    
+    private final Map<String, StorageUnit> readStorageUnits;
+    
+    private final Map<String, ReplicationLag> replicationLags = new ConcurrentHashMap<>();
+    
+    private volatile ScheduledExecutorService probeExecutor;
+    
+    private boolean closed;
+    
+    /**
+     * Start probing if not started.
+     */
+    public void start() {
+        if (null != probeExecutor) {
+            return;
+        }
+        synchronized (this) {
+            if (null != probeExecutor || closed || readStorageUnits.isEmpty()) {
+                return;
+            }
+            probeExecutor = Executors.newSingleThreadScheduledExecutor(ExecutorThreadFactoryBuilder.build("ReplicationLagMonitor-" + databaseName + "-%d"));
+            probeExecutor.scheduleWithFixedDelay(this::probe, 0L, PROBE_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    void probe() {
+        for (Entry<String, StorageUnit> entry : readStorageUnits.entrySet()) {
+            Optional<ReplicationLagProbe> probe = DatabaseTypedSPILoader.findService(ReplicationLagProbe.class, entry.getValue().getStorageType());
+            if (probe.isPresent()) {
+                probe(entry.getKey(), entry.getValue(), probe.get());
+            }
+        }
+    }
+    
+    private void probe(final String dataSourceName, final StorageUnit storageUnit, final ReplicationLagProbe probe) {
+        long probedMillis = System.currentTimeMillis();
+        try (Connection connection = storageUnit.getDataSource().getConnection()) {
+            OptionalLong lagMillis = probe.probe(connection);
+            if (lagMillis.isPresent()) {
+                replicationLags.put(dataSourceName, new ReplicationLag(lagMillis.getAsLong(), probedMillis));
+            } else {
+                replicationLags.remove(dataSourceName);
+            }
+            // CHECKSTYLE:OFF
+        } catch (final Exception ignored) {
+            // CHECKSTYLE:ON
+            replicationLags.remove(dataSourceName);
+        }
+    }
+    
+    /**
+     * Find replication lag.
+     *
+     * @param dataSourceName read data source name
+     * @return replication lag, empty if unknown
+     */
+    public Optional<ReplicationLag> findReplicationLag(final String dataSourceName) {
+        return Optional.ofNullable(replicationLags.get(dataSourceName));
+    }
+    
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (null != probeExecutor) {
+            probeExecutor.shutdownNow();
+        }
+        replicationLags.clear();
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag.dialect;
+
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLagProbe;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.OptionalLong;
+
+/**
+ * Replication lag probe for MySQL.
+ * 
+ * <p>Multi-source replica reports one row per channel, the slowest channel is the lag of replica.
+ * The lag is reported in whole seconds and truncated, so it is rounded up to the next second.</p>
+ */
+public final class MySQLReplicationLagProbe implements ReplicationLagProbe {
+    
+    @Override
+    public OptionalLong probe(final Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            try {
+                return probe(statement, "SHOW REPLICA STATUS", "Seconds_Behind_Source");
+            } catch (final SQLException ignored) {
+                return probe(statement, "SHOW SLAVE STATUS", "Seconds_Behind_Master");
+            }
+        }
+    }
+    
+    private OptionalLong probe(final Statement statement, final String sql, final String lagColumnLabel) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery(sql)) {
+            if (!resultSet.next()) {
+                return OptionalLong.empty();
+            }
+            long result = 0L;
+            do {
+                long lagSeconds = resultSet.getLong(lagColumnLabel);
+                if (resultSet.wasNull()) {
+                    return OptionalLong.of(Long.MAX_VALUE);
+                }
+                result = Math.max(result, (lagSeconds + 1L) * 1000L);
+            } while (resultSet.next());
+            return OptionalLong.of(result);
+        }
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "MySQL";
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag.dialect;
+
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLagProbe;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.OptionalLong;
+
+/**
+ * Replication lag probe for PostgreSQL.
+ * 
+ * <p>Replica which has replayed all received WAL is caught up, even if primary is idle and last replayed transaction is old.</p>
+ */
+public final class PostgreSQLReplicationLagProbe implements ReplicationLagProbe {
+    
+    private static final String PROBE_SQL = "SELECT pg_is_in_recovery(), pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn(), "
+            + "CAST(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000 AS BIGINT)";
+    
+    @Override
+    public OptionalLong probe(final Connection connection) throws SQLException {
+        try (
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(PROBE_SQL)) {
+            resultSet.next();
+            if (!resultSet.getBoolean(1)) {
+                return OptionalLong.empty();
+            }
+            if (resultSet.getBoolean(2)) {
+                return OptionalLong.of(0L);
+            }
+            long result = resultSet.getLong(3);
+            return resultSet.wasNull() ? OptionalLong.of(Long.MAX_VALUE) : OptionalLong.of(Math.max(result, 0L));
+        }
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "PostgreSQL";
+    }
+}
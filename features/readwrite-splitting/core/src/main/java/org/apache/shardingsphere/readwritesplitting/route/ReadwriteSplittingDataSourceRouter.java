@@ -19,15 +19,19 @@ package org.apache.shardingsphere.readwritesplitting.route;
 
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.route.context.HedgedReadRoute;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.readwritesplitting.route.qualified.QualifiedReadwriteSplittingDataSourceRouter;
 import org.apache.shardingsphere.readwritesplitting.route.qualified.type.QualifiedReadwriteSplittingPrimaryDataSourceRouter;
+import org.apache.shardingsphere.readwritesplitting.route.qualified.type.QualifiedReadwriteSplittingReplicationLagDataSourceRouter;
 import org.apache.shardingsphere.readwritesplitting.route.qualified.type.QualifiedReadwriteSplittingTransactionalDataSourceRouter;
 import org.apache.shardingsphere.readwritesplitting.route.standard.StandardReadwriteSplittingDataSourceRouter;
+import org.apache.shardingsphere.readwritesplitting.route.standard.filter.type.ReplicationLagReadDataSourcesFilter;
 import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceGroupRule;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Optional;
 
 /**
  * Data source router for readwrite-splitting.
@@ -38,9 +42,20 @@ public final class ReadwriteSplittingDataSourceRouter {
     
     private final Collection<QualifiedReadwriteSplittingDataSourceRouter> qualifiedRouters;
     
+    private final StandardReadwriteSplittingDataSourceRouter standardRouter;
+    
     public ReadwriteSplittingDataSourceRouter(final ReadwriteSplittingDataSourceGroupRule rule, final ConnectionContext connectionContext) {
         this.rule = rule;
         qualifiedRouters = Arrays.asList(new QualifiedReadwriteSplittingPrimaryDataSourceRouter(), new QualifiedReadwriteSplittingTransactionalDataSourceRouter(connectionContext));
+        standardRouter = new StandardReadwriteSplittingDataSourceRouter();
+    }
+    
+    public ReadwriteSplittingDataSourceRouter(final ReadwriteSplittingDataSourceGroupRule rule, final ConnectionContext connectionContext,
+                                              final ReplicationLagReadDataSourcesFilter replicationLagFilter) {
+        this.rule = rule;
+        qualifiedRouters = Arrays.asList(new QualifiedReadwriteSplittingPrimaryDataSourceRouter(), new QualifiedReadwriteSplittingTransactionalDataSourceRouter(connectionContext),
+                new QualifiedReadwriteSplittingReplicationLagDataSourceRouter(replicationLagFilter));
+        standardRouter = new StandardReadwriteSplittingDataSourceRouter(replicationLagFilter);
     }
     
     /**
@@ -56,6 +71,25 @@ public final class ReadwriteSplittingDataSourceRouter {
                 return each.route(rule);
             }
         }
-        return new StandardReadwriteSplittingDataSourceRouter().route(rule);
+        return standardRouter.route(rule);
+    }
+    
+    /**
+     * Route hedged read.
+     *
+     * @param sqlStatementContext SQL statement context
+     * @param hintValueContext hint value context
+     * @param routedDataSourceName routed data source name
+     * @param percentile latency percentile of routed data source to hedge after
+     * @return hedged read route, empty if the read should not be hedged
+     */
+    public Optional<HedgedReadRoute> routeHedgedRead(final SQLStatementContext sqlStatementContext, final HintValueContext hintValueContext,
+                                                     final String routedDataSourceName, final double percentile) {
+        for (QualifiedReadwriteSplittingDataSourceRouter each : qualifiedRouters) {
+            if (each.isQualified(sqlStatementContext, rule, hintValueContext)) {
+                return Optional.empty();
+            }
+        }
+        return standardRouter.routeHedgedRead(rule, routedDataSourceName, percentile);
     }
 }
@@ -19,17 +19,27 @@ package org.apache.shardingsphere.readwritesplitting.route;
 
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.hedge.DataSourceLatencyHistory;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.route.context.HedgedReadRoute;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.route.context.RouteMapper;
 import org.apache.shardingsphere.infra.route.context.RouteUnit;
 import org.apache.shardingsphere.infra.route.lifecycle.DecorateSQLRouter;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.session.query.QueryContext;
 import org.apache.shardingsphere.readwritesplitting.constant.ReadwriteSplittingOrder;
+import org.apache.shardingsphere.readwritesplitting.route.standard.filter.type.ReplicationLagReadDataSourcesFilter;
 import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingRule;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.ddl.DDLStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.DMLStatement;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.SelectStatement;
 
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.Optional;
 
 /**
  * Readwrite-splitting SQL router.
@@ -40,21 +50,54 @@ public final class ReadwriteSplittingSQLRouter implements DecorateSQLRouter<Read
     @Override
     public void decorateRouteContext(final RouteContext routeContext, final QueryContext queryContext, final ShardingSphereDatabase database,
                                      final ReadwriteSplittingRule rule, final Collection<String> tableNames, final ConfigurationProperties props) {
+        double hedgedReadPercentile = props.<Double>getValue(ConfigurationPropertyKey.READWRITE_SPLITTING_HEDGED_READ_PERCENTILE);
+        if (hedgedReadPercentile > 0D) {
+            DataSourceLatencyHistory.enable();
+        }
+        ReplicationLagReadDataSourcesFilter replicationLagFilter = createReplicationLagFilter(queryContext, rule, props).orElse(null);
         Collection<RouteUnit> toBeRemoved = new LinkedList<>();
         Collection<RouteUnit> toBeAdded = new LinkedList<>();
         for (RouteUnit each : routeContext.getRouteUnits()) {
             String logicDataSourceName = each.getDataSourceMapper().getActualName();
             rule.findDataSourceGroupRule(logicDataSourceName).ifPresent(optional -> {
                 toBeRemoved.add(each);
-                String actualDataSourceName =
-                        new ReadwriteSplittingDataSourceRouter(optional, queryContext.getConnectionContext()).route(queryContext.getSqlStatementContext(), queryContext.getHintValueContext());
-                toBeAdded.add(new RouteUnit(new RouteMapper(logicDataSourceName, actualDataSourceName), each.getTableMappers()));
+                ReadwriteSplittingDataSourceRouter dataSourceRouter = null == replicationLagFilter
+                        ? new ReadwriteSplittingDataSourceRouter(optional, queryContext.getConnectionContext())
+                        : new ReadwriteSplittingDataSourceRouter(optional, queryContext.getConnectionContext(), replicationLagFilter);
+                String actualDataSourceName = dataSourceRouter.route(queryContext.getSqlStatementContext(), queryContext.getHintValueContext());
+                HedgedReadRoute hedgedReadRoute = hedgedReadPercentile > 0D
+                        ? dataSourceRouter.routeHedgedRead(queryContext.getSqlStatementContext(), queryContext.getHintValueContext(), actualDataSourceName, hedgedReadPercentile).orElse(null)
+                        : null;
+                toBeAdded.add(new RouteUnit(new RouteMapper(logicDataSourceName, actualDataSourceName), each.getTableMappers(), hedgedReadRoute));
             });
         }
         routeContext.getRouteUnits().removeAll(toBeRemoved);
         routeContext.getRouteUnits().addAll(toBeAdded);
     }
     
+    private Optional<ReplicationLagReadDataSourcesFilter> createReplicationLagFilter(final QueryContext queryContext, final ReadwriteSplittingRule rule, final ConfigurationProperties props) {
+        long maxReplicationLagMillis = props.<Long>getValue(ConfigurationPropertyKey.READWRITE_SPLITTING_MAX_REPLICATION_LAG_MILLISECONDS);
+        boolean readYourWritesEnabled = props.<Boolean>getValue(ConfigurationPropertyKey.READWRITE_SPLITTING_READ_YOUR_WRITES_ENABLED);
+        if (0L == maxReplicationLagMillis && !readYourWritesEnabled) {
+            return Optional.empty();
+        }
+        rule.getReplicationLagMonitor().start();
+        long lastWriteMillis = 0L;
+        if (readYourWritesEnabled) {
+            ConnectionContext connectionContext = queryContext.getConnectionContext();
+            boolean inTransaction = connectionContext.getTransactionContext().isInTransaction();
+            lastWriteMillis = connectionContext.getWriteContext().findLastWriteMillis(inTransaction).orElse(0L);
+            if (isWriteStatement(queryContext.getSqlStatementContext().getSqlStatement())) {
+                connectionContext.getWriteContext().recordWrite(inTransaction);
+            }
+        }
+        return Optional.of(new ReplicationLagReadDataSourcesFilter(rule.getReplicationLagMonitor(), maxReplicationLagMillis, lastWriteMillis));
+    }
+    
+    private boolean isWriteStatement(final SQLStatement sqlStatement) {
+        return sqlStatement instanceof DMLStatement && !(sqlStatement instanceof SelectStatement) || sqlStatement instanceof DDLStatement;
+    }
+    
     @Override
     public Type getType() {
         return Type.DATA_SOURCE;
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.route.qualified.type;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.readwritesplitting.route.qualified.QualifiedReadwriteSplittingDataSourceRouter;
+import org.apache.shardingsphere.readwritesplitting.route.standard.filter.type.DisabledReadDataSourcesFilter;
+import org.apache.shardingsphere.readwritesplitting.route.standard.filter.type.ReplicationLagReadDataSourcesFilter;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceGroupRule;
+
+import java.util.List;
+
+/**
+ * Qualified data source replication lag router for readwrite-splitting.
+ * 
+ * <p>Route to primary when every enabled replica is behind, no enabled replica at all is still reported by standard router.</p>
+ */
+@RequiredArgsConstructor
+public final class QualifiedReadwriteSplittingReplicationLagDataSourceRouter implements QualifiedReadwriteSplittingDataSourceRouter {
+    
+    private final ReplicationLagReadDataSourcesFilter replicationLagFilter;
+    
+    @Override
+    public boolean isQualified(final SQLStatementContext sqlStatementContext, final ReadwriteSplittingDataSourceGroupRule rule, final HintValueContext hintValueContext) {
+        List<String> enabledReadDataSources = new DisabledReadDataSourcesFilter().filter(rule, rule.getReadwriteSplittingGroup().getReadDataSources());
+        return !enabledReadDataSources.isEmpty() && replicationLagFilter.filter(rule, enabledReadDataSources).isEmpty();
+    }
+    
+    @Override
+    public String route(final ReadwriteSplittingDataSourceGroupRule rule) {
+        return rule.getWriteDataSource();
+    }
+}
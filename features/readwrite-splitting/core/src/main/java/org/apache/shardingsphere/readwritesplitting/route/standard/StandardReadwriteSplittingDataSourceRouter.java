@@ -18,21 +18,36 @@
 package org.apache.shardingsphere.readwritesplitting.route.standard;
 
 import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.hedge.DataSourceLatencyHistory;
+import org.apache.shardingsphere.infra.route.context.HedgedReadRoute;
 import org.apache.shardingsphere.readwritesplitting.exception.route.NoAvailableReadwriteSplittingReadDataSourceException;
 import org.apache.shardingsphere.readwritesplitting.route.standard.filter.ReadDataSourcesFilter;
 import org.apache.shardingsphere.readwritesplitting.route.standard.filter.type.DisabledReadDataSourcesFilter;
 import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceGroupRule;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
 
 /**
  * Standard data source router for readwrite-splitting.
  */
 public final class StandardReadwriteSplittingDataSourceRouter {
     
-    private static final Collection<ReadDataSourcesFilter> FILTERS = Collections.singleton(new DisabledReadDataSourcesFilter());
+    private static final Collection<ReadDataSourcesFilter> DEFAULT_FILTERS = Collections.singleton(new DisabledReadDataSourcesFilter());
+    
+    private final Collection<ReadDataSourcesFilter> filters;
+    
+    public StandardReadwriteSplittingDataSourceRouter() {
+        filters = DEFAULT_FILTERS;
+    }
+    
+    public StandardReadwriteSplittingDataSourceRouter(final ReadDataSourcesFilter additionalFilter) {
+        filters = Arrays.asList(new DisabledReadDataSourcesFilter(), additionalFilter);
+    }
     
     /**
      * Route to data source.
@@ -46,9 +61,39 @@ public final class StandardReadwriteSplittingDataSourceRouter {
         return rule.getLoadBalancer().getTargetName(rule.getName(), availableReadDataSources);
     }
     
+    /**
+     * Route hedged read.
+     * 
+     * <p>The hedge goes to the available replica with the lowest latency at the same percentile, without consulting load balancer to keep its state intact.</p>
+     *
+     * @param rule Readwrite-splitting data source rule
+     * @param routedDataSourceName routed data source name
+     * @param percentile latency percentile of routed data source to hedge after
+     * @return hedged read route, empty if latency history of routed data source is not enough or no other replica is available
+     */
+    public Optional<HedgedReadRoute> routeHedgedRead(final ReadwriteSplittingDataSourceGroupRule rule, final String routedDataSourceName, final double percentile) {
+        OptionalLong delayNanos = DataSourceLatencyHistory.findPercentile(routedDataSourceName, percentile);
+        if (!delayNanos.isPresent()) {
+            return Optional.empty();
+        }
+        String hedgeDataSourceName = null;
+        long hedgeLatencyNanos = Long.MAX_VALUE;
+        for (String each : getFilteredReadDataSources(rule)) {
+            if (each.equals(routedDataSourceName)) {
+                continue;
+            }
+            long latencyNanos = DataSourceLatencyHistory.findPercentile(each, percentile).orElse(Long.MAX_VALUE);
+            if (null == hedgeDataSourceName || latencyNanos < hedgeLatencyNanos) {
+                hedgeDataSourceName = each;
+                hedgeLatencyNanos = latencyNanos;
+            }
+        }
+        return null == hedgeDataSourceName ? Optional.empty() : Optional.of(new HedgedReadRoute(hedgeDataSourceName, delayNanos.getAsLong()));
+    }
+    
     private List<String> getFilteredReadDataSources(final ReadwriteSplittingDataSourceGroupRule rule) {
         List<String> result = rule.getReadwriteSplittingGroup().getReadDataSources();
-        for (ReadDataSourcesFilter each : FILTERS) {
+        for (ReadDataSourcesFilter each : filters) {
             result = each.filter(rule, result);
         }
         return result;
@@ -18,11 +18,13 @@
 package org.apache.shardingsphere.readwritesplitting.rule;
 
 import lombok.Getter;
+import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.algorithm.core.config.AlgorithmConfiguration;
 import org.apache.shardingsphere.infra.algorithm.loadbalancer.spi.LoadBalanceAlgorithm;
 import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.expr.entry.InlineExpressionParserFactory;
 import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
 import org.apache.shardingsphere.infra.rule.attribute.RuleAttributes;
 import org.apache.shardingsphere.infra.rule.scope.DatabaseRule;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
@@ -32,11 +34,13 @@ import org.apache.shardingsphere.readwritesplitting.constant.ReadwriteSplittingD
 import org.apache.shardingsphere.readwritesplitting.constant.ReadwriteSplittingOrder;
 import org.apache.shardingsphere.readwritesplitting.exception.ReadwriteSplittingRuleExceptionIdentifier;
 import org.apache.shardingsphere.readwritesplitting.exception.actual.InvalidReadwriteSplittingActualDataSourceInlineExpressionException;
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLagMonitor;
 import org.apache.shardingsphere.readwritesplitting.rule.attribute.ReadwriteSplittingDataSourceMapperRuleAttribute;
 import org.apache.shardingsphere.readwritesplitting.rule.attribute.ReadwriteSplittingExportableRuleAttribute;
 import org.apache.shardingsphere.readwritesplitting.rule.attribute.ReadwriteSplittingStaticDataSourceRuleAttribute;
 import org.apache.shardingsphere.readwritesplitting.rule.attribute.ReadwriteSplittingStorageConnectorReusableRuleAttribute;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -46,7 +50,7 @@ import java.util.stream.Collectors;
 /**
  * Readwrite-splitting rule.
  */
-public final class ReadwriteSplittingRule implements DatabaseRule {
+public final class ReadwriteSplittingRule implements DatabaseRule, AutoCloseable {
     
     @Getter
     private final ReadwriteSplittingRuleConfiguration configuration;
@@ -56,13 +60,22 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
     @Getter
     private final Map<String, ReadwriteSplittingDataSourceGroupRule> dataSourceRuleGroups;
     
+    @Getter
+    private final ReplicationLagMonitor replicationLagMonitor;
+    
     @Getter
     private final RuleAttributes attributes;
     
     public ReadwriteSplittingRule(final String databaseName, final ReadwriteSplittingRuleConfiguration ruleConfig, final ComputeNodeInstanceContext computeNodeInstanceContext) {
+        this(databaseName, ruleConfig, computeNodeInstanceContext, Collections.emptyMap());
+    }
+    
+    public ReadwriteSplittingRule(final String databaseName, final ReadwriteSplittingRuleConfiguration ruleConfig, final ComputeNodeInstanceContext computeNodeInstanceContext,
+                                  final Map<String, StorageUnit> storageUnits) {
         configuration = ruleConfig;
         loadBalancers = createLoadBalancers(ruleConfig);
         dataSourceRuleGroups = createDataSourceGroupRules(databaseName, ruleConfig);
+        replicationLagMonitor = new ReplicationLagMonitor(databaseName, getReadStorageUnits(storageUnits));
         attributes = new RuleAttributes(
                 new ReadwriteSplittingDataSourceMapperRuleAttribute(dataSourceRuleGroups.values()),
                 new ReadwriteSplittingStaticDataSourceRuleAttribute(databaseName, dataSourceRuleGroups, computeNodeInstanceContext),
@@ -110,6 +123,7 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
         for (int i = 0; i < inlineLogicDataSourceNames.size(); i++) {
             ReadwriteSplittingDataSourceGroupRuleConfiguration staticConfig = createStaticDataSourceGroupRuleConfiguration(
                     config, i, inlineLogicDataSourceNames, inlineWriteDataSourceNames, inlineReadDataSourceNames);
+            loadBalanceAlgorithm.bind(databaseName, staticConfig.getReadDataSourceNames());
             result.put(inlineLogicDataSourceNames.get(i), new ReadwriteSplittingDataSourceGroupRule(staticConfig, config.getTransactionalReadQueryStrategy(), loadBalanceAlgorithm));
         }
         return result;
@@ -122,6 +136,18 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
         return new ReadwriteSplittingDataSourceGroupRuleConfiguration(logicDataSourceNames.get(index), writeDatasourceNames.get(index), readDataSourceNames, config.getLoadBalancerName());
     }
     
+    private Map<String, StorageUnit> getReadStorageUnits(final Map<String, StorageUnit> storageUnits) {
+        Map<String, StorageUnit> result = new HashMap<>(storageUnits.size(), 1F);
+        for (ReadwriteSplittingDataSourceGroupRule each : dataSourceRuleGroups.values()) {
+            for (String readDataSourceName : each.getReadwriteSplittingGroup().getReadDataSources()) {
+                if (storageUnits.containsKey(readDataSourceName)) {
+                    result.put(readDataSourceName, storageUnits.get(readDataSourceName));
+                }
+            }
+        }
+        return result;
+    }
+    
     /**
      * Get single data source group rule.
      *
@@ -145,4 +171,15 @@ public final class ReadwriteSplittingRule implements DatabaseRule {
     public int getOrder() {
         return ReadwriteSplittingOrder.ORDER;
     }
+    
+    @SneakyThrows(Exception.class)
+    @Override
+    public void close() {
+        replicationLagMonitor.close();
+        for (LoadBalanceAlgorithm each : loadBalancers.values()) {
+            if (each instanceof AutoCloseable) {
+                ((AutoCloseable) each).close();
+            }
+        }
+    }
 }
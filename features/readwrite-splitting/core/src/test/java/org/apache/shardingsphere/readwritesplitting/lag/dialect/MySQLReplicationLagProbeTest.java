@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag.dialect;
+
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLagProbe;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.OptionalLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MySQLReplicationLagProbeTest {
+    
+    private final ReplicationLagProbe probe = new MySQLReplicationLagProbe();
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private Connection connection;
+    
+    @Test
+    void assertProbeWithoutReplicaStatus() throws SQLException {
+        when(connection.createStatement().executeQuery("SHOW REPLICA STATUS").next()).thenReturn(false);
+        assertThat(probe.probe(connection), is(OptionalLong.empty()));
+    }
+    
+    @Test
+    void assertProbeWithMultipleChannels() throws SQLException {
+        when(connection.createStatement().executeQuery("SHOW REPLICA STATUS").next()).thenReturn(true, true, false);
+        when(connection.createStatement().executeQuery("SHOW REPLICA STATUS").getLong("Seconds_Behind_Source")).thenReturn(1L, 3L);
+        assertThat(probe.probe(connection), is(OptionalLong.of(4000L)));
+    }
+    
+    @Test
+    void assertProbeWithBrokenReplication() throws SQLException {
+        when(connection.createStatement().executeQuery("SHOW REPLICA STATUS").next()).thenReturn(true);
+        when(connection.createStatement().executeQuery("SHOW REPLICA STATUS").wasNull()).thenReturn(true);
+        assertThat(probe.probe(connection), is(OptionalLong.of(Long.MAX_VALUE)));
+    }
+    
+    @Test
+    void assertProbeWithLegacyReplicaStatus() throws SQLException {
+        when(connection.createStatement().executeQuery("SHOW REPLICA STATUS")).thenThrow(SQLException.class);
+        when(connection.createStatement().executeQuery("SHOW SLAVE STATUS").next()).thenReturn(true, false);
+        when(connection.createStatement().executeQuery("SHOW SLAVE STATUS").getLong("Seconds_Behind_Master")).thenReturn(2L);
+        assertThat(probe.probe(connection), is(OptionalLong.of(3000L)));
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.lag.dialect;
+
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLagProbe;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.OptionalLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PostgreSQLReplicationLagProbeTest {
+    
+    private final ReplicationLagProbe probe = new PostgreSQLReplicationLagProbe();
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private Connection connection;
+    
+    @Mock
+    private ResultSet resultSet;
+    
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(connection.createStatement().executeQuery(anyString())).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+    }
+    
+    @Test
+    void assertProbeOnPrimary() throws SQLException {
+        assertThat(probe.probe(connection), is(OptionalLong.empty()));
+    }
+    
+    @Test
+    void assertProbeWithAllReceivedWALReplayed() throws SQLException {
+        when(resultSet.getBoolean(1)).thenReturn(true);
+        when(resultSet.getBoolean(2)).thenReturn(true);
+        assertThat(probe.probe(connection), is(OptionalLong.of(0L)));
+    }
+    
+    @Test
+    void assertProbeWithReplayBehind() throws SQLException {
+        when(resultSet.getBoolean(1)).thenReturn(true);
+        when(resultSet.getLong(3)).thenReturn(1500L);
+        assertThat(probe.probe(connection), is(OptionalLong.of(1500L)));
+    }
+    
+    @Test
+    void assertProbeWithoutReplayedTransaction() throws SQLException {
+        when(resultSet.getBoolean(1)).thenReturn(true);
+        when(resultSet.wasNull()).thenReturn(true);
+        assertThat(probe.probe(connection), is(OptionalLong.of(Long.MAX_VALUE)));
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.route.qualified.type;
+
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.random.RandomLoadBalanceAlgorithm;
+import org.apache.shardingsphere.readwritesplitting.config.rule.ReadwriteSplittingDataSourceGroupRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLag;
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLagMonitor;
+import org.apache.shardingsphere.readwritesplitting.route.standard.filter.type.ReplicationLagReadDataSourcesFilter;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceGroupRule;
+import org.apache.shardingsphere.readwritesplitting.transaction.TransactionalReadQueryStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class QualifiedReadwriteSplittingReplicationLagDataSourceRouterTest {
+    
+    private ReadwriteSplittingDataSourceGroupRule rule;
+    
+    private ReplicationLagMonitor replicationLagMonitor;
+    
+    @BeforeEach
+    void setUp() {
+        rule = new ReadwriteSplittingDataSourceGroupRule(
+                new ReadwriteSplittingDataSourceGroupRuleConfiguration("test_pr", "write_ds", Arrays.asList("read_ds_0", "read_ds_1"), null),
+                TransactionalReadQueryStrategy.DYNAMIC, new RandomLoadBalanceAlgorithm());
+        replicationLagMonitor = mock(ReplicationLagMonitor.class);
+        when(replicationLagMonitor.findReplicationLag("read_ds_0")).thenReturn(Optional.of(new ReplicationLag(3000L, 10000L)));
+        when(replicationLagMonitor.findReplicationLag("read_ds_1")).thenReturn(Optional.of(new ReplicationLag(2000L, 10000L)));
+    }
+    
+    @Test
+    void assertIsQualifiedWhenEveryReplicaIsBehind() {
+        assertTrue(new QualifiedReadwriteSplittingReplicationLagDataSourceRouter(new ReplicationLagReadDataSourcesFilter(replicationLagMonitor, 1000L, 0L)).isQualified(null, rule, null));
+    }
+    
+    @Test
+    void assertIsNotQualifiedWhenAnyReplicaIsFresh() {
+        assertFalse(new QualifiedReadwriteSplittingReplicationLagDataSourceRouter(new ReplicationLagReadDataSourcesFilter(replicationLagMonitor, 2500L, 0L)).isQualified(null, rule, null));
+    }
+    
+    @Test
+    void assertIsNotQualifiedWhenEveryReplicaIsDisabled() {
+        rule.disableDataSource("read_ds_0");
+        rule.disableDataSource("read_ds_1");
+        assertFalse(new QualifiedReadwriteSplittingReplicationLagDataSourceRouter(new ReplicationLagReadDataSourcesFilter(replicationLagMonitor, 1000L, 0L)).isQualified(null, rule, null));
+    }
+    
+    @Test
+    void assertRoute() {
+        assertThat(new QualifiedReadwriteSplittingReplicationLagDataSourceRouter(new ReplicationLagReadDataSourcesFilter(replicationLagMonitor, 1000L, 0L)).route(rule), is("write_ds"));
+    }
+}
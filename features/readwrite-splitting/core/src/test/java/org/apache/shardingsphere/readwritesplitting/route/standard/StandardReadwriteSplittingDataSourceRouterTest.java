@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.readwritesplitting.route.standard;
 
 import org.apache.shardingsphere.infra.algorithm.loadbalancer.round.robin.RoundRobinLoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.hedge.DataSourceLatencyHistory;
+import org.apache.shardingsphere.infra.route.context.HedgedReadRoute;
 import org.apache.shardingsphere.readwritesplitting.config.rule.ReadwriteSplittingDataSourceGroupRuleConfiguration;
 import org.apache.shardingsphere.readwritesplitting.exception.route.NoAvailableReadwriteSplittingReadDataSourceException;
 import org.apache.shardingsphere.readwritesplitting.transaction.TransactionalReadQueryStrategy;
@@ -27,10 +29,13 @@ import org.junit.jupiter.api.Test;
 
 import java.sql.SQLException;
 import java.util.Arrays;
+import java.util.Optional;
 
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class StandardReadwriteSplittingDataSourceRouterTest {
     
@@ -64,4 +69,29 @@ class StandardReadwriteSplittingDataSourceRouterTest {
         assertThat(actual.getSQLState(), is("42S02"));
         assertThat(actual.getMessage(), is("No available read data source in readwrite-splitting data source rule 'test_config'."));
     }
+    
+    @Test
+    void assertRouteHedgedRead() {
+        ReadwriteSplittingDataSourceGroupRule hedgedRule = new ReadwriteSplittingDataSourceGroupRule(
+                new ReadwriteSplittingDataSourceGroupRuleConfiguration("hedged_config", "write_ds", Arrays.asList("hedged_read_ds_0", "hedged_read_ds_1", "hedged_read_ds_2"), null),
+                TransactionalReadQueryStrategy.DYNAMIC, new RoundRobinLoadBalanceAlgorithm());
+        DataSourceLatencyHistory.enable();
+        for (int i = 0; i < 100; i++) {
+            DataSourceLatencyHistory.record("hedged_read_ds_0", 10000000L);
+            DataSourceLatencyHistory.record("hedged_read_ds_1", 5000000L);
+            DataSourceLatencyHistory.record("hedged_read_ds_2", 1000000L);
+        }
+        Optional<HedgedReadRoute> actual = new StandardReadwriteSplittingDataSourceRouter().routeHedgedRead(hedgedRule, "hedged_read_ds_0", 95D);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getDataSourceName(), is("hedged_read_ds_2"));
+        assertThat(actual.get().getDelayNanos(), is(DataSourceLatencyHistory.findPercentile("hedged_read_ds_0", 95D).getAsLong()));
+        hedgedRule.disableDataSource("hedged_read_ds_2");
+        assertThat(new StandardReadwriteSplittingDataSourceRouter().routeHedgedRead(hedgedRule, "hedged_read_ds_0", 95D).map(HedgedReadRoute::getDataSourceName), is(Optional.of("hedged_read_ds_1")));
+    }
+    
+    @Test
+    void assertRouteHedgedReadWithoutLatencyHistory() {
+        DataSourceLatencyHistory.enable();
+        assertFalse(new StandardReadwriteSplittingDataSourceRouter().routeHedgedRead(rule, "read_ds_0", 95D).isPresent());
+    }
 }
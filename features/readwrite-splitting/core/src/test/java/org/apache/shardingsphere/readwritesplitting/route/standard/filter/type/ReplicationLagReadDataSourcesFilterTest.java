@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.readwritesplitting.route.standard.filter.type;
+
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.random.RandomLoadBalanceAlgorithm;
+import org.apache.shardingsphere.readwritesplitting.config.rule.ReadwriteSplittingDataSourceGroupRuleConfiguration;
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLag;
+import org.apache.shardingsphere.readwritesplitting.lag.ReplicationLagMonitor;
+import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingDataSourceGroupRule;
+import org.apache.shardingsphere.readwritesplitting.transaction.TransactionalReadQueryStrategy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicationLagReadDataSourcesFilterTest {
+    
+    private ReadwriteSplittingDataSourceGroupRule rule;
+    
+    private ReplicationLagMonitor replicationLagMonitor;
+    
+    @BeforeEach
+    void setUp() {
+        rule = new ReadwriteSplittingDataSourceGroupRule(
+                new ReadwriteSplittingDataSourceGroupRuleConfiguration("test_pr", "write_ds", Arrays.asList("read_ds_0", "read_ds_1"), null),
+                TransactionalReadQueryStrategy.DYNAMIC, new RandomLoadBalanceAlgorithm());
+        replicationLagMonitor = mock(ReplicationLagMonitor.class);
+        when(replicationLagMonitor.findReplicationLag("read_ds_0")).thenReturn(Optional.of(new ReplicationLag(3000L, 10000L)));
+        when(replicationLagMonitor.findReplicationLag("read_ds_1")).thenReturn(Optional.of(new ReplicationLag(100L, 10000L)));
+    }
+    
+    @Test
+    void assertFilterWithoutLimit() {
+        assertThat(new ReplicationLagReadDataSourcesFilter(replicationLagMonitor, 0L, 0L).filter(rule, Arrays.asList("read_ds_0", "read_ds_1")), is(Arrays.asList("read_ds_0", "read_ds_1")));
+    }
+    
+    @Test
+    void assertFilterWithMaxLag() {
+        assertThat(new ReplicationLagReadDataSourcesFilter(replicationLagMonitor, 1000L, 0L).filter(rule, Arrays.asList("read_ds_0", "read_ds_1")), is(Collections.singletonList("read_ds_1")));
+    }
+    
+    @Test
+    void assertFilterWithBrokenReplication() {
+        when(replicationLagMonitor.findReplicationLag("read_ds_1")).thenReturn(Optional.of(new ReplicationLag(Long.MAX_VALUE, 10000L)));
+        assertThat(new ReplicationLagReadDataSourcesFilter(replicationLagMonitor, 5000L, 0L).filter(rule, Arrays.asList("read_ds_0", "read_ds_1")), is(Collections.singletonList("read_ds_0")));
+    }
+    
+    @Test
+    void assertFilterWithLastWrite() {
+        assertThat(new ReplicationLagReadDataSourcesFilter(replicationLagMonitor, 0L, 9000L).filter(rule, Arrays.asList("read_ds_0", "read_ds_1")), is(Collections.singletonList("read_ds_1")));
+    }
+    
+    @Test
+    void assertFilterWithUnknownLag() {
+        when(replicationLagMonitor.findReplicationLag("read_ds_0")).thenReturn(Optional.empty());
+        assertThat(new ReplicationLagReadDataSourcesFilter(replicationLagMonitor, 1000L, 0L).filter(rule, Arrays.asList("read_ds_0", "read_ds_1")), is(Arrays.asList("read_ds_0", "read_ds_1")));
+        assertThat(new ReplicationLagReadDataSourcesFilter(replicationLagMonitor, 1000L, 9000L).filter(rule, Arrays.asList("read_ds_0", "read_ds_1")), is(Collections.singletonList("read_ds_1")));
+    }
+}
@@ -30,6 +30,7 @@ import org.apache.shardingsphere.readwritesplitting.rule.ReadwriteSplittingRule;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.LinkedList;
+import java.util.OptionalDouble;
 import java.util.stream.Collectors;
 
 /**
@@ -42,7 +43,7 @@ public final class ShowStatusFromReadwriteSplittingRulesExecutor implements Dist
     
     @Override
     public Collection<String> getColumnNames(final ShowStatusFromReadwriteSplittingRulesStatement sqlStatement) {
-        return Arrays.asList("name", "storage_unit", "status");
+        return Arrays.asList("name", "storage_unit", "status", "load_balance_score");
     }
     
     @Override
@@ -62,11 +63,13 @@ public final class ShowStatusFromReadwriteSplittingRulesExecutor implements Dist
     
     private Collection<LocalDataQueryResultRow> buildRows(final ReadwriteSplittingDataSourceGroupRule dataSourceGroupRule) {
         return dataSourceGroupRule.getReadwriteSplittingGroup().getReadDataSources().stream()
-                .map(each -> buildRow(dataSourceGroupRule.getName(), each, dataSourceGroupRule.getDisabledDataSourceNames().contains(each))).collect(Collectors.toList());
+                .map(each -> buildRow(dataSourceGroupRule.getName(), each, dataSourceGroupRule.getDisabledDataSourceNames().contains(each), dataSourceGroupRule.getLoadBalancer().findLoadScore(each)))
+                .collect(Collectors.toList());
     }
     
-    private LocalDataQueryResultRow buildRow(final String ruleName, final String dataSourceName, final boolean disabled) {
-        return new LocalDataQueryResultRow(ruleName, dataSourceName, disabled ? DataSourceState.DISABLED : DataSourceState.ENABLED);
+    private LocalDataQueryResultRow buildRow(final String ruleName, final String dataSourceName, final boolean disabled, final OptionalDouble loadBalanceScore) {
+        return new LocalDataQueryResultRow(ruleName, dataSourceName, disabled ? DataSourceState.DISABLED : DataSourceState.ENABLED,
+                loadBalanceScore.isPresent() ? String.format("%.3f", loadBalanceScore.getAsDouble()) : "");
     }
     
     @Override
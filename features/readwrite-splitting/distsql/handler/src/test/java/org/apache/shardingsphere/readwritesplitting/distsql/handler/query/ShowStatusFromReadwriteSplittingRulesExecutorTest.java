@@ -35,9 +35,11 @@ import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.OptionalDouble;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -49,7 +51,7 @@ class ShowStatusFromReadwriteSplittingRulesExecutorTest {
     
     @Test
     void assertGetColumnNames() {
-        assertThat(executor.getColumnNames(new ShowStatusFromReadwriteSplittingRulesStatement(null, null)), is(Arrays.asList("name", "storage_unit", "status")));
+        assertThat(executor.getColumnNames(new ShowStatusFromReadwriteSplittingRulesStatement(null, null)), is(Arrays.asList("name", "storage_unit", "status", "load_balance_score")));
     }
     
     @Test
@@ -57,9 +59,9 @@ class ShowStatusFromReadwriteSplittingRulesExecutorTest {
         executor.setRule(mockRule(createDataSourceGroupRules()));
         LinkedList<LocalDataQueryResultRow> actual = new LinkedList<>(executor.getRows(new ShowStatusFromReadwriteSplittingRulesStatement(null, null), mock(ContextManager.class)));
         assertThat(actual.size(), is(3));
-        assertRow(actual.get(0), "foo_rule", "read_ds_0", DataSourceState.ENABLED.name());
-        assertRow(actual.get(1), "foo_rule", "read_ds_1", DataSourceState.DISABLED.name());
-        assertRow(actual.get(2), "bar_rule", "read_ds_2", DataSourceState.ENABLED.name());
+        assertRow(actual.get(0), "foo_rule", "read_ds_0", DataSourceState.ENABLED.name(), "1.500");
+        assertRow(actual.get(1), "foo_rule", "read_ds_1", DataSourceState.DISABLED.name(), "");
+        assertRow(actual.get(2), "bar_rule", "read_ds_2", DataSourceState.ENABLED.name(), "");
     }
     
     @Test
@@ -67,8 +69,8 @@ class ShowStatusFromReadwriteSplittingRulesExecutorTest {
         executor.setRule(mockRule(createDataSourceGroupRules()));
         List<LocalDataQueryResultRow> actual = new ArrayList<>(executor.getRows(new ShowStatusFromReadwriteSplittingRulesStatement(null, "FOO_RULE"), mock(ContextManager.class)));
         assertThat(actual.size(), is(2));
-        assertRow(actual.get(0), "foo_rule", "read_ds_0", DataSourceState.ENABLED.name());
-        assertRow(actual.get(1), "foo_rule", "read_ds_1", DataSourceState.DISABLED.name());
+        assertRow(actual.get(0), "foo_rule", "read_ds_0", DataSourceState.ENABLED.name(), "1.500");
+        assertRow(actual.get(1), "foo_rule", "read_ds_1", DataSourceState.DISABLED.name(), "");
     }
     
     @Test
@@ -94,12 +96,15 @@ class ShowStatusFromReadwriteSplittingRulesExecutorTest {
         when(result.getName()).thenReturn(name);
         when(result.getReadwriteSplittingGroup().getReadDataSources()).thenReturn(readDataSources);
         when(result.getDisabledDataSourceNames()).thenReturn(disabledDataSourceNames);
+        when(result.getLoadBalancer().findLoadScore(anyString())).thenReturn(OptionalDouble.empty());
+        when(result.getLoadBalancer().findLoadScore("read_ds_0")).thenReturn(OptionalDouble.of(1.5D));
         return result;
     }
     
-    private void assertRow(final LocalDataQueryResultRow row, final String expectedRuleName, final String expectedStorageUnit, final String expectedStatus) {
+    private void assertRow(final LocalDataQueryResultRow row, final String expectedRuleName, final String expectedStorageUnit, final String expectedStatus, final String expectedLoadBalanceScore) {
         assertThat(row.getCell(1), is(expectedRuleName));
         assertThat(row.getCell(2), is(expectedStorageUnit));
         assertThat(row.getCell(3), is(expectedStatus));
+        assertThat(row.getCell(4), is(expectedLoadBalanceScore));
     }
 }
@@ -35,6 +35,7 @@ buildInReadQueryLoadBalanceAlgorithmType
     : ROUND_ROBIN
     | RANDOM
     | WEIGHT
+    | LEAST_OUTSTANDING
     ;
 
 propertiesDefinition
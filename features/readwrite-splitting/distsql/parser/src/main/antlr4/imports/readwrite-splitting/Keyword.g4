@@ -131,6 +131,10 @@ WEIGHT
     : W E I G H T
     ;
 
+LEAST_OUTSTANDING
+    : L E A S T UL_ O U T S T A N D I N G
+    ;
+
 NOT
     : N O T
     ;
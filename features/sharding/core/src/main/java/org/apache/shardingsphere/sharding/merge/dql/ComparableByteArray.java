@@ -37,13 +37,24 @@ public final class ComparableByteArray implements Comparable<ComparableByteArray
     
     @Override
     public int compareTo(final ComparableByteArray other) {
-        int minLength = Math.min(value.length, other.value.length);
+        return compare(value, other.value);
+    }
+    
+    /**
+     * Compare two byte arrays by unsigned lexicographic comparison.
+     *
+     * @param thisValue this value
+     * @param otherValue other value
+     * @return compare result
+     */
+    public static int compare(final byte[] thisValue, final byte[] otherValue) {
+        int minLength = Math.min(thisValue.length, otherValue.length);
         for (int index = 0; index < minLength; index++) {
-            int diff = (value[index] & 0xFF) - (other.value[index] & 0xFF);
+            int diff = (thisValue[index] & 0xFF) - (otherValue[index] & 0xFF);
             if (0 != diff) {
                 return diff;
             }
         }
-        return value.length - other.value.length;
+        return thisValue.length - otherValue.length;
     }
 }
@@ -34,6 +34,7 @@ import org.apache.shardingsphere.infra.merge.result.impl.stream.IteratorStreamMe
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByMemoryLimitedMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByMemoryMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.groupby.GroupByStreamMergedResult;
 import org.apache.shardingsphere.sharding.merge.dql.orderby.OrderByStreamMergedResult;
@@ -55,6 +56,12 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private final DatabaseType protocolType;
     
+    private final long groupByMergeMemoryLimitBytes;
+    
+    public ShardingDQLResultMerger(final DatabaseType protocolType) {
+        this(protocolType, 0L);
+    }
+    
     @Override
     public MergedResult merge(final List<QueryResult> queryResults, final SQLStatementContext sqlStatementContext,
                               final ShardingSphereDatabase database, final ConnectionContext connectionContext) throws SQLException {
@@ -116,9 +123,25 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private MergedResult getGroupByMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
                                                 final Map<String, Integer> columnLabelIndexMap, final ShardingSphereSchema schema) throws SQLException {
-        return selectStatementContext.isSameGroupByAndOrderByItems()
-                ? new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema)
-                : new GroupByMemoryMergedResult(queryResults, selectStatementContext, schema);
+        if (selectStatementContext.isSameGroupByAndOrderByItems()) {
+            return new GroupByStreamMergedResult(columnLabelIndexMap, queryResults, selectStatementContext, schema);
+        }
+        int topRowCount = getTopRowCount(queryResults, selectStatementContext);
+        if (groupByMergeMemoryLimitBytes > 0L || topRowCount < Integer.MAX_VALUE) {
+            long memoryLimitBytes = groupByMergeMemoryLimitBytes > 0L ? groupByMergeMemoryLimitBytes : Long.MAX_VALUE;
+            return new GroupByMemoryLimitedMergedResult(queryResults, selectStatementContext, schema, memoryLimitBytes, topRowCount);
+        }
+        return new GroupByMemoryMergedResult(queryResults, selectStatementContext, schema);
+    }
+    
+    private int getTopRowCount(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext) {
+        PaginationContext paginationContext = selectStatementContext.getPaginationContext();
+        if (!isNeedDecorate(queryResults, paginationContext) || !paginationContext.getActualRowCount().isPresent() || !findPaginationDecoratorMergedResultBuilder().isPresent()) {
+            return Integer.MAX_VALUE;
+        }
+        // Row number decorators treat row count as end row number, offset plus row count plus one covers all pagination decorators
+        long result = paginationContext.getActualOffset() + paginationContext.getActualRowCount().get() + 1L;
+        return result < 0L || result > Integer.MAX_VALUE ? Integer.MAX_VALUE : (int) result;
     }
     
     private boolean isNeedProcessOrderBy(final SelectStatementContext selectStatementContext) {
@@ -127,10 +150,18 @@ public final class ShardingDQLResultMerger implements ResultMerger {
     
     private MergedResult decorate(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext, final MergedResult mergedResult) throws SQLException {
         PaginationContext paginationContext = selectStatementContext.getPaginationContext();
-        if (!paginationContext.isHasPagination() || 1 == queryResults.size()) {
+        if (!isNeedDecorate(queryResults, paginationContext)) {
             return mergedResult;
         }
-        Optional<PaginationDecoratorMergedResultBuilder> paginationDecoratorMergedResultBuilder = DatabaseTypedSPILoader.findService(PaginationDecoratorMergedResultBuilder.class, protocolType);
+        Optional<PaginationDecoratorMergedResultBuilder> paginationDecoratorMergedResultBuilder = findPaginationDecoratorMergedResultBuilder();
         return paginationDecoratorMergedResultBuilder.isPresent() ? paginationDecoratorMergedResultBuilder.get().build(mergedResult, paginationContext) : mergedResult;
     }
+    
+    private boolean isNeedDecorate(final List<QueryResult> queryResults, final PaginationContext paginationContext) {
+        return paginationContext.isHasPagination() && 1 != queryResults.size();
+    }
+    
+    private Optional<PaginationDecoratorMergedResultBuilder> findPaginationDecoratorMergedResultBuilder() {
+        return DatabaseTypedSPILoader.findService(PaginationDecoratorMergedResultBuilder.class, protocolType);
+    }
 }
@@ -0,0 +1,258 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.database.exception.core.exception.syntax.table.NoSuchTableException;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.Projection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationDistinctProjection;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnit;
+import org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation.AggregationUnitFactory;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.SimpleTableSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.value.identifier.IdentifierValue;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * Aggregation table for group by merging.
+ * 
+ * <p>Each group keeps its first row and aggregation units in one entry. Memory consumed by groups is estimated by cell count.
+ * Only the top rows which can be reached by pagination are sorted and returned.</p>
+ */
+final class GroupByAggregationTable {
+    
+    private static final long ESTIMATED_GROUP_BYTES = 128L;
+    
+    private static final long ESTIMATED_CELL_BYTES = 48L;
+    
+    private static final long ESTIMATED_AGGREGATION_UNIT_BYTES = 64L;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final List<AggregationProjection> aggregationProjections;
+    
+    private final int[][] aggregationColumnIndexes;
+    
+    private final int topRowCount;
+    
+    private final Map<GroupByValue, GroupByAggregationRow> groups = new HashMap<>(1024, 1F);
+    
+    @Getter
+    private long estimatedMemoryBytes;
+    
+    GroupByAggregationTable(final SelectStatementContext selectStatementContext, final int topRowCount) {
+        this.selectStatementContext = selectStatementContext;
+        aggregationProjections = new ArrayList<>(selectStatementContext.getProjectionsContext().getAggregationProjections());
+        aggregationColumnIndexes = new int[aggregationProjections.size()][];
+        for (int i = 0; i < aggregationColumnIndexes.length; i++) {
+            aggregationColumnIndexes[i] = getAggregationColumnIndexes(aggregationProjections.get(i));
+        }
+        this.topRowCount = topRowCount;
+    }
+    
+    private int[] getAggregationColumnIndexes(final AggregationProjection aggregationProjection) {
+        if (aggregationProjection.getDerivedAggregationProjections().isEmpty()) {
+            return new int[]{aggregationProjection.getIndex()};
+        }
+        return aggregationProjection.getDerivedAggregationProjections().stream().mapToInt(AggregationProjection::getIndex).toArray();
+    }
+    
+    /**
+     * Create group by value of current row.
+     *
+     * @param queryResult query result
+     * @return group by value
+     * @throws SQLException SQL exception
+     */
+    GroupByValue createGroupByValue(final QueryResult queryResult) throws SQLException {
+        return new GroupByValue(queryResult, selectStatementContext.getGroupByContext().getItems());
+    }
+    
+    /**
+     * Judge whether group is contained.
+     *
+     * @param groupByValue group by value
+     * @return group is contained or not
+     */
+    boolean contains(final GroupByValue groupByValue) {
+        return groups.containsKey(groupByValue);
+    }
+    
+    /**
+     * Aggregate current row into its group.
+     *
+     * @param queryResult query result
+     * @param groupByValue group by value of current row
+     * @throws SQLException SQL exception
+     */
+    void aggregate(final QueryResult queryResult, final GroupByValue groupByValue) throws SQLException {
+        GroupByAggregationRow row = groups.get(groupByValue);
+        if (null == row) {
+            row = new GroupByAggregationRow(new MemoryQueryResultRow(queryResult), createAggregationUnits());
+            groups.put(groupByValue, row);
+            estimatedMemoryBytes += ESTIMATED_GROUP_BYTES + ESTIMATED_CELL_BYTES * queryResult.getMetaData().getColumnCount() + ESTIMATED_AGGREGATION_UNIT_BYTES * aggregationProjections.size();
+        }
+        for (int i = 0; i < aggregationProjections.size(); i++) {
+            row.getAggregationUnits()[i].merge(queryResult, aggregationColumnIndexes[i]);
+        }
+    }
+    
+    private AggregationUnit[] createAggregationUnits() {
+        AggregationUnit[] result = new AggregationUnit[aggregationProjections.size()];
+        for (int i = 0; i < result.length; i++) {
+            AggregationProjection projection = aggregationProjections.get(i);
+            result[i] = AggregationUnitFactory.create(projection.getType(), projection instanceof AggregationDistinctProjection, projection.getSeparator().orElse(null));
+        }
+        return result;
+    }
+    
+    /**
+     * Get sorted rows with aggregation values.
+     * 
+     * <p>Rows which can not be reached by pagination are not returned.</p>
+     *
+     * @param valueCaseSensitive value case-sensitive of each column
+     * @return sorted rows
+     */
+    List<MemoryQueryResultRow> getSortedRows(final List<Boolean> valueCaseSensitive) {
+        GroupByRowComparator rowComparator = new GroupByRowComparator(selectStatementContext, valueCaseSensitive);
+        if (topRowCount < groups.size()) {
+            return getTopSortedRows(rowComparator);
+        }
+        List<MemoryQueryResultRow> result = new ArrayList<>(groups.size());
+        for (GroupByAggregationRow each : groups.values()) {
+            result.add(each.getAggregatedRow(aggregationProjections));
+        }
+        result.sort(rowComparator);
+        return result;
+    }
+    
+    private List<MemoryQueryResultRow> getTopSortedRows(final Comparator<MemoryQueryResultRow> rowComparator) {
+        Queue<MemoryQueryResultRow> topRows = new PriorityQueue<>(topRowCount + 1, rowComparator.reversed());
+        for (GroupByAggregationRow each : groups.values()) {
+            MemoryQueryResultRow row = each.getAggregatedRow(aggregationProjections);
+            if (topRows.size() < topRowCount) {
+                topRows.offer(row);
+            } else if (rowComparator.compare(row, topRows.peek()) < 0) {
+                topRows.poll();
+                topRows.offer(row);
+            }
+        }
+        List<MemoryQueryResultRow> result = new ArrayList<>(topRows);
+        result.sort(rowComparator);
+        return result;
+    }
+    
+    /**
+     * Get result rows when no group is merged.
+     *
+     * @return result rows
+     */
+    List<MemoryQueryResultRow> getEmptyResultRows() {
+        boolean hasGroupBy = !selectStatementContext.getGroupByContext().getItems().isEmpty();
+        if (hasGroupBy || aggregationProjections.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return Collections.singletonList(new MemoryQueryResultRow(generateReturnData()));
+    }
+    
+    private Object[] generateReturnData() {
+        List<Projection> projections = new LinkedList<>(selectStatementContext.getProjectionsContext().getExpandProjections());
+        Object[] result = new Object[projections.size()];
+        for (int i = 0; i < projections.size(); i++) {
+            if (projections.get(i) instanceof AggregationProjection && AggregationType.COUNT == ((AggregationProjection) projections.get(i)).getType()) {
+                result[i] = 0;
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Judge whether table is empty.
+     *
+     * @return table is empty or not
+     */
+    boolean isEmpty() {
+        return groups.isEmpty();
+    }
+    
+    /**
+     * Get value case-sensitive of each column.
+     *
+     * @param queryResult query result
+     * @param schema schema
+     * @return value case-sensitive of each column
+     * @throws SQLException SQL exception
+     */
+    List<Boolean> getValueCaseSensitive(final QueryResult queryResult, final ShardingSphereSchema schema) throws SQLException {
+        int columnCount = queryResult.getMetaData().getColumnCount();
+        List<Boolean> result = new ArrayList<>(columnCount + 1);
+        result.add(false);
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            result.add(getValueCaseSensitiveFromTables(queryResult, schema, columnIndex));
+        }
+        return result;
+    }
+    
+    private boolean getValueCaseSensitiveFromTables(final QueryResult queryResult, final ShardingSphereSchema schema, final int columnIndex) throws SQLException {
+        for (SimpleTableSegment each : selectStatementContext.getTablesContext().getSimpleTables()) {
+            IdentifierValue tableName = each.getTableName().getIdentifier();
+            ShardingSpherePreconditions.checkState(schema.containsTable(tableName), () -> new NoSuchTableException(tableName.getValue()));
+            ShardingSphereTable table = schema.getTable(tableName);
+            String columnName = queryResult.getMetaData().getColumnName(columnIndex);
+            if (table.containsColumn(columnName)) {
+                return table.getColumn(columnName).isCaseSensitive();
+            }
+        }
+        return false;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class GroupByAggregationRow {
+        
+        private final MemoryQueryResultRow row;
+        
+        private final AggregationUnit[] aggregationUnits;
+        
+        private MemoryQueryResultRow getAggregatedRow(final List<AggregationProjection> aggregationProjections) {
+            for (int i = 0; i < aggregationProjections.size(); i++) {
+                row.setCell(aggregationProjections.get(i).getIndex(), aggregationUnits[i].getResult());
+            }
+            return row;
+        }
+    }
+}
@@ -0,0 +1,307 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResultMetaData;
+import org.apache.shardingsphere.infra.merge.result.MemoryEstimatedMergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.AbstractMemoryMergedResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereSchema;
+
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+/**
+ * Memory limited merged result for group by.
+ * 
+ * <p>Groups are aggregated in memory until the estimated memory exceeds the limit. Rows of new groups are then spilled into hash partitioned files,
+ * each partition is aggregated in the same memory limited way and re-partitioned with the next bits of the hash when it still exceeds the limit,
+ * all sorted runs are merged while iterating. Only the top rows which can be reached by pagination are kept in each sorted run.
+ * Spill files are deleted when the merged result is exhausted or closed.
+ * Once a row can not be encoded into spill file, rows already spilled are aggregated back and the rest is merged in memory without limit.</p>
+ */
+public final class GroupByMemoryLimitedMergedResult extends AbstractMemoryMergedResult implements MemoryEstimatedMergedResult {
+    
+    private static final int SPILL_PARTITION_BITS = 4;
+    
+    private static final int SPILL_PARTITION_COUNT = 1 << SPILL_PARTITION_BITS;
+    
+    private static final int MAX_SPILL_LEVEL = Integer.SIZE / SPILL_PARTITION_BITS;
+    
+    private final SelectStatementContext selectStatementContext;
+    
+    private final long memoryLimitBytes;
+    
+    private final int topRowCount;
+    
+    private final Collection<GroupBySpillFile> spillFiles = new LinkedList<>();
+    
+    private final Iterator<MemoryQueryResultRow> memoryResultSetRows;
+    
+    private final Queue<SortedRunCursor> sortedRunCursors = new PriorityQueue<>();
+    
+    private long estimatedMemoryBytes;
+    
+    private boolean spillDisabled;
+    
+    private SortedRunCursor currentSortedRunCursor;
+    
+    public GroupByMemoryLimitedMergedResult(final List<QueryResult> queryResults, final SelectStatementContext selectStatementContext,
+                                            final ShardingSphereSchema schema, final long memoryLimitBytes, final int topRowCount) throws SQLException {
+        this.selectStatementContext = selectStatementContext;
+        this.memoryLimitBytes = memoryLimitBytes;
+        this.topRowCount = topRowCount;
+        try {
+            GroupByAggregationTable aggregationTable = new GroupByAggregationTable(selectStatementContext, topRowCount);
+            GroupBySpillFile[] partitions = aggregate(queryResults, aggregationTable, 0);
+            List<Boolean> valueCaseSensitive = queryResults.isEmpty() ? Collections.emptyList() : aggregationTable.getValueCaseSensitive(queryResults.iterator().next(), schema);
+            if (null == partitions) {
+                memoryResultSetRows = aggregationTable.isEmpty() ? aggregationTable.getEmptyResultRows().iterator() : aggregationTable.getSortedRows(valueCaseSensitive).iterator();
+                return;
+            }
+            memoryResultSetRows = null;
+            GroupByRowComparator rowComparator = new GroupByRowComparator(selectStatementContext, valueCaseSensitive);
+            QueryResultMetaData metaData = queryResults.get(0).getMetaData();
+            addSortedRunCursor(aggregationTable.getSortedRows(valueCaseSensitive), metaData.getColumnCount(), rowComparator);
+            aggregatePartitions(partitions, 1, metaData, valueCaseSensitive, rowComparator);
+        } catch (final IOException ex) {
+            closeQuietly();
+            throw new SQLException(ex);
+            // CHECKSTYLE:OFF
+        } catch (final SQLException | RuntimeException ex) {
+            // CHECKSTYLE:ON
+            closeQuietly();
+            throw ex;
+        }
+    }
+    
+    private GroupBySpillFile[] aggregate(final List<? extends QueryResult> queryResults, final GroupByAggregationTable aggregationTable, final int level) throws SQLException, IOException {
+        GroupBySpillFile[] result = null;
+        for (QueryResult each : queryResults) {
+            while (each.next()) {
+                GroupByValue groupByValue = aggregationTable.createGroupByValue(each);
+                if (aggregationTable.contains(groupByValue) || null == result && (spillDisabled || aggregationTable.getEstimatedMemoryBytes() < memoryLimitBytes || level >= MAX_SPILL_LEVEL)) {
+                    aggregationTable.aggregate(each, groupByValue);
+                    continue;
+                }
+                if (null == result) {
+                    result = createSpillFiles(each.getMetaData().getColumnCount());
+                }
+                if (!result[getPartitionIndex(groupByValue, level)].write(each)) {
+                    spillDisabled = true;
+                    aggregateBack(result, aggregationTable, each.getMetaData());
+                    result = null;
+                    aggregationTable.aggregate(each, groupByValue);
+                }
+            }
+        }
+        estimatedMemoryBytes = Math.max(estimatedMemoryBytes, aggregationTable.getEstimatedMemoryBytes());
+        return result;
+    }
+    
+    private void aggregateBack(final GroupBySpillFile[] partitions, final GroupByAggregationTable aggregationTable, final QueryResultMetaData metaData) throws SQLException, IOException {
+        for (GroupBySpillFile each : partitions) {
+            try (GroupBySpillQueryResult queryResult = new GroupBySpillQueryResult(each, metaData)) {
+                while (queryResult.next()) {
+                    aggregationTable.aggregate(queryResult, aggregationTable.createGroupByValue(queryResult));
+                }
+            }
+            spillFiles.remove(each);
+        }
+    }
+    
+    private GroupBySpillFile[] createSpillFiles(final int columnCount) throws IOException {
+        GroupBySpillFile[] result = new GroupBySpillFile[SPILL_PARTITION_COUNT];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = createSpillFile(columnCount);
+        }
+        return result;
+    }
+    
+    private GroupBySpillFile createSpillFile(final int columnCount) throws IOException {
+        GroupBySpillFile result = new GroupBySpillFile(columnCount);
+        spillFiles.add(result);
+        return result;
+    }
+    
+    private int getPartitionIndex(final GroupByValue groupByValue, final int level) {
+        int hash = groupByValue.hashCode();
+        int spreadHash = hash ^ hash >>> 16;
+        return spreadHash >>> level * SPILL_PARTITION_BITS & SPILL_PARTITION_COUNT - 1;
+    }
+    
+    private void aggregatePartitions(final GroupBySpillFile[] partitions, final int level, final QueryResultMetaData metaData,
+                                     final List<Boolean> valueCaseSensitive, final GroupByRowComparator rowComparator) throws SQLException, IOException {
+        for (GroupBySpillFile each : partitions) {
+            if (each.isEmpty()) {
+                closeSpillFile(each);
+                continue;
+            }
+            GroupByAggregationTable aggregationTable = new GroupByAggregationTable(selectStatementContext, topRowCount);
+            GroupBySpillFile[] subPartitions;
+            try (GroupBySpillQueryResult queryResult = new GroupBySpillQueryResult(each, metaData)) {
+                subPartitions = aggregate(Collections.singletonList(queryResult), aggregationTable, level);
+            }
+            spillFiles.remove(each);
+            addSortedRunCursor(aggregationTable.getSortedRows(valueCaseSensitive), metaData.getColumnCount(), rowComparator);
+            if (null != subPartitions) {
+                aggregatePartitions(subPartitions, level + 1, metaData, valueCaseSensitive, rowComparator);
+            }
+        }
+    }
+    
+    private void addSortedRunCursor(final List<MemoryQueryResultRow> sortedRows, final int columnCount, final GroupByRowComparator rowComparator) throws IOException {
+        if (sortedRows.isEmpty()) {
+            return;
+        }
+        GroupBySpillFile sortedRun = spillDisabled ? null : createSpillFile(columnCount);
+        for (MemoryQueryResultRow each : sortedRows) {
+            if (null != sortedRun && !sortedRun.write(each)) {
+                spillDisabled = true;
+                closeSpillFile(sortedRun);
+                sortedRun = null;
+            }
+        }
+        SortedRunCursor cursor = new SortedRunCursor(sortedRun, null == sortedRun ? sortedRows.iterator() : null, rowComparator);
+        if (cursor.next()) {
+            sortedRunCursors.offer(cursor);
+        } else {
+            closeSortedRunCursor(cursor);
+        }
+    }
+    
+    private void closeSortedRunCursor(final SortedRunCursor cursor) throws IOException {
+        if (null != cursor.sortedRun) {
+            closeSpillFile(cursor.sortedRun);
+        }
+    }
+    
+    private void closeSpillFile(final GroupBySpillFile spillFile) throws IOException {
+        spillFiles.remove(spillFile);
+        spillFile.close();
+    }
+    
+    private void closeQuietly() {
+        try {
+            close();
+        } catch (final SQLException ignored) {
+        }
+    }
+    
+    @Override
+    public boolean next() throws SQLException {
+        if (null != memoryResultSetRows) {
+            if (memoryResultSetRows.hasNext()) {
+                setCurrentResultSetRow(memoryResultSetRows.next());
+                return true;
+            }
+            return false;
+        }
+        try {
+            return nextFromSortedRuns();
+        } catch (final IOException ex) {
+            throw new SQLException(ex);
+        }
+    }
+    
+    private boolean nextFromSortedRuns() throws IOException {
+        if (null != currentSortedRunCursor) {
+            if (currentSortedRunCursor.next()) {
+                sortedRunCursors.offer(currentSortedRunCursor);
+            } else {
+                closeSortedRunCursor(currentSortedRunCursor);
+            }
+        }
+        currentSortedRunCursor = sortedRunCursors.poll();
+        if (null == currentSortedRunCursor) {
+            return false;
+        }
+        setCurrentResultSetRow(currentSortedRunCursor.currentRow);
+        return true;
+    }
+    
+    @Override
+    public long getEstimatedMemoryBytes() {
+        return estimatedMemoryBytes;
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        Collection<IOException> exceptions = new LinkedList<>();
+        for (GroupBySpillFile each : spillFiles) {
+            try {
+                each.close();
+            } catch (final IOException ex) {
+                exceptions.add(ex);
+            }
+        }
+        spillFiles.clear();
+        sortedRunCursors.clear();
+        currentSortedRunCursor = null;
+        if (exceptions.isEmpty()) {
+            return;
+        }
+        SQLException ex = new SQLException("Failed to delete group by spill files.");
+        exceptions.forEach(ex::addSuppressed);
+        throw ex;
+    }
+    
+    private static final class SortedRunCursor implements Comparable<SortedRunCursor> {
+        
+        private final GroupBySpillFile sortedRun;
+        
+        private final Iterator<MemoryQueryResultRow> memoryRows;
+        
+        private final GroupByRowComparator rowComparator;
+        
+        private MemoryQueryResultRow currentRow;
+        
+        private SortedRunCursor(final GroupBySpillFile sortedRun, final Iterator<MemoryQueryResultRow> memoryRows, final GroupByRowComparator rowComparator) {
+            this.sortedRun = sortedRun;
+            this.memoryRows = memoryRows;
+            this.rowComparator = rowComparator;
+        }
+        
+        private boolean next() throws IOException {
+            if (null == sortedRun) {
+                currentRow = memoryRows.hasNext() ? memoryRows.next() : null;
+                return null != currentRow;
+            }
+            Object[] row = sortedRun.read();
+            if (null == row) {
+                return false;
+            }
+            currentRow = new MemoryQueryResultRow(row);
+            return true;
+        }
+        
+        @Override
+        public int compareTo(final SortedRunCursor o) {
+            return rowComparator.compare(currentRow, o.currentRow);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.impl.memory.MemoryQueryResultRow;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+
+/**
+ * Spill file for group by merging.
+ * 
+ * <p>Rows are written once and then read sequentially, the file is deleted after closed.
+ * Each row is encoded completely before written, so a row with value which can not be encoded is rejected without leaving anything in file.</p>
+ */
+final class GroupBySpillFile implements AutoCloseable {
+    
+    private final Path path;
+    
+    private final int columnCount;
+    
+    private final ByteArrayOutputStream rowBuffer = new ByteArrayOutputStream();
+    
+    private final DataOutputStream rowOutputStream = new DataOutputStream(rowBuffer);
+    
+    private DataOutputStream outputStream;
+    
+    private DataInputStream inputStream;
+    
+    private int rowCount;
+    
+    private int remainingRowCount;
+    
+    GroupBySpillFile(final int columnCount) throws IOException {
+        this.columnCount = columnCount;
+        path = Files.createTempFile("shardingsphere-group-by-", ".spill");
+        outputStream = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+    }
+    
+    /**
+     * Write current row of query result.
+     *
+     * @param queryResult query result
+     * @return written or not, false if any value of row can not be encoded
+     * @throws SQLException SQL exception
+     * @throws IOException IO exception
+     */
+    boolean write(final QueryResult queryResult) throws SQLException, IOException {
+        rowBuffer.reset();
+        for (int i = 0; i < columnCount; i++) {
+            if (!GroupBySpillValueCodec.write(rowOutputStream, queryResult.getValue(i + 1, Object.class))) {
+                return false;
+            }
+        }
+        writeRowBuffer();
+        return true;
+    }
+    
+    /**
+     * Write memory query result row.
+     *
+     * @param memoryQueryResultRow memory query result row
+     * @return written or not, false if any value of row can not be encoded
+     * @throws IOException IO exception
+     */
+    boolean write(final MemoryQueryResultRow memoryQueryResultRow) throws IOException {
+        rowBuffer.reset();
+        for (int i = 0; i < columnCount; i++) {
+            if (!GroupBySpillValueCodec.write(rowOutputStream, memoryQueryResultRow.getCell(i + 1))) {
+                return false;
+            }
+        }
+        writeRowBuffer();
+        return true;
+    }
+    
+    private void writeRowBuffer() throws IOException {
+        rowOutputStream.flush();
+        rowBuffer.writeTo(outputStream);
+        rowCount++;
+    }
+    
+    /**
+     * Read next row.
+     *
+     * @return next row, null if no more rows
+     * @throws IOException IO exception
+     */
+    Object[] read() throws IOException {
+        if (null != outputStream) {
+            outputStream.close();
+            outputStream = null;
+            inputStream = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)));
+            remainingRowCount = rowCount;
+        }
+        if (0 == remainingRowCount) {
+            return null;
+        }
+        remainingRowCount--;
+        Object[] result = new Object[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            result[i] = GroupBySpillValueCodec.read(inputStream);
+        }
+        return result;
+    }
+    
+    /**
+     * Judge whether spill file is empty.
+     *
+     * @return spill file is empty or not
+     */
+    boolean isEmpty() {
+        return 0 == rowCount;
+    }
+    
+    @Override
+    public void close() throws IOException {
+        try {
+            if (null != outputStream) {
+                outputStream.close();
+            }
+            if (null != inputStream) {
+                inputStream.close();
+            }
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+}
@@ -0,0 +1,251 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * Value codec for group by spill file.
+ * 
+ * <p>Values of types returned by JDBC drivers for plain columns are written with type tag and typed content.
+ * Other values are written by java serialization, values which can not be serialized, such as LOB, array and driver specific objects, are not encoded.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class GroupBySpillValueCodec {
+    
+    private static final byte NULL = 0;
+    
+    private static final byte STRING = 1;
+    
+    private static final byte INTEGER = 2;
+    
+    private static final byte LONG = 3;
+    
+    private static final byte SHORT = 4;
+    
+    private static final byte BYTE = 5;
+    
+    private static final byte BOOLEAN = 6;
+    
+    private static final byte DOUBLE = 7;
+    
+    private static final byte FLOAT = 8;
+    
+    private static final byte BIG_DECIMAL = 9;
+    
+    private static final byte BIG_INTEGER = 10;
+    
+    private static final byte BYTES = 11;
+    
+    private static final byte DATE = 12;
+    
+    private static final byte TIME = 13;
+    
+    private static final byte TIMESTAMP = 14;
+    
+    private static final byte LOCAL_DATE = 15;
+    
+    private static final byte LOCAL_TIME = 16;
+    
+    private static final byte LOCAL_DATE_TIME = 17;
+    
+    private static final byte SERIALIZED = 18;
+    
+    /**
+     * Write value.
+     *
+     * @param output data output
+     * @param value value to be written
+     * @return written or not, false if value can not be encoded
+     * @throws IOException IO exception
+     */
+    static boolean write(final DataOutput output, final Object value) throws IOException {
+        if (null == value) {
+            output.writeByte(NULL);
+            return true;
+        }
+        Class<?> valueClass = value.getClass();
+        if (String.class == valueClass) {
+            output.writeByte(STRING);
+            writeBytes(output, ((String) value).getBytes(StandardCharsets.UTF_8));
+        } else if (Integer.class == valueClass) {
+            output.writeByte(INTEGER);
+            output.writeInt((Integer) value);
+        } else if (Long.class == valueClass) {
+            output.writeByte(LONG);
+            output.writeLong((Long) value);
+        } else if (Short.class == valueClass) {
+            output.writeByte(SHORT);
+            output.writeShort((Short) value);
+        } else if (Byte.class == valueClass) {
+            output.writeByte(BYTE);
+            output.writeByte((Byte) value);
+        } else if (Boolean.class == valueClass) {
+            output.writeByte(BOOLEAN);
+            output.writeBoolean((Boolean) value);
+        } else if (Double.class == valueClass) {
+            output.writeByte(DOUBLE);
+            output.writeDouble((Double) value);
+        } else if (Float.class == valueClass) {
+            output.writeByte(FLOAT);
+            output.writeFloat((Float) value);
+        } else if (BigDecimal.class == valueClass) {
+            output.writeByte(BIG_DECIMAL);
+            output.writeInt(((BigDecimal) value).scale());
+            writeBytes(output, ((BigDecimal) value).unscaledValue().toByteArray());
+        } else if (BigInteger.class == valueClass) {
+            output.writeByte(BIG_INTEGER);
+            writeBytes(output, ((BigInteger) value).toByteArray());
+        } else if (byte[].class == valueClass) {
+            output.writeByte(BYTES);
+            writeBytes(output, (byte[]) value);
+        } else if (Date.class == valueClass) {
+            output.writeByte(DATE);
+            output.writeLong(((Date) value).getTime());
+        } else if (Time.class == valueClass) {
+            output.writeByte(TIME);
+            output.writeLong(((Time) value).getTime());
+        } else if (Timestamp.class == valueClass) {
+            output.writeByte(TIMESTAMP);
+            output.writeLong(((Timestamp) value).getTime());
+            output.writeInt(((Timestamp) value).getNanos());
+        } else if (LocalDate.class == valueClass) {
+            output.writeByte(LOCAL_DATE);
+            output.writeLong(((LocalDate) value).toEpochDay());
+        } else if (LocalTime.class == valueClass) {
+            output.writeByte(LOCAL_TIME);
+            output.writeLong(((LocalTime) value).toNanoOfDay());
+        } else if (LocalDateTime.class == valueClass) {
+            output.writeByte(LOCAL_DATE_TIME);
+            output.writeLong(((LocalDateTime) value).toLocalDate().toEpochDay());
+            output.writeLong(((LocalDateTime) value).toLocalTime().toNanoOfDay());
+        } else {
+            return writeSerialized(output, value);
+        }
+        return true;
+    }
+    
+    private static boolean writeSerialized(final DataOutput output, final Object value) throws IOException {
+        if (!(value instanceof Serializable)) {
+            return false;
+        }
+        ByteArrayOutputStream serialized = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(serialized)) {
+            objectOutputStream.writeObject(value);
+        } catch (final IOException ignored) {
+            return false;
+        }
+        output.writeByte(SERIALIZED);
+        writeBytes(output, serialized.toByteArray());
+        return true;
+    }
+    
+    private static void writeBytes(final DataOutput output, final byte[] value) throws IOException {
+        output.writeInt(value.length);
+        output.write(value);
+    }
+    
+    /**
+     * Read value.
+     *
+     * @param input data input
+     * @return read value
+     * @throws IOException IO exception
+     */
+    static Object read(final DataInput input) throws IOException {
+        byte type = input.readByte();
+        switch (type) {
+            case NULL:
+                return null;
+            case STRING:
+                return new String(readBytes(input), StandardCharsets.UTF_8);
+            case INTEGER:
+                return input.readInt();
+            case LONG:
+                return input.readLong();
+            case SHORT:
+                return input.readShort();
+            case BYTE:
+                return input.readByte();
+            case BOOLEAN:
+                return input.readBoolean();
+            case DOUBLE:
+                return input.readDouble();
+            case FLOAT:
+                return input.readFloat();
+            case BIG_DECIMAL:
+                int scale = input.readInt();
+                return new BigDecimal(new BigInteger(readBytes(input)), scale);
+            case BIG_INTEGER:
+                return new BigInteger(readBytes(input));
+            case BYTES:
+                return readBytes(input);
+            case DATE:
+                return new Date(input.readLong());
+            case TIME:
+                return new Time(input.readLong());
+            case TIMESTAMP:
+                Timestamp timestamp = new Timestamp(input.readLong());
+                timestamp.setNanos(input.readInt());
+                return timestamp;
+            case LOCAL_DATE:
+                return LocalDate.ofEpochDay(input.readLong());
+            case LOCAL_TIME:
+                return LocalTime.ofNanoOfDay(input.readLong());
+            case LOCAL_DATE_TIME:
+                return LocalDateTime.of(LocalDate.ofEpochDay(input.readLong()), LocalTime.ofNanoOfDay(input.readLong()));
+            case SERIALIZED:
+                return readSerialized(readBytes(input));
+            default:
+                throw new IOException(String.format("Unknown group by spill value type `%s`.", type));
+        }
+    }
+    
+    private static byte[] readBytes(final DataInput input) throws IOException {
+        byte[] result = new byte[input.readInt()];
+        input.readFully(result);
+        return result;
+    }
+    
+    private static Object readSerialized(final byte[] serialized) throws IOException {
+        try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+            return objectInputStream.readObject();
+        } catch (final ClassNotFoundException ex) {
+            throw new IOException(ex);
+        }
+    }
+}
@@ -18,8 +18,9 @@
 package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 
-import java.math.BigDecimal;
+import java.sql.SQLException;
 import java.util.List;
 
 /**
@@ -28,21 +29,33 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class AccumulationAggregationUnit implements AggregationUnit {
     
-    private BigDecimal result;
+    private NumberAccumulator result;
     
     @Override
     public void merge(final List<Comparable<?>> values) {
-        if (null == values || null == values.get(0)) {
+        if (null == values) {
+            return;
+        }
+        merge(values.get(0));
+    }
+    
+    @Override
+    public void merge(final QueryResult queryResult, final int[] columnIndexes) throws SQLException {
+        merge(AggregationValueUtils.getValue(queryResult, columnIndexes[0]));
+    }
+    
+    private void merge(final Comparable<?> value) {
+        if (null == value) {
             return;
         }
         if (null == result) {
-            result = BigDecimal.ZERO;
+            result = new NumberAccumulator();
         }
-        result = result.add(new BigDecimal(values.get(0).toString()));
+        result.add(value);
     }
     
     @Override
     public Comparable<?> getResult() {
-        return result;
+        return null == result ? null : result.getResult();
     }
 }
@@ -17,6 +17,10 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -31,6 +35,21 @@ public interface AggregationUnit {
      */
     void merge(List<Comparable<?>> values);
     
+    /**
+     * Merge aggregation values from current row of query result.
+     *
+     * @param queryResult query result
+     * @param columnIndexes column indexes of aggregation values
+     * @throws SQLException SQL exception
+     */
+    default void merge(final QueryResult queryResult, final int[] columnIndexes) throws SQLException {
+        List<Comparable<?>> values = new ArrayList<>(columnIndexes.length);
+        for (int each : columnIndexes) {
+            values.add(AggregationValueUtils.getValue(queryResult, each));
+        }
+        merge(values);
+    }
+    
     /**
      * Get aggregation result.
      *
@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
+
+import java.sql.SQLException;
+
+/**
+ * Aggregation value utility class.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class AggregationValueUtils {
+    
+    /**
+     * Get aggregation value from current row of query result.
+     *
+     * @param queryResult query result
+     * @param columnIndex column index
+     * @return aggregation value
+     * @throws SQLException SQL exception
+     * @throws NotImplementComparableValueException not implement comparable value exception
+     */
+    static Comparable<?> getValue(final QueryResult queryResult, final int columnIndex) throws SQLException {
+        Object result = queryResult.getValue(columnIndex, Object.class);
+        ShardingSpherePreconditions.checkState(null == result || result instanceof Comparable, () -> new NotImplementComparableValueException("Aggregation", result));
+        return (Comparable<?>) result;
+    }
+}
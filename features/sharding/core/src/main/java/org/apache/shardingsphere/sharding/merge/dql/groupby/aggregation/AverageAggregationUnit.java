@@ -18,9 +18,11 @@
 package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.sql.SQLException;
 import java.util.List;
 
 /**
@@ -29,31 +31,45 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class AverageAggregationUnit implements AggregationUnit {
     
-    private BigDecimal count;
+    private NumberAccumulator count;
     
-    private BigDecimal sum;
+    private NumberAccumulator sum;
     
     @Override
     public void merge(final List<Comparable<?>> values) {
-        if (null == values || null == values.get(0) || null == values.get(1)) {
+        if (null == values) {
             return;
         }
-        if (null == count) {
-            count = BigDecimal.ZERO;
+        merge(values.get(0), values.get(1));
+    }
+    
+    @Override
+    public void merge(final QueryResult queryResult, final int[] columnIndexes) throws SQLException {
+        merge(AggregationValueUtils.getValue(queryResult, columnIndexes[0]), AggregationValueUtils.getValue(queryResult, columnIndexes[1]));
+    }
+    
+    private void merge(final Comparable<?> countValue, final Comparable<?> sumValue) {
+        if (null == countValue || null == sumValue) {
+            return;
         }
-        if (null == sum) {
-            sum = BigDecimal.ZERO;
+        if (null == count) {
+            count = new NumberAccumulator();
+            sum = new NumberAccumulator();
         }
-        count = count.add(new BigDecimal(values.get(0).toString()));
-        sum = sum.add(new BigDecimal(values.get(1).toString()));
+        count.add(countValue);
+        sum.add(sumValue);
     }
     
     @Override
     public Comparable<?> getResult() {
-        if (null == count || BigDecimal.ZERO.compareTo(count) == 0) {
-            return count;
+        if (null == count) {
+            return null;
+        }
+        BigDecimal countResult = count.getResult();
+        if (BigDecimal.ZERO.compareTo(countResult) == 0) {
+            return countResult;
         }
         // TODO use metadata to fetch float number precise for database field
-        return sum.divide(count, 4, RoundingMode.HALF_UP);
+        return sum.getResult().divide(countResult, 4, RoundingMode.HALF_UP);
     }
 }
@@ -18,7 +18,9 @@
 package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
 import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 
+import java.sql.SQLException;
 import java.util.List;
 
 /**
@@ -31,19 +33,31 @@ public final class ComparableAggregationUnit implements AggregationUnit {
     
     private Comparable<?> result;
     
-    @SuppressWarnings({"unchecked", "rawtypes"})
     @Override
     public void merge(final List<Comparable<?>> values) {
-        if (null == values || null == values.get(0)) {
+        if (null == values) {
+            return;
+        }
+        merge(values.get(0));
+    }
+    
+    @Override
+    public void merge(final QueryResult queryResult, final int[] columnIndexes) throws SQLException {
+        merge(AggregationValueUtils.getValue(queryResult, columnIndexes[0]));
+    }
+    
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private void merge(final Comparable<?> value) {
+        if (null == value) {
             return;
         }
         if (null == result) {
-            result = values.get(0);
+            result = value;
             return;
         }
-        int comparedValue = ((Comparable) values.get(0)).compareTo(result);
+        int comparedValue = ((Comparable) value).compareTo(result);
         if (asc ? comparedValue < 0 : comparedValue > 0) {
-            result = values.get(0);
+            result = value;
         }
     }
     
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
+
+import java.math.BigDecimal;
+
+/**
+ * Number accumulator.
+ * 
+ * <p>Integral values are accumulated as long, the sum is promoted to big decimal on overflow or when other values are added.</p>
+ */
+final class NumberAccumulator {
+    
+    private long longValue;
+    
+    private BigDecimal decimalValue;
+    
+    /**
+     * Add value.
+     *
+     * @param value value to be added, must not be null
+     */
+    void add(final Object value) {
+        if (null == decimalValue && isIntegral(value)) {
+            long augend = ((Number) value).longValue();
+            long result = longValue + augend;
+            if (((longValue ^ result) & (augend ^ result)) >= 0L) {
+                longValue = result;
+                return;
+            }
+        }
+        decimalValue = getResult().add(value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal(value.toString()));
+    }
+    
+    private boolean isIntegral(final Object value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+    
+    /**
+     * Get accumulated result.
+     *
+     * @return accumulated result
+     */
+    BigDecimal getResult() {
+        return null == decimalValue ? BigDecimal.valueOf(longValue) : decimalValue;
+    }
+}
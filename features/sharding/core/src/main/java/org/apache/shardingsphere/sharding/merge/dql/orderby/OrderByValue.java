@@ -18,6 +18,8 @@
 package org.apache.shardingsphere.sharding.merge.dql.orderby;
 
 import lombok.Getter;
+import org.apache.shardingsphere.database.connector.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
 import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
@@ -26,51 +28,60 @@ import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSp
 import org.apache.shardingsphere.infra.metadata.database.schema.model.ShardingSphereTable;
 import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
 import org.apache.shardingsphere.sharding.merge.dql.ComparableByteArray;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.ColumnOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.IndexOrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.OrderByItemSegment;
 import org.apache.shardingsphere.sql.parser.statement.core.segment.generic.table.SimpleTableSegment;
 import org.apache.shardingsphere.sql.parser.statement.core.value.identifier.IdentifierValue;
 
+import java.math.BigDecimal;
 import java.sql.SQLException;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.List;
 
 /**
  * Order by value.
+ * 
+ * <p>Order values of current row are extracted into a reused array, {@code long}, {@code int}, {@code BigDecimal} and {@code byte[]} values
+ * are compared directly, other values are compared by {@link CompareUtils}.</p>
  */
 public final class OrderByValue implements Comparable<OrderByValue> {
     
     @Getter
     private final QueryResult queryResult;
     
-    private final Collection<OrderByItem> orderByItems;
+    private final int[] orderValueIndexes;
     
-    private final List<Boolean> orderValuesCaseSensitive;
+    private final OrderDirection[] orderDirections;
     
-    private final SelectStatementContext selectStatementContext;
+    private final NullsOrderType[] nullsOrderTypes;
     
-    private List<Comparable<?>> orderValues;
+    private final boolean[] orderValuesCaseSensitive;
+    
+    private final Object[] orderValues;
     
     public OrderByValue(final QueryResult queryResult, final Collection<OrderByItem> orderByItems,
                         final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema) throws SQLException {
         this.queryResult = queryResult;
-        this.orderByItems = orderByItems;
-        this.selectStatementContext = selectStatementContext;
-        orderValuesCaseSensitive = getOrderValuesCaseSensitive(schema);
-    }
-    
-    private List<Boolean> getOrderValuesCaseSensitive(final ShardingSphereSchema schema) throws SQLException {
-        List<Boolean> result = new ArrayList<>(orderByItems.size());
-        for (OrderByItem eachOrderByItem : orderByItems) {
-            result.add(getOrderValuesCaseSensitiveFromTables(schema, eachOrderByItem));
+        orderValueIndexes = new int[orderByItems.size()];
+        orderDirections = new OrderDirection[orderByItems.size()];
+        nullsOrderTypes = new NullsOrderType[orderByItems.size()];
+        orderValuesCaseSensitive = new boolean[orderByItems.size()];
+        orderValues = new Object[orderByItems.size()];
+        DatabaseType databaseType = selectStatementContext.getSqlStatement().getDatabaseType();
+        int index = 0;
+        for (OrderByItem each : orderByItems) {
+            orderValueIndexes[index] = each.getIndex();
+            orderDirections[index] = each.getSegment().getOrderDirection();
+            nullsOrderTypes[index] = each.getSegment().getNullsOrderType(databaseType);
+            orderValuesCaseSensitive[index] = getOrderValuesCaseSensitiveFromTables(selectStatementContext, schema, each);
+            index++;
         }
-        return result;
     }
     
-    private boolean getOrderValuesCaseSensitiveFromTables(final ShardingSphereSchema schema, final OrderByItem eachOrderByItem) throws SQLException {
+    private boolean getOrderValuesCaseSensitiveFromTables(final SelectStatementContext selectStatementContext, final ShardingSphereSchema schema,
+                                                          final OrderByItem eachOrderByItem) throws SQLException {
         for (SimpleTableSegment each : selectStatementContext.getTablesContext().getSimpleTables()) {
             IdentifierValue tableName = each.getTableName().getIdentifier();
             ShardingSphereTable table = schema.getTable(tableName);
@@ -101,41 +112,54 @@ public final class OrderByValue implements Comparable<OrderByValue> {
      */
     public boolean next() throws SQLException {
         boolean result = queryResult.next();
-        orderValues = result ? getOrderValues() : Collections.emptyList();
-        return result;
-    }
-    
-    private List<Comparable<?>> getOrderValues() throws SQLException {
-        List<Comparable<?>> result = new ArrayList<>(orderByItems.size());
-        for (OrderByItem each : orderByItems) {
-            Object value = queryResult.getValue(each.getIndex(), Object.class);
-            result.add(toComparable(value));
+        if (result) {
+            fillOrderValues();
+        } else {
+            Arrays.fill(orderValues, null);
         }
         return result;
     }
     
-    private static Comparable<?> toComparable(final Object value) {
-        if (null == value) {
-            return null;
-        }
-        if (value instanceof byte[]) {
-            return new ComparableByteArray((byte[]) value);
+    private void fillOrderValues() throws SQLException {
+        for (int i = 0; i < orderValueIndexes.length; i++) {
+            Object value = queryResult.getValue(orderValueIndexes[i], Object.class);
+            ShardingSpherePreconditions.checkState(null == value || value instanceof Comparable || value instanceof byte[], () -> new NotImplementComparableValueException("Order by", value));
+            orderValues[i] = value;
         }
-        ShardingSpherePreconditions.checkState(value instanceof Comparable, () -> new NotImplementComparableValueException("Order by", value));
-        return (Comparable<?>) value;
     }
     
     @Override
     public int compareTo(final OrderByValue orderByValue) {
-        int i = 0;
-        for (OrderByItem each : orderByItems) {
-            int result = CompareUtils.compareTo(orderValues.get(i), orderByValue.orderValues.get(i), each.getSegment().getOrderDirection(),
-                    each.getSegment().getNullsOrderType(selectStatementContext.getSqlStatement().getDatabaseType()), orderValuesCaseSensitive.get(i));
+        for (int i = 0; i < orderValues.length; i++) {
+            int result = compareOrderValue(orderValues[i], orderByValue.orderValues[i], i);
             if (0 != result) {
                 return result;
             }
-            i++;
         }
         return 0;
     }
+    
+    private int compareOrderValue(final Object thisValue, final Object otherValue, final int index) {
+        if (thisValue instanceof Long && otherValue instanceof Long) {
+            return applyOrderDirection(Long.compare((Long) thisValue, (Long) otherValue), index);
+        }
+        if (thisValue instanceof Integer && otherValue instanceof Integer) {
+            return applyOrderDirection(Integer.compare((Integer) thisValue, (Integer) otherValue), index);
+        }
+        if (thisValue instanceof BigDecimal && otherValue instanceof BigDecimal) {
+            return applyOrderDirection(((BigDecimal) thisValue).compareTo((BigDecimal) otherValue), index);
+        }
+        if (thisValue instanceof byte[] && otherValue instanceof byte[]) {
+            return applyOrderDirection(ComparableByteArray.compare((byte[]) thisValue, (byte[]) otherValue), index);
+        }
+        return CompareUtils.compareTo(toComparable(thisValue), toComparable(otherValue), orderDirections[index], nullsOrderTypes[index], orderValuesCaseSensitive[index]);
+    }
+    
+    private int applyOrderDirection(final int result, final int index) {
+        return OrderDirection.ASC == orderDirections[index] ? result : -result;
+    }
+    
+    private static Comparable<?> toComparable(final Object value) {
+        return value instanceof byte[] ? new ComparableByteArray((byte[]) value) : (Comparable<?>) value;
+    }
 }
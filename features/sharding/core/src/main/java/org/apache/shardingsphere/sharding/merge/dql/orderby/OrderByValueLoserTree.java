@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.orderby;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Loser tree of order by values.
+ * 
+ * <p>Each internal node keeps the loser of its sub tournament and the root keeps the winner,
+ * so advancing the winner only replays the path from its leaf to the root with O(log k) comparisons.
+ * Equal order by values are returned in the order of query results.</p>
+ */
+final class OrderByValueLoserTree {
+    
+    private static final int MIN_LEAF = -1;
+    
+    private final OrderByValue[] leaves;
+    
+    private final boolean[] exhausted;
+    
+    private final int[] losers;
+    
+    OrderByValueLoserTree(final List<OrderByValue> orderByValues) {
+        leaves = orderByValues.toArray(new OrderByValue[0]);
+        exhausted = new boolean[leaves.length];
+        losers = new int[Math.max(leaves.length, 1)];
+        if (0 == leaves.length) {
+            losers[0] = MIN_LEAF;
+            return;
+        }
+        Arrays.fill(losers, MIN_LEAF);
+        for (int i = leaves.length - 1; i >= 0; i--) {
+            replay(i);
+        }
+    }
+    
+    /**
+     * Judge whether all order by values are exhausted.
+     *
+     * @return all order by values are exhausted or not
+     */
+    boolean isEmpty() {
+        return MIN_LEAF == losers[0] || exhausted[losers[0]];
+    }
+    
+    /**
+     * Get winner order by value.
+     *
+     * @return winner order by value
+     */
+    OrderByValue getWinner() {
+        return leaves[losers[0]];
+    }
+    
+    /**
+     * Iterate winner order by value to next data and replay tournament.
+     *
+     * @return has next data
+     * @throws SQLException SQL exception
+     */
+    boolean next() throws SQLException {
+        int winner = losers[0];
+        if (!leaves[winner].next()) {
+            exhausted[winner] = true;
+        }
+        replay(winner);
+        return !isEmpty();
+    }
+    
+    private void replay(final int leaf) {
+        int winner = leaf;
+        for (int parent = (leaf + leaves.length) >> 1; parent > 0; parent >>= 1) {
+            if (isBefore(losers[parent], winner)) {
+                int loser = winner;
+                winner = losers[parent];
+                losers[parent] = loser;
+            }
+        }
+        losers[0] = winner;
+    }
+    
+    private boolean isBefore(final int leaf, final int otherLeaf) {
+        if (MIN_LEAF == leaf) {
+            return true;
+        }
+        if (MIN_LEAF == otherLeaf || exhausted[leaf]) {
+            return false;
+        }
+        if (exhausted[otherLeaf]) {
+            return true;
+        }
+        int result = leaves[leaf].compareTo(leaves[otherLeaf]);
+        return result < 0 || 0 == result && leaf < otherLeaf;
+    }
+}
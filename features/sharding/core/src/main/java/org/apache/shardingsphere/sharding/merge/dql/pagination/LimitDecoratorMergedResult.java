@@ -58,6 +58,7 @@ public final class LimitDecoratorMergedResult extends DecoratorMergedResult {
         if (!paginationContext.getActualRowCount().isPresent()) {
             return getMergedResult().next();
         }
+        // TODO release remaining shard cursors once row count is reached, JDBC result set meta data is still read from them after merging
         return ++rowNumber <= paginationContext.getActualRowCount().get() && getMergedResult().next();
     }
 }
@@ -21,6 +21,7 @@ import com.cedarsoftware.util.CaseInsensitiveMap;
 import com.cedarsoftware.util.CaseInsensitiveSet;
 import com.google.common.base.Splitter;
 import com.google.common.base.Strings;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
 import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
@@ -69,6 +70,7 @@ import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.predicate
 import javax.sql.DataSource;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
@@ -100,6 +102,12 @@ public final class ShardingRule implements DatabaseRule {
     
     private final Map<String, ShardingTable> shardingTables = new CaseInsensitiveMap<>();
     
+    @Getter(AccessLevel.NONE)
+    private final Map<String, ShardingTable> actualTableShardingTables = new CaseInsensitiveMap<>();
+    
+    @Getter(AccessLevel.NONE)
+    private final Map<String, Map<String, ShardingTable>> dataNodeShardingTables = new HashMap<>();
+    
     private final Map<String, BindingTableRule> bindingTableRules = new CaseInsensitiveMap<>();
     
     private final ShardingStrategyConfiguration defaultDatabaseShardingStrategyConfig;
@@ -125,6 +133,7 @@ public final class ShardingRule implements DatabaseRule {
         ruleConfig.getAuditors().forEach((key, value) -> auditors.put(key, TypedSPILoader.getService(ShardingAuditAlgorithm.class, value.getType(), value.getProps())));
         shardingTables.putAll(createShardingTables(ruleConfig.getTables(), ruleConfig.getDefaultKeyGenerateStrategy()));
         shardingTables.putAll(createShardingAutoTables(ruleConfig.getAutoTables(), ruleConfig.getDefaultKeyGenerateStrategy()));
+        shardingTables.values().forEach(this::addActualTableIndexes);
         bindingTableRules.putAll(createBindingTableRules(ruleConfig.getBindingTableGroups()));
         defaultDatabaseShardingStrategyConfig = createDefaultDatabaseShardingStrategyConfiguration(ruleConfig);
         defaultTableShardingStrategyConfig = createDefaultTableShardingStrategyConfiguration(ruleConfig);
@@ -194,6 +203,16 @@ public final class ShardingRule implements DatabaseRule {
                 getDefaultGenerateKeyColumn(defaultKeyGenerateStrategyConfig));
     }
     
+    private void addActualTableIndexes(final ShardingTable shardingTable) {
+        for (Entry<String, Collection<String>> entry : shardingTable.getDataSourceToTablesMap().entrySet()) {
+            Map<String, ShardingTable> tableShardingTables = dataNodeShardingTables.computeIfAbsent(entry.getKey(), key -> new HashMap<>());
+            for (String each : entry.getValue()) {
+                actualTableShardingTables.putIfAbsent(each, shardingTable);
+                tableShardingTables.putIfAbsent(each, shardingTable);
+            }
+        }
+    }
+    
     private void checkManualShardingAlgorithm(final String shardingAlgorithmName, final String logicTable) {
         ShardingAlgorithm shardingAlgorithm = shardingAlgorithms.get(shardingAlgorithmName);
         ShardingSpherePreconditions.checkState(!(shardingAlgorithm instanceof ShardingAutoTableAlgorithm),
@@ -313,12 +332,7 @@ public final class ShardingRule implements DatabaseRule {
      * @return sharding table
      */
     public Optional<ShardingTable> findShardingTableByActualTable(final String actualTableName) {
-        for (ShardingTable each : shardingTables.values()) {
-            if (each.isExisted(actualTableName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.empty();
+        return null == actualTableName ? Optional.empty() : Optional.ofNullable(actualTableShardingTables.get(actualTableName));
     }
     
     /**
@@ -329,12 +343,8 @@ public final class ShardingRule implements DatabaseRule {
      * @return sharding table
      */
     public Optional<ShardingTable> findShardingTableByDataSourceAndActualTable(final String dataSourceName, final String actualTableName) {
-        for (ShardingTable each : shardingTables.values()) {
-            if (each.containsDataNode(dataSourceName, actualTableName)) {
-                return Optional.of(each);
-            }
-        }
-        return Optional.empty();
+        Map<String, ShardingTable> tableShardingTables = dataNodeShardingTables.get(dataSourceName);
+        return null == tableShardingTables ? Optional.empty() : Optional.ofNullable(tableShardingTables.get(actualTableName));
     }
     
     /**
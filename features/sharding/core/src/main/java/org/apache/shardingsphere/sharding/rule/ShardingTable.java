@@ -54,7 +54,7 @@ import java.util.stream.Collectors;
  * Sharding table.
  */
 @Getter
-@ToString(exclude = {"dataNodeIndexMap", "actualTables", "actualDataSourceNames", "dataSourceDataNode", "tableDataNode"})
+@ToString(exclude = {"dataNodeIndexes", "actualTables", "actualDataSourceNames", "dataSourceDataNode", "tableDataNode"})
 public final class ShardingTable {
     
     private final String logicTable;
@@ -65,7 +65,7 @@ public final class ShardingTable {
     private final Set<String> actualTables;
     
     @Getter(AccessLevel.NONE)
-    private final Map<DataNode, Integer> dataNodeIndexMap;
+    private final Map<String, Map<String, Integer>> dataNodeIndexes = new HashMap<>();
     
     private final ShardingStrategyConfiguration databaseShardingStrategyConfig;
     
@@ -88,7 +88,6 @@ public final class ShardingTable {
     
     public ShardingTable(final Collection<String> dataSourceNames, final String logicTableName) {
         logicTable = logicTableName;
-        dataNodeIndexMap = new HashMap<>(dataSourceNames.size(), 1F);
         actualDataNodes = generateDataNodes(logicTableName, dataSourceNames);
         actualTables = getActualTables();
         databaseShardingStrategyConfig = null;
@@ -108,7 +107,6 @@ public final class ShardingTable {
                          final KeyGenerateStrategyConfiguration keyGeneratorConfig, final String defaultGenerateKeyColumn) {
         logicTable = tableRuleConfig.getLogicTable();
         Collection<String> dataNodes = InlineExpressionParserFactory.newInstance(tableRuleConfig.getActualDataNodes()).splitAndEvaluate();
-        dataNodeIndexMap = new HashMap<>(dataNodes.size(), 1F);
         actualDataNodes = isEmptyDataNodes(dataNodes) ? generateDataNodes(tableRuleConfig.getLogicTable(), dataSourceNames) : generateDataNodes(dataNodes, dataSourceNames);
         actualTables = getActualTables();
         databaseShardingStrategyConfig = tableRuleConfig.getDatabaseShardingStrategy();
@@ -134,7 +132,6 @@ public final class ShardingTable {
         tableShardingStrategyConfig = tableRuleConfig.getShardingStrategy();
         auditStrategyConfig = tableRuleConfig.getAuditStrategy();
         List<String> dataNodes = getDataNodes(tableRuleConfig, shardingAutoTableAlgorithm, dataSourceNames);
-        dataNodeIndexMap = new HashMap<>(dataNodes.size(), 1F);
         actualDataNodes = isEmptyDataNodes(dataNodes) ? generateDataNodes(tableRuleConfig.getLogicTable(), dataSourceNames) : generateDataNodes(dataNodes, dataSourceNames);
         actualTables = getActualTables();
         generateKeyColumn = null == keyGeneratorConfig || Strings.isNullOrEmpty(keyGeneratorConfig.getColumn()) ? defaultGenerateKeyColumn : keyGeneratorConfig.getColumn();
@@ -185,7 +182,7 @@ public final class ShardingTable {
         for (String each : dataSourceNames) {
             DataNode dataNode = new DataNode(each, (String) null, logicTable);
             result.add(dataNode);
-            dataNodeIndexMap.put(dataNode, index);
+            addDataNodeIndex(each, logicTable, index);
             actualDataSourceNames.add(each);
             addActualTable(dataNode.getDataSourceName(), dataNode.getTableName());
             index++;
@@ -202,7 +199,7 @@ public final class ShardingTable {
                 throw new DataNodeGenerateException(each);
             }
             result.add(dataNode);
-            dataNodeIndexMap.put(new DataNode(dataNode.getDataSourceName(), (String) null, dataNode.getTableName()), index);
+            addDataNodeIndex(dataNode.getDataSourceName(), dataNode.getTableName(), index);
             actualDataSourceNames.add(dataNode.getDataSourceName());
             addActualTable(dataNode.getDataSourceName(), dataNode.getTableName());
             index++;
@@ -210,6 +207,10 @@ public final class ShardingTable {
         return result;
     }
     
+    private void addDataNodeIndex(final String dataSourceName, final String tableName, final int index) {
+        dataNodeIndexes.computeIfAbsent(dataSourceName, key -> new HashMap<>()).put(tableName, index);
+    }
+    
     /**
      * Get actual table names via target data source name.
      *
@@ -228,7 +229,8 @@ public final class ShardingTable {
      * @return actual table index
      */
     public int findActualTableIndex(final String dataSourceName, final String actualTableName) {
-        return dataNodeIndexMap.getOrDefault(new DataNode(dataSourceName, (String) null, actualTableName), -1);
+        Map<String, Integer> tableIndexes = dataNodeIndexes.get(dataSourceName);
+        return null == tableIndexes ? -1 : tableIndexes.getOrDefault(actualTableName, -1);
     }
     
     /**
@@ -102,6 +102,15 @@ class InlineShardingAlgorithmTest {
                 new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, new BigInteger("787694822390497280787694822390497280"))), is("t_order_0"));
     }
     
+    @Test
+    void assertDoShardingWithHashCode() {
+        InlineShardingAlgorithm inlineShardingAlgorithm = (InlineShardingAlgorithm) TypedSPILoader.getService(ShardingAlgorithm.class, "INLINE",
+                PropertiesBuilder.build(new Property("algorithm-expression", "t_order_$->{Math.abs(order_id.hashCode()) % 4}")));
+        List<String> availableTargetNames = Arrays.asList("t_order_0", "t_order_1", "t_order_2", "t_order_3");
+        assertThat(inlineShardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, "foo")), is("t_order_" + Math.abs("foo".hashCode()) % 4));
+        assertThat(inlineShardingAlgorithm.doSharding(availableTargetNames, new PreciseShardingValue<>("t_order", "order_id", DATA_NODE_INFO, 10L)), is("t_order_2"));
+    }
+    
     @SuppressWarnings({"unchecked", "rawtypes"})
     @Test
     void assertDoShardingWithRangeShardingConditionValue() {
@@ -0,0 +1,251 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.apache.shardingsphere.database.connector.core.metadata.database.enums.NullsOrderType;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.infra.merge.result.MemoryEstimatedMergedResult;
+import org.apache.shardingsphere.infra.merge.result.MergedResult;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sharding.merge.dql.ShardingDQLResultMerger;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.AggregationType;
+import org.apache.shardingsphere.sql.parser.statement.core.enums.OrderDirection;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.AggregationProjectionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.item.ProjectionsSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.GroupBySegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.OrderBySegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.order.item.IndexOrderByItemSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.pagination.limit.LimitSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.pagination.limit.NumberLiteralLimitValueSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.SelectStatement;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Blob;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class GroupByMemoryLimitedMergedResultTest {
+    
+    private final DatabaseType databaseType = TypedSPILoader.getService(DatabaseType.class, "SQL92");
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ShardingSphereDatabase database;
+    
+    @Test
+    void assertNextWithSpill() throws SQLException {
+        MergedResult actual = merge(1L, createQueryResult(1, 2, 3), createQueryResult(3, 4), createQueryResult(1, 5));
+        assertThat(actual, instanceOf(GroupByMemoryLimitedMergedResult.class));
+        assertRow(actual, 5, 1);
+        assertRow(actual, 4, 1);
+        assertRow(actual, 3, 2);
+        assertRow(actual, 2, 1);
+        assertRow(actual, 1, 2);
+        assertFalse(actual.next());
+        assertThat(((MemoryEstimatedMergedResult) actual).getEstimatedMemoryBytes(), greaterThan(0L));
+    }
+    
+    @Test
+    void assertSpillFilesDeletedAfterExhausted() throws SQLException, IOException {
+        Collection<Path> expected = listSpillFiles();
+        MergedResult actual = merge(1L, createQueryResult(1, 2, 3), createQueryResult(3, 4), createQueryResult(1, 5));
+        while (actual.next()) {
+            assertThat(actual.getValue(3, Object.class), instanceOf(Integer.class));
+        }
+        assertThat(listSpillFiles(), is(expected));
+    }
+    
+    @Test
+    void assertCloseBeforeExhausted() throws SQLException, IOException {
+        Collection<Path> expected = listSpillFiles();
+        MergedResult actual = merge(1L, createQueryResult(1, 2, 3), createQueryResult(3, 4), createQueryResult(1, 5));
+        assertRow(actual, 5, 1);
+        assertThat(listSpillFiles().size(), greaterThan(expected.size()));
+        actual.close();
+        assertThat(listSpillFiles(), is(expected));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextWithUnserializableValue() throws SQLException, IOException {
+        Collection<Path> expected = listSpillFiles();
+        MergedResult actual = merge(1L, createQueryResultWithUnserializableValue(1, 2, 3), createQueryResultWithUnserializableValue(3, 4), createQueryResultWithUnserializableValue(1, 5));
+        assertThat(listSpillFiles(), is(expected));
+        assertRow(actual, 5, 1);
+        assertThat(actual.getValue(6, Object.class), instanceOf(UnserializableValue.class));
+        assertRow(actual, 4, 1);
+        assertThat(actual.getValue(6, Object.class), is(4));
+        assertRow(actual, 3, 2);
+        assertThat(actual.getValue(6, Object.class), is(3));
+        assertRow(actual, 2, 1);
+        assertThat(actual.getValue(6, Object.class), is(2));
+        assertRow(actual, 1, 2);
+        assertThat(actual.getValue(6, Object.class), is(1));
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextWithoutSpill() throws SQLException {
+        MergedResult actual = merge(Long.MAX_VALUE, createQueryResult(1, 2, 3), createQueryResult(3, 4), createQueryResult(1, 5));
+        assertRow(actual, 5, 1);
+        assertRow(actual, 4, 1);
+        assertRow(actual, 3, 2);
+        assertRow(actual, 2, 1);
+        assertRow(actual, 1, 2);
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextWithTopRows() throws SQLException {
+        when(database.getName()).thenReturn("db_schema");
+        SelectStatementContext selectStatementContext = createSelectStatementContext(new LimitSegment(0, 0, new NumberLiteralLimitValueSegment(0, 0, 1L), new NumberLiteralLimitValueSegment(0, 0, 2L)));
+        MergedResult actual = new ShardingDQLResultMerger(databaseType).merge(
+                Arrays.asList(createQueryResult(1, 2, 3), createQueryResult(3, 4), createQueryResult(1, 5)), selectStatementContext, database, mock(ConnectionContext.class));
+        assertRow(actual, 4, 1);
+        assertRow(actual, 3, 2);
+        assertFalse(actual.next());
+    }
+    
+    @Test
+    void assertNextForResultSetsAllEmpty() throws SQLException {
+        MergedResult actual = merge(1L, createQueryResult(), createQueryResult());
+        assertFalse(actual.next());
+        assertThat(((MemoryEstimatedMergedResult) actual).getEstimatedMemoryBytes(), is(0L));
+    }
+    
+    @Test
+    void assertGetValueWithInvalidType() throws SQLException {
+        MergedResult actual = merge(1L, createQueryResult(1, 2), createQueryResult(3));
+        assertTrue(actual.next());
+        assertThrows(SQLFeatureNotSupportedException.class, () -> actual.getValue(1, Blob.class));
+    }
+    
+    private MergedResult merge(final long memoryLimitBytes, final QueryResult... queryResults) throws SQLException {
+        when(database.getName()).thenReturn("db_schema");
+        return new ShardingDQLResultMerger(databaseType, memoryLimitBytes).merge(Arrays.asList(queryResults), createSelectStatementContext(null), database, mock(ConnectionContext.class));
+    }
+    
+    private Collection<Path> listSpillFiles() throws IOException {
+        try (Stream<Path> paths = Files.list(Paths.get(System.getProperty("java.io.tmpdir")))) {
+            return paths.filter(each -> each.getFileName().toString().startsWith("shardingsphere-group-by-")).collect(Collectors.toSet());
+        }
+    }
+    
+    private void assertRow(final MergedResult actual, final int id, final int count) throws SQLException {
+        assertTrue(actual.next());
+        assertThat(actual.getValue(1, Object.class), is(new BigDecimal(count)));
+        assertThat(actual.getValue(3, Object.class), is(id));
+        assertThat(((BigDecimal) actual.getValue(2, Object.class)).intValue(), is(id * 10));
+    }
+    
+    private SelectStatementContext createSelectStatementContext(final LimitSegment limitSegment) {
+        ProjectionsSegment projectionsSegment = new ProjectionsSegment(0, 0);
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.COUNT, "COUNT(*)"));
+        projectionsSegment.getProjections().add(new AggregationProjectionSegment(0, 0, AggregationType.AVG, "AVG(num)"));
+        SelectStatement selectStatement = SelectStatement.builder()
+                .databaseType(databaseType)
+                .projections(projectionsSegment)
+                .groupBy(new GroupBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.ASC, NullsOrderType.FIRST))))
+                .orderBy(new OrderBySegment(0, 0, Collections.singletonList(new IndexOrderByItemSegment(0, 0, 3, OrderDirection.DESC, NullsOrderType.FIRST))))
+                .limit(limitSegment)
+                .build();
+        ShardingSphereDatabase database = mock(ShardingSphereDatabase.class, RETURNS_DEEP_STUBS);
+        when(database.getName()).thenReturn("foo_db");
+        return new SelectStatementContext(selectStatement, new ShardingSphereMetaData(Collections.singleton(database), mock(), mock(), mock()), "foo_db", Collections.emptyList());
+    }
+    
+    private QueryResult createQueryResult(final int... ids) throws SQLException {
+        QueryResult result = mock(QueryResult.class, RETURNS_DEEP_STUBS);
+        when(result.getMetaData().getColumnCount()).thenReturn(5);
+        when(result.getMetaData().getColumnLabel(1)).thenReturn("COUNT(*)");
+        when(result.getMetaData().getColumnLabel(2)).thenReturn("AVG(num)");
+        when(result.getMetaData().getColumnLabel(3)).thenReturn("id");
+        when(result.getMetaData().getColumnLabel(4)).thenReturn("AVG_DERIVED_COUNT_0");
+        when(result.getMetaData().getColumnLabel(5)).thenReturn("AVG_DERIVED_SUM_0");
+        AtomicInteger rowIndex = new AtomicInteger(-1);
+        when(result.next()).thenAnswer(invocation -> rowIndex.incrementAndGet() < ids.length);
+        when(result.getValue(anyInt(), eq(Object.class))).thenAnswer(invocation -> getCellValue(ids[rowIndex.get()], invocation.getArgument(0)));
+        return result;
+    }
+    
+    private QueryResult createQueryResultWithUnserializableValue(final int... ids) throws SQLException {
+        QueryResult result = createQueryResult(ids);
+        when(result.getMetaData().getColumnCount()).thenReturn(6);
+        AtomicInteger rowIndex = new AtomicInteger(-1);
+        when(result.next()).thenAnswer(invocation -> rowIndex.incrementAndGet() < ids.length);
+        when(result.getValue(anyInt(), eq(Object.class))).thenAnswer(invocation -> getCellValueWithUnserializableValue(ids[rowIndex.get()], invocation.getArgument(0)));
+        return result;
+    }
+    
+    private Object getCellValueWithUnserializableValue(final int id, final int columnIndex) {
+        if (6 != columnIndex) {
+            return getCellValue(id, columnIndex);
+        }
+        return 5 == id ? new UnserializableValue() : id;
+    }
+    
+    private Object getCellValue(final int id, final int columnIndex) {
+        switch (columnIndex) {
+            case 3:
+                return id;
+            case 5:
+                return id * 10;
+            default:
+                return 1;
+        }
+    }
+    
+    private static final class UnserializableValue {
+    }
+}
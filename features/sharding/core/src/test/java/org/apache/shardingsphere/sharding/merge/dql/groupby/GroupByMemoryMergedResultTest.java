@@ -117,6 +117,7 @@ class GroupByMemoryMergedResultTest {
         assertThat(actual.getValue(4, Object.class), is(new BigDecimal(4)));
         assertThat(actual.getValue(5, Object.class), is(new BigDecimal(40)));
         assertFalse(actual.next());
+        assertThat(((GroupByMemoryMergedResult) actual).getEstimatedMemoryBytes(), is(2L * (128L + 48L * 5L + 64L * 4L)));
     }
     
     private SelectStatementContext createSelectStatementContext() {
@@ -0,0 +1,120 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sharding.merge.dql.groupby;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.Date;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.stream.Stream;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class GroupBySpillValueCodecTest {
+    
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("getValues")
+    void assertWriteAndRead(final String name, final Object value) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        assertTrue(GroupBySpillValueCodec.write(new DataOutputStream(output), value));
+        Object actual = GroupBySpillValueCodec.read(new DataInputStream(new ByteArrayInputStream(output.toByteArray())));
+        assertThat(actual.getClass(), is(value.getClass()));
+        if (value instanceof byte[]) {
+            assertThat((byte[]) actual, is((byte[]) value));
+        } else {
+            assertThat(actual, is(value));
+        }
+    }
+    
+    private static Stream<Arguments> getValues() {
+        Timestamp timestamp = new Timestamp(1700000000123L);
+        timestamp.setNanos(123456789);
+        return Stream.of(
+                Arguments.of("string", "foo_中文"),
+                Arguments.of("integer", 1),
+                Arguments.of("long", Long.MAX_VALUE),
+                Arguments.of("short", (short) 2),
+                Arguments.of("byte", (byte) 3),
+                Arguments.of("boolean", true),
+                Arguments.of("double", 1.5D),
+                Arguments.of("float", 2.5F),
+                Arguments.of("big decimal", new BigDecimal("-12345678901234567890.0123")),
+                Arguments.of("big integer", new BigInteger("12345678901234567890")),
+                Arguments.of("bytes", "bar".getBytes(StandardCharsets.UTF_8)),
+                Arguments.of("date", new Date(1700000000000L)),
+                Arguments.of("time", new Time(3600000L)),
+                Arguments.of("timestamp", timestamp),
+                Arguments.of("local date", LocalDate.of(2024, 2, 29)),
+                Arguments.of("local time", LocalTime.of(23, 59, 59, 999999999)),
+                Arguments.of("local date time", LocalDateTime.of(2024, 2, 29, 23, 59, 59, 1)),
+                Arguments.of("serializable", OffsetDateTime.of(2024, 2, 29, 23, 59, 59, 0, ZoneOffset.ofHours(8))));
+    }
+    
+    @Test
+    void assertWriteAndReadNull() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        assertTrue(GroupBySpillValueCodec.write(new DataOutputStream(output), null));
+        assertNull(GroupBySpillValueCodec.read(new DataInputStream(new ByteArrayInputStream(output.toByteArray()))));
+    }
+    
+    @Test
+    void assertWriteUnserializableValue() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        assertFalse(GroupBySpillValueCodec.write(new DataOutputStream(output), mock(Array.class)));
+        assertThat(output.size(), is(0));
+    }
+    
+    @Test
+    void assertWriteValueFailedToSerialize() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        assertFalse(GroupBySpillValueCodec.write(new DataOutputStream(output), new SerializableValueWithUnserializableField()));
+        assertThat(output.size(), is(0));
+    }
+    
+    private static final class SerializableValueWithUnserializableField implements Serializable {
+        
+        private static final long serialVersionUID = 1L;
+        
+        @SuppressWarnings("unused")
+        private final Object unserializableField = new Object();
+    }
+}
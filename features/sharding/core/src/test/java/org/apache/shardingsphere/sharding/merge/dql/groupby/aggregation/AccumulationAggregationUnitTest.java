@@ -17,12 +17,21 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
+import org.apache.shardingsphere.sharding.exception.data.NotImplementComparableValueException;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.sql.SQLException;
 import java.util.Collections;
 
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class AccumulationAggregationUnitTest {
     
@@ -36,4 +45,48 @@ class AccumulationAggregationUnitTest {
         accumulationAggregationUnit.merge(Collections.singletonList(10));
         assertThat(((Number) accumulationAggregationUnit.getResult()).intValue(), is(12));
     }
+    
+    @Test
+    void assertAccumulationAggregationWithoutValue() {
+        AccumulationAggregationUnit accumulationAggregationUnit = new AccumulationAggregationUnit();
+        accumulationAggregationUnit.merge(Collections.singletonList(null));
+        assertThat(accumulationAggregationUnit.getResult(), nullValue());
+    }
+    
+    @Test
+    void assertAccumulationAggregationWithLongOverflow() {
+        AccumulationAggregationUnit accumulationAggregationUnit = new AccumulationAggregationUnit();
+        accumulationAggregationUnit.merge(Collections.singletonList(Long.MAX_VALUE));
+        accumulationAggregationUnit.merge(Collections.singletonList(1));
+        accumulationAggregationUnit.merge(Collections.singletonList(1L));
+        assertThat(accumulationAggregationUnit.getResult(), is(new BigDecimal(BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.valueOf(2L)))));
+    }
+    
+    @Test
+    void assertAccumulationAggregationWithDecimalValue() {
+        AccumulationAggregationUnit accumulationAggregationUnit = new AccumulationAggregationUnit();
+        accumulationAggregationUnit.merge(Collections.singletonList(1));
+        accumulationAggregationUnit.merge(Collections.singletonList(new BigDecimal("1.5")));
+        accumulationAggregationUnit.merge(Collections.singletonList(2.25D));
+        accumulationAggregationUnit.merge(Collections.singletonList(3L));
+        assertThat(accumulationAggregationUnit.getResult(), is(new BigDecimal("7.75")));
+    }
+    
+    @Test
+    void assertAccumulationAggregationFromQueryResult() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.getValue(2, Object.class)).thenReturn(1, null, 10L);
+        AccumulationAggregationUnit accumulationAggregationUnit = new AccumulationAggregationUnit();
+        for (int i = 0; i < 3; i++) {
+            accumulationAggregationUnit.merge(queryResult, new int[]{2});
+        }
+        assertThat(accumulationAggregationUnit.getResult(), is(new BigDecimal(11)));
+    }
+    
+    @Test
+    void assertAccumulationAggregationFromQueryResultWithNotComparableValue() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.getValue(1, Object.class)).thenReturn(new Object());
+        assertThrows(NotImplementComparableValueException.class, () -> new AccumulationAggregationUnit().merge(queryResult, new int[]{1}));
+    }
 }
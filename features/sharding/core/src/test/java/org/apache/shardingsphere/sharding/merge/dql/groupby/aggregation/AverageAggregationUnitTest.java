@@ -17,13 +17,17 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.sql.SQLException;
 import java.util.Arrays;
 
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class AverageAggregationUnitTest {
     
@@ -47,4 +51,16 @@ class AverageAggregationUnitTest {
         avgAggregationUnit.merge(Arrays.asList(0, 40));
         assertThat(avgAggregationUnit.getResult(), is(new BigDecimal(0)));
     }
+    
+    @Test
+    void assertAvgAggregationFromQueryResult() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.getValue(1, Object.class)).thenReturn(10L, 5L, null);
+        when(queryResult.getValue(2, Object.class)).thenReturn(50L, 40L, 10L);
+        AverageAggregationUnit avgAggregationUnit = new AverageAggregationUnit();
+        for (int i = 0; i < 3; i++) {
+            avgAggregationUnit.merge(queryResult, new int[]{1, 2});
+        }
+        assertThat(avgAggregationUnit.getResult(), is(new BigDecimal("6.0000")));
+    }
 }
@@ -17,12 +17,16 @@
 
 package org.apache.shardingsphere.sharding.merge.dql.groupby.aggregation;
 
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.QueryResult;
 import org.junit.jupiter.api.Test;
 
+import java.sql.SQLException;
 import java.util.Collections;
 
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class ComparableAggregationUnitTest {
     
@@ -47,4 +51,15 @@ class ComparableAggregationUnitTest {
         comparableAggregation.merge(Collections.singletonList(5));
         assertThat(comparableAggregation.getResult(), is(10));
     }
+    
+    @Test
+    void assertComparableAggregationFromQueryResult() throws SQLException {
+        QueryResult queryResult = mock(QueryResult.class);
+        when(queryResult.getValue(1, Object.class)).thenReturn(5, null, 1, 10);
+        ComparableAggregationUnit comparableAggregation = new ComparableAggregationUnit(true);
+        for (int i = 0; i < 4; i++) {
+            comparableAggregation.merge(queryResult, new int[]{1});
+        }
+        assertThat(comparableAggregation.getResult(), is(1));
+    }
 }
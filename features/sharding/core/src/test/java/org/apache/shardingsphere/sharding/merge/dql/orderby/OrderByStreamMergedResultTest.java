@@ -198,9 +198,9 @@ class OrderByStreamMergedResultTest {
         assertTrue(actual.next());
         assertThat(actual.getValue(2, Object.class).toString(), is("A"));
         assertTrue(actual.next());
-        assertThat(actual.getValue(2, Object.class).toString(), is("B"));
-        assertTrue(actual.next());
         assertThat(actual.getValue(2, Object.class).toString(), is("b"));
+        assertTrue(actual.next());
+        assertThat(actual.getValue(2, Object.class).toString(), is("B"));
         assertFalse(actual.next());
     }
     
@@ -233,6 +233,31 @@ class OrderByStreamMergedResultTest {
         assertFalse(actual.next());
     }
     
+    @Test
+    void assertNextForManyResultSetsWithLongValues() throws SQLException {
+        List<QueryResult> queryResults = Arrays.asList(createLongQueryResult(3L, 10L), createLongQueryResult(), createLongQueryResult(1L, 7L, 12L),
+                createLongQueryResult(5L), createLongQueryResult(2L, 2L, 11L), createLongQueryResult(4L, 9L), createLongQueryResult(6L, 8L));
+        MergedResult actual = new ShardingDQLResultMerger(databaseType).merge(queryResults, selectStatementContext, createDatabase(), mock(ConnectionContext.class));
+        for (long each : new long[]{1L, 2L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L, 12L}) {
+            assertTrue(actual.next());
+            assertThat(actual.getValue(1, Object.class), is(each));
+        }
+        assertFalse(actual.next());
+    }
+    
+    private QueryResult createLongQueryResult(final Long... values) throws SQLException {
+        QueryResult result = mock(QueryResult.class);
+        QueryResultMetaData metaData = mock(QueryResultMetaData.class);
+        when(result.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnName(1)).thenReturn("col1");
+        when(metaData.getColumnName(2)).thenReturn("col2");
+        int[] cursor = new int[]{-1};
+        when(result.next()).thenAnswer(invocation -> ++cursor[0] < values.length);
+        when(result.getValue(1, Object.class)).thenAnswer(invocation -> values[cursor[0]]);
+        when(result.getValue(2, Object.class)).thenReturn(0L);
+        return result;
+    }
+    
     private ShardingSphereDatabase createDatabase() {
         ShardingSphereColumn column1 = new ShardingSphereColumn("col1", 0, false, false, true, true, false, false);
         ShardingSphereColumn column2 = new ShardingSphereColumn("col2", 0, false, false, false, true, false, false);
@@ -226,6 +226,11 @@ class ShardingRuleTest {
         assertTrue(createMaximumShardingRule().findShardingTableByActualTable("table_0").isPresent());
     }
     
+    @Test
+    void assertFindTableRuleByActualTableIgnoreCase() {
+        assertThat(createMaximumShardingRule().findShardingTableByActualTable("SUB_TABLE_1").get().getLogicTable(), is("SUB_LOGIC_TABLE"));
+    }
+    
     @Test
     void assertNotFindTableRuleByActualTable() {
         assertFalse(createMaximumShardingRule().findShardingTableByActualTable("table_3").isPresent());
@@ -72,6 +72,14 @@ class ShardingTableTest {
         assertThat(actual.findActualTableIndex("foo_ds", "foo_order_0"), is(0));
     }
     
+    @Test
+    void assertFindActualTableIndexWithMultipleDataNodes() {
+        ShardingTable actual = createShardingTable();
+        assertThat(actual.findActualTableIndex("ds1", "table_2"), is(5));
+        assertThat(actual.findActualTableIndex("ds1", "table_9"), is(-1));
+        assertThat(actual.findActualTableIndex("ds9", "table_0"), is(-1));
+    }
+    
     private ShardingTable createShardingTable() {
         ShardingTableRuleConfiguration shardingTableRuleConfig = new ShardingTableRuleConfiguration("LOGIC_TABLE", "ds${0..1}.table_${0..2}");
         shardingTableRuleConfig.setDatabaseShardingStrategy(new NoneShardingStrategyConfiguration());
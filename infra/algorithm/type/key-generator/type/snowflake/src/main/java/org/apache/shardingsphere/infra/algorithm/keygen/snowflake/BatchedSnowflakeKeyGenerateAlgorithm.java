@@ -0,0 +1,206 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.keygen.snowflake;
+
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmExecuteException;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.algorithm.keygen.spi.KeyGenerateAlgorithm;
+import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContextAware;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Properties;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Batched snowflake key generate algorithm.
+ * 
+ * <p>Keys have the same layout as {@link SnowflakeKeyGenerateAlgorithm}.
+ * Timestamp offset and sequence of the last reserved key are packed into one long, a batch of keys is reserved by one CAS on it.
+ * Sequence overflow rolls into following milliseconds, which may be borrowed from the future up to the configured bound instead of waiting.
+ * Clock moving backwards keeps issuing keys after the last reserved one within the same bound.
+ * Every batch is kept within the bound: beyond it generation sleeps until the clock catches up,
+ * and fails if the batch can never fit or the clock moved backwards over the tolerated time difference, same as SNOWFLAKE.</p>
+ */
+public final class BatchedSnowflakeKeyGenerateAlgorithm implements KeyGenerateAlgorithm, ComputeNodeInstanceContextAware {
+    
+    private static final String MAX_VIBRATION_OFFSET_KEY = "max-vibration-offset";
+    
+    private static final String MAX_BORROW_MILLIS_KEY = "max-borrow-milliseconds";
+    
+    private static final String MAX_TOLERATE_TIME_DIFFERENCE_MILLIS_KEY = "max-tolerate-time-difference-milliseconds";
+    
+    private static final long SEQUENCE_BITS = 12L;
+    
+    private static final long WORKER_ID_BITS = 10L;
+    
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1L;
+    
+    private static final long WORKER_ID_LEFT_SHIFT_BITS = SEQUENCE_BITS;
+    
+    private static final long TIMESTAMP_LEFT_SHIFT_BITS = WORKER_ID_LEFT_SHIFT_BITS + WORKER_ID_BITS;
+    
+    private static final int DEFAULT_VIBRATION_VALUE = 1;
+    
+    private static final int DEFAULT_MAX_BORROW_MILLIS = 10;
+    
+    private static final int MAX_TOLERATE_TIME_DIFFERENCE_MILLIS = 10;
+    
+    private static final int DEFAULT_WORKER_ID = 0;
+    
+    @Setter
+    private static TimeService timeService = new TimeService();
+    
+    private final AtomicReference<ComputeNodeInstanceContext> computeNodeInstanceContext = new AtomicReference<>();
+    
+    private final AtomicInteger sequenceOffset = new AtomicInteger(-1);
+    
+    private final AtomicLong lastReserved = new AtomicLong(-1L);
+    
+    private Properties props;
+    
+    private int maxVibrationOffset;
+    
+    private int maxBorrowMillis;
+    
+    private int maxTolerateTimeDifferenceMillis;
+    
+    @Override
+    public void init(final Properties props) {
+        this.props = props;
+        maxVibrationOffset = getMaxVibrationOffset(props);
+        maxBorrowMillis = getMaxBorrowMillis(props);
+        maxTolerateTimeDifferenceMillis = getMaxTolerateTimeDifferenceMillis(props);
+    }
+    
+    private int getMaxVibrationOffset(final Properties props) {
+        int result = Integer.parseInt(props.getOrDefault(MAX_VIBRATION_OFFSET_KEY, DEFAULT_VIBRATION_VALUE).toString());
+        ShardingSpherePreconditions.checkState(result >= 0 && result <= SEQUENCE_MASK, () -> new AlgorithmInitializationException(this, "Illegal max vibration offset."));
+        return result;
+    }
+    
+    private int getMaxBorrowMillis(final Properties props) {
+        int result = Integer.parseInt(props.getOrDefault(MAX_BORROW_MILLIS_KEY, DEFAULT_MAX_BORROW_MILLIS).toString());
+        ShardingSpherePreconditions.checkState(result >= 0, () -> new AlgorithmInitializationException(this, "Illegal max borrow milliseconds."));
+        return result;
+    }
+    
+    private int getMaxTolerateTimeDifferenceMillis(final Properties props) {
+        int result = Integer.parseInt(props.getOrDefault(MAX_TOLERATE_TIME_DIFFERENCE_MILLIS_KEY, MAX_TOLERATE_TIME_DIFFERENCE_MILLIS).toString());
+        ShardingSpherePreconditions.checkState(result >= 0, () -> new AlgorithmInitializationException(this, "Illegal max tolerate time difference milliseconds."));
+        return result;
+    }
+    
+    @Override
+    public void setComputeNodeInstanceContext(final ComputeNodeInstanceContext computeNodeInstanceContext) {
+        this.computeNodeInstanceContext.set(computeNodeInstanceContext);
+        if (null != computeNodeInstanceContext) {
+            computeNodeInstanceContext.generateWorkerId(props);
+        }
+    }
+    
+    @HighFrequencyInvocation
+    @Override
+    public List<Long> generateKeys(final AlgorithmSQLContext context, final int keyGenerateCount) {
+        long[] result = new long[keyGenerateCount];
+        if (0 == keyGenerateCount) {
+            return new SnowflakeKeys(result);
+        }
+        long first = reserve(keyGenerateCount);
+        long workerId = (long) getWorkerId() << WORKER_ID_LEFT_SHIFT_BITS;
+        for (int i = 0; i < keyGenerateCount; i++) {
+            long each = first + i;
+            result[i] = ((each >>> SEQUENCE_BITS) << TIMESTAMP_LEFT_SHIFT_BITS) | workerId | (each & SEQUENCE_MASK);
+        }
+        return new SnowflakeKeys(result);
+    }
+    
+    @HighFrequencyInvocation
+    private long reserve(final int keyGenerateCount) {
+        ShardingSpherePreconditions.checkState(keyGenerateCount + maxVibrationOffset <= (maxBorrowMillis + 1L) << SEQUENCE_BITS,
+                () -> new AlgorithmExecuteException(this, "Can not generate %d keys at once within %d borrowed milliseconds.", keyGenerateCount, maxBorrowMillis));
+        while (true) {
+            long last = lastReserved.get();
+            long currentMillis = timeService.getCurrentMillis() - SnowflakeKeyGenerateAlgorithm.EPOCH;
+            boolean isNewMillis = (last >> SEQUENCE_BITS) < currentMillis;
+            long first = isNewMillis ? (currentMillis << SEQUENCE_BITS) + vibrateSequenceOffset() : last + 1L;
+            long end = first + keyGenerateCount - 1L;
+            long borrowedMillis = (end >> SEQUENCE_BITS) - currentMillis;
+            if (borrowedMillis > maxBorrowMillis) {
+                waitBorrowedMillis(last >> SEQUENCE_BITS, currentMillis, borrowedMillis - maxBorrowMillis);
+                continue;
+            }
+            if (lastReserved.compareAndSet(last, end)) {
+                return first;
+            }
+        }
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private void waitBorrowedMillis(final long lastReservedMillis, final long currentMillis, final long exceededMillis) {
+        long timeDifferenceMillis = lastReservedMillis - currentMillis - maxBorrowMillis;
+        ShardingSpherePreconditions.checkState(timeDifferenceMillis < maxTolerateTimeDifferenceMillis, () -> new AlgorithmExecuteException(this,
+                "Clock is moving backwards, last reserved time is %d milliseconds, current time is %d milliseconds.", lastReservedMillis + SnowflakeKeyGenerateAlgorithm.EPOCH,
+                currentMillis + SnowflakeKeyGenerateAlgorithm.EPOCH));
+        Thread.sleep(exceededMillis);
+    }
+    
+    @HighFrequencyInvocation
+    private int vibrateSequenceOffset() {
+        if (sequenceOffset.compareAndSet(maxVibrationOffset, 0)) {
+            return 0;
+        }
+        return sequenceOffset.incrementAndGet();
+    }
+    
+    @HighFrequencyInvocation
+    private int getWorkerId() {
+        return null == computeNodeInstanceContext.get() ? DEFAULT_WORKER_ID : computeNodeInstanceContext.get().getWorkerId();
+    }
+    
+    @Override
+    public String getType() {
+        return "BATCHED_SNOWFLAKE";
+    }
+    
+    @RequiredArgsConstructor
+    private static final class SnowflakeKeys extends AbstractList<Long> implements RandomAccess {
+        
+        private final long[] keys;
+        
+        @Override
+        public Long get(final int index) {
+            return keys[index];
+        }
+        
+        @Override
+        public int size() {
+            return keys.length;
+        }
+    }
+}
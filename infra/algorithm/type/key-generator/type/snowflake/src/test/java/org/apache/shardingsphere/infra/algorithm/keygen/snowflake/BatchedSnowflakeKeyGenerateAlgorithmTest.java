@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.keygen.snowflake;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.infra.algorithm.core.context.AlgorithmSQLContext;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmExecuteException;
+import org.apache.shardingsphere.infra.algorithm.core.exception.AlgorithmInitializationException;
+import org.apache.shardingsphere.infra.algorithm.keygen.snowflake.fixture.FixedTimeService;
+import org.apache.shardingsphere.infra.algorithm.keygen.spi.KeyGenerateAlgorithm;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContext;
+import org.apache.shardingsphere.infra.instance.ComputeNodeInstanceContextAware;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder;
+import org.apache.shardingsphere.infra.util.props.PropertiesBuilder.Property;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.internal.configuration.plugins.Plugins;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class BatchedSnowflakeKeyGenerateAlgorithmTest {
+    
+    private static final int DEFAULT_KEY_AMOUNT = 10;
+    
+    @AfterEach
+    void resetTimeService() {
+        BatchedSnowflakeKeyGenerateAlgorithm.setTimeService(new TimeService());
+    }
+    
+    @Test
+    void assertGenerateKeysWithMultipleThreads() throws ExecutionException, InterruptedException {
+        int threadNumber = Runtime.getRuntime().availableProcessors() * 2;
+        ExecutorService executor = Executors.newFixedThreadPool(threadNumber);
+        int taskNumber = threadNumber * 4;
+        KeyGenerateAlgorithm algorithm = createAlgorithm(new Properties());
+        List<Future<Collection<? extends Comparable<?>>>> futures = new ArrayList<>(taskNumber);
+        for (int i = 0; i < taskNumber; i++) {
+            futures.add(executor.submit(() -> algorithm.generateKeys(mock(AlgorithmSQLContext.class), 1000)));
+        }
+        Set<Comparable<?>> actual = new HashSet<>(taskNumber * 1000, 1F);
+        for (Future<Collection<? extends Comparable<?>>> each : futures) {
+            actual.addAll(each.get());
+        }
+        executor.shutdown();
+        assertThat(actual.size(), is(taskNumber * 1000));
+    }
+    
+    @Test
+    void assertGenerateKeysInSameMillisecond() {
+        BatchedSnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(1));
+        KeyGenerateAlgorithm algorithm = createAlgorithm(new Properties());
+        List<Comparable<?>> expected = Arrays.asList(0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L);
+        assertThat(new ArrayList<>(algorithm.generateKeys(mock(AlgorithmSQLContext.class), DEFAULT_KEY_AMOUNT)), is(expected));
+        assertThat(new ArrayList<>(algorithm.generateKeys(mock(AlgorithmSQLContext.class), 2)), is(Arrays.asList(4194305L, 4194306L)));
+    }
+    
+    @Test
+    void assertGenerateKeysBeyondMaxSequencePerMillisecond() {
+        BatchedSnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(1));
+        KeyGenerateAlgorithm algorithm = createAlgorithm(new Properties());
+        setLastReserved(algorithm, 4093L);
+        List<Comparable<?>> expected = Arrays.asList(4094L, 4095L, 4194304L, 4194305L);
+        assertThat(new ArrayList<>(algorithm.generateKeys(mock(AlgorithmSQLContext.class), 4)), is(expected));
+    }
+    
+    @Test
+    void assertGenerateKeysWithClockCallBack() {
+        BatchedSnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(1));
+        KeyGenerateAlgorithm algorithm = createAlgorithm(PropertiesBuilder.build(new Property("max-borrow-milliseconds", "0")));
+        setLastReserved(algorithm, 2L << 12);
+        assertThat(new ArrayList<>(algorithm.generateKeys(mock(AlgorithmSQLContext.class), 1)), is(Arrays.asList(8388609L)));
+    }
+    
+    @Test
+    void assertGenerateKeysWithClockMovedBackwardsBeyondTolerance() {
+        BatchedSnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(1));
+        KeyGenerateAlgorithm algorithm = createAlgorithm(new Properties());
+        setLastReserved(algorithm, 100L << 12);
+        assertThrows(AlgorithmExecuteException.class, () -> algorithm.generateKeys(mock(AlgorithmSQLContext.class), 1));
+    }
+    
+    @Test
+    void assertGenerateKeysBeyondMaxBorrowMilliseconds() {
+        BatchedSnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(1));
+        KeyGenerateAlgorithm algorithm = createAlgorithm(PropertiesBuilder.build(new Property("max-borrow-milliseconds", "0")));
+        assertThrows(AlgorithmExecuteException.class, () -> algorithm.generateKeys(mock(AlgorithmSQLContext.class), 4096));
+    }
+    
+    @Test
+    void assertGenerateKeysWithWorkerId() {
+        BatchedSnowflakeKeyGenerateAlgorithm.setTimeService(new FixedTimeService(1));
+        KeyGenerateAlgorithm algorithm = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "BATCHED_SNOWFLAKE");
+        ComputeNodeInstanceContext computeNodeInstanceContext = mock(ComputeNodeInstanceContext.class);
+        when(computeNodeInstanceContext.getWorkerId()).thenReturn(1);
+        ((ComputeNodeInstanceContextAware) algorithm).setComputeNodeInstanceContext(computeNodeInstanceContext);
+        assertThat(new ArrayList<>(algorithm.generateKeys(mock(AlgorithmSQLContext.class), 2)), is(Arrays.asList(4096L, 4097L)));
+    }
+    
+    @Test
+    void assertGenerateEmptyKeys() {
+        assertThat(createAlgorithm(new Properties()).generateKeys(mock(AlgorithmSQLContext.class), 0).size(), is(0));
+    }
+    
+    @Test
+    void assertMaxVibrationOffsetIsOutOfRange() {
+        assertThrows(AlgorithmInitializationException.class,
+                () -> TypedSPILoader.getService(KeyGenerateAlgorithm.class, "BATCHED_SNOWFLAKE", PropertiesBuilder.build(new Property("max-vibration-offset", "4096"))));
+    }
+    
+    @Test
+    void assertMaxBorrowMillisecondsIsNegative() {
+        assertThrows(AlgorithmInitializationException.class,
+                () -> TypedSPILoader.getService(KeyGenerateAlgorithm.class, "BATCHED_SNOWFLAKE", PropertiesBuilder.build(new Property("max-borrow-milliseconds", "-1"))));
+    }
+    
+    @Test
+    void assertMaxTolerateTimeDifferenceMillisecondsIsNegative() {
+        assertThrows(AlgorithmInitializationException.class,
+                () -> TypedSPILoader.getService(KeyGenerateAlgorithm.class, "BATCHED_SNOWFLAKE", PropertiesBuilder.build(new Property("max-tolerate-time-difference-milliseconds", "-1"))));
+    }
+    
+    private KeyGenerateAlgorithm createAlgorithm(final Properties props) {
+        KeyGenerateAlgorithm result = TypedSPILoader.getService(KeyGenerateAlgorithm.class, "BATCHED_SNOWFLAKE", props);
+        ((ComputeNodeInstanceContextAware) result).setComputeNodeInstanceContext(mock(ComputeNodeInstanceContext.class));
+        return result;
+    }
+    
+    @SneakyThrows(ReflectiveOperationException.class)
+    private void setLastReserved(final KeyGenerateAlgorithm algorithm, final long value) {
+        ((AtomicLong) Plugins.getMemberAccessor().get(BatchedSnowflakeKeyGenerateAlgorithm.class.getDeclaredField("lastReserved"), algorithm)).set(value);
+    }
+}
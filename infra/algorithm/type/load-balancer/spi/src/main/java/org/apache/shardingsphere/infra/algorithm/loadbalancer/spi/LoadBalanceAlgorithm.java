@@ -21,6 +21,7 @@ import org.apache.shardingsphere.infra.algorithm.core.ShardingSphereAlgorithm;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.OptionalDouble;
 
 /**
  * Load balance algorithm.
@@ -36,6 +37,15 @@ public interface LoadBalanceAlgorithm extends ShardingSphereAlgorithm {
     default void check(final String databaseName, final Collection<String> configuredTargetNames) {
     }
     
+    /**
+     * Bind load balance algorithm to targets of database.
+     *
+     * @param databaseName database name
+     * @param targetNames target names
+     */
+    default void bind(final String databaseName, final Collection<String> targetNames) {
+    }
+    
     /**
      * Get target name.
      *
@@ -44,4 +54,14 @@ public interface LoadBalanceAlgorithm extends ShardingSphereAlgorithm {
      * @return available target names
      */
     String getTargetName(String groupName, List<String> availableTargetNames);
+    
+    /**
+     * Find load score of target.
+     *
+     * @param targetName target name
+     * @return load score of target, lower means less loaded; empty if algorithm does not track load
+     */
+    default OptionalDouble findLoadScore(final String targetName) {
+        return OptionalDouble.empty();
+    }
 }
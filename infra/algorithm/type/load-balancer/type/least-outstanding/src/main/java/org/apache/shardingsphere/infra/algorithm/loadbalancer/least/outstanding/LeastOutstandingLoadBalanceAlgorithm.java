@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.least.outstanding;
+
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.spi.LoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Least outstanding load balance algorithm.
+ * 
+ * <p>Two different targets are picked at random and the one with lower load score wins (power of two choices).
+ * Load score is smoothed response time multiplied by outstanding requests, both are updated by {@link LeastOutstandingSQLExecutionHook}.
+ * Statistics are only recorded for targets bound to the algorithm, and are released when the algorithm is closed.</p>
+ */
+public final class LeastOutstandingLoadBalanceAlgorithm implements LoadBalanceAlgorithm, AutoCloseable {
+    
+    private final Map<String, TargetLoadStatistics> statistics = new ConcurrentHashMap<>();
+    
+    private volatile String databaseName;
+    
+    @Override
+    public synchronized void bind(final String databaseName, final Collection<String> targetNames) {
+        this.databaseName = databaseName;
+        for (String each : targetNames) {
+            if (!statistics.containsKey(each)) {
+                statistics.put(each, TargetLoadStatisticsRegistry.register(databaseName, each));
+            }
+        }
+    }
+    
+    @HighFrequencyInvocation
+    @Override
+    public String getTargetName(final String groupName, final List<String> availableTargetNames) {
+        int size = availableTargetNames.size();
+        if (1 == size) {
+            return availableTargetNames.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int firstIndex = random.nextInt(size);
+        int secondIndex = random.nextInt(size - 1);
+        if (secondIndex >= firstIndex) {
+            secondIndex++;
+        }
+        String firstTargetName = availableTargetNames.get(firstIndex);
+        String secondTargetName = availableTargetNames.get(secondIndex);
+        return getScore(firstTargetName) <= getScore(secondTargetName) ? firstTargetName : secondTargetName;
+    }
+    
+    private double getScore(final String targetName) {
+        TargetLoadStatistics result = statistics.get(targetName);
+        return null == result ? 0D : result.getScore();
+    }
+    
+    @Override
+    public OptionalDouble findLoadScore(final String targetName) {
+        return OptionalDouble.of(getScore(targetName));
+    }
+    
+    @Override
+    public synchronized void close() {
+        for (String each : statistics.keySet()) {
+            TargetLoadStatisticsRegistry.unregister(databaseName, each);
+        }
+        statistics.clear();
+    }
+    
+    @Override
+    public String getType() {
+        return "LEAST_OUTSTANDING";
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.least.outstanding;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Load statistics of target.
+ * 
+ * <p>Response time is smoothed by exponentially weighted moving average. All updates are lock-free.</p>
+ */
+final class TargetLoadStatistics {
+    
+    private static final long UNKNOWN_RESPONSE_TIME = -1L;
+    
+    private final AtomicInteger outstandingRequests = new AtomicInteger();
+    
+    private final AtomicLong responseTimeNanos = new AtomicLong(UNKNOWN_RESPONSE_TIME);
+    
+    /**
+     * Start request.
+     */
+    void start() {
+        outstandingRequests.incrementAndGet();
+    }
+    
+    /**
+     * Finish request.
+     *
+     * @param elapsedNanos elapsed time in nanoseconds, negative if request failed
+     */
+    void finish(final long elapsedNanos) {
+        outstandingRequests.decrementAndGet();
+        if (elapsedNanos >= 0L) {
+            responseTimeNanos.getAndUpdate(each -> UNKNOWN_RESPONSE_TIME == each ? elapsedNanos : (each * 3L + elapsedNanos) / 4L);
+        }
+    }
+    
+    /**
+     * Get outstanding requests.
+     *
+     * @return outstanding requests
+     */
+    int getOutstandingRequests() {
+        return Math.max(outstandingRequests.get(), 0);
+    }
+    
+    /**
+     * Get load score.
+     * 
+     * <p>Score is smoothed response time in milliseconds multiplied by outstanding requests including the next one, targets without response time score 0 to be probed first.</p>
+     *
+     * @return load score
+     */
+    double getScore() {
+        long responseTime = responseTimeNanos.get();
+        return UNKNOWN_RESPONSE_TIME == responseTime ? 0D : responseTime / 1000000D * (getOutstandingRequests() + 1);
+    }
+}
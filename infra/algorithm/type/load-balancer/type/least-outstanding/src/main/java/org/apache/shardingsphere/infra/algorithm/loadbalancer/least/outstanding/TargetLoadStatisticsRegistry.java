@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.least.outstanding;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of target load statistics.
+ * 
+ * <p>Statistics are kept per database name and data source name, and only for targets registered by least outstanding load balance algorithms.
+ * Targets are reference counted, statistics are removed after all algorithms using them are closed with their rules.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class TargetLoadStatisticsRegistry {
+    
+    private static final Map<TargetKey, RegisteredStatistics> STATISTICS = new ConcurrentHashMap<>();
+    
+    /**
+     * Register target.
+     *
+     * @param databaseName database name
+     * @param targetName target name
+     * @return statistics of target
+     */
+    static TargetLoadStatistics register(final String databaseName, final String targetName) {
+        return STATISTICS.compute(new TargetKey(databaseName, targetName), (key, value) -> null == value ? new RegisteredStatistics() : value.retain()).statistics;
+    }
+    
+    /**
+     * Unregister target.
+     *
+     * @param databaseName database name
+     * @param targetName target name
+     */
+    static void unregister(final String databaseName, final String targetName) {
+        STATISTICS.computeIfPresent(new TargetKey(databaseName, targetName), (key, value) -> value.release() ? null : value);
+    }
+    
+    /**
+     * Find statistics.
+     *
+     * @param databaseName database name
+     * @param targetName target name
+     * @return found statistics, empty if target is not registered
+     */
+    static Optional<TargetLoadStatistics> findStatistics(final String databaseName, final String targetName) {
+        if (null == databaseName || STATISTICS.isEmpty()) {
+            return Optional.empty();
+        }
+        RegisteredStatistics result = STATISTICS.get(new TargetKey(databaseName, targetName));
+        return null == result ? Optional.empty() : Optional.of(result.statistics);
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class TargetKey {
+        
+        private final String databaseName;
+        
+        private final String targetName;
+    }
+    
+    private static final class RegisteredStatistics {
+        
+        private final TargetLoadStatistics statistics = new TargetLoadStatistics();
+        
+        private int referenceCount = 1;
+        
+        private RegisteredStatistics retain() {
+            referenceCount++;
+            return this;
+        }
+        
+        private boolean release() {
+            return 0 == --referenceCount;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.least.outstanding;
+
+import org.apache.shardingsphere.infra.algorithm.loadbalancer.spi.LoadBalanceAlgorithm;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.OptionalDouble;
+import java.util.Properties;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LeastOutstandingLoadBalanceAlgorithmTest {
+    
+    private final LoadBalanceAlgorithm loadBalanceAlgorithm = TypedSPILoader.getService(LoadBalanceAlgorithm.class, "LEAST_OUTSTANDING", new Properties());
+    
+    @AfterEach
+    void tearDown() throws Exception {
+        ((AutoCloseable) loadBalanceAlgorithm).close();
+    }
+    
+    @Test
+    void assertGetSingleAvailableTarget() {
+        assertThat(loadBalanceAlgorithm.getTargetName("ds", Collections.singletonList("single_read_ds")), is("single_read_ds"));
+    }
+    
+    @Test
+    void assertGetLessLoadedTarget() {
+        List<String> availableTargetNames = Arrays.asList("slow_read_ds", "fast_read_ds");
+        loadBalanceAlgorithm.bind("foo_db", availableTargetNames);
+        TargetLoadStatistics slowStatistics = TargetLoadStatisticsRegistry.findStatistics("foo_db", "slow_read_ds").get();
+        slowStatistics.start();
+        slowStatistics.finish(20000000L);
+        TargetLoadStatistics fastStatistics = TargetLoadStatisticsRegistry.findStatistics("foo_db", "fast_read_ds").get();
+        fastStatistics.start();
+        fastStatistics.finish(2000000L);
+        for (int i = 0; i < 10; i++) {
+            assertThat(loadBalanceAlgorithm.getTargetName("ds", availableTargetNames), is("fast_read_ds"));
+        }
+        for (int i = 0; i < 10; i++) {
+            fastStatistics.start();
+        }
+        assertThat(loadBalanceAlgorithm.getTargetName("ds", availableTargetNames), is("slow_read_ds"));
+    }
+    
+    @Test
+    void assertFindLoadScore() {
+        loadBalanceAlgorithm.bind("foo_db", Collections.singletonList("scored_read_ds"));
+        TargetLoadStatistics statistics = TargetLoadStatisticsRegistry.findStatistics("foo_db", "scored_read_ds").get();
+        assertThat(loadBalanceAlgorithm.findLoadScore("scored_read_ds"), is(OptionalDouble.of(0D)));
+        statistics.start();
+        statistics.finish(4000000L);
+        statistics.start();
+        assertThat(loadBalanceAlgorithm.findLoadScore("scored_read_ds"), is(OptionalDouble.of(8D)));
+        statistics.finish(8000000L);
+        assertThat(loadBalanceAlgorithm.findLoadScore("scored_read_ds"), is(OptionalDouble.of(5D)));
+    }
+    
+    @Test
+    void assertStatisticsScopedByDatabase() throws Exception {
+        LoadBalanceAlgorithm otherLoadBalanceAlgorithm = TypedSPILoader.getService(LoadBalanceAlgorithm.class, "LEAST_OUTSTANDING", new Properties());
+        loadBalanceAlgorithm.bind("foo_db", Collections.singletonList("read_ds"));
+        otherLoadBalanceAlgorithm.bind("bar_db", Collections.singletonList("read_ds"));
+        assertThat(TargetLoadStatisticsRegistry.findStatistics("foo_db", "read_ds").get(), not(sameInstance(TargetLoadStatisticsRegistry.findStatistics("bar_db", "read_ds").get())));
+        ((AutoCloseable) otherLoadBalanceAlgorithm).close();
+        assertTrue(TargetLoadStatisticsRegistry.findStatistics("foo_db", "read_ds").isPresent());
+        assertFalse(TargetLoadStatisticsRegistry.findStatistics("bar_db", "read_ds").isPresent());
+    }
+    
+    @Test
+    void assertCloseWithSharedTarget() throws Exception {
+        LoadBalanceAlgorithm otherLoadBalanceAlgorithm = TypedSPILoader.getService(LoadBalanceAlgorithm.class, "LEAST_OUTSTANDING", new Properties());
+        loadBalanceAlgorithm.bind("foo_db", Collections.singletonList("shared_read_ds"));
+        otherLoadBalanceAlgorithm.bind("foo_db", Collections.singletonList("shared_read_ds"));
+        ((AutoCloseable) loadBalanceAlgorithm).close();
+        assertTrue(TargetLoadStatisticsRegistry.findStatistics("foo_db", "shared_read_ds").isPresent());
+        ((AutoCloseable) otherLoadBalanceAlgorithm).close();
+        assertFalse(TargetLoadStatisticsRegistry.findStatistics("foo_db", "shared_read_ds").isPresent());
+    }
+}
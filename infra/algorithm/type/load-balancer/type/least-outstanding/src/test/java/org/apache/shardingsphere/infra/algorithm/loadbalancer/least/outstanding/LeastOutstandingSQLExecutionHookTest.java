@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.algorithm.loadbalancer.least.outstanding;
+
+import org.apache.shardingsphere.database.connector.core.jdbcurl.parser.ConnectionProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+
+class LeastOutstandingSQLExecutionHookTest {
+    
+    private TargetLoadStatistics statistics;
+    
+    @BeforeEach
+    void setUp() {
+        statistics = TargetLoadStatisticsRegistry.register("foo_db", "read_ds");
+    }
+    
+    @AfterEach
+    void tearDown() {
+        TargetLoadStatisticsRegistry.unregister("foo_db", "read_ds");
+    }
+    
+    @Test
+    void assertFinishSuccess() {
+        LeastOutstandingSQLExecutionHook hook = new LeastOutstandingSQLExecutionHook();
+        hook.start("foo_db", "read_ds", "SELECT 1", Collections.emptyList(), mock(ConnectionProperties.class), true);
+        assertThat(statistics.getOutstandingRequests(), is(1));
+        hook.finishSuccess();
+        assertThat(statistics.getOutstandingRequests(), is(0));
+    }
+    
+    @Test
+    void assertFinishFailure() {
+        LeastOutstandingSQLExecutionHook hook = new LeastOutstandingSQLExecutionHook();
+        hook.start("foo_db", "read_ds", "SELECT 1", Collections.emptyList(), mock(ConnectionProperties.class), true);
+        hook.finishFailure(new RuntimeException("test"));
+        hook.finishFailure(new RuntimeException("test"));
+        assertThat(statistics.getOutstandingRequests(), is(0));
+        assertThat(statistics.getScore(), is(0D));
+    }
+    
+    @Test
+    void assertStartWithUnregisteredTarget() {
+        LeastOutstandingSQLExecutionHook hook = new LeastOutstandingSQLExecutionHook();
+        hook.start("bar_db", "read_ds", "SELECT 1", Collections.emptyList(), mock(ConnectionProperties.class), true);
+        assertThat(statistics.getOutstandingRequests(), is(0));
+        hook.finishSuccess();
+        assertFalse(TargetLoadStatisticsRegistry.findStatistics("bar_db", "read_ds").isPresent());
+    }
+}
@@ -48,11 +48,21 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     KERNEL_EXECUTOR_SIZE("kernel-executor-size", String.valueOf(0), int.class, true),
     
+    /**
+     * Whether use virtual threads to execute SQL and proxy connection commands, only effective on JDK 21+.
+     */
+    KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED("kernel-executor-virtual-thread-enabled", String.valueOf(Boolean.FALSE), boolean.class, true),
+    
     /**
      * Max opened connection size for each query.
      */
     MAX_CONNECTIONS_SIZE_PER_QUERY("max-connections-size-per-query", String.valueOf(1), int.class, false),
     
+    /**
+     * Execution connection policy type, which decides connection size and connection mode of each query per data source.
+     */
+    EXECUTION_CONNECTION_POLICY_TYPE("execution-connection-policy-type", "FIXED", String.class, false),
+    
     /**
      * Max union size per datasource for aggregate rewrite.
      * When route units count for a datasource exceeds this value, they will be split into batches.
@@ -79,12 +89,23 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_FLUSH_THRESHOLD("proxy-frontend-flush-threshold", String.valueOf(128), int.class, false),
     
+    /**
+     * Flush threshold in bytes of records encoded in batch for ShardingSphere-Proxy, records are also flushed once they have waited for a short latency budget.
+     * 0 means disable batching and flush by record count.
+     */
+    PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD("proxy-frontend-flush-bytes-threshold", String.valueOf(64 * 1024), int.class, false),
+    
     /**
      * Proxy backend query fetch size. A larger value may increase the memory usage of ShardingSphere Proxy.
      * The default value is -1, which means set the minimum value for different JDBC drivers.
      */
     PROXY_BACKEND_QUERY_FETCH_SIZE("proxy-backend-query-fetch-size", String.valueOf(-1), int.class, false),
     
+    /**
+     * Whether hand results of unordered multi-shard queries to merger in completion order of shards, so that proxy can respond rows of faster shards first.
+     */
+    PROXY_BACKEND_COMPLETION_ORDER_QUERY_ENABLED("proxy-backend-completion-order-query-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Proxy frontend executor size. The default value is 0, which means let Netty decide.
      */
@@ -100,6 +121,12 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     PROXY_FRONTEND_CONNECTION_IDLE_TIMEOUT("proxy-frontend-connection-idle-timeout", "28800", long.class, false),
     
+    /**
+     * Max concurrency of pipelined independent extended query statements before Sync for PostgreSQL protocol of ShardingSphere-Proxy.
+     * Less than or equal to 1 means executing statements serially.
+     */
+    PROXY_FRONTEND_POSTGRESQL_PIPELINE_MAX_CONCURRENCY("proxy-frontend-postgresql-pipeline-max-concurrency", "0", int.class, false),
+    
     /**
      * Proxy default start port.
      */
@@ -115,6 +142,12 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
      */
     CDC_SERVER_PORT("cdc-server-port", "33071", int.class, true),
     
+    /**
+     * Whether migration applies incremental records in unique key partitions concurrently by job concurrency.
+     * Records of different unique keys might be applied out of source order, and source transaction boundaries are not kept.
+     */
+    MIGRATION_INCREMENTAL_PARTITIONED_IMPORT_ENABLED("migration-incremental-partitioned-import-enabled", String.valueOf(Boolean.FALSE), boolean.class, false),
+    
     /**
      * Proxy frontend SSL enabled.
      */
@@ -138,7 +171,36 @@ public enum ConfigurationPropertyKey implements TypedPropertyKey {
     /**
      * Maximum size of Groovy inline expression parsing cache.
      */
-    GROOVY_INLINE_EXPRESSION_PARSING_CACHE_MAX_SIZE("groovy-inline-expression-parsing-cache-max-size", "1000", long.class, false);
+    GROOVY_INLINE_EXPRESSION_PARSING_CACHE_MAX_SIZE("groovy-inline-expression-parsing-cache-max-size", "1000", long.class, false),
+    
+    /**
+     * Maximum size of cached rewrite plans for each prepared statement, one plan is cached for each route units.
+     * 0 means disable rewrite plan cache.
+     */
+    KERNEL_REWRITE_PLAN_CACHE_MAX_SIZE("kernel-rewrite-plan-cache-max-size", String.valueOf(0), int.class, false),
+    
+    /**
+     * Memory limit in bytes of group by merging for each query, groups exceeding the limit are spilled to temporary files.
+     * 0 means no limit.
+     */
+    GROUP_BY_MERGE_MEMORY_LIMIT_BYTES("group-by-merge-memory-limit-bytes", String.valueOf(0L), long.class, false),
+    
+    /**
+     * Latency percentile of the routed replica after which readwrite-splitting reads are hedged to another replica.
+     * 0 means disable hedged read.
+     */
+    READWRITE_SPLITTING_HEDGED_READ_PERCENTILE("readwrite-splitting-hedged-read-percentile", String.valueOf(0D), double.class, false),
+    
+    /**
+     * Max replication lag in milliseconds of replica which readwrite-splitting reads are routed to, reads go to primary if every replica is behind.
+     * 0 means no limit.
+     */
+    READWRITE_SPLITTING_MAX_REPLICATION_LAG_MILLISECONDS("readwrite-splitting-max-replication-lag-milliseconds", String.valueOf(0L), long.class, false),
+    
+    /**
+     * Whether readwrite-splitting reads are routed to primary until replica has applied the last write of session.
+     */
+    READWRITE_SPLITTING_READ_YOUR_WRITES_ENABLED("readwrite-splitting-read-your-writes-enabled", String.valueOf(Boolean.FALSE), boolean.class, false);
     
     private final String key;
     
@@ -17,10 +17,15 @@
 
 package org.apache.shardingsphere.infra.connection.kernel;
 
+import lombok.Getter;
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.checker.SupportedSQLCheckEngine;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.infra.connection.kernel.plan.SQLRewritePlan;
+import org.apache.shardingsphere.infra.connection.kernel.plan.SQLRewritePlanCache;
+import org.apache.shardingsphere.infra.connection.kernel.plan.StatementSQLRewritePlans;
 import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContextBuilder;
@@ -36,12 +41,39 @@ import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatemen
 import org.apache.shardingsphere.sql.parser.statement.core.statement.type.ddl.table.CreateTableStatement;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.type.ddl.table.DropTableStatement;
 
+import java.util.Optional;
+
 /**
  * Kernel processor.
+ * 
+ * <p>Route engine and rewrite entry are reused among invocations with the same database, global rule meta data and properties,
+ * so batched executions should reuse one kernel processor instance. Kernel processor is not thread-safe.</p>
+ * 
+ * <p>Kernel processor of batched execution keeps the rewrite plans of the batch when the rewrite plan cache is disabled,
+ * so parameter sets routed to the same data nodes reuse the rewritten SQLs instead of rewriting for each parameter set.
+ * Each parameter set is still routed on its own.</p>
  */
 @HighFrequencyInvocation
 public final class KernelProcessor {
     
+    private static final int BATCH_REWRITE_PLAN_MAX_SIZE = 1024;
+    
+    private final boolean batched;
+    
+    private KernelEngines kernelEngines;
+    
+    private SQLStatementContext batchSQLStatementContext;
+    
+    private StatementSQLRewritePlans batchRewritePlans;
+    
+    public KernelProcessor() {
+        this(false);
+    }
+    
+    public KernelProcessor(final boolean batched) {
+        this.batched = batched;
+    }
+    
     /**
      * Generate execution context.
      *
@@ -80,12 +112,55 @@ public final class KernelProcessor {
     
     private RouteContext route(final QueryContext queryContext, final RuleMetaData globalRuleMetaData, final ConfigurationProperties props) {
         ShardingSphereDatabase database = queryContext.getUsedDatabase();
-        return new SQLRouteEngine(database.getRuleMetaData().getRules(), props).route(queryContext, globalRuleMetaData, database);
+        return getKernelEngines(database, globalRuleMetaData, props).getRouteEngine().route(queryContext, globalRuleMetaData, database);
+    }
+    
+    private KernelEngines getKernelEngines(final ShardingSphereDatabase database, final RuleMetaData globalRuleMetaData, final ConfigurationProperties props) {
+        if (null == kernelEngines || !kernelEngines.isSameMetaData(database, globalRuleMetaData, props)) {
+            kernelEngines = new KernelEngines(database, globalRuleMetaData, props);
+        }
+        return kernelEngines;
     }
     
     private SQLRewriteResult rewrite(final QueryContext queryContext, final RuleMetaData globalRuleMetaData, final ConfigurationProperties props, final RouteContext routeContext) {
-        SQLRewriteEntry sqlRewriteEntry = new SQLRewriteEntry(queryContext.getUsedDatabase(), globalRuleMetaData, props);
-        return sqlRewriteEntry.rewrite(queryContext, routeContext);
+        if (!SQLRewritePlanCache.isCacheable(queryContext, routeContext)) {
+            return rewriteWithoutPlanCache(queryContext, globalRuleMetaData, props, routeContext);
+        }
+        int rewritePlanCacheMaxSize = props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_REWRITE_PLAN_CACHE_MAX_SIZE);
+        if (rewritePlanCacheMaxSize <= 0) {
+            return batched ? rewriteWithBatchRewritePlans(queryContext, globalRuleMetaData, props, routeContext) : rewriteWithoutPlanCache(queryContext, globalRuleMetaData, props, routeContext);
+        }
+        Optional<SQLRewritePlan> rewritePlan = SQLRewritePlanCache.find(queryContext, routeContext);
+        if (rewritePlan.isPresent()) {
+            return rewritePlan.get().rewrite(queryContext.getSqlStatementContext(), queryContext.getParameters(), routeContext.getRouteUnits());
+        }
+        SQLRewriteResult result = rewriteWithoutPlanCache(queryContext, globalRuleMetaData, props, routeContext);
+        SQLRewritePlanCache.put(queryContext, routeContext, result, rewritePlanCacheMaxSize);
+        return result;
+    }
+    
+    private SQLRewriteResult rewriteWithBatchRewritePlans(final QueryContext queryContext, final RuleMetaData globalRuleMetaData, final ConfigurationProperties props,
+                                                         final RouteContext routeContext) {
+        StatementSQLRewritePlans rewritePlans = getBatchRewritePlans(queryContext);
+        Optional<SQLRewritePlan> rewritePlan = rewritePlans.find(routeContext.getRouteUnits());
+        if (rewritePlan.isPresent()) {
+            return rewritePlan.get().rewrite(queryContext.getSqlStatementContext(), queryContext.getParameters(), routeContext.getRouteUnits());
+        }
+        SQLRewriteResult result = rewriteWithoutPlanCache(queryContext, globalRuleMetaData, props, routeContext);
+        rewritePlans.put(queryContext, routeContext, result, BATCH_REWRITE_PLAN_MAX_SIZE);
+        return result;
+    }
+    
+    private StatementSQLRewritePlans getBatchRewritePlans(final QueryContext queryContext) {
+        if (null == batchRewritePlans || batchSQLStatementContext != queryContext.getSqlStatementContext() || !batchRewritePlans.isSameMetaData(queryContext.getMetaData(), queryContext.getUsedDatabase())) {
+            batchSQLStatementContext = queryContext.getSqlStatementContext();
+            batchRewritePlans = new StatementSQLRewritePlans(queryContext.getMetaData(), queryContext.getUsedDatabase());
+        }
+        return batchRewritePlans;
+    }
+    
+    private SQLRewriteResult rewriteWithoutPlanCache(final QueryContext queryContext, final RuleMetaData globalRuleMetaData, final ConfigurationProperties props, final RouteContext routeContext) {
+        return getKernelEngines(queryContext.getUsedDatabase(), globalRuleMetaData, props).getRewriteEntry().rewrite(queryContext, routeContext);
     }
     
     private ExecutionContext createExecutionContext(final QueryContext queryContext, final RouteContext routeContext, final SQLRewriteResult rewriteResult) {
@@ -97,4 +172,31 @@ public final class KernelProcessor {
             SQLLogger.logSQL(queryContext, props.<Boolean>getValue(ConfigurationPropertyKey.SQL_SIMPLE), executionContext);
         }
     }
+    
+    private static final class KernelEngines {
+        
+        private final ShardingSphereDatabase database;
+        
+        private final RuleMetaData globalRuleMetaData;
+        
+        private final ConfigurationProperties props;
+        
+        @Getter
+        private final SQLRouteEngine routeEngine;
+        
+        @Getter
+        private final SQLRewriteEntry rewriteEntry;
+        
+        private KernelEngines(final ShardingSphereDatabase database, final RuleMetaData globalRuleMetaData, final ConfigurationProperties props) {
+            this.database = database;
+            this.globalRuleMetaData = globalRuleMetaData;
+            this.props = props;
+            routeEngine = new SQLRouteEngine(database.getRuleMetaData().getRules(), props);
+            rewriteEntry = new SQLRewriteEntry(database, globalRuleMetaData, props);
+        }
+        
+        private boolean isSameMetaData(final ShardingSphereDatabase database, final RuleMetaData globalRuleMetaData, final ConfigurationProperties props) {
+            return this.database == database && this.globalRuleMetaData == globalRuleMetaData && this.props == props;
+        }
+    }
 }
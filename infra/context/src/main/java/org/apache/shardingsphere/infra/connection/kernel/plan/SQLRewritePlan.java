@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.connection.kernel.plan;
+
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * SQL rewrite plan.
+ */
+public final class SQLRewritePlan {
+    
+    private final Map<RouteUnit, String> actualSQLs;
+    
+    private final Map<RouteUnit, Integer> parameterGroupCounts;
+    
+    private final boolean needAggregateRewrite;
+    
+    public SQLRewritePlan(final SQLStatementContext sqlStatementContext, final int parameterCount, final RouteSQLRewriteResult rewriteResult) {
+        actualSQLs = new LinkedHashMap<>(rewriteResult.getSqlRewriteUnits().size(), 1F);
+        parameterGroupCounts = new LinkedHashMap<>(rewriteResult.getSqlRewriteUnits().size(), 1F);
+        for (Entry<RouteUnit, SQLRewriteUnit> entry : rewriteResult.getSqlRewriteUnits().entrySet()) {
+            actualSQLs.put(entry.getKey(), entry.getValue().getSql());
+            parameterGroupCounts.put(entry.getKey(), entry.getValue().getParameters().size() / parameterCount);
+        }
+        needAggregateRewrite = sqlStatementContext instanceof SelectStatementContext && ((SelectStatementContext) sqlStatementContext).isNeedAggregateRewrite();
+    }
+    
+    /**
+     * Rewrite with cached actual SQLs.
+     *
+     * <p>Route units of current route are used as keys of rewrite result, since they may carry per execution route state which is not cached, such as hedged read route.</p>
+     *
+     * @param sqlStatementContext SQL statement context
+     * @param params parameters
+     * @param routeUnits route units of current route
+     * @return route SQL rewrite result
+     */
+    public RouteSQLRewriteResult rewrite(final SQLStatementContext sqlStatementContext, final List<Object> params, final Collection<RouteUnit> routeUnits) {
+        if (sqlStatementContext instanceof SelectStatementContext) {
+            ((SelectStatementContext) sqlStatementContext).setNeedAggregateRewrite(needAggregateRewrite);
+        }
+        Map<RouteUnit, RouteUnit> currentRouteUnits = new LinkedHashMap<>(routeUnits.size(), 1F);
+        for (RouteUnit each : routeUnits) {
+            currentRouteUnits.put(each, each);
+        }
+        Map<RouteUnit, SQLRewriteUnit> result = new LinkedHashMap<>(actualSQLs.size(), 1F);
+        for (Entry<RouteUnit, String> entry : actualSQLs.entrySet()) {
+            result.put(currentRouteUnits.getOrDefault(entry.getKey(), entry.getKey()), new SQLRewriteUnit(entry.getValue(), createParameters(params, parameterGroupCounts.get(entry.getKey()))));
+        }
+        return new RouteSQLRewriteResult(result, true);
+    }
+    
+    private List<Object> createParameters(final List<Object> params, final int parameterGroupCount) {
+        List<Object> result = new ArrayList<>(params.size() * parameterGroupCount);
+        for (int i = 0; i < parameterGroupCount; i++) {
+            result.addAll(params);
+        }
+        return result;
+    }
+}
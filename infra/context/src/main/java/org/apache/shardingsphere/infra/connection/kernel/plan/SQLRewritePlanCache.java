@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.connection.kernel.plan;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.DeleteStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.UpdateStatementContext;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+
+import java.util.Optional;
+
+/**
+ * SQL rewrite plan cache.
+ * 
+ * <p>Plans are cached by SQL statement context identity, which is reused by every execution of one prepared statement,
+ * and by route units, the rewritten SQLs can only be reused when they route to the same data nodes.
+ * Plans are dropped when meta data changed.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLRewritePlanCache {
+    
+    private static final Cache<SQLStatementContext, StatementSQLRewritePlans> STATEMENT_PLANS = Caffeine.newBuilder().weakKeys().build();
+    
+    /**
+     * Judge whether SQL rewrite plan is cacheable.
+     *
+     * @param queryContext query context
+     * @param routeContext route context
+     * @return SQL rewrite plan is cacheable or not
+     */
+    public static boolean isCacheable(final QueryContext queryContext, final RouteContext routeContext) {
+        if (!queryContext.isUseCache() || queryContext.getParameters().isEmpty() || routeContext.getRouteUnits().isEmpty() || queryContext.getHintValueContext().isSkipSQLRewrite()) {
+            return false;
+        }
+        SQLStatementContext sqlStatementContext = queryContext.getSqlStatementContext();
+        return sqlStatementContext instanceof SelectStatementContext || sqlStatementContext instanceof InsertStatementContext
+                || sqlStatementContext instanceof UpdateStatementContext || sqlStatementContext instanceof DeleteStatementContext;
+    }
+    
+    /**
+     * Find SQL rewrite plan.
+     *
+     * @param queryContext query context
+     * @param routeContext route context
+     * @return found SQL rewrite plan
+     */
+    public static Optional<SQLRewritePlan> find(final QueryContext queryContext, final RouteContext routeContext) {
+        StatementSQLRewritePlans plans = STATEMENT_PLANS.getIfPresent(queryContext.getSqlStatementContext());
+        return null == plans || !plans.isSameMetaData(queryContext.getMetaData(), queryContext.getUsedDatabase()) ? Optional.empty() : plans.find(routeContext.getRouteUnits());
+    }
+    
+    /**
+     * Put SQL rewrite plan.
+     *
+     * @param queryContext query context
+     * @param routeContext route context
+     * @param rewriteResult SQL rewrite result
+     * @param maxSize max size of SQL rewrite plans for each statement
+     */
+    public static void put(final QueryContext queryContext, final RouteContext routeContext, final SQLRewriteResult rewriteResult, final int maxSize) {
+        if (!StatementSQLRewritePlans.isParameterIndependent(rewriteResult)) {
+            return;
+        }
+        ShardingSphereDatabase database = queryContext.getUsedDatabase();
+        StatementSQLRewritePlans plans = STATEMENT_PLANS.asMap().compute(queryContext.getSqlStatementContext(),
+                (key, value) -> null == value || !value.isSameMetaData(queryContext.getMetaData(), database) ? new StatementSQLRewritePlans(queryContext.getMetaData(), database) : value);
+        plans.put(queryContext, routeContext, rewriteResult, maxSize);
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.connection.kernel.plan;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteResult;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * SQL rewrite plans of one statement.
+ */
+@RequiredArgsConstructor
+public final class StatementSQLRewritePlans {
+    
+    private final ShardingSphereMetaData metaData;
+    
+    private final ShardingSphereDatabase database;
+    
+    private final Map<List<RouteUnit>, SQLRewritePlan> plans = new ConcurrentHashMap<>();
+    
+    /**
+     * Judge whether plans are built with the same meta data.
+     *
+     * @param metaData meta data
+     * @param database database
+     * @return plans are built with the same meta data or not
+     */
+    public boolean isSameMetaData(final ShardingSphereMetaData metaData, final ShardingSphereDatabase database) {
+        return this.metaData == metaData && this.database == database;
+    }
+    
+    /**
+     * Find SQL rewrite plan.
+     *
+     * @param routeUnits route units
+     * @return found SQL rewrite plan
+     */
+    public Optional<SQLRewritePlan> find(final Collection<RouteUnit> routeUnits) {
+        return Optional.ofNullable(plans.get(new ArrayList<>(routeUnits)));
+    }
+    
+    /**
+     * Put SQL rewrite plan.
+     *
+     * @param routeUnits route units
+     * @param plan SQL rewrite plan
+     * @param maxSize max size of SQL rewrite plans
+     */
+    public void put(final Collection<RouteUnit> routeUnits, final SQLRewritePlan plan, final int maxSize) {
+        if (plans.size() < maxSize) {
+            plans.put(new ArrayList<>(routeUnits), plan);
+        }
+    }
+    
+    /**
+     * Put SQL rewrite plan if rewritten SQLs do not depend on parameter values.
+     *
+     * @param queryContext query context
+     * @param routeContext route context
+     * @param rewriteResult SQL rewrite result
+     * @param maxSize max size of SQL rewrite plans
+     */
+    public void put(final QueryContext queryContext, final RouteContext routeContext, final SQLRewriteResult rewriteResult, final int maxSize) {
+        if (isParameterIndependent(rewriteResult)) {
+            put(routeContext.getRouteUnits(), new SQLRewritePlan(queryContext.getSqlStatementContext(), queryContext.getParameters().size(), (RouteSQLRewriteResult) rewriteResult), maxSize);
+        }
+    }
+    
+    /**
+     * Judge whether rewritten SQLs do not depend on parameter values.
+     *
+     * @param rewriteResult SQL rewrite result
+     * @return rewritten SQLs do not depend on parameter values or not
+     */
+    public static boolean isParameterIndependent(final SQLRewriteResult rewriteResult) {
+        return rewriteResult instanceof RouteSQLRewriteResult && ((RouteSQLRewriteResult) rewriteResult).isParameterIndependent();
+    }
+}
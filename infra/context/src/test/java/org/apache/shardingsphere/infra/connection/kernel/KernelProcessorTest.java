@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.connection.kernel;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.binder.context.statement.type.CommonSQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.checker.SupportedSQLCheckEngine;
 import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
@@ -32,6 +33,13 @@ import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
 import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
 import org.apache.shardingsphere.infra.metadata.database.rule.RuleMetaData;
+import org.apache.shardingsphere.infra.rewrite.SQLRewriteEntry;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.route.engine.SQLRouteEngine;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.attribute.RuleAttributes;
 import org.apache.shardingsphere.infra.rule.attribute.datasource.aggregate.AggregatedDataSourceRuleAttribute;
@@ -68,6 +76,7 @@ import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockConstruction;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -131,6 +140,49 @@ class KernelProcessorTest {
         }
     }
     
+    @Test
+    void assertGenerateExecutionContextWithBatchRewritePlans() {
+        assertGenerateExecutionContextTwice(new KernelProcessor(true), 1);
+    }
+    
+    @Test
+    void assertGenerateExecutionContextWithoutBatchRewritePlans() {
+        assertGenerateExecutionContextTwice(new KernelProcessor(), 2);
+    }
+    
+    private void assertGenerateExecutionContextTwice(final KernelProcessor kernelProcessor, final int expectedRewriteTimes) {
+        RouteUnit routeUnit = new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singletonList(new RouteMapper("tbl", "tbl_0")));
+        RouteContext routeContext = new RouteContext();
+        routeContext.getRouteUnits().add(routeUnit);
+        RouteSQLRewriteResult rewriteResult = new RouteSQLRewriteResult(
+                Collections.singletonMap(routeUnit, new SQLRewriteUnit("SELECT * FROM tbl_0 WHERE id = ?", Collections.singletonList(1))), true);
+        SelectStatementContext sqlStatementContext = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(sqlStatementContext.getTablesContext().getDatabaseNames()).thenReturn(Collections.emptyList());
+        ShardingSphereMetaData metaData = createMetaData();
+        RuleMetaData globalRuleMetaData = new RuleMetaData(Arrays.asList(mockSQLTranslatorRule(), mockAggregatedDataSourceRule()));
+        ConfigurationProperties props = createProps(false);
+        try (
+                MockedConstruction<SupportedSQLCheckEngine> ignored = mockConstruction(SupportedSQLCheckEngine.class);
+                MockedConstruction<SQLRouteEngine> mockedRouteEngines = mockConstruction(SQLRouteEngine.class, (mock, context) -> when(mock.route(any(), any(), any())).thenReturn(routeContext));
+                MockedConstruction<SQLRewriteEntry> mockedRewriteEntries = mockConstruction(SQLRewriteEntry.class, (mock, context) -> when(mock.rewrite(any(), any())).thenReturn(rewriteResult))) {
+            kernelProcessor.generateExecutionContext(createQueryContext(sqlStatementContext, metaData, 1), globalRuleMetaData, props);
+            ExecutionContext actual = kernelProcessor.generateExecutionContext(createQueryContext(sqlStatementContext, metaData, 2), globalRuleMetaData, props);
+            assertThat(mockedRouteEngines.constructed().size(), is(1));
+            verify(mockedRouteEngines.constructed().get(0), times(2)).route(any(), any(), any());
+            verify(mockedRewriteEntries.constructed().get(0), times(expectedRewriteTimes)).rewrite(any(), any());
+            assertThat(actual.getExecutionUnits().iterator().next().getSqlUnit().getSql(), is("SELECT * FROM tbl_0 WHERE id = ?"));
+            if (1 == expectedRewriteTimes) {
+                assertThat(actual.getExecutionUnits().iterator().next().getSqlUnit().getParameters(), is(Collections.singletonList(2)));
+            }
+        }
+    }
+    
+    private QueryContext createQueryContext(final SQLStatementContext sqlStatementContext, final ShardingSphereMetaData metaData, final int param) {
+        ConnectionContext connectionContext = mock(ConnectionContext.class);
+        when(connectionContext.getCurrentDatabaseName()).thenReturn(Optional.of("foo_db"));
+        return new QueryContext(sqlStatementContext, "SELECT * FROM tbl WHERE id = ?", Collections.singletonList(param), new HintValueContext(), connectionContext, metaData, true);
+    }
+    
     private SQLTranslatorRule mockSQLTranslatorRule() {
         SQLTranslatorRule result = mock(SQLTranslatorRule.class);
         when(result.getAttributes()).thenReturn(new RuleAttributes());
@@ -155,17 +207,21 @@ class KernelProcessorTest {
         hintValueContext.setSkipMetadataValidate(skipMetadataValidate);
         ConnectionContext connectionContext = mock(ConnectionContext.class);
         when(connectionContext.getCurrentDatabaseName()).thenReturn(Optional.of("foo_db"));
-        ShardingSphereMetaData metaData = mock(ShardingSphereMetaData.class);
+        SQLStatementContext sqlStatementContext = new CommonSQLStatementContext(sqlStatement);
+        return new QueryContext(sqlStatementContext, "SELECT * FROM tbl", Collections.emptyList(), hintValueContext, connectionContext, createMetaData());
+    }
+    
+    private ShardingSphereMetaData createMetaData() {
+        ShardingSphereMetaData result = mock(ShardingSphereMetaData.class);
         ResourceMetaData resourceMetaData = mock(ResourceMetaData.class, RETURNS_DEEP_STUBS);
         when(resourceMetaData.getStorageUnits()).thenReturn(Collections.singletonMap("ds_0", mock(StorageUnit.class, RETURNS_DEEP_STUBS)));
-        when(metaData.containsDatabase("foo_db")).thenReturn(true);
+        when(result.containsDatabase("foo_db")).thenReturn(true);
         ShardingSphereDatabase database = new ShardingSphereDatabase(
                 "foo_db", databaseType, resourceMetaData, new RuleMetaData(Arrays.asList(mockSQLTranslatorRule(), mockAggregatedDataSourceRule())), Collections.emptyList(),
                 new ConfigurationProperties(new Properties()));
-        when(metaData.getDatabase("foo_db")).thenReturn(database);
-        when(metaData.getProps()).thenReturn(new ConfigurationProperties(new Properties()));
-        SQLStatementContext sqlStatementContext = new CommonSQLStatementContext(sqlStatement);
-        return new QueryContext(sqlStatementContext, "SELECT * FROM tbl", Collections.emptyList(), hintValueContext, connectionContext, metaData);
+        when(result.getDatabase("foo_db")).thenReturn(database);
+        when(result.getProps()).thenReturn(new ConfigurationProperties(new Properties()));
+        return result;
     }
     
     private ConfigurationProperties createProps(final boolean sqlShow) {
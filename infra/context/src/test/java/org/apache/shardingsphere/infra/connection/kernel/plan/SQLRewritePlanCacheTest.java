@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.connection.kernel.plan;
+
+import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.type.CommonSQLStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.hint.HintValueContext;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
+import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.infra.route.context.RouteContext;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.apache.shardingsphere.infra.session.query.QueryContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SQLRewritePlanCacheTest {
+    
+    private final RouteUnit routeUnit = new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singletonList(new RouteMapper("t_order", "t_order_0")));
+    
+    @Test
+    void assertIsCacheable() {
+        assertTrue(SQLRewritePlanCache.isCacheable(mockQueryContext(mock(SelectStatementContext.class), mock(ShardingSphereMetaData.class), true), createRouteContext()));
+    }
+    
+    @Test
+    void assertIsNotCacheableWithoutPreparedStatement() {
+        assertFalse(SQLRewritePlanCache.isCacheable(mockQueryContext(mock(SelectStatementContext.class), mock(ShardingSphereMetaData.class), false), createRouteContext()));
+    }
+    
+    @Test
+    void assertIsCacheableWithInsertStatement() {
+        assertTrue(SQLRewritePlanCache.isCacheable(mockQueryContext(mock(InsertStatementContext.class), mock(ShardingSphereMetaData.class), true), createRouteContext()));
+    }
+    
+    @Test
+    void assertIsNotCacheableWithDDLStatement() {
+        assertFalse(SQLRewritePlanCache.isCacheable(mockQueryContext(mock(CommonSQLStatementContext.class), mock(ShardingSphereMetaData.class), true), createRouteContext()));
+    }
+    
+    @Test
+    void assertIsNotCacheableWithoutRouteUnits() {
+        assertFalse(SQLRewritePlanCache.isCacheable(mockQueryContext(mock(SelectStatementContext.class), mock(ShardingSphereMetaData.class), true), new RouteContext()));
+    }
+    
+    @Test
+    void assertFind() {
+        QueryContext queryContext = mockQueryContext(mock(SelectStatementContext.class), mock(ShardingSphereMetaData.class), true);
+        SQLRewritePlanCache.put(queryContext, createRouteContext(), createRewriteResult(true), 1);
+        Optional<SQLRewritePlan> actual = SQLRewritePlanCache.find(queryContext, createRouteContext());
+        assertTrue(actual.isPresent());
+        RouteSQLRewriteResult rewriteResult = actual.get().rewrite(queryContext.getSqlStatementContext(), Collections.singletonList(2), Collections.singletonList(routeUnit));
+        assertThat(rewriteResult.getSqlRewriteUnits().get(routeUnit).getParameters(), is(Collections.singletonList(2)));
+    }
+    
+    @Test
+    void assertFindWithDifferentRouteUnits() {
+        QueryContext queryContext = mockQueryContext(mock(SelectStatementContext.class), mock(ShardingSphereMetaData.class), true);
+        SQLRewritePlanCache.put(queryContext, createRouteContext(), createRewriteResult(true), 1);
+        RouteContext routeContext = new RouteContext();
+        routeContext.getRouteUnits().add(new RouteUnit(new RouteMapper("ds_1", "ds_1"), Collections.singletonList(new RouteMapper("t_order", "t_order_1"))));
+        assertFalse(SQLRewritePlanCache.find(queryContext, routeContext).isPresent());
+    }
+    
+    @Test
+    void assertFindWithChangedMetaData() {
+        SQLStatementContext sqlStatementContext = mock(SelectStatementContext.class);
+        SQLRewritePlanCache.put(mockQueryContext(sqlStatementContext, mock(ShardingSphereMetaData.class), true), createRouteContext(), createRewriteResult(true), 1);
+        assertFalse(SQLRewritePlanCache.find(mockQueryContext(sqlStatementContext, mock(ShardingSphereMetaData.class), true), createRouteContext()).isPresent());
+    }
+    
+    @Test
+    void assertFindWithParameterDependentRewriteResult() {
+        QueryContext queryContext = mockQueryContext(mock(SelectStatementContext.class), mock(ShardingSphereMetaData.class), true);
+        SQLRewritePlanCache.put(queryContext, createRouteContext(), createRewriteResult(false), 1);
+        assertFalse(SQLRewritePlanCache.find(queryContext, createRouteContext()).isPresent());
+    }
+    
+    private QueryContext mockQueryContext(final SQLStatementContext sqlStatementContext, final ShardingSphereMetaData metaData, final boolean useCache) {
+        QueryContext result = mock(QueryContext.class);
+        when(result.getSqlStatementContext()).thenReturn(sqlStatementContext);
+        when(result.getParameters()).thenReturn(Collections.singletonList(1));
+        when(result.getHintValueContext()).thenReturn(new HintValueContext());
+        when(result.getMetaData()).thenReturn(metaData);
+        when(result.getUsedDatabase()).thenReturn(mock(ShardingSphereDatabase.class));
+        when(result.isUseCache()).thenReturn(useCache);
+        return result;
+    }
+    
+    private RouteContext createRouteContext() {
+        RouteContext result = new RouteContext();
+        result.getRouteUnits().add(routeUnit);
+        return result;
+    }
+    
+    private RouteSQLRewriteResult createRewriteResult(final boolean parameterIndependent) {
+        return new RouteSQLRewriteResult(Collections.singletonMap(routeUnit, new SQLRewriteUnit("SELECT * FROM t_order_0 WHERE user_id = ?", Collections.singletonList(1))), parameterIndependent);
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.connection.kernel.plan;
+
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
+import org.apache.shardingsphere.infra.rewrite.engine.result.RouteSQLRewriteResult;
+import org.apache.shardingsphere.infra.rewrite.engine.result.SQLRewriteUnit;
+import org.apache.shardingsphere.infra.route.context.HedgedReadRoute;
+import org.apache.shardingsphere.infra.route.context.RouteMapper;
+import org.apache.shardingsphere.infra.route.context.RouteUnit;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SQLRewritePlanTest {
+    
+    @Test
+    void assertRewrite() {
+        RouteUnit routeUnit0 = new RouteUnit(new RouteMapper("ds_0", "ds_0"), Collections.singletonList(new RouteMapper("t_order", "t_order_0")));
+        RouteUnit routeUnit1 = new RouteUnit(new RouteMapper("ds_1", "ds_1"), Collections.singletonList(new RouteMapper("t_order", "t_order_1")));
+        Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits = new LinkedHashMap<>(2, 1F);
+        sqlRewriteUnits.put(routeUnit0, new SQLRewriteUnit("SELECT * FROM t_order_0 WHERE user_id = ?", Collections.singletonList(1)));
+        sqlRewriteUnits.put(routeUnit1, new SQLRewriteUnit("SELECT * FROM t_order_1 WHERE user_id = ? UNION ALL SELECT * FROM t_order_3 WHERE user_id = ?", Arrays.asList(1, 1)));
+        SelectStatementContext sqlStatementContext = mock(SelectStatementContext.class);
+        when(sqlStatementContext.isNeedAggregateRewrite()).thenReturn(true);
+        SQLRewritePlan rewritePlan = new SQLRewritePlan(sqlStatementContext, 1, new RouteSQLRewriteResult(sqlRewriteUnits, true));
+        RouteSQLRewriteResult actual = rewritePlan.rewrite(sqlStatementContext, Collections.singletonList(2), Arrays.asList(routeUnit0, routeUnit1));
+        assertTrue(actual.isParameterIndependent());
+        assertThat(actual.getSqlRewriteUnits().size(), is(2));
+        assertThat(actual.getSqlRewriteUnits().get(routeUnit0).getSql(), is("SELECT * FROM t_order_0 WHERE user_id = ?"));
+        assertThat(actual.getSqlRewriteUnits().get(routeUnit0).getParameters(), is(Collections.singletonList(2)));
+        assertThat(actual.getSqlRewriteUnits().get(routeUnit1).getSql(), is("SELECT * FROM t_order_1 WHERE user_id = ? UNION ALL SELECT * FROM t_order_3 WHERE user_id = ?"));
+        assertThat(actual.getSqlRewriteUnits().get(routeUnit1).getParameters(), is(Arrays.<Object>asList(2, 2)));
+        verify(sqlStatementContext).setNeedAggregateRewrite(true);
+    }
+    
+    @Test
+    void assertRewriteWithCurrentRouteUnits() {
+        RouteUnit cachedRouteUnit = new RouteUnit(new RouteMapper("ds_0", "replica_0"), Collections.emptyList(), new HedgedReadRoute("replica_1", 1000L));
+        Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits = Collections.singletonMap(cachedRouteUnit, new SQLRewriteUnit("SELECT * FROM t_order WHERE user_id = ?", Collections.singletonList(1)));
+        SelectStatementContext sqlStatementContext = mock(SelectStatementContext.class);
+        SQLRewritePlan rewritePlan = new SQLRewritePlan(sqlStatementContext, 1, new RouteSQLRewriteResult(sqlRewriteUnits, true));
+        RouteUnit currentRouteUnit = new RouteUnit(new RouteMapper("ds_0", "replica_0"), Collections.emptyList(), new HedgedReadRoute("replica_2", 2000L));
+        RouteUnit actual = rewritePlan.rewrite(sqlStatementContext, Collections.singletonList(2), Collections.singletonList(currentRouteUnit)).getSqlRewriteUnits().keySet().iterator().next();
+        assertThat(actual.findHedgedReadRoute(), is(Optional.of(new HedgedReadRoute("replica_2", 2000L))));
+    }
+}
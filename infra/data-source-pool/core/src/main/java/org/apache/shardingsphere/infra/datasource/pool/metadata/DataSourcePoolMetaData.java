@@ -20,8 +20,10 @@ package org.apache.shardingsphere.infra.datasource.pool.metadata;
 import org.apache.shardingsphere.infra.spi.annotation.SingletonSPI;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPI;
 
+import javax.sql.DataSource;
 import java.util.Collection;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Data source pool meta data.
@@ -63,4 +65,14 @@ public interface DataSourcePoolMetaData extends TypedSPI {
      * @return data source pool field meta data
      */
     DataSourcePoolFieldMetaData getFieldMetaData();
+    
+    /**
+     * Get data source pool status.
+     *
+     * @param dataSource data source
+     * @return data source pool status, empty if the pool does not expose it
+     */
+    default Optional<DataSourcePoolStatus> getStatus(final DataSource dataSource) {
+        return Optional.empty();
+    }
 }
@@ -0,0 +1,46 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.datasource.pool.metadata;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Data source pool status.
+ */
+@RequiredArgsConstructor
+@Getter
+public final class DataSourcePoolStatus {
+    
+    private final int activeConnections;
+    
+    private final int idleConnections;
+    
+    private final int maxConnections;
+    
+    private final int awaitingThreads;
+    
+    /**
+     * Get available connections, which can be borrowed without waiting for other borrowers to return connections.
+     *
+     * @return available connections
+     */
+    public int getAvailableConnections() {
+        return idleConnections + Math.max(maxConnections - activeConnections - idleConnections, 0) - awaitingThreads;
+    }
+}
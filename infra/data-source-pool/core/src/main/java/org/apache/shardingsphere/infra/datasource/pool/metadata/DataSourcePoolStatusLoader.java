@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.datasource.pool.metadata;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.datasource.pool.CatalogSwitchableDataSource;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Data source pool status loader.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DataSourcePoolStatusLoader {
+    
+    private static final Map<Class<?>, Optional<DataSourcePoolMetaData>> CLASS_TO_META_DATA_MAP = new ConcurrentHashMap<>(8, 1F);
+    
+    /**
+     * Load data source pool status.
+     *
+     * @param dataSource data source
+     * @return loaded data source pool status
+     */
+    public static Optional<DataSourcePoolStatus> load(final DataSource dataSource) {
+        DataSource actualDataSource = dataSource instanceof CatalogSwitchableDataSource ? ((CatalogSwitchableDataSource) dataSource).getDataSource() : dataSource;
+        Optional<DataSourcePoolMetaData> metaData = CLASS_TO_META_DATA_MAP.computeIfAbsent(actualDataSource.getClass(),
+                key -> TypedSPILoader.findService(DataSourcePoolMetaData.class, key.getName()));
+        return metaData.isPresent() ? metaData.get().getStatus(actualDataSource) : Optional.empty();
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.datasource.pool.metadata;
+
+import org.apache.shardingsphere.infra.datasource.pool.CatalogSwitchableDataSource;
+import org.apache.shardingsphere.test.infra.fixture.jdbc.MockedDataSource;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.util.Optional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class DataSourcePoolStatusLoaderTest {
+    
+    @Test
+    void assertLoadWithPoolMetaData() {
+        Optional<DataSourcePoolStatus> actual = DataSourcePoolStatusLoader.load(new MockedDataSource());
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getActiveConnections(), is(6));
+        assertThat(actual.get().getIdleConnections(), is(2));
+        assertThat(actual.get().getAvailableConnections(), is(3));
+    }
+    
+    @Test
+    void assertLoadWithCatalogSwitchableDataSource() {
+        assertTrue(DataSourcePoolStatusLoader.load(new CatalogSwitchableDataSource(new MockedDataSource(), "foo_db", "jdbc:mock://127.0.0.1/foo_db")).isPresent());
+    }
+    
+    @Test
+    void assertLoadWithoutPoolMetaData() {
+        assertFalse(DataSourcePoolStatusLoader.load(mock(DataSource.class)).isPresent());
+    }
+}
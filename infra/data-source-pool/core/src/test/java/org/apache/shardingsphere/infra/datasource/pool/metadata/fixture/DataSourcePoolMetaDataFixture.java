@@ -18,12 +18,15 @@
 package org.apache.shardingsphere.infra.datasource.pool.metadata.fixture;
 
 import org.apache.shardingsphere.infra.datasource.pool.metadata.DataSourcePoolMetaData;
+import org.apache.shardingsphere.infra.datasource.pool.metadata.DataSourcePoolStatus;
 import org.apache.shardingsphere.test.infra.fixture.jdbc.MockedDataSource;
 
+import javax.sql.DataSource;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 public final class DataSourcePoolMetaDataFixture implements DataSourcePoolMetaData {
     
@@ -58,6 +61,11 @@ public final class DataSourcePoolMetaDataFixture implements DataSourcePoolMetaDa
         return new DataSourcePoolFieldMetaDataFixture();
     }
     
+    @Override
+    public Optional<DataSourcePoolStatus> getStatus(final DataSource dataSource) {
+        return Optional.of(new DataSourcePoolStatus(6, 2, 10, 1));
+    }
+    
     @Override
     public String getType() {
         return MockedDataSource.class.getName();
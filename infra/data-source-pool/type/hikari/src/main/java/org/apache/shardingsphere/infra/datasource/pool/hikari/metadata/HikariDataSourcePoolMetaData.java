@@ -17,12 +17,18 @@
 
 package org.apache.shardingsphere.infra.datasource.pool.hikari.metadata;
 
+import lombok.SneakyThrows;
 import org.apache.shardingsphere.infra.datasource.pool.metadata.DataSourcePoolMetaData;
+import org.apache.shardingsphere.infra.datasource.pool.metadata.DataSourcePoolStatus;
 
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Hikari data source pool meta data.
@@ -37,6 +43,8 @@ public final class HikariDataSourcePoolMetaData implements DataSourcePoolMetaDat
     
     private static final Collection<String> TRANSIENT_FIELD_NAMES = new LinkedList<>();
     
+    private static final Map<Class<?>, StatusMethods> STATUS_METHODS = new ConcurrentHashMap<>(1, 1F);
+    
     static {
         buildDefaultProperties();
         buildInvalidProperties();
@@ -99,6 +107,22 @@ public final class HikariDataSourcePoolMetaData implements DataSourcePoolMetaDat
         return new HikariDataSourcePoolFieldMetaData();
     }
     
+    @SneakyThrows(ReflectiveOperationException.class)
+    @Override
+    public Optional<DataSourcePoolStatus> getStatus(final DataSource dataSource) {
+        if (!getType().equals(dataSource.getClass().getName())) {
+            return Optional.empty();
+        }
+        StatusMethods statusMethods = STATUS_METHODS.computeIfAbsent(dataSource.getClass(), StatusMethods::new);
+        Object poolMXBean = statusMethods.getPoolMXBeanMethod.invoke(dataSource);
+        if (null == poolMXBean) {
+            return Optional.empty();
+        }
+        int maxConnections = (int) statusMethods.getMaximumPoolSizeMethod.invoke(dataSource);
+        return Optional.of(new DataSourcePoolStatus((int) statusMethods.getActiveConnectionsMethod.invoke(poolMXBean), (int) statusMethods.getIdleConnectionsMethod.invoke(poolMXBean),
+                maxConnections, (int) statusMethods.getThreadsAwaitingConnectionMethod.invoke(poolMXBean)));
+    }
+    
     @Override
     public String getType() {
         return "com.zaxxer.hikari.HikariDataSource";
@@ -108,4 +132,27 @@ public final class HikariDataSourcePoolMetaData implements DataSourcePoolMetaDat
     public boolean isDefault() {
         return true;
     }
+    
+    private static final class StatusMethods {
+        
+        private final Method getPoolMXBeanMethod;
+        
+        private final Method getMaximumPoolSizeMethod;
+        
+        private final Method getActiveConnectionsMethod;
+        
+        private final Method getIdleConnectionsMethod;
+        
+        private final Method getThreadsAwaitingConnectionMethod;
+        
+        @SneakyThrows(NoSuchMethodException.class)
+        StatusMethods(final Class<?> dataSourceClass) {
+            getPoolMXBeanMethod = dataSourceClass.getMethod("getHikariPoolMXBean");
+            getMaximumPoolSizeMethod = dataSourceClass.getMethod("getMaximumPoolSize");
+            Class<?> poolMXBeanClass = getPoolMXBeanMethod.getReturnType();
+            getActiveConnectionsMethod = poolMXBeanClass.getMethod("getActiveConnections");
+            getIdleConnectionsMethod = poolMXBeanClass.getMethod("getIdleConnections");
+            getThreadsAwaitingConnectionMethod = poolMXBeanClass.getMethod("getThreadsAwaitingConnection");
+        }
+    }
 }
@@ -17,17 +17,26 @@
 
 package org.apache.shardingsphere.infra.datasource.pool.hikari.metadata;
 
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
 import org.apache.shardingsphere.infra.datasource.pool.metadata.DataSourcePoolMetaData;
+import org.apache.shardingsphere.infra.datasource.pool.metadata.DataSourcePoolStatus;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.junit.jupiter.api.Test;
 
+import javax.sql.DataSource;
 import java.util.Map;
+import java.util.Optional;
 
+import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasItems;
 import static org.hamcrest.Matchers.isA;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 class HikariDataSourcePoolMetaDataTest {
     
@@ -73,4 +82,29 @@ class HikariDataSourcePoolMetaDataTest {
     void assertGetFieldMetaData() {
         assertThat(metaData.getFieldMetaData(), isA(HikariDataSourcePoolFieldMetaData.class));
     }
+    
+    @Test
+    void assertGetStatus() {
+        HikariDataSource dataSource = mock(HikariDataSource.class);
+        HikariPoolMXBean poolMXBean = mock(HikariPoolMXBean.class);
+        when(poolMXBean.getActiveConnections()).thenReturn(8);
+        when(poolMXBean.getIdleConnections()).thenReturn(2);
+        when(poolMXBean.getThreadsAwaitingConnection()).thenReturn(0);
+        when(dataSource.getHikariPoolMXBean()).thenReturn(poolMXBean);
+        when(dataSource.getMaximumPoolSize()).thenReturn(20);
+        Optional<DataSourcePoolStatus> actual = metaData.getStatus(dataSource);
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().getMaxConnections(), is(20));
+        assertThat(actual.get().getAvailableConnections(), is(12));
+    }
+    
+    @Test
+    void assertGetStatusWithoutStartedPool() {
+        assertFalse(metaData.getStatus(mock(HikariDataSource.class)).isPresent());
+    }
+    
+    @Test
+    void assertGetStatusWithOtherDataSource() {
+        assertFalse(metaData.getStatus(mock(DataSource.class)).isPresent());
+    }
 }
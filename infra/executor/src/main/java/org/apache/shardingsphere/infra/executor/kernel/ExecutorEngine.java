@@ -20,8 +20,10 @@ package org.apache.shardingsphere.infra.executor.kernel;
 import lombok.Getter;
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
 import org.apache.shardingsphere.infra.exception.generic.UnknownSQLException;
+import org.apache.shardingsphere.infra.executor.kernel.model.CompletionOrderResultList;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorServiceManager;
 
@@ -43,8 +45,8 @@ public final class ExecutorEngine implements AutoCloseable {
     
     private final ExecutorServiceManager executorServiceManager;
     
-    private ExecutorEngine(final int executorSize) {
-        executorServiceManager = new ExecutorServiceManager(executorSize);
+    private ExecutorEngine(final int executorSize, final boolean virtualThreadEnabled) {
+        executorServiceManager = new ExecutorServiceManager(executorSize, virtualThreadEnabled);
     }
     
     /**
@@ -54,7 +56,21 @@ public final class ExecutorEngine implements AutoCloseable {
      * @return created executor engine
      */
     public static ExecutorEngine createExecutorEngineWithSize(final int executorSize) {
-        return new ExecutorEngine(executorSize);
+        return new ExecutorEngine(executorSize, false);
+    }
+    
+    /**
+     * Create executor engine with executor size and virtual thread mode.
+     * 
+     * <p>Each execution group runs on its own virtual thread if virtual thread is enabled and supported by current JVM, and executor size is ignored.
+     * Otherwise the platform thread pool with executor size is used.</p>
+     *
+     * @param executorSize executor size
+     * @param virtualThreadEnabled whether to enable virtual thread
+     * @return created executor engine
+     */
+    public static ExecutorEngine createExecutorEngine(final int executorSize, final boolean virtualThreadEnabled) {
+        return new ExecutorEngine(executorSize, virtualThreadEnabled);
     }
     
     /**
@@ -74,41 +90,85 @@ public final class ExecutorEngine implements AutoCloseable {
         if (executionGroupContext.getInputGroups().isEmpty()) {
             return Collections.emptyList();
         }
-        return serial ? serialExecute(executionGroupContext.getInputGroups().iterator(), executionGroupContext.getReportContext().getProcessId(), firstCallback, callback)
-                : parallelExecute(executionGroupContext.getInputGroups().iterator(), executionGroupContext.getReportContext().getProcessId(), firstCallback, callback);
+        return serial ? serialExecute(executionGroupContext.getInputGroups().iterator(), executionGroupContext.getReportContext(), firstCallback, callback)
+                : parallelExecute(executionGroupContext.getInputGroups().iterator(), executionGroupContext.getReportContext(), firstCallback, callback);
+    }
+    
+    /**
+     * Execute in completion order.
+     * 
+     * <p>All execution groups are executed asynchronously, and results are returned in completion order of execution groups,
+     * so that the caller can consume results of faster execution groups while slower ones are still running.</p>
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first executor callback
+     * @param callback other executor callback
+     * @param <I> type of input value
+     * @param <O> type of return value
+     * @return execute results in completion order
+     */
+    public <I, O> CompletionOrderResultList<O> executeInCompletionOrder(final ExecutionGroupContext<I> executionGroupContext,
+                                                                        final ExecutorCallback<I, O> firstCallback, final ExecutorCallback<I, O> callback) {
+        Collection<ExecutionGroup<I>> inputGroups = executionGroupContext.getInputGroups();
+        int expectedSize = 0;
+        for (ExecutionGroup<I> each : inputGroups) {
+            expectedSize += each.getInputs().size();
+        }
+        CompletionOrderResultList<O> result = new CompletionOrderResultList<>(expectedSize, inputGroups.size());
+        ExecutionGroupReportContext reportContext = executionGroupContext.getReportContext();
+        boolean isTrunkGroup = true;
+        for (ExecutionGroup<I> each : inputGroups) {
+            asyncExecute(each, reportContext, isTrunkGroup && null != firstCallback ? firstCallback : callback, isTrunkGroup, result);
+            isTrunkGroup = false;
+        }
+        return result;
     }
     
-    private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups, final String processId, final ExecutorCallback<I, O> firstCallback,
+    private <I, O> List<O> serialExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutionGroupReportContext reportContext, final ExecutorCallback<I, O> firstCallback,
                                          final ExecutorCallback<I, O> callback) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
-        List<O> result = new LinkedList<>(syncExecute(firstInputs, processId, null == firstCallback ? callback : firstCallback));
+        List<O> result = new LinkedList<>(syncExecute(firstInputs, reportContext, null == firstCallback ? callback : firstCallback));
         while (executionGroups.hasNext()) {
-            result.addAll(syncExecute(executionGroups.next(), processId, callback));
+            result.addAll(syncExecute(executionGroups.next(), reportContext, callback));
         }
         return result;
     }
     
-    private <I, O> List<O> parallelExecute(final Iterator<ExecutionGroup<I>> executionGroups, final String processId, final ExecutorCallback<I, O> firstCallback,
+    private <I, O> List<O> parallelExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutionGroupReportContext reportContext, final ExecutorCallback<I, O> firstCallback,
                                            final ExecutorCallback<I, O> callback) throws SQLException {
         ExecutionGroup<I> firstInputs = executionGroups.next();
-        Collection<Future<Collection<O>>> restResultFutures = asyncExecute(executionGroups, processId, callback);
-        return getGroupResults(syncExecute(firstInputs, processId, null == firstCallback ? callback : firstCallback), restResultFutures);
+        Collection<Future<Collection<O>>> restResultFutures = asyncExecute(executionGroups, reportContext, callback);
+        return getGroupResults(syncExecute(firstInputs, reportContext, null == firstCallback ? callback : firstCallback), restResultFutures);
     }
     
-    private <I, O> Collection<O> syncExecute(final ExecutionGroup<I> executionGroup, final String processId, final ExecutorCallback<I, O> callback) throws SQLException {
-        return callback.execute(executionGroup.getInputs(), true, processId);
+    private <I, O> Collection<O> syncExecute(final ExecutionGroup<I> executionGroup, final ExecutionGroupReportContext reportContext, final ExecutorCallback<I, O> callback) throws SQLException {
+        return callback.execute(executionGroup.getInputs(), true, reportContext);
     }
     
-    private <I, O> Collection<Future<Collection<O>>> asyncExecute(final Iterator<ExecutionGroup<I>> executionGroups, final String processId, final ExecutorCallback<I, O> callback) {
+    private <I, O> Collection<Future<Collection<O>>> asyncExecute(final Iterator<ExecutionGroup<I>> executionGroups, final ExecutionGroupReportContext reportContext,
+                                                                  final ExecutorCallback<I, O> callback) {
         Collection<Future<Collection<O>>> result = new LinkedList<>();
         while (executionGroups.hasNext()) {
-            result.add(asyncExecute(executionGroups.next(), processId, callback));
+            result.add(asyncExecute(executionGroups.next(), reportContext, callback));
         }
         return result;
     }
     
-    private <I, O> Future<Collection<O>> asyncExecute(final ExecutionGroup<I> executionGroup, final String processId, final ExecutorCallback<I, O> callback) {
-        return executorServiceManager.getExecutorService().submit(() -> callback.execute(executionGroup.getInputs(), false, processId));
+    private <I, O> Future<Collection<O>> asyncExecute(final ExecutionGroup<I> executionGroup, final ExecutionGroupReportContext reportContext, final ExecutorCallback<I, O> callback) {
+        return executorServiceManager.getExecutorService().submit(() -> callback.execute(executionGroup.getInputs(), false, reportContext));
+    }
+    
+    private <I, O> void asyncExecute(final ExecutionGroup<I> executionGroup, final ExecutionGroupReportContext reportContext, final ExecutorCallback<I, O> callback, final boolean isTrunkGroup,
+                                     final CompletionOrderResultList<O> results) {
+        executorServiceManager.getExecutorService().execute(() -> {
+            try {
+                results.addGroupResults(callback.execute(executionGroup.getInputs(), isTrunkGroup, reportContext));
+                // CHECKSTYLE:OFF
+            } catch (final Exception ex) {
+                // CHECKSTYLE:ON
+                results.failGroup(ex);
+            }
+        });
     }
     
     private <O> List<O> getGroupResults(final Collection<O> firstResults, final Collection<Future<Collection<O>>> restFutures) throws SQLException {
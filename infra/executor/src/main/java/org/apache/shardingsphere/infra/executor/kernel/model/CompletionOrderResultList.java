@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.model;
+
+import org.apache.shardingsphere.infra.exception.external.sql.type.wrapper.SQLWrapperException;
+import org.apache.shardingsphere.infra.exception.generic.UnknownSQLException;
+
+import java.sql.SQLException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+
+/**
+ * Result list filled in completion order of execution groups.
+ * 
+ * <p>Size is the count of execution inputs and known before any execution group completed.
+ * Getting an element blocks until enough execution groups completed, and throws exception if any execution group failed.</p>
+ *
+ * @param <T> type of result
+ */
+public final class CompletionOrderResultList<T> extends AbstractList<T> {
+    
+    private final int expectedSize;
+    
+    private final List<T> completedResults;
+    
+    private final Collection<Runnable> completionActions = new LinkedList<>();
+    
+    private int pendingGroupSize;
+    
+    private Exception failure;
+    
+    public CompletionOrderResultList(final int expectedSize, final int groupSize) {
+        this.expectedSize = expectedSize;
+        completedResults = new ArrayList<>(expectedSize);
+        pendingGroupSize = groupSize;
+    }
+    
+    /**
+     * Add results of completed execution group.
+     *
+     * @param groupResults results of completed execution group
+     */
+    public synchronized void addGroupResults(final Collection<T> groupResults) {
+        completedResults.addAll(groupResults);
+        completeGroup();
+    }
+    
+    /**
+     * Mark execution group failed.
+     *
+     * @param cause failure cause
+     */
+    public synchronized void failGroup(final Exception cause) {
+        if (null == failure) {
+            failure = cause;
+        }
+        completeGroup();
+    }
+    
+    private void completeGroup() {
+        pendingGroupSize--;
+        notifyAll();
+        if (0 == pendingGroupSize) {
+            completionActions.forEach(Runnable::run);
+            completionActions.clear();
+        }
+    }
+    
+    /**
+     * Run action when all execution groups completed, no matter succeed or failed.
+     *
+     * @param action action to be run
+     */
+    public synchronized void whenCompleted(final Runnable action) {
+        if (0 == pendingGroupSize) {
+            action.run();
+        } else {
+            completionActions.add(action);
+        }
+    }
+    
+    /**
+     * Await all execution groups completed, no matter succeed or failed.
+     */
+    public synchronized void awaitCompletion() {
+        while (pendingGroupSize > 0) {
+            try {
+                wait();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+    
+    @Override
+    public synchronized T get(final int index) {
+        while (null == failure && index >= completedResults.size() && pendingGroupSize > 0) {
+            try {
+                wait();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new UnknownSQLException(ex);
+            }
+        }
+        if (null != failure) {
+            throw failure instanceof SQLException ? new SQLWrapperException((SQLException) failure) : new UnknownSQLException(failure);
+        }
+        return completedResults.get(index);
+    }
+    
+    @Override
+    public int size() {
+        return expectedSize;
+    }
+}
@@ -38,4 +38,17 @@ public interface ExecutorCallback<I, O> {
      * @throws SQLException throw when execute failure
      */
     Collection<O> execute(Collection<I> inputs, boolean isTrunkThread, String processId) throws SQLException;
+    
+    /**
+     * Execute with report context.
+     *
+     * @param inputs input values
+     * @param isTrunkThread is execution in trunk thread
+     * @param reportContext report context of execution group
+     * @return execution results
+     * @throws SQLException throw when execute failure
+     */
+    default Collection<O> execute(final Collection<I> inputs, final boolean isTrunkThread, final ExecutionGroupReportContext reportContext) throws SQLException {
+        return execute(inputs, isTrunkThread, reportContext.getProcessId());
+    }
 }
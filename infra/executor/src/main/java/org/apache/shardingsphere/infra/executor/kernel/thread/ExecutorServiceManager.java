@@ -41,11 +41,21 @@ public final class ExecutorServiceManager {
         this(executorSize, DEFAULT_NAME_FORMAT);
     }
     
+    public ExecutorServiceManager(final int executorSize, final boolean virtualThreadEnabled) {
+        this(executorSize, DEFAULT_NAME_FORMAT, virtualThreadEnabled);
+    }
+    
     public ExecutorServiceManager(final int executorSize, final String nameFormat) {
-        executorService = TtlExecutors.getTtlExecutorService(getExecutorService(executorSize, nameFormat));
+        this(executorSize, nameFormat, false);
+    }
+    
+    public ExecutorServiceManager(final int executorSize, final String nameFormat, final boolean virtualThreadEnabled) {
+        executorService = TtlExecutors.getTtlExecutorService(virtualThreadEnabled
+                ? VirtualThreadUtils.createThreadPerTaskExecutor(nameFormat).orElseGet(() -> getPlatformExecutorService(executorSize, nameFormat))
+                : getPlatformExecutorService(executorSize, nameFormat));
     }
     
-    private ExecutorService getExecutorService(final int executorSize, final String nameFormat) {
+    private ExecutorService getPlatformExecutorService(final int executorSize, final String nameFormat) {
         ThreadFactory threadFactory = ExecutorThreadFactoryBuilder.build(nameFormat);
         return 0 == executorSize ? Executors.newCachedThreadPool(threadFactory) : Executors.newFixedThreadPool(executorSize, threadFactory);
     }
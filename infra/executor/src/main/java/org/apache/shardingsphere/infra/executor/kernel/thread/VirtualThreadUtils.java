@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Virtual thread utility class.
+ * 
+ * <p>Virtual threads are looked up by reflection, because they are only available on JDK 21+.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class VirtualThreadUtils {
+    
+    private static final String NAME_FORMAT_PREFIX = "ShardingSphere-";
+    
+    private static final ThreadFactory VIRTUAL_THREAD_FACTORY = findVirtualThreadFactory();
+    
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR_METHOD = findNewThreadPerTaskExecutorMethod();
+    
+    private static ThreadFactory findVirtualThreadFactory() {
+        try {
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+            // CHECKSTYLE:OFF
+        } catch (final ReflectiveOperationException | RuntimeException ignored) {
+            // CHECKSTYLE:ON
+            return null;
+        }
+    }
+    
+    private static Method findNewThreadPerTaskExecutorMethod() {
+        try {
+            return Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+        } catch (final NoSuchMethodException ignored) {
+            return null;
+        }
+    }
+    
+    /**
+     * Judge whether virtual thread is supported by current JVM.
+     *
+     * @return is supported or not
+     */
+    public static boolean isSupported() {
+        return null != VIRTUAL_THREAD_FACTORY && null != NEW_THREAD_PER_TASK_EXECUTOR_METHOD;
+    }
+    
+    /**
+     * Create virtual thread factory.
+     *
+     * @param nameFormat thread name format
+     * @return created virtual thread factory, empty if virtual thread is not supported
+     */
+    public static Optional<ThreadFactory> createThreadFactory(final String nameFormat) {
+        if (!isSupported()) {
+            return Optional.empty();
+        }
+        AtomicLong count = new AtomicLong();
+        return Optional.of(runnable -> {
+            Thread result = VIRTUAL_THREAD_FACTORY.newThread(runnable);
+            result.setName(String.format(NAME_FORMAT_PREFIX + nameFormat, count.getAndIncrement()));
+            return result;
+        });
+    }
+    
+    /**
+     * Create executor service which starts a new virtual thread for each task.
+     *
+     * @param nameFormat thread name format
+     * @return created executor service, empty if virtual thread is not supported
+     */
+    public static Optional<ExecutorService> createThreadPerTaskExecutor(final String nameFormat) {
+        Optional<ThreadFactory> threadFactory = createThreadFactory(nameFormat);
+        if (!threadFactory.isPresent()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of((ExecutorService) NEW_THREAD_PER_TASK_EXECUTOR_METHOD.invoke(null, threadFactory.get()));
+        } catch (final ReflectiveOperationException ignored) {
+            return Optional.empty();
+        }
+    }
+}
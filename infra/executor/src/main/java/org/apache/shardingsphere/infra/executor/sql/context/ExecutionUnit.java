@@ -17,21 +17,41 @@
 
 package org.apache.shardingsphere.infra.executor.sql.context;
 
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
+import org.apache.shardingsphere.infra.route.context.HedgedReadRoute;
+
+import java.util.Optional;
 
 /**
  * Execution unit.
  */
 @RequiredArgsConstructor
 @Getter
-@EqualsAndHashCode
-@ToString
+@EqualsAndHashCode(exclude = "hedgedReadRoute")
+@ToString(exclude = "hedgedReadRoute")
 public final class ExecutionUnit {
     
     private final String dataSourceName;
     
     private final SQLUnit sqlUnit;
+    
+    @Getter(AccessLevel.NONE)
+    private final HedgedReadRoute hedgedReadRoute;
+    
+    public ExecutionUnit(final String dataSourceName, final SQLUnit sqlUnit) {
+        this(dataSourceName, sqlUnit, null);
+    }
+    
+    /**
+     * Find hedged read route.
+     *
+     * @return found hedged read route
+     */
+    public Optional<HedgedReadRoute> findHedgedReadRoute() {
+        return Optional.ofNullable(hedgedReadRoute);
+    }
 }
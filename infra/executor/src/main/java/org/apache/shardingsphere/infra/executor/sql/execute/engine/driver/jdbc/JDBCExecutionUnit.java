@@ -17,13 +17,16 @@
 
 package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.DriverExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.hedge.HedgedReadConnectionProvider;
 
 import java.sql.Statement;
+import java.util.Optional;
 
 /**
  * JDBC execution unit.
@@ -37,4 +40,20 @@ public final class JDBCExecutionUnit implements DriverExecutionUnit<Statement> {
     private final ConnectionMode connectionMode;
     
     private final Statement storageResource;
+    
+    @Getter(AccessLevel.NONE)
+    private final HedgedReadConnectionProvider hedgedReadConnectionProvider;
+    
+    public JDBCExecutionUnit(final ExecutionUnit executionUnit, final ConnectionMode connectionMode, final Statement storageResource) {
+        this(executionUnit, connectionMode, storageResource, null);
+    }
+    
+    /**
+     * Find hedged read connection provider.
+     *
+     * @return found hedged read connection provider
+     */
+    public Optional<HedgedReadConnectionProvider> findHedgedReadConnectionProvider() {
+        return Optional.ofNullable(hedgedReadConnectionProvider);
+    }
 }
@@ -20,6 +20,7 @@ package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
+import org.apache.shardingsphere.infra.executor.kernel.model.CompletionOrderResultList;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 
@@ -69,4 +70,18 @@ public final class JDBCExecutor {
             return Collections.emptyList();
         }
     }
+    
+    /**
+     * Execute in completion order.
+     *
+     * @param executionGroupContext execution group context
+     * @param firstCallback first JDBC execute callback
+     * @param callback JDBC execute callback
+     * @param <T> class type of return value
+     * @return execute results in completion order
+     */
+    public <T> CompletionOrderResultList<T> executeInCompletionOrder(final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
+                                                                     final JDBCExecutorCallback<T> firstCallback, final JDBCExecutorCallback<T> callback) {
+        return executorEngine.executeInCompletionOrder(executionGroupContext, firstCallback, callback);
+    }
 }
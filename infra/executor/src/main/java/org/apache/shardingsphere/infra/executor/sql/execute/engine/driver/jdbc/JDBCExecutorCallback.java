@@ -21,15 +21,22 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.database.connector.core.jdbcurl.parser.ConnectionProperties;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutorCallback;
 import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.hedge.DataSourceLatencyHistory;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.hedge.HedgedReadConnectionProvider;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.hedge.HedgedReadExecutor;
+import org.apache.shardingsphere.infra.executor.sql.execute.result.query.type.memory.AbstractMemoryQueryResult;
 import org.apache.shardingsphere.infra.executor.sql.hook.SPISQLExecutionHook;
 import org.apache.shardingsphere.infra.executor.sql.hook.SQLExecutionHook;
+import org.apache.shardingsphere.infra.executor.sql.prepare.policy.ExecutionRowCountHistory;
 import org.apache.shardingsphere.infra.executor.sql.process.ProcessEngine;
 import org.apache.shardingsphere.infra.metadata.database.resource.ResourceMetaData;
 import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.route.context.HedgedReadRoute;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 
 import java.sql.SQLException;
@@ -59,10 +66,19 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
     
     @Override
     public final Collection<T> execute(final Collection<JDBCExecutionUnit> executionUnits, final boolean isTrunkThread, final String processId) throws SQLException {
+        return execute(executionUnits, isTrunkThread, processId, null);
+    }
+    
+    @Override
+    public final Collection<T> execute(final Collection<JDBCExecutionUnit> executionUnits, final boolean isTrunkThread, final ExecutionGroupReportContext reportContext) throws SQLException {
+        return execute(executionUnits, isTrunkThread, reportContext.getProcessId(), reportContext.getDatabaseName());
+    }
+    
+    private Collection<T> execute(final Collection<JDBCExecutionUnit> executionUnits, final boolean isTrunkThread, final String processId, final String databaseName) throws SQLException {
         // TODO It is better to judge whether need sane result before execute, can avoid exception thrown
         Collection<T> result = new LinkedList<>();
         for (JDBCExecutionUnit each : executionUnits) {
-            T executeResult = execute(each, isTrunkThread, processId);
+            T executeResult = execute(each, isTrunkThread, processId, databaseName);
             if (null != executeResult) {
                 result.add(executeResult);
             }
@@ -75,7 +91,7 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
      *
      * @see <a href="https://github.com/apache/skywalking/blob/master/docs/en/guides/Java-Plugin-Development-Guide.md#user-content-plugin-development-guide">Plugin Development Guide</a>
      */
-    private T execute(final JDBCExecutionUnit jdbcExecutionUnit, final boolean isTrunkThread, final String processId) throws SQLException {
+    private T execute(final JDBCExecutionUnit jdbcExecutionUnit, final boolean isTrunkThread, final String processId, final String databaseName) throws SQLException {
         SQLExecutorExceptionHandler.setExceptionThrown(isExceptionThrown);
         String dataSourceName = jdbcExecutionUnit.getExecutionUnit().getDataSourceName();
         // TODO use metadata to replace storageUnits to support multiple logic databases
@@ -87,8 +103,15 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
         SQLExecutionHook sqlExecutionHook = new SPISQLExecutionHook();
         try {
             SQLUnit sqlUnit = jdbcExecutionUnit.getExecutionUnit().getSqlUnit();
-            sqlExecutionHook.start(dataSourceName, sqlUnit.getSql(), sqlUnit.getParameters(), connectionProps, isTrunkThread);
-            T result = executeSQL(sqlUnit.getSql(), jdbcExecutionUnit.getStorageResource(), jdbcExecutionUnit.getConnectionMode(), storageType);
+            sqlExecutionHook.start(databaseName, dataSourceName, sqlUnit.getSql(), sqlUnit.getParameters(), connectionProps, isTrunkThread);
+            long startNanos = DataSourceLatencyHistory.isEnabled() ? System.nanoTime() : 0L;
+            T result = executeSQL(jdbcExecutionUnit, sqlUnit, storageType);
+            if (0L != startNanos) {
+                DataSourceLatencyHistory.record(dataSourceName, System.nanoTime() - startNanos);
+            }
+            if (result instanceof AbstractMemoryQueryResult) {
+                ExecutionRowCountHistory.record(databaseName, dataSourceName, sqlUnit.getSql(), ((AbstractMemoryQueryResult) result).getRowCount());
+            }
             sqlExecutionHook.finishSuccess();
             processEngine.completeSQLUnitExecution(jdbcExecutionUnit, processId);
             return result;
@@ -96,6 +119,7 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
             if (!storageType.equals(protocolType)) {
                 Optional<T> saneResult = getSaneResult(sqlStatement, ex);
                 if (saneResult.isPresent()) {
+                    sqlExecutionHook.finishFailure(ex);
                     return isTrunkThread ? saneResult.get() : null;
                 }
             }
@@ -105,6 +129,16 @@ public abstract class JDBCExecutorCallback<T> implements ExecutorCallback<JDBCEx
         }
     }
     
+    private T executeSQL(final JDBCExecutionUnit jdbcExecutionUnit, final SQLUnit sqlUnit, final DatabaseType storageType) throws SQLException {
+        Optional<HedgedReadRoute> hedgedReadRoute = jdbcExecutionUnit.getExecutionUnit().findHedgedReadRoute();
+        Optional<HedgedReadConnectionProvider> hedgedReadConnectionProvider = jdbcExecutionUnit.findHedgedReadConnectionProvider();
+        if (!hedgedReadRoute.isPresent() || !hedgedReadConnectionProvider.isPresent()) {
+            return executeSQL(sqlUnit.getSql(), jdbcExecutionUnit.getStorageResource(), jdbcExecutionUnit.getConnectionMode(), storageType);
+        }
+        return new HedgedReadExecutor<T>(hedgedReadRoute.get(), hedgedReadConnectionProvider.get(), (statement, connectionMode) -> executeSQL(sqlUnit.getSql(), statement, connectionMode, storageType))
+                .execute(jdbcExecutionUnit.getStorageResource(), sqlUnit, jdbcExecutionUnit.getConnectionMode());
+    }
+    
     protected abstract T executeSQL(String sql, Statement statement, ConnectionMode connectionMode, DatabaseType storageType) throws SQLException;
     
     protected abstract Optional<T> getSaneResult(SQLStatement sqlStatement, SQLException ex);
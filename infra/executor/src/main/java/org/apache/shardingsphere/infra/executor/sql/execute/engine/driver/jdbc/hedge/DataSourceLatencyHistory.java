@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.hedge;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Data source latency history.
+ * 
+ * <p>Execution latencies are kept per data source in decaying histograms.
+ * Nothing is recorded until a feature which needs latency history enables it.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class DataSourceLatencyHistory {
+    
+    private static final Map<String, LatencyHistogram> HISTOGRAMS = new ConcurrentHashMap<>();
+    
+    private static volatile boolean enabled;
+    
+    /**
+     * Enable latency history.
+     */
+    public static void enable() {
+        if (!enabled) {
+            enabled = true;
+        }
+    }
+    
+    /**
+     * Judge whether latency history is enabled.
+     *
+     * @return is enabled or not
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * Record latency.
+     *
+     * @param dataSourceName data source name
+     * @param latencyNanos latency in nanoseconds
+     */
+    public static void record(final String dataSourceName, final long latencyNanos) {
+        if (enabled) {
+            HISTOGRAMS.computeIfAbsent(dataSourceName, key -> new LatencyHistogram()).record(latencyNanos);
+        }
+    }
+    
+    /**
+     * Find percentile latency.
+     *
+     * @param dataSourceName data source name
+     * @param percentile percentile, from 0 to 100
+     * @return found percentile latency in nanoseconds, empty if samples of data source are not enough
+     */
+    public static OptionalLong findPercentile(final String dataSourceName, final double percentile) {
+        if (!enabled) {
+            return OptionalLong.empty();
+        }
+        LatencyHistogram histogram = HISTOGRAMS.get(dataSourceName);
+        return null == histogram ? OptionalLong.empty() : histogram.findPercentile(percentile);
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.hedge;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.route.context.HedgedReadRoute;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hedged read executor.
+ * 
+ * <p>The read is executed on the routed statement in the calling thread. If it does not finish within the hedge delay,
+ * the same read is executed on a session connection of the hedge data source, which loads the result into memory.
+ * Whichever finishes first wins and the other one is cancelled. A failed hedged read never fails the query.
+ * Once the hedged read has started, the execution returns only after it has finished, so the session connection is idle afterwards.</p>
+ * 
+ * <p>An instance is used for one execution only.</p>
+ *
+ * @param <T> class type of return value
+ */
+@RequiredArgsConstructor
+public final class HedgedReadExecutor<T> {
+    
+    private static final int PENDING = 0;
+    
+    private static final int ROUTED_WON = 1;
+    
+    private static final int HEDGE_WON = 2;
+    
+    private static final ScheduledThreadPoolExecutor HEDGE_TRIGGER = createHedgeTrigger();
+    
+    private static final ExecutorService HEDGE_EXECUTOR = Executors.newCachedThreadPool(ExecutorThreadFactoryBuilder.build("hedged-read-%d"));
+    
+    private final HedgedReadRoute hedgedReadRoute;
+    
+    private final HedgedReadConnectionProvider hedgeConnectionProvider;
+    
+    private final HedgedSQLExecution<T> sqlExecution;
+    
+    private final AtomicInteger state = new AtomicInteger(PENDING);
+    
+    private final CompletableFuture<Void> hedgeDone = new CompletableFuture<>();
+    
+    private volatile Statement hedgeStatement;
+    
+    private volatile T hedgeResult;
+    
+    private static ScheduledThreadPoolExecutor createHedgeTrigger() {
+        ScheduledThreadPoolExecutor result = new ScheduledThreadPoolExecutor(1, ExecutorThreadFactoryBuilder.build("hedged-read-trigger-%d"));
+        result.setRemoveOnCancelPolicy(true);
+        return result;
+    }
+    
+    /**
+     * Execute.
+     *
+     * @param statement routed statement
+     * @param sqlUnit SQL unit
+     * @param connectionMode connection mode of routed statement
+     * @return execute result
+     * @throws SQLException SQL exception
+     */
+    public T execute(final Statement statement, final SQLUnit sqlUnit, final ConnectionMode connectionMode) throws SQLException {
+        Future<?> hedgeTrigger = HEDGE_TRIGGER.schedule(() -> HEDGE_EXECUTOR.execute(() -> executeHedge(statement, sqlUnit)), hedgedReadRoute.getDelayNanos(), TimeUnit.NANOSECONDS);
+        T result;
+        try {
+            result = sqlExecution.execute(statement, connectionMode);
+        } catch (final SQLException ex) {
+            if (state.compareAndSet(PENDING, ROUTED_WON)) {
+                cancelHedge();
+                awaitHedge(hedgeTrigger);
+                throw ex;
+            }
+            awaitHedge(hedgeTrigger);
+            return hedgeResult;
+        }
+        if (state.compareAndSet(PENDING, ROUTED_WON)) {
+            cancelHedge();
+            awaitHedge(hedgeTrigger);
+            return result;
+        }
+        awaitHedge(hedgeTrigger);
+        return hedgeResult;
+    }
+    
+    private void awaitHedge(final Future<?> hedgeTrigger) {
+        if (!hedgeTrigger.cancel(false)) {
+            hedgeDone.join();
+        }
+    }
+    
+    private void executeHedge(final Statement routedStatement, final SQLUnit sqlUnit) {
+        try {
+            if (PENDING == state.get()) {
+                executeHedge(routedStatement, sqlUnit, System.nanoTime());
+            }
+        } catch (final SQLException ignored) {
+            // The routed statement is still responsible for the result when hedged read fails.
+        } finally {
+            hedgeDone.complete(null);
+        }
+    }
+    
+    private void executeHedge(final Statement routedStatement, final SQLUnit sqlUnit, final long startNanos) throws SQLException {
+        try (Statement statement = createHedgeStatement(hedgeConnectionProvider.getConnection(), routedStatement, sqlUnit)) {
+            hedgeStatement = statement;
+            if (PENDING != state.get()) {
+                return;
+            }
+            hedgeResult = sqlExecution.execute(statement, ConnectionMode.CONNECTION_STRICTLY);
+            if (state.compareAndSet(PENDING, HEDGE_WON)) {
+                DataSourceLatencyHistory.record(hedgedReadRoute.getDataSourceName(), System.nanoTime() - startNanos);
+                routedStatement.cancel();
+            }
+        }
+    }
+    
+    private Statement createHedgeStatement(final Connection connection, final Statement routedStatement, final SQLUnit sqlUnit) throws SQLException {
+        if (!(routedStatement instanceof PreparedStatement)) {
+            return connection.createStatement();
+        }
+        PreparedStatement result = connection.prepareStatement(sqlUnit.getSql());
+        int index = 1;
+        for (Object each : sqlUnit.getParameters()) {
+            result.setObject(index++, each);
+        }
+        return result;
+    }
+    
+    private void cancelHedge() {
+        Statement statement = hedgeStatement;
+        if (null == statement) {
+            return;
+        }
+        try {
+            statement.cancel();
+        } catch (final SQLException ignored) {
+            // The hedged result is discarded anyway.
+        }
+    }
+    
+    /**
+     * Hedged SQL execution.
+     *
+     * @param <T> class type of return value
+     */
+    @FunctionalInterface
+    public interface HedgedSQLExecution<T> {
+        
+        /**
+         * Execute SQL.
+         *
+         * @param statement statement
+         * @param connectionMode connection mode
+         * @return execute result
+         * @throws SQLException SQL exception
+         */
+        T execute(Statement statement, ConnectionMode connectionMode) throws SQLException;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.hedge;
+
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Latency histogram.
+ * 
+ * <p>Latencies are counted in logarithmic buckets of microseconds with four sub buckets per power of two, so percentiles are accurate within 25%.
+ * All counts are halved every {@value #DECAY_INTERVAL} records to let old samples fade out.</p>
+ */
+final class LatencyHistogram {
+    
+    private static final int SUB_BUCKET_BITS = 2;
+    
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    
+    private static final int BUCKET_COUNT = Long.SIZE * SUB_BUCKET_COUNT;
+    
+    private static final long DECAY_INTERVAL = 1024L;
+    
+    private static final long MIN_SAMPLE_COUNT = 32L;
+    
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    
+    private final AtomicLong recordCount = new AtomicLong();
+    
+    /**
+     * Record latency.
+     *
+     * @param latencyNanos latency in nanoseconds
+     */
+    void record(final long latencyNanos) {
+        buckets.incrementAndGet(getBucketIndex(Math.max(latencyNanos / 1000L, 1L)));
+        if (0L == recordCount.incrementAndGet() % DECAY_INTERVAL) {
+            decay();
+        }
+    }
+    
+    private int getBucketIndex(final long latencyMicros) {
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(latencyMicros);
+        int subBucket = (int) (exponent >= SUB_BUCKET_BITS ? latencyMicros >>> exponent - SUB_BUCKET_BITS : latencyMicros << SUB_BUCKET_BITS - exponent) & SUB_BUCKET_COUNT - 1;
+        return exponent * SUB_BUCKET_COUNT + subBucket;
+    }
+    
+    private void decay() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.getAndUpdate(i, each -> each >>> 1);
+        }
+    }
+    
+    /**
+     * Find percentile latency.
+     *
+     * @param percentile percentile, from 0 to 100
+     * @return found percentile latency in nanoseconds, empty if samples are not enough
+     */
+    OptionalLong findPercentile(final double percentile) {
+        long[] counts = new long[BUCKET_COUNT];
+        long totalCount = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            totalCount += counts[i];
+        }
+        if (totalCount < MIN_SAMPLE_COUNT) {
+            return OptionalLong.empty();
+        }
+        long rank = (long) Math.ceil(totalCount * Math.min(percentile, 100D) / 100D);
+        long accumulatedCount = 0L;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            accumulatedCount += counts[i];
+            if (accumulatedCount >= rank && accumulatedCount > 0L) {
+                return OptionalLong.of(getBucketUpperBoundMicros(i) * 1000L);
+            }
+        }
+        return OptionalLong.of(getBucketUpperBoundMicros(BUCKET_COUNT - 1) * 1000L);
+    }
+    
+    private long getBucketUpperBoundMicros(final int bucketIndex) {
+        int exponent = bucketIndex / SUB_BUCKET_COUNT;
+        int subBucket = bucketIndex % SUB_BUCKET_COUNT;
+        return exponent >= SUB_BUCKET_BITS
+                ? (long) (SUB_BUCKET_COUNT + subBucket + 1) << exponent - SUB_BUCKET_BITS
+                : (SUB_BUCKET_COUNT + subBucket + 1L) >> SUB_BUCKET_BITS - exponent;
+    }
+}
@@ -25,10 +25,15 @@ import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupRepor
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.prepare.policy.ExecutionConnectionPlan;
+import org.apache.shardingsphere.infra.executor.sql.prepare.policy.ExecutionConnectionPolicy;
+import org.apache.shardingsphere.infra.executor.sql.prepare.policy.ExecutionConnectionPolicyContext;
 import org.apache.shardingsphere.infra.route.context.RouteContext;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.spi.type.ordered.OrderedSPILoader;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 
+import javax.sql.DataSource;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -37,6 +42,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.TreeMap;
 
 /**
@@ -49,11 +55,18 @@ public abstract class AbstractExecutionPrepareEngine<T> implements ExecutionPrep
     
     private final int maxConnectionsSizePerQuery;
     
+    private final ExecutionConnectionPolicy connectionPolicy;
+    
     @SuppressWarnings("rawtypes")
     private final Map<ShardingSphereRule, ExecutionPrepareDecorator> decorators;
     
     protected AbstractExecutionPrepareEngine(final int maxConnectionsSizePerQuery, final Collection<ShardingSphereRule> rules) {
+        this(maxConnectionsSizePerQuery, rules, TypedSPILoader.getService(ExecutionConnectionPolicy.class, null));
+    }
+    
+    protected AbstractExecutionPrepareEngine(final int maxConnectionsSizePerQuery, final Collection<ShardingSphereRule> rules, final ExecutionConnectionPolicy connectionPolicy) {
         this.maxConnectionsSizePerQuery = maxConnectionsSizePerQuery;
+        this.connectionPolicy = connectionPolicy;
         decorators = OrderedSPILoader.getServices(ExecutionPrepareDecorator.class, rules);
     }
     
@@ -70,18 +83,30 @@ public abstract class AbstractExecutionPrepareEngine<T> implements ExecutionPrep
         for (Entry<String, List<ExecutionUnit>> entry : aggregateExecutionUnitGroups(executionUnits).entrySet()) {
             String dataSourceName = entry.getKey();
             List<ExecutionUnit> groupedExecutionUnits = entry.getValue();
-            List<List<ExecutionUnit>> executionUnitGroups = group(groupedExecutionUnits);
-            ConnectionMode connectionMode = maxConnectionsSizePerQuery < groupedExecutionUnits.size() ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY;
-            result.addAll(group(databaseName, dataSourceName, connectionOffsets.getOrDefault(dataSourceName, 0), executionUnitGroups, connectionMode));
+            ExecutionConnectionPlan connectionPlan = connectionPolicy.decide(
+                    new ExecutionConnectionPolicyContext(maxConnectionsSizePerQuery, databaseName, dataSourceName, groupedExecutionUnits, () -> findDataSource(databaseName, dataSourceName)));
+            List<List<ExecutionUnit>> executionUnitGroups = group(groupedExecutionUnits, connectionPlan.getConnectionSize());
+            result.addAll(group(databaseName, dataSourceName, connectionOffsets.getOrDefault(dataSourceName, 0), executionUnitGroups, connectionPlan.getConnectionMode()));
         }
         return decorate(executionContext.getRouteContext(), result, reportContext);
     }
     
-    private List<List<ExecutionUnit>> group(final List<ExecutionUnit> sqlUnits) {
-        int desiredPartitionSize = Math.max(0 == sqlUnits.size() % maxConnectionsSizePerQuery ? sqlUnits.size() / maxConnectionsSizePerQuery : sqlUnits.size() / maxConnectionsSizePerQuery + 1, 1);
+    private List<List<ExecutionUnit>> group(final List<ExecutionUnit> sqlUnits, final int connectionSize) {
+        int desiredPartitionSize = Math.max(0 == sqlUnits.size() % connectionSize ? sqlUnits.size() / connectionSize : sqlUnits.size() / connectionSize + 1, 1);
         return Lists.partition(sqlUnits, desiredPartitionSize);
     }
     
+    /**
+     * Find data source, which is used by execution connection policy to load data source pool status.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @return found data source
+     */
+    protected Optional<DataSource> findDataSource(final String databaseName, final String dataSourceName) {
+        return Optional.empty();
+    }
+    
     protected abstract List<ExecutionGroup<T>> group(String databaseName, String dataSourceName,
                                                      int connectionOffset, List<List<ExecutionUnit>> executionUnitGroups, ConnectionMode connectionMode) throws SQLException;
     
@@ -21,24 +21,31 @@ import lombok.Getter;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.database.exception.core.exception.syntax.database.UnknownDatabaseException;
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.DriverExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.prepare.AbstractExecutionPrepareEngine;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
+import org.apache.shardingsphere.infra.executor.sql.prepare.policy.ExecutionConnectionPolicy;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
 import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
+import org.apache.shardingsphere.infra.route.context.HedgedReadRoute;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 
+import javax.sql.DataSource;
+import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -67,10 +74,15 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
     
     private final ShardingSphereMetaData metaData;
     
+    private final Map<String, Integer> usedConnectionSizes = new ConcurrentHashMap<>();
+    
+    private final Map<String, Integer> hedgedReadCounts = new ConcurrentHashMap<>();
+    
     public DriverExecutionPrepareEngine(final JDBCDriverType type, final int maxConnectionsSizePerQuery, final DatabaseConnectionManager<C> databaseConnectionManager,
                                         final ExecutorStatementManager<C, ?, ?> statementManager, final StorageResourceOption option, final Collection<ShardingSphereRule> rules,
                                         final ShardingSphereMetaData metaData) {
-        super(maxConnectionsSizePerQuery, rules);
+        super(maxConnectionsSizePerQuery, rules,
+                TypedSPILoader.getService(ExecutionConnectionPolicy.class, metaData.getProps().<String>getValue(ConfigurationPropertyKey.EXECUTION_CONNECTION_POLICY_TYPE)));
         this.type = type;
         this.databaseConnectionManager = databaseConnectionManager;
         this.statementManager = statementManager;
@@ -91,11 +103,19 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
         return result;
     }
     
+    @Override
+    protected Optional<DataSource> findDataSource(final String databaseName, final String dataSourceName) {
+        ShardingSphereDatabase database = metaData.getDatabase(databaseName);
+        StorageUnit storageUnit = null == database ? null : database.getResourceMetaData().getStorageUnits().get(dataSourceName);
+        return null == storageUnit ? Optional.empty() : Optional.of(storageUnit.getDataSource());
+    }
+    
     @Override
     protected List<ExecutionGroup<T>> group(final String databaseName, final String dataSourceName, final int connectionOffset, final List<List<ExecutionUnit>> executionUnitGroups,
                                             final ConnectionMode connectionMode) throws SQLException {
         List<ExecutionGroup<T>> result = new ArrayList<>(executionUnitGroups.size());
         List<C> connections = databaseConnectionManager.getConnections(databaseName, dataSourceName, connectionOffset, executionUnitGroups.size(), connectionMode);
+        usedConnectionSizes.merge(dataSourceName, connectionOffset + executionUnitGroups.size(), Math::max);
         int count = 0;
         for (List<ExecutionUnit> each : executionUnitGroups) {
             result.add(createExecutionGroup(databaseName, dataSourceName, each, connections.get(count++), connectionOffset, connectionMode));
@@ -113,8 +133,26 @@ public final class DriverExecutionPrepareEngine<T extends DriverExecutionUnit<?>
         StorageUnit storageUnit = storageUnits.get(dataSourceName);
         DatabaseType databaseType = null == storageUnit ? storageUnits.values().iterator().next().getStorageType() : storageUnit.getStorageType();
         for (ExecutionUnit each : executionUnits) {
-            inputs.add((T) sqlExecutionUnitBuilder.build(each, statementManager, connection, connectionOffset, connectionMode, option, databaseType));
+            T executionUnit = (T) sqlExecutionUnitBuilder.build(each, statementManager, connection, connectionOffset, connectionMode, option, databaseType);
+            Optional<HedgedReadRoute> hedgedReadRoute = each.findHedgedReadRoute();
+            inputs.add(hedgedReadRoute.isPresent() && executionUnit instanceof JDBCExecutionUnit
+                    ? (T) createHedgedReadExecutionUnit(databaseName, (JDBCExecutionUnit) executionUnit, hedgedReadRoute.get().getDataSourceName())
+                    : executionUnit);
         }
         return new ExecutionGroup<>(inputs);
     }
+    
+    private JDBCExecutionUnit createHedgedReadExecutionUnit(final String databaseName, final JDBCExecutionUnit executionUnit, final String hedgeDataSourceName) {
+        int hedgedReadIndex = hedgedReadCounts.merge(hedgeDataSourceName, 1, Integer::sum) - 1;
+        return new JDBCExecutionUnit(executionUnit.getExecutionUnit(), executionUnit.getConnectionMode(), executionUnit.getStorageResource(),
+                () -> getHedgedReadConnection(databaseName, hedgeDataSourceName, hedgedReadIndex));
+    }
+    
+    // Hedged reads use session connections after the ones used by routed statements, so that they never share a connection with a running statement.
+    private Connection getHedgedReadConnection(final String databaseName, final String hedgeDataSourceName, final int hedgedReadIndex) throws SQLException {
+        synchronized (databaseConnectionManager) {
+            int connectionOffset = usedConnectionSizes.getOrDefault(hedgeDataSourceName, 0) + hedgedReadIndex;
+            return (Connection) databaseConnectionManager.getConnections(databaseName, hedgeDataSourceName, connectionOffset, 1, ConnectionMode.CONNECTION_STRICTLY).get(0);
+        }
+    }
 }
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.policy;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.infra.datasource.pool.metadata.DataSourcePoolStatus;
+import org.apache.shardingsphere.infra.datasource.pool.metadata.DataSourcePoolStatusLoader;
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Supplier;
+
+/**
+ * Execution connection policy context.
+ * 
+ * <p>Pool status, row count history and heap usage are only collected when the policy asks for them.</p>
+ */
+@RequiredArgsConstructor
+public final class ExecutionConnectionPolicyContext {
+    
+    @Getter
+    private final int maxConnectionsSizePerQuery;
+    
+    @Getter
+    private final String databaseName;
+    
+    @Getter
+    private final String dataSourceName;
+    
+    @Getter
+    private final List<ExecutionUnit> executionUnits;
+    
+    private final Supplier<Optional<DataSource>> dataSourceSupplier;
+    
+    /**
+     * Get execution unit size.
+     *
+     * @return execution unit size
+     */
+    public int getExecutionUnitSize() {
+        return executionUnits.size();
+    }
+    
+    /**
+     * Find data source pool status.
+     *
+     * @return data source pool status
+     */
+    public Optional<DataSourcePoolStatus> findPoolStatus() {
+        return dataSourceSupplier.get().flatMap(DataSourcePoolStatusLoader::load);
+    }
+    
+    /**
+     * Find average row count of execution units recorded by recent executions.
+     *
+     * @return average row count
+     */
+    public OptionalLong findAverageRowCount() {
+        long totalRowCount = 0L;
+        int recordedCount = 0;
+        for (ExecutionUnit each : executionUnits) {
+            OptionalLong rowCount = ExecutionRowCountHistory.find(databaseName, dataSourceName, each.getSqlUnit().getSql());
+            if (rowCount.isPresent()) {
+                totalRowCount += rowCount.getAsLong();
+                recordedCount++;
+            }
+        }
+        return 0 == recordedCount ? OptionalLong.empty() : OptionalLong.of(totalRowCount / recordedCount);
+    }
+    
+    /**
+     * Get free heap bytes, which includes heap not yet allocated by JVM.
+     *
+     * @return free heap bytes
+     */
+    public long getFreeHeapBytes() {
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.maxMemory() - runtime.totalMemory() + runtime.freeMemory();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.policy;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+import java.util.OptionalLong;
+
+/**
+ * Execution row count history.
+ * 
+ * <p>Row counts are kept per logic database, data source and actual SQL, and smoothed by exponentially weighted moving average.
+ * Nothing is recorded until a policy which needs row count history enables it.</p>
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ExecutionRowCountHistory {
+    
+    private static final Cache<RouteKey, Long> ROW_COUNTS = Caffeine.newBuilder().maximumSize(4096L).build();
+    
+    private static volatile boolean enabled;
+    
+    /**
+     * Enable row count history.
+     */
+    public static void enable() {
+        enabled = true;
+    }
+    
+    /**
+     * Record row count.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @param sql actual SQL
+     * @param rowCount row count
+     */
+    public static void record(final String databaseName, final String dataSourceName, final String sql, final long rowCount) {
+        if (enabled && null != databaseName) {
+            ROW_COUNTS.asMap().merge(new RouteKey(databaseName, dataSourceName, sql), rowCount, (oldValue, newValue) -> (oldValue * 3L + newValue) / 4L);
+        }
+    }
+    
+    /**
+     * Find row count.
+     *
+     * @param databaseName database name
+     * @param dataSourceName data source name
+     * @param sql actual SQL
+     * @return found row count
+     */
+    public static OptionalLong find(final String databaseName, final String dataSourceName, final String sql) {
+        if (!enabled || null == databaseName) {
+            return OptionalLong.empty();
+        }
+        Long result = ROW_COUNTS.getIfPresent(new RouteKey(databaseName, dataSourceName, sql));
+        return null == result ? OptionalLong.empty() : OptionalLong.of(result);
+    }
+    
+    @RequiredArgsConstructor
+    @EqualsAndHashCode
+    private static final class RouteKey {
+        
+        private final String databaseName;
+        
+        private final String dataSourceName;
+        
+        private final String sql;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.policy.impl;
+
+import org.apache.shardingsphere.infra.datasource.pool.metadata.DataSourcePoolStatus;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.prepare.policy.ExecutionConnectionPlan;
+import org.apache.shardingsphere.infra.executor.sql.prepare.policy.ExecutionConnectionPolicy;
+import org.apache.shardingsphere.infra.executor.sql.prepare.policy.ExecutionConnectionPolicyContext;
+import org.apache.shardingsphere.infra.executor.sql.prepare.policy.ExecutionRowCountHistory;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Properties;
+
+/**
+ * Adaptive execution connection policy.
+ * 
+ * <p>Connection size follows available connections of data source pool, half of them can be taken by one query and one connection is always allowed.
+ * Max connections size per query is always the upper bound, and is used directly if the pool does not expose its status.
+ * Results have to be loaded into memory when connections are less than execution units,
+ * so the query is streamed with one connection per execution unit instead if the estimated result size does not fit free heap and both the pool and the upper bound can afford it.</p>
+ */
+public final class AdaptiveExecutionConnectionPolicy implements ExecutionConnectionPolicy {
+    
+    private static final long ESTIMATED_ROW_BYTES = 256L;
+    
+    private static final long HEAP_BUDGET_DIVISOR = 4L;
+    
+    @Override
+    public void init(final Properties props) {
+        ExecutionRowCountHistory.enable();
+    }
+    
+    @Override
+    public ExecutionConnectionPlan decide(final ExecutionConnectionPolicyContext context) {
+        int executionUnitSize = context.getExecutionUnitSize();
+        int maxConnectionSize = Math.min(executionUnitSize, context.getMaxConnectionsSizePerQuery());
+        Optional<DataSourcePoolStatus> poolStatus = context.findPoolStatus();
+        if (!poolStatus.isPresent()) {
+            return createPlan(maxConnectionSize, executionUnitSize);
+        }
+        int availableConnections = poolStatus.get().getAvailableConnections();
+        int connectionSize = Math.max(Math.min(maxConnectionSize, availableConnections / 2), 1);
+        if (connectionSize < executionUnitSize && maxConnectionSize == executionUnitSize && availableConnections >= executionUnitSize && isHeapInsufficient(context)) {
+            connectionSize = executionUnitSize;
+        }
+        return createPlan(connectionSize, executionUnitSize);
+    }
+    
+    private boolean isHeapInsufficient(final ExecutionConnectionPolicyContext context) {
+        OptionalLong averageRowCount = context.findAverageRowCount();
+        return averageRowCount.isPresent() && averageRowCount.getAsLong() * context.getExecutionUnitSize() * ESTIMATED_ROW_BYTES > context.getFreeHeapBytes() / HEAP_BUDGET_DIVISOR;
+    }
+    
+    private ExecutionConnectionPlan createPlan(final int connectionSize, final int executionUnitSize) {
+        return new ExecutionConnectionPlan(connectionSize, connectionSize < executionUnitSize ? ConnectionMode.CONNECTION_STRICTLY : ConnectionMode.MEMORY_STRICTLY);
+    }
+    
+    @Override
+    public String getType() {
+        return "ADAPTIVE";
+    }
+}
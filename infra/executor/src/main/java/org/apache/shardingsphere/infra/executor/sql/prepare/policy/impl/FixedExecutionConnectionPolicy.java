@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.policy.impl;
+
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.prepare.policy.ExecutionConnectionPlan;
+import org.apache.shardingsphere.infra.executor.sql.prepare.policy.ExecutionConnectionPolicy;
+import org.apache.shardingsphere.infra.executor.sql.prepare.policy.ExecutionConnectionPolicyContext;
+
+/**
+ * Fixed execution connection policy.
+ * 
+ * <p>Connection size is limited by max connections size per query only.</p>
+ */
+public final class FixedExecutionConnectionPolicy implements ExecutionConnectionPolicy {
+    
+    @Override
+    public ExecutionConnectionPlan decide(final ExecutionConnectionPolicyContext context) {
+        int executionUnitSize = context.getExecutionUnitSize();
+        int maxConnectionsSizePerQuery = context.getMaxConnectionsSizePerQuery();
+        return maxConnectionsSizePerQuery < executionUnitSize
+                ? new ExecutionConnectionPlan(maxConnectionsSizePerQuery, ConnectionMode.CONNECTION_STRICTLY)
+                : new ExecutionConnectionPlan(executionUnitSize, ConnectionMode.MEMORY_STRICTLY);
+    }
+    
+    @Override
+    public String getType() {
+        return "FIXED";
+    }
+    
+    @Override
+    public boolean isDefault() {
+        return true;
+    }
+}
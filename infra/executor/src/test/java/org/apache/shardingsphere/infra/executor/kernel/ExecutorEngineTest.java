@@ -17,7 +17,9 @@
 
 package org.apache.shardingsphere.infra.executor.kernel;
 
+import org.apache.shardingsphere.infra.exception.external.sql.type.wrapper.SQLWrapperException;
 import org.apache.shardingsphere.infra.executor.kernel.fixture.ExecutorCallbackFixture;
+import org.apache.shardingsphere.infra.executor.kernel.model.CompletionOrderResultList;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupReportContext;
@@ -35,10 +37,13 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
 
 class ExecutorEngineTest {
@@ -124,4 +129,39 @@ class ExecutorEngineTest {
             asyncStarted.await(30L, TimeUnit.SECONDS);
         }
     }
+    
+    @Test
+    void assertExecuteInCompletionOrder() throws InterruptedException {
+        CountDownLatch slowGroupReleased = new CountDownLatch(1);
+        ExecutorCallback<Object, String> slowFirstCallback = (inputs, isTrunkThread, processId) -> {
+            try {
+                slowGroupReleased.await(30L, TimeUnit.SECONDS);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new SQLException(ex);
+            }
+            return Collections.nCopies(inputs.size(), "slow");
+        };
+        ExecutorCallback<Object, String> fastCallback = (inputs, isTrunkThread, processId) -> Collections.nCopies(inputs.size(), "fast");
+        CompletionOrderResultList<String> actual = executorEngine.executeInCompletionOrder(executionGroupContext, slowFirstCallback, fastCallback);
+        AtomicBoolean completed = new AtomicBoolean();
+        actual.whenCompleted(() -> completed.set(true));
+        assertThat(actual.size(), is(4));
+        assertThat(actual.get(0), is("fast"));
+        assertThat(actual.get(1), is("fast"));
+        assertFalse(completed.get());
+        slowGroupReleased.countDown();
+        assertThat(actual.get(3), is("slow"));
+        actual.awaitCompletion();
+        assertTrue(completed.get());
+    }
+    
+    @Test
+    void assertExecuteInCompletionOrderWithFailure() {
+        ExecutorCallback<Object, String> failedCallback = (inputs, isTrunkThread, processId) -> {
+            throw new SQLException("test");
+        };
+        CompletionOrderResultList<String> actual = executorEngine.executeInCompletionOrder(executionGroupContext, firstCallback, failedCallback);
+        assertThrows(SQLWrapperException.class, () -> actual.get(3));
+    }
 }
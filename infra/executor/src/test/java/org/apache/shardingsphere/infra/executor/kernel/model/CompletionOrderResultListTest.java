@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.model;
+
+import org.apache.shardingsphere.infra.exception.external.sql.type.wrapper.SQLWrapperException;
+import org.apache.shardingsphere.infra.exception.generic.UnknownSQLException;
+import org.junit.jupiter.api.Test;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompletionOrderResultListTest {
+    
+    @Test
+    void assertSizeBeforeCompleted() {
+        assertThat(new CompletionOrderResultList<String>(3, 2).size(), is(3));
+    }
+    
+    @Test
+    void assertGetInCompletionOrder() {
+        CompletionOrderResultList<String> actual = new CompletionOrderResultList<>(3, 2);
+        actual.addGroupResults(Collections.singletonList("bar"));
+        assertThat(actual.get(0), is("bar"));
+        actual.addGroupResults(Arrays.asList("foo_0", "foo_1"));
+        assertThat(actual.get(1), is("foo_0"));
+        assertThat(actual.get(2), is("foo_1"));
+    }
+    
+    @Test
+    void assertGetBlocksUntilGroupCompleted() throws Exception {
+        CompletionOrderResultList<String> actual = new CompletionOrderResultList<>(2, 2);
+        actual.addGroupResults(Collections.singletonList("foo"));
+        CompletableFuture<String> future = CompletableFuture.supplyAsync(() -> actual.get(1));
+        assertThat(actual.get(0), is("foo"));
+        assertFalse(future.isDone());
+        actual.addGroupResults(Collections.singletonList("bar"));
+        assertThat(future.get(5L, TimeUnit.SECONDS), is("bar"));
+    }
+    
+    @Test
+    void assertGetWithSQLExceptionFailure() {
+        CompletionOrderResultList<String> actual = new CompletionOrderResultList<>(2, 2);
+        actual.addGroupResults(Collections.singletonList("foo"));
+        actual.failGroup(new SQLException("foo"));
+        assertThrows(SQLWrapperException.class, () -> actual.get(0));
+    }
+    
+    @Test
+    void assertGetWithRuntimeFailure() {
+        CompletionOrderResultList<String> actual = new CompletionOrderResultList<>(2, 2);
+        actual.failGroup(new IllegalStateException("foo"));
+        assertThrows(UnknownSQLException.class, () -> actual.get(1));
+    }
+    
+    @Test
+    void assertWhenCompletedRunsAfterAllGroupsCompleted() {
+        CompletionOrderResultList<String> actual = new CompletionOrderResultList<>(2, 2);
+        AtomicInteger completedCount = new AtomicInteger();
+        actual.whenCompleted(completedCount::incrementAndGet);
+        actual.addGroupResults(Collections.singletonList("foo"));
+        assertThat(completedCount.get(), is(0));
+        actual.failGroup(new SQLException("bar"));
+        assertThat(completedCount.get(), is(1));
+        actual.whenCompleted(completedCount::incrementAndGet);
+        assertThat(completedCount.get(), is(2));
+    }
+    
+    @Test
+    void assertAwaitCompletion() throws Exception {
+        CompletionOrderResultList<String> actual = new CompletionOrderResultList<>(2, 2);
+        actual.failGroup(new SQLException("foo"));
+        CompletableFuture<Void> future = CompletableFuture.runAsync(actual::awaitCompletion);
+        assertFalse(future.isDone());
+        actual.addGroupResults(Collections.singletonList("bar"));
+        future.get(5L, TimeUnit.SECONDS);
+        assertTrue(future.isDone());
+    }
+}
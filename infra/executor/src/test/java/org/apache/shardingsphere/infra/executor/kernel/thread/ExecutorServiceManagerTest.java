@@ -22,6 +22,7 @@ import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -50,6 +51,18 @@ class ExecutorServiceManagerTest {
         assertTimeout(Duration.ofSeconds(1L), () -> assertFinished(finished));
     }
     
+    @Test
+    void assertThreadLocalValueTransmittedWithVirtualThreadEnabled() throws ExecutionException, InterruptedException {
+        ExecutorServiceManager executorServiceManager = new ExecutorServiceManager(1, true);
+        TRANSMITTABLE_THREAD_LOCAL.set("foo");
+        try {
+            assertThat(executorServiceManager.getExecutorService().submit(TRANSMITTABLE_THREAD_LOCAL::get).get(), is("foo"));
+        } finally {
+            TRANSMITTABLE_THREAD_LOCAL.remove();
+            executorServiceManager.close();
+        }
+    }
+    
     private void assertFinished(final AtomicBoolean finished) {
         Awaitility.await().atMost(1L, TimeUnit.MINUTES).pollInterval(100L, TimeUnit.MILLISECONDS).until(finished::get);
     }
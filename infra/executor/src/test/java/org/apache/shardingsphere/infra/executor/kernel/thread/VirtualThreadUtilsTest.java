@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.kernel.thread;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class VirtualThreadUtilsTest {
+    
+    @Test
+    void assertCreateThreadFactory() throws ReflectiveOperationException {
+        assumeTrue(VirtualThreadUtils.isSupported());
+        ThreadFactory threadFactory = VirtualThreadUtils.createThreadFactory("Foo-%d").get();
+        Thread actual = threadFactory.newThread(() -> {
+        });
+        assertThat(actual.getName(), is("ShardingSphere-Foo-0"));
+        assertThat(threadFactory.newThread(() -> {
+        }).getName(), is("ShardingSphere-Foo-1"));
+        assertThat(Thread.class.getMethod("isVirtual").invoke(actual), is(true));
+    }
+    
+    @Test
+    void assertCreateThreadPerTaskExecutor() throws ReflectiveOperationException, ExecutionException, InterruptedException {
+        assumeTrue(VirtualThreadUtils.isSupported());
+        ExecutorService executorService = VirtualThreadUtils.createThreadPerTaskExecutor("Bar-%d").get();
+        try {
+            Thread actual = executorService.submit(Thread::currentThread).get();
+            assertThat(actual.getName(), is("ShardingSphere-Bar-0"));
+            assertThat(Thread.class.getMethod("isVirtual").invoke(actual), is(true));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+    
+    @Test
+    void assertCreateWhenNotSupported() {
+        assumeFalse(VirtualThreadUtils.isSupported());
+        assertFalse(VirtualThreadUtils.createThreadFactory("Foo-%d").isPresent());
+        assertFalse(VirtualThreadUtils.createThreadPerTaskExecutor("Foo-%d").isPresent());
+    }
+}
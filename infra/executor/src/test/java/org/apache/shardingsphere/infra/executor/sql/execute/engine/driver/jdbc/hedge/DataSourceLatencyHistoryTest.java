@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.hedge;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.OptionalLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class DataSourceLatencyHistoryTest {
+    
+    @Test
+    void assertFindPercentile() {
+        DataSourceLatencyHistory.enable();
+        for (int i = 0; i < 99; i++) {
+            DataSourceLatencyHistory.record("foo_ds", 1000000L);
+        }
+        DataSourceLatencyHistory.record("foo_ds", 100000000L);
+        assertThat(DataSourceLatencyHistory.findPercentile("foo_ds", 50D), is(OptionalLong.of(1024000L)));
+        assertThat(DataSourceLatencyHistory.findPercentile("foo_ds", 100D), is(OptionalLong.of(114688000L)));
+    }
+    
+    @Test
+    void assertFindPercentileWithoutEnoughSamples() {
+        DataSourceLatencyHistory.enable();
+        DataSourceLatencyHistory.record("bar_ds", 1000000L);
+        assertFalse(DataSourceLatencyHistory.findPercentile("bar_ds", 50D).isPresent());
+        assertFalse(DataSourceLatencyHistory.findPercentile("none_ds", 50D).isPresent());
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.hedge;
+
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.route.context.HedgedReadRoute;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HedgedReadExecutorTest {
+    
+    private final SQLUnit sqlUnit = new SQLUnit("SELECT * FROM t_order", Collections.emptyList());
+    
+    @Mock
+    private Statement routedStatement;
+    
+    @Mock
+    private HedgedReadConnectionProvider hedgeConnectionProvider;
+    
+    @Test
+    void assertExecuteWithRoutedStatementFirst() throws SQLException {
+        HedgedReadExecutor<String> executor = new HedgedReadExecutor<>(new HedgedReadRoute("hedge_ds", TimeUnit.HOURS.toNanos(1L)), hedgeConnectionProvider, (statement, connectionMode) -> "routed");
+        assertThat(executor.execute(routedStatement, sqlUnit, ConnectionMode.MEMORY_STRICTLY), is("routed"));
+        verify(hedgeConnectionProvider, never()).getConnection();
+    }
+    
+    @Test
+    void assertExecuteWithRoutedStatementFailure() throws SQLException {
+        HedgedReadExecutor<String> executor = new HedgedReadExecutor<>(new HedgedReadRoute("hedge_ds", TimeUnit.HOURS.toNanos(1L)), hedgeConnectionProvider, (statement, connectionMode) -> {
+            throw new SQLException("routed failure");
+        });
+        assertThrows(SQLException.class, () -> executor.execute(routedStatement, sqlUnit, ConnectionMode.MEMORY_STRICTLY));
+        verify(hedgeConnectionProvider, never()).getConnection();
+    }
+    
+    @Test
+    void assertExecuteWithHedgeStatementFirst() throws SQLException {
+        Connection hedgeConnection = mock(Connection.class);
+        Statement hedgeStatement = mock(Statement.class);
+        when(hedgeConnectionProvider.getConnection()).thenReturn(hedgeConnection);
+        when(hedgeConnection.createStatement()).thenReturn(hedgeStatement);
+        CountDownLatch routedCancelled = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            routedCancelled.countDown();
+            return null;
+        }).when(routedStatement).cancel();
+        HedgedReadExecutor<String> executor = new HedgedReadExecutor<>(new HedgedReadRoute("hedge_ds", 1L), hedgeConnectionProvider, (statement, connectionMode) -> {
+            if (statement != routedStatement) {
+                assertThat(connectionMode, is(ConnectionMode.CONNECTION_STRICTLY));
+                return "hedge";
+            }
+            try {
+                routedCancelled.await(30L, TimeUnit.SECONDS);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            throw new SQLException("cancelled");
+        });
+        assertThat(executor.execute(routedStatement, sqlUnit, ConnectionMode.MEMORY_STRICTLY), is("hedge"));
+        verify(routedStatement).cancel();
+        verify(hedgeStatement).close();
+        verify(hedgeConnection, never()).close();
+    }
+    
+    @Test
+    void assertExecuteWithRoutedStatementFirstAfterHedgeStarted() throws SQLException {
+        Connection hedgeConnection = mock(Connection.class);
+        Statement hedgeStatement = mock(Statement.class);
+        when(hedgeConnectionProvider.getConnection()).thenReturn(hedgeConnection);
+        when(hedgeConnection.createStatement()).thenReturn(hedgeStatement);
+        CountDownLatch hedgeStarted = new CountDownLatch(1);
+        CountDownLatch hedgeCancelled = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            hedgeCancelled.countDown();
+            return null;
+        }).when(hedgeStatement).cancel();
+        HedgedReadExecutor<String> executor = new HedgedReadExecutor<>(new HedgedReadRoute("hedge_ds", 1L), hedgeConnectionProvider, (statement, connectionMode) -> {
+            try {
+                if (statement != routedStatement) {
+                    hedgeStarted.countDown();
+                    hedgeCancelled.await(30L, TimeUnit.SECONDS);
+                    throw new SQLException("cancelled");
+                }
+                hedgeStarted.await(30L, TimeUnit.SECONDS);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            return "routed";
+        });
+        assertThat(executor.execute(routedStatement, sqlUnit, ConnectionMode.MEMORY_STRICTLY), is("routed"));
+        verify(hedgeStatement).cancel();
+        verify(hedgeStatement).close();
+        verify(hedgeConnection, never()).close();
+        verify(routedStatement, never()).cancel();
+    }
+}
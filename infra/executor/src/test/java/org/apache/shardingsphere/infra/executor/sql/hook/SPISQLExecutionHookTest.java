@@ -41,6 +41,12 @@ class SPISQLExecutionHookTest {
         assertTrue(SQLExecutionHookFixture.containsAction("start"));
     }
     
+    @Test
+    void assertStartWithDatabaseName() {
+        spiSQLExecutionHook.start("foo_db", "ds", "SELECT 1", Collections.emptyList(), null, true);
+        assertTrue(SQLExecutionHookFixture.containsAction("start:foo_db"));
+    }
+    
     @Test
     void assertFinishSuccess() {
         spiSQLExecutionHook.finishSuccess();
@@ -33,6 +33,11 @@ public final class SQLExecutionHookFixture implements SQLExecutionHook {
         ACTIONS.add("start");
     }
     
+    @Override
+    public void start(final String databaseName, final String dataSourceName, final String sql, final List<Object> params, final ConnectionProperties connectionProps, final boolean isTrunkThread) {
+        ACTIONS.add(null == databaseName ? "start" : "start:" + databaseName);
+    }
+    
     @Override
     public void finishSuccess() {
         ACTIONS.add("finishSuccess");
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.policy;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.OptionalLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class ExecutionRowCountHistoryTest {
+    
+    @Test
+    void assertRecordAndFind() {
+        ExecutionRowCountHistory.enable();
+        ExecutionRowCountHistory.record("foo_db", "foo_ds", "SELECT * FROM t_order_0", 100L);
+        assertThat(ExecutionRowCountHistory.find("foo_db", "foo_ds", "SELECT * FROM t_order_0"), is(OptionalLong.of(100L)));
+        ExecutionRowCountHistory.record("foo_db", "foo_ds", "SELECT * FROM t_order_0", 500L);
+        assertThat(ExecutionRowCountHistory.find("foo_db", "foo_ds", "SELECT * FROM t_order_0"), is(OptionalLong.of(200L)));
+        assertFalse(ExecutionRowCountHistory.find("foo_db", "bar_ds", "SELECT * FROM t_order_0").isPresent());
+    }
+    
+    @Test
+    void assertFindWithOtherDatabase() {
+        ExecutionRowCountHistory.enable();
+        ExecutionRowCountHistory.record("foo_db", "foo_ds", "SELECT * FROM t_order_1", 100L);
+        assertFalse(ExecutionRowCountHistory.find("bar_db", "foo_ds", "SELECT * FROM t_order_1").isPresent());
+    }
+    
+    @Test
+    void assertRecordWithoutDatabase() {
+        ExecutionRowCountHistory.enable();
+        ExecutionRowCountHistory.record(null, "foo_ds", "SELECT * FROM t_order_2", 100L);
+        assertFalse(ExecutionRowCountHistory.find(null, "foo_ds", "SELECT * FROM t_order_2").isPresent());
+    }
+}
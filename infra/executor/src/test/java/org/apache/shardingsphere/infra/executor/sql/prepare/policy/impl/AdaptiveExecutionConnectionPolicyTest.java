@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.policy.impl;
+
+import org.apache.shardingsphere.infra.datasource.pool.metadata.DataSourcePoolStatus;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.prepare.policy.ExecutionConnectionPlan;
+import org.apache.shardingsphere.infra.executor.sql.prepare.policy.ExecutionConnectionPolicy;
+import org.apache.shardingsphere.infra.executor.sql.prepare.policy.ExecutionConnectionPolicyContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.OptionalLong;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AdaptiveExecutionConnectionPolicyTest {
+    
+    private final ExecutionConnectionPolicy policy = TypedSPILoader.getService(ExecutionConnectionPolicy.class, "ADAPTIVE");
+    
+    @Test
+    void assertDecideWithoutPoolStatus() {
+        ExecutionConnectionPolicyContext context = createContext(8, null);
+        when(context.getMaxConnectionsSizePerQuery()).thenReturn(2);
+        assertPlan(policy.decide(context), 2, ConnectionMode.CONNECTION_STRICTLY);
+    }
+    
+    @Test
+    void assertDecideWithIdlePool() {
+        assertPlan(policy.decide(createContext(8, new DataSourcePoolStatus(0, 10, 50, 0))), 8, ConnectionMode.MEMORY_STRICTLY);
+    }
+    
+    @Test
+    void assertDecideWithBusyPool() {
+        assertPlan(policy.decide(createContext(8, new DataSourcePoolStatus(44, 2, 50, 0))), 3, ConnectionMode.CONNECTION_STRICTLY);
+    }
+    
+    @Test
+    void assertDecideWithSaturatedPool() {
+        assertPlan(policy.decide(createContext(8, new DataSourcePoolStatus(50, 0, 50, 5))), 1, ConnectionMode.CONNECTION_STRICTLY);
+    }
+    
+    @Test
+    void assertDecideWithInsufficientHeap() {
+        ExecutionConnectionPolicyContext context = createContext(8, new DataSourcePoolStatus(36, 0, 50, 0));
+        when(context.findAverageRowCount()).thenReturn(OptionalLong.of(1000000L));
+        when(context.getFreeHeapBytes()).thenReturn(64L * 1024L * 1024L);
+        assertPlan(policy.decide(context), 8, ConnectionMode.MEMORY_STRICTLY);
+    }
+    
+    @Test
+    void assertDecideWithSufficientHeap() {
+        ExecutionConnectionPolicyContext context = createContext(8, new DataSourcePoolStatus(36, 0, 50, 0));
+        when(context.findAverageRowCount()).thenReturn(OptionalLong.of(10L));
+        when(context.getFreeHeapBytes()).thenReturn(64L * 1024L * 1024L);
+        assertPlan(policy.decide(context), 7, ConnectionMode.CONNECTION_STRICTLY);
+    }
+    
+    @Test
+    void assertDecideWithIdlePoolLimitedByMaxConnectionsSizePerQuery() {
+        ExecutionConnectionPolicyContext context = createContext(8, new DataSourcePoolStatus(0, 20, 50, 0));
+        when(context.getMaxConnectionsSizePerQuery()).thenReturn(3);
+        assertPlan(policy.decide(context), 3, ConnectionMode.CONNECTION_STRICTLY);
+    }
+    
+    @Test
+    void assertDecideWithInsufficientHeapLimitedByMaxConnectionsSizePerQuery() {
+        ExecutionConnectionPolicyContext context = createContext(8, new DataSourcePoolStatus(36, 0, 50, 0));
+        when(context.getMaxConnectionsSizePerQuery()).thenReturn(4);
+        when(context.findAverageRowCount()).thenReturn(OptionalLong.of(1000000L));
+        when(context.getFreeHeapBytes()).thenReturn(64L * 1024L * 1024L);
+        assertPlan(policy.decide(context), 4, ConnectionMode.CONNECTION_STRICTLY);
+    }
+    
+    private ExecutionConnectionPolicyContext createContext(final int executionUnitSize, final DataSourcePoolStatus poolStatus) {
+        ExecutionConnectionPolicyContext result = mock(ExecutionConnectionPolicyContext.class);
+        when(result.getExecutionUnitSize()).thenReturn(executionUnitSize);
+        when(result.getMaxConnectionsSizePerQuery()).thenReturn(Integer.MAX_VALUE);
+        when(result.findPoolStatus()).thenReturn(Optional.ofNullable(poolStatus));
+        when(result.findAverageRowCount()).thenReturn(OptionalLong.empty());
+        return result;
+    }
+    
+    private void assertPlan(final ExecutionConnectionPlan actual, final int expectedConnectionSize, final ConnectionMode expectedConnectionMode) {
+        assertThat(actual.getConnectionSize(), is(expectedConnectionSize));
+        assertThat(actual.getConnectionMode(), is(expectedConnectionMode));
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.executor.sql.prepare.policy.impl;
+
+import org.apache.shardingsphere.infra.executor.sql.context.ExecutionUnit;
+import org.apache.shardingsphere.infra.executor.sql.context.SQLUnit;
+import org.apache.shardingsphere.infra.executor.sql.execute.engine.ConnectionMode;
+import org.apache.shardingsphere.infra.executor.sql.prepare.policy.ExecutionConnectionPlan;
+import org.apache.shardingsphere.infra.executor.sql.prepare.policy.ExecutionConnectionPolicy;
+import org.apache.shardingsphere.infra.executor.sql.prepare.policy.ExecutionConnectionPolicyContext;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.isA;
+
+class FixedExecutionConnectionPolicyTest {
+    
+    private final ExecutionConnectionPolicy policy = TypedSPILoader.getService(ExecutionConnectionPolicy.class, null);
+    
+    @Test
+    void assertIsDefault() {
+        assertThat(policy, isA(FixedExecutionConnectionPolicy.class));
+    }
+    
+    @Test
+    void assertDecideWithMemoryStrictly() {
+        ExecutionConnectionPlan actual = policy.decide(createContext(4, 3));
+        assertThat(actual.getConnectionSize(), is(3));
+        assertThat(actual.getConnectionMode(), is(ConnectionMode.MEMORY_STRICTLY));
+    }
+    
+    @Test
+    void assertDecideWithConnectionStrictly() {
+        ExecutionConnectionPlan actual = policy.decide(createContext(2, 3));
+        assertThat(actual.getConnectionSize(), is(2));
+        assertThat(actual.getConnectionMode(), is(ConnectionMode.CONNECTION_STRICTLY));
+    }
+    
+    private ExecutionConnectionPolicyContext createContext(final int maxConnectionsSizePerQuery, final int executionUnitSize) {
+        List<ExecutionUnit> executionUnits = IntStream.range(0, executionUnitSize)
+                .mapToObj(each -> new ExecutionUnit("foo_ds", new SQLUnit("SELECT * FROM t_order_" + each, Collections.emptyList()))).collect(Collectors.toList());
+        return new ExecutionConnectionPolicyContext(maxConnectionsSizePerQuery, "foo_db", "foo_ds", executionUnits, Optional::empty);
+    }
+}
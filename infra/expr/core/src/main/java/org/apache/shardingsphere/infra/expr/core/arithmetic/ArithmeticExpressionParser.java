@@ -0,0 +1,335 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.core.arithmetic;
+
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Optional;
+
+/**
+ * Arithmetic expression parser.
+ * 
+ * <p>Supported grammar is the subset of Groovy which has the same semantics in Java:
+ * integer literals, one variable, {@code + - * %}, unary minus, parentheses, {@code .hashCode()}, {@code .abs()} and {@code Math.abs()}.</p>
+ */
+@RequiredArgsConstructor
+final class ArithmeticExpressionParser {
+    
+    private static final Collection<String> RESERVED_WORDS = new HashSet<>(Arrays.asList("it", "this", "super", "null", "true", "false", "new", "Math"));
+    
+    private final String expression;
+    
+    private final Collection<String> variableNames;
+    
+    private int position;
+    
+    /**
+     * Parse expression.
+     *
+     * @return parsed arithmetic node, empty if expression is not supported
+     */
+    Optional<ArithmeticNode> parse() {
+        ArithmeticNode result = parseAdditive();
+        skipWhitespaces();
+        return null == result || position < expression.length() ? Optional.empty() : Optional.of(result);
+    }
+    
+    private ArithmeticNode parseAdditive() {
+        ArithmeticNode result = parseMultiplicative();
+        while (null != result) {
+            skipWhitespaces();
+            char operator = peek();
+            if ('+' != operator && '-' != operator) {
+                return result;
+            }
+            position++;
+            ArithmeticNode right = parseMultiplicative();
+            result = null == right ? null : new BinaryNode(operator, result, right);
+        }
+        return null;
+    }
+    
+    private ArithmeticNode parseMultiplicative() {
+        ArithmeticNode result = parseUnary();
+        while (null != result) {
+            skipWhitespaces();
+            char operator = peek();
+            if ('*' != operator && '%' != operator) {
+                return result;
+            }
+            position++;
+            ArithmeticNode right = parseUnary();
+            result = null == right ? null : new BinaryNode(operator, result, right);
+        }
+        return null;
+    }
+    
+    private ArithmeticNode parseUnary() {
+        skipWhitespaces();
+        if ('-' == peek()) {
+            position++;
+            ArithmeticNode operand = parseUnary();
+            return null == operand ? null : new NegateNode(operand);
+        }
+        return parsePostfix();
+    }
+    
+    private ArithmeticNode parsePostfix() {
+        skipWhitespaces();
+        if (Character.isDigit(peek())) {
+            return parseLiteral();
+        }
+        ArithmeticNode result = parsePrimary();
+        while (null != result) {
+            skipWhitespaces();
+            if ('.' != peek()) {
+                return result;
+            }
+            position++;
+            String methodName = parseIdentifier();
+            if (!consumeEmptyArguments()) {
+                return null;
+            }
+            if ("hashCode".equals(methodName)) {
+                result = new HashCodeNode(result);
+            } else if ("abs".equals(methodName)) {
+                result = new AbsNode(result);
+            } else {
+                return null;
+            }
+        }
+        return null;
+    }
+    
+    private ArithmeticNode parsePrimary() {
+        if ('(' == peek()) {
+            position++;
+            ArithmeticNode result = parseAdditive();
+            return consume(')') ? result : null;
+        }
+        String identifier = parseIdentifier();
+        if ("Math".equals(identifier)) {
+            return parseMathAbs();
+        }
+        if (identifier.isEmpty() || RESERVED_WORDS.contains(identifier)) {
+            return null;
+        }
+        variableNames.add(identifier);
+        return new VariableNode();
+    }
+    
+    private ArithmeticNode parseMathAbs() {
+        if (!consume('.') || !"abs".equals(parseIdentifier()) || !consume('(')) {
+            return null;
+        }
+        ArithmeticNode result = parseAdditive();
+        return null != result && consume(')') ? new AbsNode(result) : null;
+    }
+    
+    private ArithmeticNode parseLiteral() {
+        int start = position;
+        while (Character.isDigit(peek())) {
+            position++;
+        }
+        String literal = expression.substring(start, position);
+        if (isIdentifierPart(peek()) || '.' == peek() || literal.length() > 1 && '0' == literal.charAt(0)) {
+            return null;
+        }
+        try {
+            return new LiteralNode(Long.parseLong(literal));
+        } catch (final NumberFormatException ignored) {
+            return null;
+        }
+    }
+    
+    private String parseIdentifier() {
+        skipWhitespaces();
+        int start = position;
+        if (isIdentifierPart(peek()) && !Character.isDigit(peek())) {
+            position++;
+            while (isIdentifierPart(peek())) {
+                position++;
+            }
+        }
+        return expression.substring(start, position);
+    }
+    
+    private boolean isIdentifierPart(final char each) {
+        return '_' == each || each < 128 && Character.isLetterOrDigit(each);
+    }
+    
+    private boolean consumeEmptyArguments() {
+        return consume('(') && consume(')');
+    }
+    
+    private boolean consume(final char expected) {
+        skipWhitespaces();
+        if (expected != peek()) {
+            return false;
+        }
+        position++;
+        return true;
+    }
+    
+    private void skipWhitespaces() {
+        while (position < expression.length() && Character.isWhitespace(expression.charAt(position))) {
+            position++;
+        }
+    }
+    
+    private char peek() {
+        return position < expression.length() ? expression.charAt(position) : '\0';
+    }
+    
+    private static final class VariableNode implements ArithmeticNode {
+        
+        @Override
+        public ArithmeticValueType getValueType(final ArithmeticValueType variableType) {
+            return variableType;
+        }
+        
+        @Override
+        public long evaluate(final Comparable<?> variable, final ArithmeticValueType variableType) {
+            return ((Number) variable).longValue();
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class LiteralNode implements ArithmeticNode {
+        
+        private final long value;
+        
+        @Override
+        public ArithmeticValueType getValueType(final ArithmeticValueType variableType) {
+            return value > Integer.MAX_VALUE ? ArithmeticValueType.LONG : ArithmeticValueType.INT;
+        }
+        
+        @Override
+        public long evaluate(final Comparable<?> variable, final ArithmeticValueType variableType) {
+            return value;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class NegateNode implements ArithmeticNode {
+        
+        private final ArithmeticNode operand;
+        
+        @Override
+        public ArithmeticValueType getValueType(final ArithmeticValueType variableType) {
+            ArithmeticValueType result = operand.getValueType(variableType);
+            return ArithmeticValueType.STRING == result ? null : result;
+        }
+        
+        @Override
+        public long evaluate(final Comparable<?> variable, final ArithmeticValueType variableType) {
+            long value = operand.evaluate(variable, variableType);
+            return ArithmeticValueType.INT == operand.getValueType(variableType) ? -(int) value : -value;
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class AbsNode implements ArithmeticNode {
+        
+        private final ArithmeticNode operand;
+        
+        @Override
+        public ArithmeticValueType getValueType(final ArithmeticValueType variableType) {
+            ArithmeticValueType result = operand.getValueType(variableType);
+            return ArithmeticValueType.STRING == result ? null : result;
+        }
+        
+        @Override
+        public long evaluate(final Comparable<?> variable, final ArithmeticValueType variableType) {
+            long value = operand.evaluate(variable, variableType);
+            return ArithmeticValueType.INT == operand.getValueType(variableType) ? Math.abs((int) value) : Math.abs(value);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class HashCodeNode implements ArithmeticNode {
+        
+        private final ArithmeticNode operand;
+        
+        @Override
+        public ArithmeticValueType getValueType(final ArithmeticValueType variableType) {
+            return null == operand.getValueType(variableType) ? null : ArithmeticValueType.INT;
+        }
+        
+        @Override
+        public long evaluate(final Comparable<?> variable, final ArithmeticValueType variableType) {
+            ArithmeticValueType operandType = operand.getValueType(variableType);
+            if (ArithmeticValueType.STRING == operandType) {
+                return variable.hashCode();
+            }
+            long value = operand.evaluate(variable, variableType);
+            return ArithmeticValueType.INT == operandType ? (int) value : Long.hashCode(value);
+        }
+    }
+    
+    @RequiredArgsConstructor
+    private static final class BinaryNode implements ArithmeticNode {
+        
+        private final char operator;
+        
+        private final ArithmeticNode left;
+        
+        private final ArithmeticNode right;
+        
+        @Override
+        public ArithmeticValueType getValueType(final ArithmeticValueType variableType) {
+            return ArithmeticValueType.getBinaryResultType(left.getValueType(variableType), right.getValueType(variableType));
+        }
+        
+        @Override
+        public long evaluate(final Comparable<?> variable, final ArithmeticValueType variableType) {
+            long leftValue = left.evaluate(variable, variableType);
+            long rightValue = right.evaluate(variable, variableType);
+            return ArithmeticValueType.INT == getValueType(variableType) ? evaluate((int) leftValue, (int) rightValue) : evaluate(leftValue, rightValue);
+        }
+        
+        private int evaluate(final int leftValue, final int rightValue) {
+            switch (operator) {
+                case '+':
+                    return leftValue + rightValue;
+                case '-':
+                    return leftValue - rightValue;
+                case '*':
+                    return leftValue * rightValue;
+                default:
+                    return leftValue % rightValue;
+            }
+        }
+        
+        private long evaluate(final long leftValue, final long rightValue) {
+            switch (operator) {
+                case '+':
+                    return leftValue + rightValue;
+                case '-':
+                    return leftValue - rightValue;
+                case '*':
+                    return leftValue * rightValue;
+                default:
+                    return leftValue % rightValue;
+            }
+        }
+    }
+}
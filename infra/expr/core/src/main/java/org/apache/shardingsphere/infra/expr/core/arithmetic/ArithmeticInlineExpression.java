@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.core.arithmetic;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Arithmetic inline expression.
+ * 
+ * <p>Compiled form of inline expressions such as {@code t_order_${order_id % 16}} or {@code ds_${user_id.hashCode() % 8}},
+ * which is evaluated without Groovy and gets the same result as Groovy.
+ * Expressions or variable values out of the supported subset should be evaluated by Groovy instead.</p>
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class ArithmeticInlineExpression {
+    
+    private static final String TYPE_NAME_BEGIN_SYMBOL = "<";
+    
+    private static final String PLACEHOLDER_BEGIN = "${";
+    
+    private static final char PLACEHOLDER_END = '}';
+    
+    private final String variableName;
+    
+    private final String[] literals;
+    
+    private final ArithmeticNode[] nodes;
+    
+    private final Collection<ArithmeticValueType> supportedVariableTypes;
+    
+    /**
+     * Compile inline expression.
+     *
+     * @param inlineExpression inline expression with {@code ${}} placeholders
+     * @return compiled arithmetic inline expression, empty if inline expression is not supported or starts with a type name such as {@code <GROOVY>} or {@code <LITERAL>}
+     */
+    public static Optional<ArithmeticInlineExpression> compile(final String inlineExpression) {
+        if (null == inlineExpression || inlineExpression.startsWith(TYPE_NAME_BEGIN_SYMBOL)) {
+            return Optional.empty();
+        }
+        List<String> literals = new ArrayList<>();
+        List<ArithmeticNode> nodes = new ArrayList<>();
+        Collection<String> variableNames = new HashSet<>(1, 1F);
+        int position = 0;
+        int placeholderBegin;
+        while ((placeholderBegin = inlineExpression.indexOf(PLACEHOLDER_BEGIN, position)) >= 0) {
+            int placeholderEnd = inlineExpression.indexOf(PLACEHOLDER_END, placeholderBegin);
+            if (placeholderEnd < 0) {
+                return Optional.empty();
+            }
+            literals.add(inlineExpression.substring(position, placeholderBegin));
+            Optional<ArithmeticNode> node = new ArithmeticExpressionParser(inlineExpression.substring(placeholderBegin + PLACEHOLDER_BEGIN.length(), placeholderEnd), variableNames).parse();
+            if (!node.isPresent()) {
+                return Optional.empty();
+            }
+            nodes.add(node.get());
+            position = placeholderEnd + 1;
+        }
+        literals.add(inlineExpression.substring(position));
+        if (nodes.isEmpty() || 1 != variableNames.size() || literals.stream().anyMatch(ArithmeticInlineExpression::containsSpecialCharacter)) {
+            return Optional.empty();
+        }
+        Collection<ArithmeticValueType> supportedVariableTypes = getSupportedVariableTypes(nodes);
+        return supportedVariableTypes.isEmpty()
+                ? Optional.empty()
+                : Optional.of(new ArithmeticInlineExpression(variableNames.iterator().next(), literals.toArray(new String[0]), nodes.toArray(new ArithmeticNode[0]), supportedVariableTypes));
+    }
+    
+    private static boolean containsSpecialCharacter(final String literal) {
+        return literal.indexOf('$') >= 0 || literal.indexOf('"') >= 0 || literal.indexOf('\\') >= 0 || literal.indexOf('{') >= 0 || literal.indexOf('}') >= 0;
+    }
+    
+    private static Collection<ArithmeticValueType> getSupportedVariableTypes(final Collection<ArithmeticNode> nodes) {
+        Collection<ArithmeticValueType> result = EnumSet.noneOf(ArithmeticValueType.class);
+        for (ArithmeticValueType each : ArithmeticValueType.values()) {
+            if (nodes.stream().allMatch(node -> null != node.getValueType(each))) {
+                result.add(each);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Evaluate with variable.
+     *
+     * @param variableName variable name
+     * @param value variable value
+     * @return evaluated result, empty if variable name or value type is not supported
+     */
+    public Optional<String> evaluate(final String variableName, final Comparable<?> value) {
+        ArithmeticValueType valueType = ArithmeticValueType.find(value);
+        if (!this.variableName.equals(variableName) || !supportedVariableTypes.contains(valueType)) {
+            return Optional.empty();
+        }
+        StringBuilder result = new StringBuilder(literals[0]);
+        for (int i = 0; i < nodes.length; i++) {
+            if (ArithmeticValueType.STRING == nodes[i].getValueType(valueType)) {
+                result.append(value);
+            } else {
+                result.append(nodes[i].evaluate(value, valueType));
+            }
+            result.append(literals[i + 1]);
+        }
+        return Optional.of(result.toString());
+    }
+}
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.core.arithmetic;
+
+/**
+ * Arithmetic node of compiled inline expression.
+ */
+interface ArithmeticNode {
+    
+    /**
+     * Get value type of node.
+     *
+     * @param variableType value type of variable
+     * @return value type, null if node can not be evaluated with variable type
+     */
+    ArithmeticValueType getValueType(ArithmeticValueType variableType);
+    
+    /**
+     * Evaluate numeric value of node.
+     *
+     * @param variable variable value
+     * @param variableType value type of variable
+     * @return numeric value, which has been narrowed to int if value type is {@code INT}
+     */
+    long evaluate(Comparable<?> variable, ArithmeticValueType variableType);
+}
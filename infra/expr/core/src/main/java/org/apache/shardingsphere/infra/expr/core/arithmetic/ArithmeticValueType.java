@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.core.arithmetic;
+
+/**
+ * Value type of arithmetic inline expression, following the result types of Groovy number math.
+ */
+enum ArithmeticValueType {
+    
+    INT, LONG, STRING;
+    
+    /**
+     * Find value type of variable.
+     *
+     * @param value variable value
+     * @return found value type, null if value is not supported
+     */
+    static ArithmeticValueType find(final Object value) {
+        if (value instanceof Integer) {
+            return INT;
+        }
+        if (value instanceof Long) {
+            return LONG;
+        }
+        if (value instanceof String) {
+            return STRING;
+        }
+        return null;
+    }
+    
+    /**
+     * Get result type of binary operation.
+     *
+     * @param left left value type
+     * @param right right value type
+     * @return result type, null if operation is not supported
+     */
+    static ArithmeticValueType getBinaryResultType(final ArithmeticValueType left, final ArithmeticValueType right) {
+        if (null == left || null == right || STRING == left || STRING == right) {
+            return null;
+        }
+        return LONG == left || LONG == right ? LONG : INT;
+    }
+}
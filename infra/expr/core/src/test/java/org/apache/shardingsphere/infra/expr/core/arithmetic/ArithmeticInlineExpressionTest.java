@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.core.arithmetic;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+class ArithmeticInlineExpressionTest {
+    
+    @Test
+    void assertCompileWithUnsupportedExpression() {
+        assertFalse(ArithmeticInlineExpression.compile(null).isPresent());
+        assertFalse(ArithmeticInlineExpression.compile("t_order_0").isPresent());
+        assertFalse(ArithmeticInlineExpression.compile("t_order_${0..1}").isPresent());
+        assertFalse(ArithmeticInlineExpression.compile("t_order_${order_id / 2}").isPresent());
+        assertFalse(ArithmeticInlineExpression.compile("t_order_${order_id % 010}").isPresent());
+        assertFalse(ArithmeticInlineExpression.compile("t_order_${order_id.toString()}").isPresent());
+        assertFalse(ArithmeticInlineExpression.compile("t_order_${order_id + user_id}").isPresent());
+        assertFalse(ArithmeticInlineExpression.compile("t_order_${it % 2}").isPresent());
+        assertFalse(ArithmeticInlineExpression.compile("t_order_$order_id").isPresent());
+        assertFalse(ArithmeticInlineExpression.compile("t_order_${order_id % 2").isPresent());
+        assertFalse(ArithmeticInlineExpression.compile("t_order_${99999999999999999999 % order_id}").isPresent());
+    }
+    
+    @Test
+    void assertCompileWithTypeNamePrefix() {
+        assertFalse(ArithmeticInlineExpression.compile("<GROOVY>t_order_${order_id % 16}").isPresent());
+        assertFalse(ArithmeticInlineExpression.compile("<LITERAL>t_order_${order_id % 16}").isPresent());
+        assertFalse(ArithmeticInlineExpression.compile("<foo>t_order_${order_id % 16}").isPresent());
+    }
+    
+    @Test
+    void assertEvaluateWithModulo() {
+        ArithmeticInlineExpression actual = ArithmeticInlineExpression.compile("t_order_${order_id % 16}").get();
+        assertThat(actual.evaluate("order_id", 35), is(Optional.of("t_order_3")));
+        assertThat(actual.evaluate("order_id", 35L), is(Optional.of("t_order_3")));
+        assertThat(actual.evaluate("order_id", -35), is(Optional.of("t_order_-3")));
+        assertFalse(actual.evaluate("order_id", "35").isPresent());
+        assertFalse(actual.evaluate("order_id", 35.0D).isPresent());
+        assertFalse(actual.evaluate("user_id", 35).isPresent());
+    }
+    
+    @Test
+    void assertEvaluateWithHashCode() {
+        ArithmeticInlineExpression actual = ArithmeticInlineExpression.compile("ds_${Math.abs(user_id.hashCode()) % 8}").get();
+        assertThat(actual.evaluate("user_id", "foo"), is(Optional.of("ds_" + Math.abs("foo".hashCode()) % 8)));
+        assertThat(actual.evaluate("user_id", 1L << 40), is(Optional.of("ds_" + Math.abs(Long.hashCode(1L << 40)) % 8)));
+    }
+    
+    @Test
+    void assertEvaluateWithIntOverflow() {
+        ArithmeticInlineExpression actual = ArithmeticInlineExpression.compile("t_${(order_id * 2 + 1).abs() % 10}").get();
+        assertThat(actual.evaluate("order_id", Integer.MAX_VALUE), is(Optional.of("t_" + Math.abs(Integer.MAX_VALUE * 2 + 1) % 10)));
+        assertThat(actual.evaluate("order_id", (long) Integer.MAX_VALUE), is(Optional.of("t_" + Math.abs(Integer.MAX_VALUE * 2L + 1L) % 10)));
+    }
+    
+    @Test
+    void assertEvaluateWithMultiplePlaceholders() {
+        ArithmeticInlineExpression actual = ArithmeticInlineExpression.compile("t_${order_id}_${-order_id % 3}").get();
+        assertThat(actual.evaluate("order_id", "10"), is(Optional.empty()));
+        assertThat(actual.evaluate("order_id", 10), is(Optional.of("t_10_-1")));
+    }
+    
+    @Test
+    void assertEvaluateWithStringVariable() {
+        assertThat(ArithmeticInlineExpression.compile("t_${order_id}").get().evaluate("order_id", "foo"), is(Optional.of("t_foo")));
+    }
+}
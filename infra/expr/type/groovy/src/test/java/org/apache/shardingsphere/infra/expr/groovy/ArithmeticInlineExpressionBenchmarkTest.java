@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.groovy;
+
+import org.apache.shardingsphere.infra.expr.core.arithmetic.ArithmeticInlineExpression;
+import org.apache.shardingsphere.infra.expr.spi.InlineExpressionParser;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.Properties;
+import java.util.function.LongFunction;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+/**
+ * Benchmark of arithmetic inline expression against Groovy inline expression parser.
+ * Timing based, so it is disabled in regular builds and run manually.
+ */
+@Disabled("Benchmark, run manually")
+class ArithmeticInlineExpressionBenchmarkTest {
+    
+    private static final String EXPRESSION = "t_order_${order_id % 16}";
+    
+    private static final int WARMUP_ITERATIONS = 200000;
+    
+    private static final int MEASURE_ITERATIONS = 1000000;
+    
+    private int blackhole;
+    
+    @Test
+    void assertBenchmark() {
+        Properties props = new Properties();
+        props.setProperty(InlineExpressionParser.INLINE_EXPRESSION_KEY, EXPRESSION);
+        InlineExpressionParser groovyParser = TypedSPILoader.getService(InlineExpressionParser.class, "GROOVY", props);
+        ArithmeticInlineExpression arithmeticExpression = ArithmeticInlineExpression.compile(EXPRESSION).get();
+        long groovyNanos = measure(each -> groovyParser.evaluateWithArgs(Collections.singletonMap("order_id", each)));
+        long arithmeticNanos = measure(each -> arithmeticExpression.evaluate("order_id", each).get());
+        System.out.printf("%s: groovy %.1f ns/op, arithmetic %.1f ns/op%n", EXPRESSION, (double) groovyNanos / MEASURE_ITERATIONS, (double) arithmeticNanos / MEASURE_ITERATIONS);
+        assertThat(arithmeticExpression.evaluate("order_id", 35L).get(), is(groovyParser.evaluateWithArgs(Collections.singletonMap("order_id", 35L))));
+    }
+    
+    private long measure(final LongFunction<String> evaluator) {
+        for (long i = 0; i < WARMUP_ITERATIONS; i++) {
+            blackhole += evaluator.apply(i).length();
+        }
+        long start = System.nanoTime();
+        for (long i = 0; i < MEASURE_ITERATIONS; i++) {
+            blackhole += evaluator.apply(i).length();
+        }
+        return System.nanoTime() - start;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.expr.groovy;
+
+import org.apache.shardingsphere.infra.expr.core.arithmetic.ArithmeticInlineExpression;
+import org.apache.shardingsphere.infra.expr.spi.InlineExpressionParser;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.Properties;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class ArithmeticInlineExpressionConsistencyTest {
+    
+    private static final Collection<Comparable<?>> VALUES = Arrays.asList(0, 7, -7, 35, Integer.MAX_VALUE, Integer.MIN_VALUE, 0L, -35L, 1L << 40, Long.MAX_VALUE, Long.MIN_VALUE, "", "foo", "order_1");
+    
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "t_order_${order_id % 16}", "ds_${order_id.hashCode() % 8}", "ds_${Math.abs(order_id.hashCode()) % 8}", "t_${order_id}",
+            "t_${(order_id * 31 + 7) % 4}", "t_${-order_id % 3}_${order_id.abs() % 5}", "t_${order_id % 4294967296}", "t_${(order_id - 1).hashCode()}"})
+    void assertEvaluateSameAsGroovy(final String expression) {
+        InlineExpressionParser groovyParser = createGroovyParser(expression);
+        ArithmeticInlineExpression arithmeticExpression = ArithmeticInlineExpression.compile(expression).get();
+        for (Comparable<?> each : VALUES) {
+            Optional<String> actual = arithmeticExpression.evaluate("order_id", each);
+            if (actual.isPresent()) {
+                assertThat(expression + " with " + each, actual.get(), is(groovyParser.evaluateWithArgs(Collections.singletonMap("order_id", each))));
+            }
+        }
+    }
+    
+    private InlineExpressionParser createGroovyParser(final String expression) {
+        Properties props = new Properties();
+        props.setProperty(InlineExpressionParser.INLINE_EXPRESSION_KEY, expression);
+        return TypedSPILoader.getService(InlineExpressionParser.class, "GROOVY", props);
+    }
+}
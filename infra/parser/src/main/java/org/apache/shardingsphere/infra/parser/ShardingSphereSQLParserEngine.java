@@ -33,12 +33,18 @@ import org.apache.shardingsphere.sql.parser.statement.core.util.SQLUtils;
  */
 public final class ShardingSphereSQLParserEngine implements SQLParserEngine {
     
+    private static final CacheOption DISABLED_SQL_FINGERPRINT_CACHE_OPTION = new CacheOption(0, 0L);
+    
     private final SQLStatementParserEngine sqlStatementParserEngine;
     
     private final DistSQLStatementParserEngine distSQLStatementParserEngine;
     
     public ShardingSphereSQLParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption) {
-        sqlStatementParserEngine = SQLStatementParserEngineFactory.getSQLStatementParserEngine(databaseType, sqlStatementCacheOption, parseTreeCacheOption);
+        this(databaseType, sqlStatementCacheOption, parseTreeCacheOption, DISABLED_SQL_FINGERPRINT_CACHE_OPTION);
+    }
+    
+    public ShardingSphereSQLParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final CacheOption sqlFingerprintCacheOption) {
+        sqlStatementParserEngine = SQLStatementParserEngineFactory.getSQLStatementParserEngine(databaseType, sqlStatementCacheOption, parseTreeCacheOption, sqlFingerprintCacheOption);
         distSQLStatementParserEngine = new DistSQLStatementParserEngine();
     }
     
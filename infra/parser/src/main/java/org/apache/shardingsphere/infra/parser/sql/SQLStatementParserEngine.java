@@ -17,12 +17,14 @@
 
 package org.apache.shardingsphere.infra.parser.sql;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import lombok.Getter;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.parser.cache.CacheManager;
 import org.apache.shardingsphere.infra.parser.cache.SQLStatementCacheBuilder;
 import org.apache.shardingsphere.infra.parser.cache.SQLStatementCacheLoader;
 import org.apache.shardingsphere.sql.parser.engine.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.engine.api.SQLFingerprintParserEngine;
 import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
 
 /**
@@ -30,21 +32,31 @@ import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatemen
  */
 public final class SQLStatementParserEngine {
     
+    private final DatabaseType databaseType;
+    
     private final SQLStatementParserExecutor sqlStatementParserExecutor;
     
     private final CacheManager<String, SQLStatement> sqlStatementCacheManager;
     
+    private volatile SQLFingerprintParserEngine sqlFingerprintParserEngine;
+    
     @Getter
     private final CacheOption sqlStatementCacheOption;
     
     @Getter
     private final CacheOption parseTreeCacheOption;
     
-    public SQLStatementParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption) {
+    @Getter
+    private final CacheOption sqlFingerprintCacheOption;
+    
+    public SQLStatementParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final CacheOption sqlFingerprintCacheOption) {
+        this.databaseType = databaseType;
         sqlStatementParserExecutor = new SQLStatementParserExecutor(databaseType, parseTreeCacheOption);
         sqlStatementCacheManager = SQLStatementCacheBuilder.build(databaseType, sqlStatementCacheOption, parseTreeCacheOption);
+        sqlFingerprintParserEngine = isSQLFingerprintEnabled(sqlFingerprintCacheOption) ? new SQLFingerprintParserEngine(databaseType, sqlFingerprintCacheOption) : null;
         this.sqlStatementCacheOption = sqlStatementCacheOption;
         this.parseTreeCacheOption = parseTreeCacheOption;
+        this.sqlFingerprintCacheOption = sqlFingerprintCacheOption;
     }
     
     /**
@@ -52,21 +64,49 @@ public final class SQLStatementParserEngine {
      *
      * @param sqlStatementCacheOption SQL statement cache option
      * @param parseTreeCacheOption parse tree cache option
+     * @param sqlFingerprintCacheOption SQL fingerprint cache option
      */
-    public void updateCacheOption(final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption) {
+    public void updateCacheOption(final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption, final CacheOption sqlFingerprintCacheOption) {
         sqlStatementCacheManager.getCache().policy().eviction().ifPresent(eviction -> eviction.setMaximum(sqlStatementCacheOption.getMaximumSize()));
         ((SQLStatementCacheLoader) sqlStatementCacheManager.getCacheLoader()).updateCacheOption(parseTreeCacheOption);
         sqlStatementParserExecutor.updateCacheOption(parseTreeCacheOption);
+        if (!isSQLFingerprintEnabled(sqlFingerprintCacheOption)) {
+            sqlFingerprintParserEngine = null;
+        } else if (null == sqlFingerprintParserEngine) {
+            sqlFingerprintParserEngine = new SQLFingerprintParserEngine(databaseType, sqlFingerprintCacheOption);
+        } else {
+            sqlFingerprintParserEngine.updateCacheOption(sqlFingerprintCacheOption);
+        }
+    }
+    
+    private boolean isSQLFingerprintEnabled(final CacheOption sqlFingerprintCacheOption) {
+        return sqlFingerprintCacheOption.getMaximumSize() > 0L;
+    }
+    
+    /**
+     * Get SQL fingerprint cache stats.
+     *
+     * @return SQL fingerprint cache stats
+     */
+    public CacheStats getSQLFingerprintCacheStats() {
+        SQLFingerprintParserEngine engine = sqlFingerprintParserEngine;
+        return null == engine ? CacheStats.empty() : engine.getCacheStats();
     }
     
     /**
      * Parse to SQL statement.
+     * 
+     * <p>SQL with inlined literals is not cached by SQL text, it is parsed with the parse tree cached by SQL fingerprint if SQL fingerprint cache enabled.</p>
      *
      * @param sql SQL to be parsed
      * @param useCache whether to use cache
      * @return SQL statement
      */
     public SQLStatement parse(final String sql, final boolean useCache) {
-        return useCache ? sqlStatementCacheManager.getCache().get(sql) : sqlStatementParserExecutor.parse(sql);
+        if (useCache) {
+            return sqlStatementCacheManager.getCache().get(sql);
+        }
+        SQLFingerprintParserEngine engine = sqlFingerprintParserEngine;
+        return null == engine ? sqlStatementParserExecutor.parse(sql) : engine.parse(sql);
     }
 }
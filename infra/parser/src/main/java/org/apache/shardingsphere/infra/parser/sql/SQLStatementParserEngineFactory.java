@@ -22,6 +22,7 @@ import lombok.NoArgsConstructor;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.sql.parser.engine.api.CacheOption;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -39,15 +40,27 @@ public final class SQLStatementParserEngineFactory {
      * @param databaseType database type
      * @param sqlStatementCacheOption SQL statement cache option
      * @param parseTreeCacheOption parse tree cache option
+     * @param sqlFingerprintCacheOption SQL fingerprint cache option
      * @return SQL statement parser engine
      */
-    public static SQLStatementParserEngine getSQLStatementParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption, final CacheOption parseTreeCacheOption) {
+    public static SQLStatementParserEngine getSQLStatementParserEngine(final DatabaseType databaseType, final CacheOption sqlStatementCacheOption,
+                                                                       final CacheOption parseTreeCacheOption, final CacheOption sqlFingerprintCacheOption) {
         SQLStatementParserEngine result = ENGINES.get(databaseType);
         if (null == result) {
-            result = ENGINES.computeIfAbsent(databaseType, key -> new SQLStatementParserEngine(key, sqlStatementCacheOption, parseTreeCacheOption));
-        } else if (!result.getSqlStatementCacheOption().equals(sqlStatementCacheOption) || !result.getParseTreeCacheOption().equals(parseTreeCacheOption)) {
-            result.updateCacheOption(sqlStatementCacheOption, parseTreeCacheOption);
+            result = ENGINES.computeIfAbsent(databaseType, key -> new SQLStatementParserEngine(key, sqlStatementCacheOption, parseTreeCacheOption, sqlFingerprintCacheOption));
+        } else if (!result.getSqlStatementCacheOption().equals(sqlStatementCacheOption) || !result.getParseTreeCacheOption().equals(parseTreeCacheOption)
+                || !result.getSqlFingerprintCacheOption().equals(sqlFingerprintCacheOption)) {
+            result.updateCacheOption(sqlStatementCacheOption, parseTreeCacheOption, sqlFingerprintCacheOption);
         }
         return result;
     }
+    
+    /**
+     * Get all SQL statement parser engines.
+     *
+     * @return SQL statement parser engines
+     */
+    public static Map<DatabaseType, SQLStatementParserEngine> getAllSQLStatementParserEngines() {
+        return Collections.unmodifiableMap(ENGINES);
+    }
 }
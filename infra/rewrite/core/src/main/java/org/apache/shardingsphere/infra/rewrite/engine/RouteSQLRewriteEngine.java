@@ -75,7 +75,9 @@ public final class RouteSQLRewriteEngine {
      */
     public RouteSQLRewriteResult rewrite(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final QueryContext queryContext) {
         int maxUnionSizePerDataSource = queryContext.getMetaData().getProps().getValue(ConfigurationPropertyKey.MAX_UNION_SIZE_PER_DATASOURCE);
-        return new RouteSQLRewriteResult(translate(queryContext, createSQLRewriteUnits(sqlRewriteContext, routeContext, maxUnionSizePerDataSource)));
+        Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits = createSQLRewriteUnits(sqlRewriteContext, routeContext, maxUnionSizePerDataSource);
+        Map<RouteUnit, SQLRewriteUnit> translatedSQLRewriteUnits = translate(queryContext, sqlRewriteUnits);
+        return new RouteSQLRewriteResult(translatedSQLRewriteUnits, isParameterIndependent(sqlRewriteContext) && !isTranslated(sqlRewriteUnits, translatedSQLRewriteUnits));
     }
     
     private Map<RouteUnit, SQLRewriteUnit> createSQLRewriteUnits(final SQLRewriteContext sqlRewriteContext, final RouteContext routeContext, final int maxUnionSizePerDataSource) {
@@ -203,14 +205,31 @@ public final class RouteSQLRewriteEngine {
         Map<String, StorageUnit> storageUnits = database.getResourceMetaData().getStorageUnits();
         for (Entry<RouteUnit, SQLRewriteUnit> entry : sqlRewriteUnits.entrySet()) {
             DatabaseType storageType = storageUnits.get(entry.getKey().getDataSourceMapper().getActualName()).getStorageType();
-            String sql = entry.getValue().getSql();
-            List<Object> parameters = entry.getValue().getParameters();
-            Optional<SQLTranslatorContext> sqlTranslatorContext = translatorRule.translate(sql, parameters, queryContext, storageType, database, globalRuleMetaData);
-            String translatedSQL = sqlTranslatorContext.isPresent() ? sqlTranslatorContext.get().getSql() : sql;
-            List<Object> translatedParameters = sqlTranslatorContext.isPresent() ? sqlTranslatorContext.get().getParameters() : parameters;
-            SQLRewriteUnit sqlRewriteUnit = new SQLRewriteUnit(translatedSQL, translatedParameters);
-            result.put(entry.getKey(), sqlRewriteUnit);
+            Optional<SQLTranslatorContext> sqlTranslatorContext = translatorRule.translate(
+                    entry.getValue().getSql(), entry.getValue().getParameters(), queryContext, storageType, database, globalRuleMetaData);
+            result.put(entry.getKey(), sqlTranslatorContext.map(optional -> new SQLRewriteUnit(optional.getSql(), optional.getParameters())).orElseGet(entry::getValue));
         }
         return result;
     }
+    
+    private boolean isParameterIndependent(final SQLRewriteContext sqlRewriteContext) {
+        if (sqlRewriteContext.getParameters().isEmpty()) {
+            return false;
+        }
+        ParameterBuilder parameterBuilder = sqlRewriteContext.getParameterBuilder();
+        if (parameterBuilder instanceof StandardParameterBuilder) {
+            return !((StandardParameterBuilder) parameterBuilder).isRewritten();
+        }
+        return parameterBuilder instanceof GroupedParameterBuilder
+                && 1 == ((GroupedParameterBuilder) parameterBuilder).getParameterBuilders().size() && !((GroupedParameterBuilder) parameterBuilder).isRewritten();
+    }
+    
+    private boolean isTranslated(final Map<RouteUnit, SQLRewriteUnit> sqlRewriteUnits, final Map<RouteUnit, SQLRewriteUnit> translatedSQLRewriteUnits) {
+        for (Entry<RouteUnit, SQLRewriteUnit> entry : sqlRewriteUnits.entrySet()) {
+            if (entry.getValue() != translatedSQLRewriteUnits.get(entry.getKey())) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
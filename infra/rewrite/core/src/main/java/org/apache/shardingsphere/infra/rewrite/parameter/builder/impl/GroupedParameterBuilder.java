@@ -81,6 +81,23 @@ public final class GroupedParameterBuilder implements ParameterBuilder {
         return parameterBuilders.get(count).getParameters();
     }
     
+    /**
+     * Judge whether original parameters are rewritten.
+     *
+     * @return original parameters are rewritten or not
+     */
+    public boolean isRewritten() {
+        if (beforeGenericParameterBuilder.isRewritten() || afterGenericParameterBuilder.isRewritten()) {
+            return true;
+        }
+        for (StandardParameterBuilder each : parameterBuilders) {
+            if (each.isRewritten()) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
     /**
      * Get derived column name.
      *
@@ -71,6 +71,7 @@ class RouteSQLRewriteEngineTest {
         assertThat(actual.getSqlRewriteUnits().size(), is(1));
         assertThat(actual.getSqlRewriteUnits().get(routeUnit).getSql(), is("SELECT ?"));
         assertThat(actual.getSqlRewriteUnits().get(routeUnit).getParameters(), is(Collections.singletonList(1)));
+        assertTrue(actual.isParameterIndependent());
     }
     
     private QueryContext mockQueryContext(final SQLStatementContext sqlStatementContext, final String sql) {
@@ -174,6 +175,7 @@ class RouteSQLRewriteEngineTest {
         assertThat(actual.getSqlRewriteUnits().size(), is(1));
         assertThat(actual.getSqlRewriteUnits().get(routeUnit).getSql(), is("INSERT INTO tbl VALUES (?)"));
         assertThat(actual.getSqlRewriteUnits().get(routeUnit).getParameters(), is(Collections.singletonList(1)));
+        assertTrue(actual.isParameterIndependent());
     }
     
     @Test
@@ -27,6 +27,8 @@ import java.util.Optional;
 
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class GroupedParameterBuilderTest {
     
@@ -53,6 +55,14 @@ class GroupedParameterBuilderTest {
         assertThat(actual.getAfterGenericParameterBuilder().getParameters(), is(Arrays.<Object>asList(77, 66, -1, 88, 99, 110)));
     }
     
+    @Test
+    void assertIsRewritten() {
+        GroupedParameterBuilder actual = new GroupedParameterBuilder(createGroupedParameters(), Collections.emptyList(), createGenericParameters());
+        assertFalse(actual.isRewritten());
+        actual.getParameterBuilders().get(1).addAddedParameters(2, Collections.singletonList(9));
+        assertTrue(actual.isRewritten());
+    }
+    
     @Test
     void assertGetDerivedColumnName() {
         GroupedParameterBuilder actual = new GroupedParameterBuilder(createGroupedParameters(), Collections.emptyList(), createGenericParameters());
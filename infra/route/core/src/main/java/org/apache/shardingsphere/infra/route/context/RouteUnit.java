@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.infra.route.context;
 
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.ToString;
@@ -31,7 +32,7 @@ import java.util.Set;
  * Route unit.
  */
 @Getter
-@EqualsAndHashCode
+@EqualsAndHashCode(exclude = "hedgedReadRoute")
 @ToString
 public final class RouteUnit {
     
@@ -39,11 +40,28 @@ public final class RouteUnit {
     
     private final Collection<RouteMapper> tableMappers;
     
+    @Getter(AccessLevel.NONE)
+    private final HedgedReadRoute hedgedReadRoute;
+    
     public RouteUnit(final RouteMapper dataSourceMapper, final Collection<RouteMapper> tableMappers) {
+        this(dataSourceMapper, tableMappers, null);
+    }
+    
+    public RouteUnit(final RouteMapper dataSourceMapper, final Collection<RouteMapper> tableMappers, final HedgedReadRoute hedgedReadRoute) {
         ShardingSpherePreconditions.checkNotNull(dataSourceMapper, () -> new IllegalArgumentException("`dataSourceMapper` is required"));
         ShardingSpherePreconditions.checkNotNull(tableMappers, () -> new IllegalArgumentException("`tableMappers` is required"));
         this.dataSourceMapper = dataSourceMapper;
         this.tableMappers = tableMappers;
+        this.hedgedReadRoute = hedgedReadRoute;
+    }
+    
+    /**
+     * Find hedged read route.
+     *
+     * @return found hedged read route
+     */
+    public Optional<HedgedReadRoute> findHedgedReadRoute() {
+        return Optional.ofNullable(hedgedReadRoute);
     }
     
     /**
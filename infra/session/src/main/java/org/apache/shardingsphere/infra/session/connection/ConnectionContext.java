@@ -25,6 +25,7 @@ import org.apache.shardingsphere.infra.metadata.user.Grantee;
 import org.apache.shardingsphere.infra.session.connection.cursor.CursorConnectionContext;
 import org.apache.shardingsphere.infra.session.connection.datasource.UsedDataSourceProvider;
 import org.apache.shardingsphere.infra.session.connection.transaction.TransactionConnectionContext;
+import org.apache.shardingsphere.infra.session.connection.write.WriteConnectionContext;
 
 import java.util.Collection;
 import java.util.HashSet;
@@ -47,6 +48,8 @@ public final class ConnectionContext implements AutoCloseable {
     
     private final TransactionConnectionContext transactionContext = new TransactionConnectionContext();
     
+    private final WriteConnectionContext writeContext = new WriteConnectionContext();
+    
     @Setter(AccessLevel.NONE)
     private String currentDatabaseName;
     
@@ -105,5 +108,6 @@ public final class ConnectionContext implements AutoCloseable {
     public void close() {
         clearCursorContext();
         clearTransactionContext();
+        writeContext.close();
     }
 }
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.session.connection.write;
+
+import java.util.OptionalLong;
+
+/**
+ * Write connection context.
+ * 
+ * <p>A write is recorded when it is routed, but is stamped by the first lookup after it has been executed, which is the next statement of the session.
+ * So the stamp is never earlier than the time write is committed. Writes inside transaction are not visible to others until commit,
+ * so their timestamp is settled by the first lookup after transaction ends.</p>
+ */
+public final class WriteConnectionContext implements AutoCloseable {
+    
+    private volatile long lastWriteMillis;
+    
+    private volatile boolean writePending;
+    
+    private volatile boolean transactionalWritePending;
+    
+    /**
+     * Record write before it is executed.
+     *
+     * @param inTransaction whether write is inside transaction
+     */
+    public void recordWrite(final boolean inTransaction) {
+        if (inTransaction) {
+            transactionalWritePending = true;
+        } else {
+            writePending = true;
+        }
+    }
+    
+    /**
+     * Find last write millis.
+     * 
+     * <p>It should be called before recording the write of current statement, so that pending writes of previous statements have finished.</p>
+     *
+     * @param inTransaction whether lookup is inside transaction
+     * @return last write millis, empty if no write recorded
+     */
+    public OptionalLong findLastWriteMillis(final boolean inTransaction) {
+        if (writePending) {
+            lastWriteMillis = System.currentTimeMillis();
+            writePending = false;
+        }
+        if (transactionalWritePending && !inTransaction) {
+            lastWriteMillis = System.currentTimeMillis();
+            transactionalWritePending = false;
+        }
+        return 0L == lastWriteMillis ? OptionalLong.empty() : OptionalLong.of(lastWriteMillis);
+    }
+    
+    /**
+     * Copy recorded write to another write connection context.
+     *
+     * @param writeContext write connection context to copy to
+     */
+    public void copyTo(final WriteConnectionContext writeContext) {
+        writeContext.lastWriteMillis = lastWriteMillis;
+        writeContext.writePending = writePending;
+        writeContext.transactionalWritePending = transactionalWritePending;
+    }
+    
+    @Override
+    public void close() {
+        lastWriteMillis = 0L;
+        writePending = false;
+        transactionalWritePending = false;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.infra.session.connection.write;
+
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WriteConnectionContextTest {
+    
+    private final WriteConnectionContext writeConnectionContext = new WriteConnectionContext();
+    
+    @Test
+    void assertFindLastWriteMillisWithoutWrite() {
+        assertFalse(writeConnectionContext.findLastWriteMillis(false).isPresent());
+    }
+    
+    @Test
+    void assertFindLastWriteMillisWithWriteOutsideTransaction() {
+        writeConnectionContext.recordWrite(false);
+        long afterWriteMillis = System.currentTimeMillis();
+        long actual = writeConnectionContext.findLastWriteMillis(false).getAsLong();
+        assertTrue(actual >= afterWriteMillis);
+        assertThat(writeConnectionContext.findLastWriteMillis(false).getAsLong(), is(actual));
+    }
+    
+    @Test
+    void assertCopyTo() {
+        writeConnectionContext.recordWrite(false);
+        WriteConnectionContext actual = new WriteConnectionContext();
+        writeConnectionContext.copyTo(actual);
+        assertTrue(actual.findLastWriteMillis(false).isPresent());
+    }
+    
+    @Test
+    void assertFindLastWriteMillisWithWriteInsideTransaction() {
+        writeConnectionContext.recordWrite(true);
+        assertFalse(writeConnectionContext.findLastWriteMillis(true).isPresent());
+        long afterWriteMillis = System.currentTimeMillis();
+        assertTrue(writeConnectionContext.findLastWriteMillis(false).getAsLong() >= afterWriteMillis);
+    }
+    
+    @Test
+    void assertClose() {
+        writeConnectionContext.recordWrite(false);
+        writeConnectionContext.close();
+        assertFalse(writeConnectionContext.findLastWriteMillis(false).isPresent());
+    }
+}
@@ -124,6 +124,12 @@ public abstract class AbstractResultSetAdapter extends AbstractUnsupportedOperat
     @Override
     public final void close() throws SQLException {
         closed = true;
-        forceExecuteTemplate.execute(resultSets, ResultSet::close);
+        try {
+            closeMergedResult();
+        } finally {
+            forceExecuteTemplate.execute(resultSets, ResultSet::close);
+        }
     }
+    
+    protected abstract void closeMergedResult() throws SQLException;
 }
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.ringbuffer;
+
+import lombok.SneakyThrows;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelAckCallback;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.RecordUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ring buffer pipeline channel.
+ * <p>It supports one push thread and one fetch thread, capacity is bounded by slot count and estimated bytes of pushed records.</p>
+ */
+public final class RingBufferPipelineChannel implements PipelineChannel {
+    
+    private static final long PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10L);
+    
+    private final Object[] slots;
+    
+    private final long[] slotBytes;
+    
+    private final int mask;
+    
+    private final long capacityBytes;
+    
+    private final PipelineChannelAckCallback ackCallback;
+    
+    private final AtomicLong producerIndex = new AtomicLong();
+    
+    private final AtomicLong consumerIndex = new AtomicLong();
+    
+    private final AtomicLong usedBytes = new AtomicLong();
+    
+    private volatile Thread waitingProducer;
+    
+    private volatile Thread waitingConsumer;
+    
+    public RingBufferPipelineChannel(final int slotCount, final long capacityBytes, final PipelineChannelAckCallback ackCallback) {
+        int actualSlotCount = slotCount <= 1 ? 1 : Integer.highestOneBit(slotCount - 1) << 1;
+        slots = new Object[actualSlotCount];
+        slotBytes = new long[actualSlotCount];
+        mask = actualSlotCount - 1;
+        this.capacityBytes = capacityBytes;
+        this.ackCallback = ackCallback;
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Override
+    public void push(final List<Record> records) {
+        long bytes = estimateBytes(records);
+        long index = producerIndex.get();
+        while (!hasCapacity(index, bytes)) {
+            waitingProducer = Thread.currentThread();
+            if (!hasCapacity(index, bytes)) {
+                LockSupport.parkNanos(this, PARK_NANOS);
+            }
+            waitingProducer = null;
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+        int offset = (int) index & mask;
+        slots[offset] = records;
+        slotBytes[offset] = bytes;
+        usedBytes.addAndGet(bytes);
+        producerIndex.lazySet(index + 1L);
+        unpark(waitingConsumer);
+    }
+    
+    private boolean hasCapacity(final long index, final long bytes) {
+        long consumedIndex = consumerIndex.get();
+        if (index - consumedIndex >= slots.length) {
+            return false;
+        }
+        return index == consumedIndex || usedBytes.get() + bytes <= capacityBytes;
+    }
+    
+    private long estimateBytes(final List<Record> records) {
+        long result = 0L;
+        for (Record each : records) {
+            result += RecordUtils.estimateSize(each);
+        }
+        return result;
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    @Override
+    public List<Record> fetch(final int batchSize, final long timeoutMillis) {
+        List<Record> result = new ArrayList<>(Math.max(batchSize, 0));
+        long deadlineNanos = 0L;
+        while (true) {
+            drainTo(result, batchSize);
+            if (result.size() >= batchSize || timeoutMillis <= 0L) {
+                return result;
+            }
+            if (0L == deadlineNanos) {
+                deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+            }
+            long remainingNanos = deadlineNanos - System.nanoTime();
+            if (remainingNanos <= 0L) {
+                return result;
+            }
+            waitingConsumer = Thread.currentThread();
+            if (consumerIndex.get() == producerIndex.get()) {
+                LockSupport.parkNanos(this, remainingNanos);
+            }
+            waitingConsumer = null;
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+    
+    private void drainTo(final List<Record> result, final int batchSize) {
+        long index = consumerIndex.get();
+        long availableIndex = producerIndex.get();
+        if (index == availableIndex) {
+            return;
+        }
+        long releasedBytes = 0L;
+        while (index < availableIndex && result.size() < batchSize) {
+            int offset = (int) index & mask;
+            result.addAll(getRecords(offset));
+            slots[offset] = null;
+            releasedBytes += slotBytes[offset];
+            index++;
+        }
+        release(index, releasedBytes);
+    }
+    
+    @Override
+    public List<Record> peek() {
+        long index = consumerIndex.get();
+        return index == producerIndex.get() ? Collections.emptyList() : getRecords((int) index & mask);
+    }
+    
+    @Override
+    public List<Record> poll() {
+        long index = consumerIndex.get();
+        if (index == producerIndex.get()) {
+            return Collections.emptyList();
+        }
+        int offset = (int) index & mask;
+        List<Record> result = getRecords(offset);
+        slots[offset] = null;
+        release(index + 1L, slotBytes[offset]);
+        return result;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private List<Record> getRecords(final int offset) {
+        return (List<Record>) slots[offset];
+    }
+    
+    private void release(final long nextIndex, final long releasedBytes) {
+        usedBytes.addAndGet(-releasedBytes);
+        consumerIndex.lazySet(nextIndex);
+        unpark(waitingProducer);
+    }
+    
+    private void unpark(final Thread thread) {
+        if (null != thread) {
+            LockSupport.unpark(thread);
+        }
+    }
+    
+    @Override
+    public void ack(final List<Record> records) {
+        ackCallback.onAck(records);
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.importer;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.execute.AbstractPipelineLifecycleRunnable;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobProgressListener;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobUpdateProgress;
+import org.apache.shardingsphere.data.pipeline.core.task.PipelineTaskUtils;
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+import org.apache.shardingsphere.infra.util.close.QuietlyCloser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Partitioned channel consumer importer.
+ *
+ * <p>
+ * Data records fetched from the channel are partitioned by unique key hash, and every partition is written by its own sink concurrently,
+ * so changes on the same unique key are always applied in order by the same sink.
+ * Fetched records are acknowledged only after all partitions have written them.
+ * Records of tables without unique key and records which change unique key values are written by the first sink without partitioning.
+ * </p>
+ */
+@RequiredArgsConstructor
+public final class PartitionedChannelConsumerImporter extends AbstractPipelineLifecycleRunnable implements Importer {
+    
+    private final PipelineChannel channel;
+    
+    private final int batchSize;
+    
+    private final long timeoutMillis;
+    
+    private final List<PipelineSink> sinks;
+    
+    private final PipelineJobProgressListener jobProgressListener;
+    
+    @Override
+    protected void runBlocking() {
+        ExecutorService executor = Executors.newFixedThreadPool(sinks.size(), ExecutorThreadFactoryBuilder.build("pipeline-partitioned-importer-%d"));
+        try {
+            while (isRunning()) {
+                List<Record> records = channel.fetch(batchSize, timeoutMillis);
+                if (records.isEmpty()) {
+                    continue;
+                }
+                PipelineJobUpdateProgress updateProgress = write(records, executor);
+                channel.ack(records);
+                jobProgressListener.onProgressUpdated(updateProgress);
+                if (FinishedRecord.class.equals(records.get(records.size() - 1).getClass())) {
+                    break;
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+    
+    private PipelineJobUpdateProgress write(final List<Record> records, final ExecutorService executor) {
+        List<List<Record>> partitions = partition(records);
+        if (1 == partitions.size()) {
+            return sinks.get(0).write("", partitions.get(0));
+        }
+        Collection<Future<PipelineJobUpdateProgress>> futures = new ArrayList<>(partitions.size());
+        for (int i = 0; i < partitions.size(); i++) {
+            List<Record> partition = partitions.get(i);
+            if (!partition.isEmpty()) {
+                PipelineSink sink = sinks.get(i);
+                futures.add(executor.submit(() -> sink.write("", partition)));
+            }
+        }
+        return waitPartitions(futures);
+    }
+    
+    private List<List<Record>> partition(final List<Record> records) {
+        List<List<Record>> result = new ArrayList<>(sinks.size());
+        for (int i = 0; i < sinks.size(); i++) {
+            result.add(new ArrayList<>(records.size() / sinks.size() + 1));
+        }
+        for (Record each : records) {
+            if (!(each instanceof DataRecord)) {
+                continue;
+            }
+            DataRecord dataRecord = (DataRecord) each;
+            if (dataRecord.getUniqueKeyValue().isEmpty() || isUniqueKeyChanged(dataRecord)) {
+                return Collections.singletonList(records);
+            }
+            result.get(Math.floorMod(hashUniqueKey(dataRecord), sinks.size())).add(dataRecord);
+        }
+        return result;
+    }
+    
+    private boolean isUniqueKeyChanged(final DataRecord dataRecord) {
+        if (PipelineSQLOperationType.UPDATE != dataRecord.getType()) {
+            return false;
+        }
+        Iterator<Object> oldValues = dataRecord.getOldUniqueKeyValues().iterator();
+        for (Object each : dataRecord.getUniqueKeyValue()) {
+            if (!Objects.deepEquals(each, oldValues.next())) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private int hashUniqueKey(final DataRecord dataRecord) {
+        Collection<Object> uniqueKeyValues = PipelineSQLOperationType.DELETE == dataRecord.getType() ? dataRecord.getOldUniqueKeyValues() : dataRecord.getUniqueKeyValue();
+        int result = dataRecord.getTableName().hashCode();
+        for (Object each : uniqueKeyValues) {
+            result = 31 * result + (each instanceof byte[] ? Arrays.hashCode((byte[]) each) : Objects.hashCode(each));
+        }
+        return result;
+    }
+    
+    private PipelineJobUpdateProgress waitPartitions(final Collection<Future<PipelineJobUpdateProgress>> futures) {
+        int processedRecordsCount = 0;
+        RuntimeException failure = null;
+        for (Future<PipelineJobUpdateProgress> each : futures) {
+            try {
+                processedRecordsCount += PipelineTaskUtils.waitFuture(each).getProcessedRecordsCount();
+                // CHECKSTYLE:OFF
+            } catch (final RuntimeException ex) {
+                // CHECKSTYLE:ON
+                if (null == failure) {
+                    failure = ex;
+                }
+            }
+        }
+        if (null != failure) {
+            throw failure;
+        }
+        return new PipelineJobUpdateProgress(processedRecordsCount);
+    }
+    
+    @Override
+    protected void doStop() {
+        sinks.forEach(QuietlyCloser::close);
+    }
+}
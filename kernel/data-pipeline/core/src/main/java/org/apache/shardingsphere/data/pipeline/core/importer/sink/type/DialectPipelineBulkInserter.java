@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.importer.sink.type;
+
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPI;
+import org.apache.shardingsphere.infra.spi.annotation.SingletonSPI;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Dialect pipeline bulk inserter.
+ * <p>It streams inventory records into target table with dialect bulk load protocol, duplicated rows are not merged.</p>
+ */
+@SingletonSPI
+public interface DialectPipelineBulkInserter extends DatabaseTypedSPI {
+    
+    /**
+     * Bulk insert data records.
+     *
+     * @param connection connection
+     * @param qualifiedTableName qualified table name
+     * @param escapedColumnNames escaped column names
+     * @param dataRecords data records
+     * @return inserted rows count
+     * @throws SQLException SQL exception
+     */
+    long bulkInsert(Connection connection, String qualifiedTableName, List<String> escapedColumnNames, Collection<DataRecord> dataRecords) throws SQLException;
+}
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.data.pipeline.core.datasource.PipelineDataSourc
 import org.apache.shardingsphere.data.pipeline.core.exception.job.PipelineImporterJobWriteException;
 import org.apache.shardingsphere.data.pipeline.core.importer.ImporterConfiguration;
 import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.pk.UniqueKeyIngestPosition;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.Column;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
 import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
@@ -33,6 +34,7 @@ import org.apache.shardingsphere.data.pipeline.core.ingest.record.group.GroupedD
 import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobUpdateProgress;
 import org.apache.shardingsphere.data.pipeline.core.sqlbuilder.sql.PipelineImportSQLBuilder;
 import org.apache.shardingsphere.data.pipeline.core.util.PipelineJdbcUtils;
+import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
 import org.apache.shardingsphere.infra.util.json.JsonEngine;
 
@@ -40,6 +42,7 @@ import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
@@ -54,12 +57,18 @@ import java.util.stream.Collectors;
 @Slf4j
 public final class PipelineDataSourceSink implements PipelineSink {
     
+    private static final long MULTI_ROW_INSERT_BYTES_BUDGET = 1024L * 1024L;
+    
+    private static final int MAX_PARAMETER_COUNT = Short.MAX_VALUE;
+    
     private final ImporterConfiguration importerConfig;
     
     private final DataSource dataSource;
     
     private final PipelineImportSQLBuilder importSQLBuilder;
     
+    private final DialectPipelineBulkInserter bulkInserter;
+    
     private final DataRecordGroupEngine groupEngine;
     
     private final AtomicReference<PreparedStatement> runningStatement;
@@ -68,6 +77,7 @@ public final class PipelineDataSourceSink implements PipelineSink {
         this.importerConfig = importerConfig;
         dataSource = dataSourceManager.getDataSource(importerConfig.getDataSourceConfig());
         importSQLBuilder = new PipelineImportSQLBuilder(importerConfig.getDataSourceConfig().getDatabaseType());
+        bulkInserter = DatabaseTypedSPILoader.findService(DialectPipelineBulkInserter.class, importerConfig.getDataSourceConfig().getDatabaseType()).orElse(null);
         groupEngine = new DataRecordGroupEngine();
         runningStatement = new AtomicReference<>();
     }
@@ -142,45 +152,73 @@ public final class PipelineDataSourceSink implements PipelineSink {
     
     private void executeBatchInsert(final Collection<DataRecord> dataRecords, final boolean firstTimeRun) throws SQLException {
         DataRecord dataRecord = dataRecords.iterator().next();
-        String sql = importSQLBuilder.buildInsertSQL(importerConfig.findSchemaName(dataRecord.getTableName()).orElse(null), dataRecord);
-        try (
-                Connection connection = dataSource.getConnection();
-                PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
-            runningStatement.set(preparedStatement);
-            if (firstTimeRun) {
-                executeBatchInsertFirstTime(connection, preparedStatement, dataRecords);
+        String schemaName = importerConfig.findSchemaName(dataRecord.getTableName()).orElse(null);
+        if (!firstTimeRun) {
+            retryBatchInsert(importSQLBuilder.buildInsertSQL(schemaName, dataRecord), dataRecords);
+            return;
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            boolean transactionEnabled = dataRecords.size() > 1;
+            if (transactionEnabled) {
+                connection.setAutoCommit(false);
+            }
+            if (null != bulkInserter && dataRecord.getPosition() instanceof UniqueKeyIngestPosition) {
+                bulkInserter.bulkInsert(connection, importSQLBuilder.buildQualifiedTableName(schemaName, dataRecord), importSQLBuilder.buildEscapedColumnNames(dataRecord), dataRecords);
             } else {
-                retryBatchInsert(preparedStatement, dataRecords);
+                executeMultiRowInsert(connection, schemaName, dataRecords);
+            }
+            if (transactionEnabled) {
+                connection.commit();
             }
-        } finally {
-            runningStatement.set(null);
         }
     }
     
-    private void executeBatchInsertFirstTime(final Connection connection, final PreparedStatement preparedStatement, final Collection<DataRecord> dataRecords) throws SQLException {
-        boolean transactionEnabled = dataRecords.size() > 1;
-        if (transactionEnabled) {
-            connection.setAutoCommit(false);
-        }
-        preparedStatement.setQueryTimeout(30);
+    private void executeMultiRowInsert(final Connection connection, final String schemaName, final Collection<DataRecord> dataRecords) throws SQLException {
+        int maxRowCount = Math.max(1, MAX_PARAMETER_COUNT / dataRecords.iterator().next().getColumnCount());
+        List<DataRecord> rows = new ArrayList<>(Math.min(dataRecords.size(), maxRowCount));
+        long rowsBytes = 0L;
         for (DataRecord each : dataRecords) {
-            for (int i = 0; i < each.getColumnCount(); i++) {
-                preparedStatement.setObject(i + 1, each.getColumn(i).getValue());
+            long rowBytes = RecordUtils.estimateSize(each);
+            if (!rows.isEmpty() && (rows.size() >= maxRowCount || rowsBytes + rowBytes > MULTI_ROW_INSERT_BYTES_BUDGET)) {
+                executeMultiRowInsert(connection, schemaName, rows);
+                rows.clear();
+                rowsBytes = 0L;
             }
-            preparedStatement.addBatch();
-        }
-        preparedStatement.executeBatch();
-        if (transactionEnabled) {
-            connection.commit();
+            rows.add(each);
+            rowsBytes += rowBytes;
         }
+        executeMultiRowInsert(connection, schemaName, rows);
     }
     
-    private void retryBatchInsert(final PreparedStatement preparedStatement, final Collection<DataRecord> dataRecords) throws SQLException {
-        for (DataRecord each : dataRecords) {
-            for (int i = 0; i < each.getColumnCount(); i++) {
-                preparedStatement.setObject(i + 1, each.getColumn(i).getValue());
+    private void executeMultiRowInsert(final Connection connection, final String schemaName, final List<DataRecord> rows) throws SQLException {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(importSQLBuilder.buildInsertSQL(schemaName, rows.get(0), rows.size()))) {
+            runningStatement.set(preparedStatement);
+            preparedStatement.setQueryTimeout(30);
+            int parameterIndex = 1;
+            for (DataRecord each : rows) {
+                for (int i = 0; i < each.getColumnCount(); i++) {
+                    preparedStatement.setObject(parameterIndex++, each.getColumn(i).getValue());
+                }
             }
             preparedStatement.executeUpdate();
+        } finally {
+            runningStatement.set(null);
+        }
+    }
+    
+    private void retryBatchInsert(final String sql, final Collection<DataRecord> dataRecords) throws SQLException {
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            runningStatement.set(preparedStatement);
+            for (DataRecord each : dataRecords) {
+                for (int i = 0; i < each.getColumnCount(); i++) {
+                    preparedStatement.setObject(i + 1, each.getColumn(i).getValue());
+                }
+                preparedStatement.executeUpdate();
+            }
+        } finally {
+            runningStatement.set(null);
         }
     }
     
@@ -31,6 +31,12 @@ import java.util.Optional;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class RecordUtils {
     
+    private static final long RECORD_OVERHEAD_BYTES = 64L;
+    
+    private static final long COLUMN_OVERHEAD_BYTES = 32L;
+    
+    private static final long VALUE_OVERHEAD_BYTES = 16L;
+    
     /**
      * Extract condition columns(include primary and sharding columns) from data record.
      *
@@ -51,4 +57,33 @@ public final class RecordUtils {
         }
         return dataRecord.getColumns();
     }
+    
+    /**
+     * Estimate size of record in bytes.
+     *
+     * @param record record
+     * @return estimated size in bytes
+     */
+    public static long estimateSize(final Record record) {
+        long result = RECORD_OVERHEAD_BYTES;
+        if (record instanceof DataRecord) {
+            for (Column each : ((DataRecord) record).getColumns()) {
+                result += COLUMN_OVERHEAD_BYTES + estimateSize(each.getOldValue()) + estimateSize(each.getValue());
+            }
+        }
+        return result;
+    }
+    
+    private static long estimateSize(final Object value) {
+        if (null == value) {
+            return 0L;
+        }
+        if (value instanceof CharSequence) {
+            return VALUE_OVERHEAD_BYTES + 2L * ((CharSequence) value).length();
+        }
+        if (value instanceof byte[]) {
+            return VALUE_OVERHEAD_BYTES + ((byte[]) value).length;
+        }
+        return VALUE_OVERHEAD_BYTES;
+    }
 }
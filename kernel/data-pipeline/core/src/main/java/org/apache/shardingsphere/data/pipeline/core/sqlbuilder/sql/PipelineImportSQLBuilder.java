@@ -27,6 +27,7 @@ import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPILoa
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -75,9 +76,61 @@ public final class PipelineImportSQLBuilder {
     }
     
     private String buildInsertMainClause(final String schemaName, final DataRecord dataRecord) {
+        return buildInsertPrefixClause(schemaName, dataRecord) + buildInsertValuesClause(dataRecord);
+    }
+    
+    private String buildInsertPrefixClause(final String schemaName, final DataRecord dataRecord) {
         String columnsLiteral = dataRecord.getColumns().stream().map(each -> sqlSegmentBuilder.getEscapedIdentifier(each.getName())).collect(Collectors.joining(","));
-        String valuesLiteral = dataRecord.getColumns().stream().map(each -> "?").collect(Collectors.joining(","));
-        return String.format("INSERT INTO %s(%s) VALUES(%s)", sqlSegmentBuilder.getQualifiedTableName(schemaName, dataRecord.getTableName()), columnsLiteral, valuesLiteral);
+        return String.format("INSERT INTO %s(%s) VALUES", sqlSegmentBuilder.getQualifiedTableName(schemaName, dataRecord.getTableName()), columnsLiteral);
+    }
+    
+    private String buildInsertValuesClause(final DataRecord dataRecord) {
+        return dataRecord.getColumns().stream().map(each -> "?").collect(Collectors.joining(",", "(", ")"));
+    }
+    
+    /**
+     * Build multi-row insert SQL.
+     *
+     * @param schemaName schema name
+     * @param dataRecord data record
+     * @param rowCount row count
+     * @return multi-row insert SQL
+     */
+    public String buildInsertSQL(final String schemaName, final DataRecord dataRecord, final int rowCount) {
+        if (rowCount <= 1) {
+            return buildInsertSQL(schemaName, dataRecord);
+        }
+        String valuesClause = buildInsertValuesClause(dataRecord);
+        StringBuilder result = new StringBuilder(buildInsertPrefixClause(schemaName, dataRecord));
+        for (int i = 0; i < rowCount; i++) {
+            if (i > 0) {
+                result.append(',');
+            }
+            result.append(valuesClause);
+        }
+        dialectSQLBuilder.buildInsertOnDuplicateClause(dataRecord).ifPresent(optional -> result.append(' ').append(optional));
+        return result.toString();
+    }
+    
+    /**
+     * Build qualified table name.
+     *
+     * @param schemaName schema name
+     * @param dataRecord data record
+     * @return qualified table name
+     */
+    public String buildQualifiedTableName(final String schemaName, final DataRecord dataRecord) {
+        return sqlSegmentBuilder.getQualifiedTableName(schemaName, dataRecord.getTableName());
+    }
+    
+    /**
+     * Build escaped column names.
+     *
+     * @param dataRecord data record
+     * @return escaped column names
+     */
+    public List<String> buildEscapedColumnNames(final DataRecord dataRecord) {
+        return dataRecord.getColumns().stream().map(each -> sqlSegmentBuilder.getEscapedIdentifier(each.getName())).collect(Collectors.toList());
     }
     
     /**
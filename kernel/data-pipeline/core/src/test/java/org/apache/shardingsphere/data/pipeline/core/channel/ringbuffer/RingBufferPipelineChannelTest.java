@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.channel.ringbuffer;
+
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannelAckCallback;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.finished.IngestFinishedPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.PlaceholderRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.task.InventoryTaskAckCallback;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class RingBufferPipelineChannelTest {
+    
+    @Test
+    void assertFetchWithZeroTimeout() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, 1024L, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> records = createRecords(1);
+        channel.push(records);
+        assertThat(channel.fetch(10, 0L), is(records));
+    }
+    
+    @Test
+    void assertFetchDrainsBatchesUntilBatchSize() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, 1024L, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> firstRecords = createRecords(2);
+        List<Record> secondRecords = createRecords(2);
+        List<Record> thirdRecords = createRecords(2);
+        channel.push(firstRecords);
+        channel.push(secondRecords);
+        channel.push(thirdRecords);
+        List<Record> expected = new ArrayList<>(firstRecords);
+        expected.addAll(secondRecords);
+        assertThat(channel.fetch(3, 100L), is(expected));
+        assertThat(channel.fetch(3, 0L), is(thirdRecords));
+    }
+    
+    @Test
+    void assertFetchWaitsForPushedRecords() throws InterruptedException {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, 1024L, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> records = createRecords(1);
+        Thread thread = new Thread(() -> channel.push(records));
+        thread.start();
+        assertThat(channel.fetch(1, 5000L), is(records));
+        thread.join();
+    }
+    
+    @Test
+    void assertPushBlocksWhenCapacityBytesExceeded() throws InterruptedException {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, 64L, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> firstRecords = createRecords(1);
+        List<Record> secondRecords = createRecords(1);
+        channel.push(firstRecords);
+        CountDownLatch pushed = new CountDownLatch(1);
+        Thread thread = new Thread(() -> {
+            channel.push(secondRecords);
+            pushed.countDown();
+        });
+        thread.start();
+        assertFalse(pushed.await(100L, TimeUnit.MILLISECONDS));
+        assertThat(channel.poll(), is(firstRecords));
+        assertTrue(pushed.await(5L, TimeUnit.SECONDS));
+        assertThat(channel.poll(), is(secondRecords));
+    }
+    
+    @Test
+    void assertPeekAndPollWithRecords() {
+        RingBufferPipelineChannel channel = new RingBufferPipelineChannel(4, 1024L, new InventoryTaskAckCallback(new AtomicReference<>()));
+        List<Record> records = createRecords(1);
+        channel.push(records);
+        assertThat(channel.peek(), is(records));
+        assertThat(channel.poll(), is(records));
+        assertThat(channel.peek(), is(Collections.emptyList()));
+    }
+    
+    @Test
+    void assertPollWithoutRecords() {
+        assertThat(new RingBufferPipelineChannel(4, 1024L, new InventoryTaskAckCallback(new AtomicReference<>())).poll(), is(Collections.emptyList()));
+    }
+    
+    @Test
+    void assertAck() {
+        PipelineChannelAckCallback callback = mock(PipelineChannelAckCallback.class);
+        List<Record> records = createRecords(1);
+        new RingBufferPipelineChannel(4, 1024L, callback).ack(records);
+        verify(callback).onAck(records);
+    }
+    
+    private List<Record> createRecords(final int count) {
+        Record[] result = new Record[count];
+        for (int i = 0; i < count; i++) {
+            result[i] = new PlaceholderRecord(new IngestFinishedPosition());
+        }
+        return Arrays.asList(result);
+    }
+}
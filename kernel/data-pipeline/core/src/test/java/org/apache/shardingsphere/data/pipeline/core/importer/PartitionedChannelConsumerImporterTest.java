@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.core.importer;
+
+import org.apache.shardingsphere.data.pipeline.core.channel.PipelineChannel;
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.exception.job.PipelineImporterJobWriteException;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.FinishedRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.NormalColumn;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.Record;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobProgressListener;
+import org.apache.shardingsphere.data.pipeline.core.job.progress.listener.PipelineJobUpdateProgress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PartitionedChannelConsumerImporterTest {
+    
+    @Mock
+    private PipelineChannel channel;
+    
+    @Mock
+    private PipelineSink firstSink;
+    
+    @Mock
+    private PipelineSink secondSink;
+    
+    @Mock
+    private PipelineJobProgressListener jobProgressListener;
+    
+    private PartitionedChannelConsumerImporter importer;
+    
+    @BeforeEach
+    void setUp() {
+        importer = new PartitionedChannelConsumerImporter(channel, 100, 10L, Arrays.asList(firstSink, secondSink), jobProgressListener);
+        when(firstSink.write(any(), any())).thenAnswer(invocation -> new PipelineJobUpdateProgress(((Collection<?>) invocation.getArgument(1)).size()));
+        when(secondSink.write(any(), any())).thenAnswer(invocation -> new PipelineJobUpdateProgress(((Collection<?>) invocation.getArgument(1)).size()));
+    }
+    
+    @Test
+    void assertWriteByUniqueKeyPartitions() {
+        List<Record> records = new ArrayList<>(9);
+        for (int i = 0; i < 4; i++) {
+            records.add(createDataRecord(PipelineSQLOperationType.INSERT, i, i));
+            records.add(createDataRecord(PipelineSQLOperationType.UPDATE, i, i));
+        }
+        records.add(new FinishedRecord(new IngestPlaceholderPosition()));
+        when(channel.fetch(anyInt(), anyLong())).thenReturn(records);
+        importer.run();
+        List<Record> firstRecords = captureWrittenRecords(firstSink);
+        List<Record> secondRecords = captureWrittenRecords(secondSink);
+        assertThat(firstRecords.size() + secondRecords.size(), is(8));
+        assertKeysNotShared(firstRecords, secondRecords);
+        verify(channel).ack(records);
+        ArgumentCaptor<PipelineJobUpdateProgress> progressCaptor = ArgumentCaptor.forClass(PipelineJobUpdateProgress.class);
+        verify(jobProgressListener).onProgressUpdated(progressCaptor.capture());
+        assertThat(progressCaptor.getValue().getProcessedRecordsCount(), is(8));
+    }
+    
+    @Test
+    void assertWriteWithoutPartitionWhenUniqueKeyChanged() {
+        List<Record> records = Arrays.asList(createDataRecord(PipelineSQLOperationType.INSERT, 1, 1), createDataRecord(PipelineSQLOperationType.UPDATE, 1, 2),
+                new FinishedRecord(new IngestPlaceholderPosition()));
+        when(channel.fetch(anyInt(), anyLong())).thenReturn(records);
+        importer.run();
+        verify(firstSink).write("", records);
+        verify(secondSink, never()).write(any(), any());
+        verify(channel).ack(records);
+    }
+    
+    @Test
+    void assertWriteFailedWithoutAck() {
+        List<Record> records = new ArrayList<>(4);
+        for (int i = 0; i < 4; i++) {
+            records.add(createDataRecord(PipelineSQLOperationType.INSERT, i, i));
+        }
+        when(channel.fetch(anyInt(), anyLong())).thenReturn(records);
+        doThrow(new PipelineImporterJobWriteException(new SQLException(""))).when(secondSink).write(any(), any());
+        assertThrows(PipelineImporterJobWriteException.class, () -> importer.run());
+        verify(channel, never()).ack(any());
+    }
+    
+    @Test
+    void assertStop() {
+        importer.stop();
+        importer.run();
+        verify(channel, never()).fetch(anyInt(), anyLong());
+    }
+    
+    @SuppressWarnings("unchecked")
+    private List<Record> captureWrittenRecords(final PipelineSink sink) {
+        ArgumentCaptor<Collection<Record>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(sink).write(any(), captor.capture());
+        return new ArrayList<>(captor.getValue());
+    }
+    
+    private void assertKeysNotShared(final List<Record> firstRecords, final List<Record> secondRecords) {
+        List<Object> firstKeys = firstRecords.stream().map(each -> ((DataRecord) each).getKey()).collect(Collectors.toList());
+        for (Record each : secondRecords) {
+            assertThat(firstKeys.contains(((DataRecord) each).getKey()), is(false));
+        }
+    }
+    
+    private DataRecord createDataRecord(final PipelineSQLOperationType type, final int oldId, final int id) {
+        DataRecord result = new DataRecord(type, "t_order", new IngestPlaceholderPosition(), 2);
+        result.addColumn(new NormalColumn("id", PipelineSQLOperationType.INSERT == type ? null : oldId, id, true, true));
+        result.addColumn(new NormalColumn("name", "foo", true, false));
+        return result;
+    }
+}
@@ -39,6 +39,20 @@ class RecordUtilsTest {
         assertThat(Arrays.asList("sc", "id", "c1"), hasItems(actual.iterator().next().getName()));
     }
     
+    @Test
+    void assertEstimateSize() {
+        DataRecord dataRecord = new DataRecord(PipelineSQLOperationType.INSERT, "t1", new IngestPlaceholderPosition(), 3);
+        dataRecord.addColumn(new NormalColumn("id", 1, true, true));
+        dataRecord.addColumn(new NormalColumn("name", "foo", true, false));
+        dataRecord.addColumn(new NormalColumn("data", null, new byte[10], true, false));
+        assertThat(RecordUtils.estimateSize(dataRecord), is(64L + 32L + 16L + 32L + 22L + 32L + 26L));
+    }
+    
+    @Test
+    void assertEstimateSizeWithPlaceholderRecord() {
+        assertThat(RecordUtils.estimateSize(new PlaceholderRecord(new IngestPlaceholderPosition())), is(64L));
+    }
+    
     private DataRecord mockDataRecord() {
         DataRecord result = new DataRecord(PipelineSQLOperationType.INSERT, "t2", new IngestPlaceholderPosition(), 4);
         result.addColumn(new NormalColumn("id", "", false, true));
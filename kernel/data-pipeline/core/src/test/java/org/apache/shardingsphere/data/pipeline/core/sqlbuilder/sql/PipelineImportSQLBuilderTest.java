@@ -27,6 +27,7 @@ import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 
@@ -43,6 +44,17 @@ class PipelineImportSQLBuilderTest {
         assertThat(actual, is("INSERT INTO foo_tbl(id,foo_col,col1,col2,col3) VALUES(?,?,?,?,?)"));
     }
     
+    @Test
+    void assertBuildMultiRowInsertSQL() {
+        String actual = sqlBuilder.buildInsertSQL(null, createDataRecordWithUniqueKey(), 2);
+        assertThat(actual, is("INSERT INTO foo_tbl(id,foo_col,col1,col2,col3) VALUES(?,?,?,?,?),(?,?,?,?,?)"));
+    }
+    
+    @Test
+    void assertBuildEscapedColumnNames() {
+        assertThat(sqlBuilder.buildEscapedColumnNames(createDataRecordWithoutUniqueKey()), is(Arrays.asList("id", "foo_col")));
+    }
+    
     @Test
     void assertBuildUpdateSQLWithUniqueKey() {
         DataRecord dataRecord = createDataRecordWithUniqueKey();
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows;
+
+import org.apache.shardingsphere.data.pipeline.core.exception.PipelineInternalException;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.MySQLBaseBinlogEvent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * MySQL pending rows binlog event, which row images are still being decoded.
+ */
+public final class MySQLPendingRowsBinlogEvent extends MySQLBaseBinlogEvent {
+    
+    private final CompletableFuture<MySQLBaseRowsBinlogEvent> decodeFuture;
+    
+    public MySQLPendingRowsBinlogEvent(final String fileName, final long position, final long timestamp, final CompletableFuture<MySQLBaseRowsBinlogEvent> decodeFuture) {
+        super(fileName, position, timestamp);
+        this.decodeFuture = decodeFuture;
+    }
+    
+    /**
+     * Wait for and get decoded rows event.
+     *
+     * @return decoded rows event
+     * @throws PipelineInternalException if decoding rows event failed
+     */
+    public MySQLBaseRowsBinlogEvent getDecodedEvent() {
+        try {
+            return decodeFuture.join();
+        } catch (final CompletionException ex) {
+            throw new PipelineInternalException(ex.getCause());
+        }
+    }
+}
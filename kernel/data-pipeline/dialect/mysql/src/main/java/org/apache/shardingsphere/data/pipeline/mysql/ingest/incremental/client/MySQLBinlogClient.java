@@ -36,7 +36,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.shardingsphere.data.pipeline.core.exception.PipelineInternalException;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.MySQLBaseBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.PlaceholderBinlogEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLPendingRowsBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.client.netty.MySQLBinlogEventPacketDecoder;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.client.netty.MySQLBinlogRowsEventDecodeExecutor;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.client.netty.MySQLCommandPacketDecoder;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.client.netty.MySQLNegotiateHandler;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.client.netty.MySQLNegotiatePackageDecoder;
@@ -55,6 +57,7 @@ import org.apache.shardingsphere.infra.util.json.JsonEngine;
 import org.apache.shardingsphere.proxy.frontend.netty.ChannelAttrInitializer;
 
 import java.net.InetSocketAddress;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -78,6 +81,8 @@ public final class MySQLBinlogClient {
     
     private final boolean decodeWithTX;
     
+    private final int rowsEventDecodeConcurrency;
+    
     private final ArrayBlockingQueue<List<MySQLBaseBinlogEvent>> blockingEventQueue = new ArrayBlockingQueue<>(2500);
     
     private EventLoopGroup eventLoopGroup;
@@ -88,6 +93,8 @@ public final class MySQLBinlogClient {
     
     private MySQLServerVersion serverVersion;
     
+    private MySQLBinlogRowsEventDecodeExecutor rowsEventDecodeExecutor;
+    
     private volatile boolean running = true;
     
     private volatile boolean ready;
@@ -225,12 +232,19 @@ public final class MySQLBinlogClient {
         channel.pipeline().remove(MySQLCommandPacketDecoder.class);
         channel.pipeline().remove(MySQLCommandResponseHandler.class);
         String tableKey = String.join(":", connectInfo.getHost(), String.valueOf(connectInfo.getPort()));
-        channel.pipeline().addLast(new MySQLBinlogEventPacketDecoder(checksumLength, GlobalTableMapEventMapping.getTableMapEventMap(tableKey), decodeWithTX));
+        channel.pipeline().addLast(new MySQLBinlogEventPacketDecoder(checksumLength, GlobalTableMapEventMapping.getTableMapEventMap(tableKey), decodeWithTX, getRowsEventDecodeExecutor()));
         channel.pipeline().addLast(new MySQLBinlogEventHandler(new PlaceholderBinlogEvent(binlogFileName, binlogPosition, 0L)));
         resetSequenceID();
         channel.writeAndFlush(new MySQLComBinlogDumpCommandPacket((int) binlogPosition, connectInfo.getServerId(), binlogFileName));
     }
     
+    private MySQLBinlogRowsEventDecodeExecutor getRowsEventDecodeExecutor() {
+        if (null == rowsEventDecodeExecutor && rowsEventDecodeConcurrency > 1) {
+            rowsEventDecodeExecutor = new MySQLBinlogRowsEventDecodeExecutor(rowsEventDecodeConcurrency);
+        }
+        return rowsEventDecodeExecutor;
+    }
+    
     private void resetSequenceID() {
         channel.attr(MySQLConstants.SEQUENCE_ID_ATTRIBUTE_KEY).get().set(0);
     }
@@ -240,6 +254,7 @@ public final class MySQLBinlogClient {
      *
      * @return binlog event
      * @throws RuntimeException if MySQL binlog client is not running
+     * @throws PipelineInternalException if decoding rows event failed
      */
     public synchronized List<MySQLBaseBinlogEvent> poll() {
         ShardingSpherePreconditions.checkState(running, () -> new RuntimeException("MySQL binlog client is not running"));
@@ -248,13 +263,21 @@ public final class MySQLBinlogClient {
         }
         try {
             List<MySQLBaseBinlogEvent> result = blockingEventQueue.poll(100L, TimeUnit.MILLISECONDS);
-            return null == result ? Collections.emptyList() : result;
+            return null == result ? Collections.emptyList() : awaitDecodedEvents(result);
         } catch (final InterruptedException ignored) {
             Thread.currentThread().interrupt();
             return Collections.emptyList();
         }
     }
     
+    private List<MySQLBaseBinlogEvent> awaitDecodedEvents(final List<MySQLBaseBinlogEvent> events) {
+        List<MySQLBaseBinlogEvent> result = new ArrayList<>(events.size());
+        for (MySQLBaseBinlogEvent each : events) {
+            result.add(each instanceof MySQLPendingRowsBinlogEvent ? ((MySQLPendingRowsBinlogEvent) each).getDecodedEvent() : each);
+        }
+        return result;
+    }
+    
     @SuppressWarnings("unchecked")
     private <T> Optional<T> waitExpectedResponse(final Class<T> type) {
         try {
@@ -287,6 +310,9 @@ public final class MySQLBinlogClient {
         ready = false;
         if (terminate) {
             running = false;
+            if (null != rowsEventDecodeExecutor) {
+                rowsEventDecodeExecutor.close();
+            }
         }
         if (null == channel || !channel.isOpen()) {
             return Optional.empty();
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.client.
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.ByteToMessageDecoder;
 import lombok.extern.slf4j.Slf4j;
@@ -27,7 +28,9 @@ import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.M
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.MySQLBaseBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.PlaceholderBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.query.MySQLQueryBinlogEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLBaseRowsBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLDeleteRowsBinlogEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLPendingRowsBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLUpdateRowsBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLWriteRowsBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.transaction.MySQLXidBinlogEvent;
@@ -44,6 +47,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * MySQL binlog event packet decoder.
@@ -57,10 +61,18 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
     
     private final boolean decodeWithTX;
     
+    private final MySQLBinlogRowsEventDecodeExecutor rowsEventDecodeExecutor;
+    
     private List<MySQLBaseBinlogEvent> records = new LinkedList<>();
     
     public MySQLBinlogEventPacketDecoder(final int checksumLength, final Map<Long, MySQLBinlogTableMapEventPacket> tableMap, final boolean decodeWithTX) {
+        this(checksumLength, tableMap, decodeWithTX, null);
+    }
+    
+    public MySQLBinlogEventPacketDecoder(final int checksumLength, final Map<Long, MySQLBinlogTableMapEventPacket> tableMap, final boolean decodeWithTX,
+                                         final MySQLBinlogRowsEventDecodeExecutor rowsEventDecodeExecutor) {
         this.decodeWithTX = decodeWithTX;
+        this.rowsEventDecodeExecutor = rowsEventDecodeExecutor;
         binlogContext = new MySQLBinlogContext(checksumLength, tableMap);
     }
     
@@ -158,13 +170,11 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
                 return Optional.empty();
             case WRITE_ROWS_EVENT_V1:
             case WRITE_ROWS_EVENT_V2:
-                return Optional.of(decodeWriteRowsEventV2(binlogEventHeader, payload));
             case UPDATE_ROWS_EVENT_V1:
             case UPDATE_ROWS_EVENT_V2:
-                return Optional.of(decodeUpdateRowsEventV2(binlogEventHeader, payload));
             case DELETE_ROWS_EVENT_V1:
             case DELETE_ROWS_EVENT_V2:
-                return Optional.of(decodeDeleteRowsEventV2(binlogEventHeader, payload));
+                return Optional.of(decodeRowsEvent(binlogEventHeader, payload));
             case QUERY_EVENT:
                 return Optional.of(decodeQueryEvent(binlogEventHeader, payload));
             case XID_EVENT:
@@ -195,28 +205,48 @@ public final class MySQLBinlogEventPacketDecoder extends ByteToMessageDecoder {
         binlogContext.putTableMapEvent(new MySQLBinlogTableMapEventPacket(binlogEventHeader, payload));
     }
     
-    private MySQLWriteRowsBinlogEvent decodeWriteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
+    private MySQLBaseBinlogEvent decodeRowsEvent(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
         MySQLBinlogRowsEventPacket packet = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
         MySQLBinlogTableMapEventPacket tableMapEventPacket = binlogContext.getTableMapEvent(packet.getTableId());
-        packet.readRows(tableMapEventPacket, payload);
-        return new MySQLWriteRowsBinlogEvent(binlogContext.getFileName(),
-                binlogEventHeader.getLogPos(), binlogEventHeader.getTimestamp(), tableMapEventPacket.getSchemaName(), tableMapEventPacket.getTableName(), packet.getRows());
+        String fileName = binlogContext.getFileName();
+        if (null == rowsEventDecodeExecutor) {
+            packet.readRows(tableMapEventPacket, payload);
+            return createRowsEvent(fileName, binlogEventHeader, tableMapEventPacket, packet);
+        }
+        MySQLPacketPayload rowsPayload = copyRowsPayload(binlogEventHeader, payload);
+        CompletableFuture<MySQLBaseRowsBinlogEvent> decodeFuture = rowsEventDecodeExecutor.submit(packet.getTableId(), () -> {
+            packet.readRows(tableMapEventPacket, rowsPayload);
+            return createRowsEvent(fileName, binlogEventHeader, tableMapEventPacket, packet);
+        });
+        return new MySQLPendingRowsBinlogEvent(fileName, binlogEventHeader.getLogPos(), binlogEventHeader.getTimestamp(), decodeFuture);
     }
     
-    private MySQLUpdateRowsBinlogEvent decodeUpdateRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
-        MySQLBinlogRowsEventPacket packet = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        MySQLBinlogTableMapEventPacket tableMapEventPacket = binlogContext.getTableMapEvent(packet.getTableId());
-        packet.readRows(tableMapEventPacket, payload);
-        return new MySQLUpdateRowsBinlogEvent(binlogContext.getFileName(),
-                binlogEventHeader.getLogPos(), binlogEventHeader.getTimestamp(), tableMapEventPacket.getSchemaName(), tableMapEventPacket.getTableName(), packet.getRows(), packet.getRows2());
+    private MySQLPacketPayload copyRowsPayload(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
+        ByteBuf in = payload.getByteBuf();
+        // keep the reader index of the row images, the remaining bytes of rows event are computed from it
+        int readerIndex = in.readerIndex();
+        int rowsEndIndex = binlogEventHeader.getEventSize() + 1 - binlogEventHeader.getChecksumLength();
+        ByteBuf rows = Unpooled.buffer(rowsEndIndex).writerIndex(readerIndex);
+        rows.writeBytes(in, readerIndex, rowsEndIndex - readerIndex).readerIndex(readerIndex);
+        in.readerIndex(rowsEndIndex);
+        return new MySQLPacketPayload(rows, payload.getCharset());
     }
     
-    private MySQLDeleteRowsBinlogEvent decodeDeleteRowsEventV2(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
-        MySQLBinlogRowsEventPacket packet = new MySQLBinlogRowsEventPacket(binlogEventHeader, payload);
-        MySQLBinlogTableMapEventPacket tableMapEventPacket = binlogContext.getTableMapEvent(packet.getTableId());
-        packet.readRows(tableMapEventPacket, payload);
-        return new MySQLDeleteRowsBinlogEvent(binlogContext.getFileName(),
-                binlogEventHeader.getLogPos(), binlogEventHeader.getTimestamp(), tableMapEventPacket.getSchemaName(), tableMapEventPacket.getTableName(), packet.getRows());
+    private MySQLBaseRowsBinlogEvent createRowsEvent(final String fileName, final MySQLBinlogEventHeader binlogEventHeader,
+                                                     final MySQLBinlogTableMapEventPacket tableMapEventPacket, final MySQLBinlogRowsEventPacket packet) {
+        switch (MySQLBinlogEventType.valueOf(binlogEventHeader.getEventType()).orElse(MySQLBinlogEventType.UNKNOWN_EVENT)) {
+            case UPDATE_ROWS_EVENT_V1:
+            case UPDATE_ROWS_EVENT_V2:
+                return new MySQLUpdateRowsBinlogEvent(fileName, binlogEventHeader.getLogPos(), binlogEventHeader.getTimestamp(),
+                        tableMapEventPacket.getSchemaName(), tableMapEventPacket.getTableName(), packet.getRows(), packet.getRows2());
+            case DELETE_ROWS_EVENT_V1:
+            case DELETE_ROWS_EVENT_V2:
+                return new MySQLDeleteRowsBinlogEvent(fileName, binlogEventHeader.getLogPos(), binlogEventHeader.getTimestamp(),
+                        tableMapEventPacket.getSchemaName(), tableMapEventPacket.getTableName(), packet.getRows());
+            default:
+                return new MySQLWriteRowsBinlogEvent(fileName, binlogEventHeader.getLogPos(), binlogEventHeader.getTimestamp(),
+                        tableMapEventPacket.getSchemaName(), tableMapEventPacket.getTableName(), packet.getRows());
+        }
     }
     
     private PlaceholderBinlogEvent decodePlaceholderEvent(final MySQLBinlogEventHeader binlogEventHeader, final MySQLPacketPayload payload) {
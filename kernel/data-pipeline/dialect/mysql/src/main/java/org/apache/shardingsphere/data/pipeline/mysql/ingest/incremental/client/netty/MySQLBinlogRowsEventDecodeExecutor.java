@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.client.netty;
+
+import org.apache.shardingsphere.infra.executor.kernel.thread.ExecutorThreadFactoryBuilder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * MySQL binlog rows event decode executor.
+ */
+public final class MySQLBinlogRowsEventDecodeExecutor implements AutoCloseable {
+    
+    private final ExecutorService[] executors;
+    
+    public MySQLBinlogRowsEventDecodeExecutor(final int concurrency) {
+        executors = new ExecutorService[concurrency];
+        for (int i = 0; i < concurrency; i++) {
+            executors[i] = Executors.newSingleThreadExecutor(ExecutorThreadFactoryBuilder.build("pipeline-mysql-binlog-decode-" + i + "-%d"));
+        }
+    }
+    
+    /**
+     * Submit rows event decoding task.
+     *
+     * <p>Tasks of the same table are decoded on the same worker, in submission order.</p>
+     *
+     * @param tableId table id of rows event
+     * @param decodeTask decode task
+     * @param <T> type of decoded event
+     * @return decoded event future
+     */
+    public <T> CompletableFuture<T> submit(final long tableId, final Supplier<T> decodeTask) {
+        return CompletableFuture.supplyAsync(decodeTask, executors[Math.floorMod(Long.hashCode(tableId), executors.length)]);
+    }
+    
+    @Override
+    public void close() {
+        for (ExecutorService each : executors) {
+            each.shutdown();
+        }
+    }
+}
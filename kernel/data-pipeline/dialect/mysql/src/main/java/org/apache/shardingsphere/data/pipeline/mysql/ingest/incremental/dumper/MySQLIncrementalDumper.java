@@ -62,6 +62,8 @@ import java.util.Objects;
 @Slf4j
 public final class MySQLIncrementalDumper extends AbstractPipelineLifecycleRunnable implements IncrementalDumper {
     
+    private static final int ROWS_EVENT_DECODE_CONCURRENCY = Math.min(4, Runtime.getRuntime().availableProcessors() / 2);
+    
     private final IncrementalDumperContext dumperContext;
     
     private final MySQLBinlogPosition binlogPosition;
@@ -85,7 +87,7 @@ public final class MySQLIncrementalDumper extends AbstractPipelineLifecycleRunna
         ConnectInfo connectInfo = new ConnectInfo(
                 generateServerId(), connectionProps.getHostname(), connectionProps.getPort(), pipelineDataSourceConfig.getUsername(), pipelineDataSourceConfig.getPassword());
         log.info("incremental dump, jdbcUrl={}, serverId={}, hostname={}, port={}", pipelineDataSourceConfig.getUrl(), connectInfo.getServerId(), connectInfo.getHost(), connectInfo.getPort());
-        client = new MySQLBinlogClient(connectInfo, dumperContext.isDecodeWithTX());
+        client = new MySQLBinlogClient(connectInfo, dumperContext.isDecodeWithTX(), ROWS_EVENT_DECODE_CONCURRENCY);
         catalog = connectionProps.getCatalog();
     }
     
@@ -35,6 +35,9 @@ import org.apache.shardingsphere.data.pipeline.core.exception.PipelineInternalEx
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.MySQLBinlogContext;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.MySQLBaseBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.PlaceholderBinlogEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLBaseRowsBinlogEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLPendingRowsBinlogEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLWriteRowsBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.client.netty.MySQLBinlogEventPacketDecoder;
 import org.apache.shardingsphere.database.protocol.mysql.constant.MySQLConstants;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.binlog.MySQLComBinlogDumpCommandPacket;
@@ -63,6 +66,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -111,7 +115,7 @@ class MySQLBinlogClientTest {
     
     @BeforeEach
     void setUp() {
-        client = new MySQLBinlogClient(connectInfo, false);
+        client = new MySQLBinlogClient(connectInfo, false, 1);
         when(channel.pipeline()).thenReturn(pipeline);
         when(channel.isOpen()).thenReturn(true);
         when(channel.close()).thenReturn(channelFuture);
@@ -334,6 +338,24 @@ class MySQLBinlogClientTest {
         assertThat(client.poll(), is(Collections.emptyList()));
     }
     
+    @SuppressWarnings("unchecked")
+    @Test
+    void assertPollPendingRowsEvents() throws InterruptedException, ReflectiveOperationException {
+        setRunning(true);
+        setReady(true);
+        MySQLWriteRowsBinlogEvent writeRowsEvent = new MySQLWriteRowsBinlogEvent("binlog", 4L, 1L, "db", "tbl", Collections.emptyList());
+        PlaceholderBinlogEvent placeholderEvent = new PlaceholderBinlogEvent("binlog", 5L, 1L);
+        CompletableFuture<MySQLBaseRowsBinlogEvent> failedFuture = new CompletableFuture<>();
+        failedFuture.completeExceptionally(new IllegalStateException("decode failed"));
+        ArrayBlockingQueue<List<MySQLBaseBinlogEvent>> queue = (ArrayBlockingQueue<List<MySQLBaseBinlogEvent>>) Plugins.getMemberAccessor()
+                .get(MySQLBinlogClient.class.getDeclaredField("blockingEventQueue"), client);
+        queue.put(Arrays.asList(new MySQLPendingRowsBinlogEvent("binlog", 4L, 1L, CompletableFuture.completedFuture(writeRowsEvent)), placeholderEvent));
+        queue.put(Collections.singletonList(new MySQLPendingRowsBinlogEvent("binlog", 6L, 1L, failedFuture)));
+        assertThat(client.poll(), is(Arrays.asList(writeRowsEvent, placeholderEvent)));
+        PipelineInternalException ex = assertThrows(PipelineInternalException.class, () -> client.poll());
+        assertThat(ex.getCause(), isA(IllegalStateException.class));
+    }
+    
     @Test
     void assertCloseChannelWhenChannelUnavailable() {
         assertFalse(client.closeChannel(true).isPresent());
@@ -397,7 +419,7 @@ class MySQLBinlogClientTest {
     }
     
     private MySQLBinlogClient createClientMock() {
-        return mock(MySQLBinlogClient.class, withSettings().useConstructor(connectInfo, false).defaultAnswer(CALLS_REAL_METHODS));
+        return mock(MySQLBinlogClient.class, withSettings().useConstructor(connectInfo, false, 1).defaultAnswer(CALLS_REAL_METHODS));
     }
     
     @SneakyThrows(ReflectiveOperationException.class)
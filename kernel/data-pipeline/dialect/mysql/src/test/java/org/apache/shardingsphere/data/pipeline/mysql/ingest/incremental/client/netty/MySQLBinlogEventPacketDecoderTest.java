@@ -28,8 +28,11 @@ import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.M
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.MySQLBaseBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.PlaceholderBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.query.MySQLQueryBinlogEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLBaseRowsBinlogEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLPendingRowsBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLUpdateRowsBinlogEvent;
 import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.rows.MySQLWriteRowsBinlogEvent;
+import org.apache.shardingsphere.data.pipeline.mysql.ingest.incremental.binlog.event.transaction.MySQLXidBinlogEvent;
 import org.apache.shardingsphere.database.protocol.constant.CommonConstants;
 import org.apache.shardingsphere.database.protocol.mysql.constant.MySQLBinaryColumnType;
 import org.apache.shardingsphere.database.protocol.mysql.constant.MySQLBinlogEventType;
@@ -47,6 +50,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.io.Serializable;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
@@ -170,6 +174,28 @@ class MySQLBinlogEventPacketDecoderTest {
         assertThat(actual.getAfterRows().get(0), is(new Serializable[]{1L, 1, new MySQLBinaryString("SUCCESS".getBytes()), null}));
     }
     
+    @Test
+    void assertDecodeWriteRowEventWithDecodeExecutor() {
+        ByteBuf byteBuf = ByteBufAllocator.DEFAULT.buffer();
+        byteBuf.writeBytes(StringUtil.decodeHexDump("007a36a9621e0100000038000000bb7c000000007b00000000000100020004ff08010000000000000001000000075355434345535365eff9ff"));
+        byteBuf.writeBytes(StringUtil.decodeHexDump("006acb656410010000001f000000fa29000000001643000000000000b13f8340"));
+        when(tableMapEventPacket.getColumnDefs()).thenReturn(columnDefs);
+        try (MySQLBinlogRowsEventDecodeExecutor decodeExecutor = new MySQLBinlogRowsEventDecodeExecutor(2)) {
+            MySQLBinlogEventPacketDecoder decoder = new MySQLBinlogEventPacketDecoder(4, new ConcurrentHashMap<>(Collections.singletonMap(123L, tableMapEventPacket)), true, decodeExecutor);
+            List<Object> decodedEvents = new LinkedList<>();
+            decoder.decode(channelHandlerContext, byteBuf, decodedEvents);
+            assertThat(decodedEvents.size(), is(1));
+            LinkedList<?> actualEventList = (LinkedList<?>) decodedEvents.get(0);
+            assertThat(actualEventList.size(), is(2));
+            assertThat(actualEventList.get(0), isA(MySQLPendingRowsBinlogEvent.class));
+            assertThat(((MySQLPendingRowsBinlogEvent) actualEventList.get(0)).getPosition(), is(31931L));
+            MySQLBaseRowsBinlogEvent actual = ((MySQLPendingRowsBinlogEvent) actualEventList.get(0)).getDecodedEvent();
+            assertThat(actual, isA(MySQLWriteRowsBinlogEvent.class));
+            assertThat(((MySQLWriteRowsBinlogEvent) actual).getAfterRows().get(0), is(new Serializable[]{1L, 1, new MySQLBinaryString("SUCCESS".getBytes()), null}));
+            assertThat(actualEventList.get(1), isA(MySQLXidBinlogEvent.class));
+        }
+    }
+    
     @Test
     void assertDecodeUpdateRowEvent() {
         ByteBuf byteBuf = ByteBufAllocator.DEFAULT.buffer();
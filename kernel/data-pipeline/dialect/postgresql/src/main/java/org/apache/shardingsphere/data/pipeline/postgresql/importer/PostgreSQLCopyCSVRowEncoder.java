@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.importer;
+
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.postgresql.util.PGobject;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * COPY CSV row encoder for PostgreSQL.
+ */
+public final class PostgreSQLCopyCSVRowEncoder {
+    
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    
+    private final StringBuilder buffer = new StringBuilder(256);
+    
+    /**
+     * Build COPY SQL.
+     *
+     * @param qualifiedTableName qualified table name
+     * @param escapedColumnNames escaped column names
+     * @return COPY SQL
+     */
+    public static String buildCopySQL(final String qualifiedTableName, final List<String> escapedColumnNames) {
+        return String.format("COPY %s(%s) FROM STDIN WITH (FORMAT 'csv')", qualifiedTableName, String.join(",", escapedColumnNames));
+    }
+    
+    /**
+     * Encode data record to CSV row.
+     *
+     * @param dataRecord data record
+     * @return encoded CSV row
+     * @throws SQLException SQL exception
+     */
+    public byte[] encode(final DataRecord dataRecord) throws SQLException {
+        buffer.setLength(0);
+        for (int i = 0; i < dataRecord.getColumnCount(); i++) {
+            if (i > 0) {
+                buffer.append(',');
+            }
+            appendValue(dataRecord.getColumn(i).getValue());
+        }
+        buffer.append('\n');
+        return buffer.toString().getBytes(StandardCharsets.UTF_8);
+    }
+    
+    private void appendValue(final Object value) throws SQLException {
+        if (value instanceof byte[]) {
+            appendHexBytes((byte[]) value);
+            return;
+        }
+        String text = toText(value);
+        if (null == text) {
+            return;
+        }
+        buffer.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char each = text.charAt(i);
+            if ('"' == each) {
+                buffer.append('"');
+            }
+            buffer.append(each);
+        }
+        buffer.append('"');
+    }
+    
+    private String toText(final Object value) throws SQLException {
+        if (null == value) {
+            return null;
+        }
+        if (value instanceof Timestamp) {
+            // Keep the JVM offset as the JDBC driver does, timestamp without time zone ignores it
+            Timestamp timestamp = (Timestamp) value;
+            return timestamp + ZoneId.systemDefault().getRules().getOffset(timestamp.toLocalDateTime()).getId();
+        }
+        if (value instanceof Time) {
+            // Time.toString drops the milliseconds
+            return String.format("%s.%03d", value, Math.floorMod(((Time) value).getTime(), 1000L));
+        }
+        if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).toPlainString();
+        }
+        if (value instanceof PGobject) {
+            return ((PGobject) value).getValue();
+        }
+        if (value instanceof SQLXML) {
+            return ((SQLXML) value).getString();
+        }
+        return value.toString();
+    }
+    
+    private void appendHexBytes(final byte[] value) {
+        buffer.append("\\x");
+        for (byte each : value) {
+            buffer.append(HEX_DIGITS[(each >> 4) & 0x0F]).append(HEX_DIGITS[each & 0x0F]);
+        }
+    }
+}
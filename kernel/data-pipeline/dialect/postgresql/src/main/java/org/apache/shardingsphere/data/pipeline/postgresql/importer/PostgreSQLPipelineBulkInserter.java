@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.importer;
+
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.type.DialectPipelineBulkInserter;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Pipeline bulk inserter for PostgreSQL, which streams records with COPY FROM STDIN.
+ */
+public final class PostgreSQLPipelineBulkInserter implements DialectPipelineBulkInserter {
+    
+    @Override
+    public long bulkInsert(final Connection connection, final String qualifiedTableName, final List<String> escapedColumnNames, final Collection<DataRecord> dataRecords) throws SQLException {
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(PostgreSQLCopyCSVRowEncoder.buildCopySQL(qualifiedTableName, escapedColumnNames));
+        try {
+            PostgreSQLCopyCSVRowEncoder encoder = new PostgreSQLCopyCSVRowEncoder();
+            for (DataRecord each : dataRecords) {
+                byte[] row = encoder.encode(each);
+                copyIn.writeToCopy(row, 0, row.length);
+            }
+            return copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+    
+    @Override
+    public String getDatabaseType() {
+        return "PostgreSQL";
+    }
+}
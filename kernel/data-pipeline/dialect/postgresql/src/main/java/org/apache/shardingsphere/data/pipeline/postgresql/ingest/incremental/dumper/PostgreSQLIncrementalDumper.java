@@ -32,6 +32,7 @@ import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.WALEventConverter;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.WALPosition;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.decode.DecodingPlugin;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.decode.PgOutputDecodingPlugin;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.decode.PostgreSQLLogSequenceNumber;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.decode.PostgreSQLTimestampUtils;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.decode.TestDecodingPlugin;
@@ -106,28 +107,35 @@ public final class PostgreSQLIncrementalDumper extends AbstractPipelineLifecycle
         }
     }
     
-    @SneakyThrows(InterruptedException.class)
     private void dump() throws SQLException {
-        try (
-                Connection connection = logicalReplication.createConnection((StandardPipelineDataSourceConfiguration) dumperContext.getCommonContext().getDataSourceConfig());
-                PGReplicationStream stream = logicalReplication.createReplicationStream(
-                        connection, PostgreSQLSlotNameGenerator.getUniqueSlotName(connection, dumperContext.getJobId()), walPosition.get().getLogSequenceNumber())) {
-            PostgreSQLTimestampUtils utils = new PostgreSQLTimestampUtils(connection.unwrap(PgConnection.class).getTimestampUtils());
-            DecodingPlugin decodingPlugin = new TestDecodingPlugin(utils);
-            while (isRunning()) {
-                ByteBuffer message = stream.readPending();
-                if (null == message) {
-                    Thread.sleep(10L);
-                    continue;
-                }
-                AbstractWALEvent event = decodingPlugin.decode(message, new PostgreSQLLogSequenceNumber(stream.getLastReceiveLSN()));
-                if (decodeWithTX) {
-                    processEventWithTX(event);
-                } else {
-                    processEventIgnoreTX(event);
-                }
-                walPosition.set(new WALPosition(event.getLogSequenceNumber()));
+        try (Connection connection = logicalReplication.createConnection((StandardPipelineDataSourceConfiguration) dumperContext.getCommonContext().getDataSourceConfig())) {
+            String slotName = PostgreSQLSlotNameGenerator.getUniqueSlotName(connection, dumperContext.getJobId());
+            boolean pgOutput = logicalReplication.isPgOutputSlot(connection, slotName);
+            try (
+                    PGReplicationStream stream = pgOutput
+                            ? logicalReplication.createPgOutputReplicationStream(connection, slotName, walPosition.get().getLogSequenceNumber())
+                            : logicalReplication.createReplicationStream(connection, slotName, walPosition.get().getLogSequenceNumber())) {
+                PostgreSQLTimestampUtils utils = new PostgreSQLTimestampUtils(connection.unwrap(PgConnection.class).getTimestampUtils());
+                dump(stream, pgOutput ? new PgOutputDecodingPlugin(utils) : new TestDecodingPlugin(utils));
+            }
+        }
+    }
+    
+    @SneakyThrows(InterruptedException.class)
+    private void dump(final PGReplicationStream stream, final DecodingPlugin decodingPlugin) throws SQLException {
+        while (isRunning()) {
+            ByteBuffer message = stream.readPending();
+            if (null == message) {
+                Thread.sleep(10L);
+                continue;
+            }
+            AbstractWALEvent event = decodingPlugin.decode(message, new PostgreSQLLogSequenceNumber(stream.getLastReceiveLSN()));
+            if (decodeWithTX) {
+                processEventWithTX(event);
+            } else {
+                processEventIgnoreTX(event);
             }
+            walPosition.set(new WALPosition(event.getLogSequenceNumber()));
         }
     }
     
@@ -19,6 +19,7 @@ package org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wa
 
 import org.apache.shardingsphere.data.pipeline.api.type.StandardPipelineDataSourceConfiguration;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.decode.BaseLogSequenceNumber;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.decode.PgOutputDecodingPlugin;
 import org.postgresql.PGConnection;
 import org.postgresql.PGProperty;
 import org.postgresql.replication.LogSequenceNumber;
@@ -26,6 +27,8 @@ import org.postgresql.replication.PGReplicationStream;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.Properties;
 
@@ -70,4 +73,44 @@ public final class PostgreSQLLogicalReplication {
                 .withSlotOption("skip-empty-xacts", true)
                 .start();
     }
+    
+    /**
+     * Judge whether replication slot is decoded by pgoutput plugin.
+     *
+     * @param connection connection
+     * @param slotName slot name
+     * @return is decoded by pgoutput plugin or not
+     * @throws SQLException SQL exception
+     */
+    public boolean isPgOutputSlot(final Connection connection, final String slotName) throws SQLException {
+        if (connection.getMetaData().getDatabaseMajorVersion() < 10) {
+            return false;
+        }
+        try (PreparedStatement preparedStatement = connection.prepareStatement("SELECT plugin FROM pg_replication_slots WHERE slot_name=?")) {
+            preparedStatement.setString(1, slotName);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next() && PgOutputDecodingPlugin.PLUGIN_NAME.equals(resultSet.getString(1));
+            }
+        }
+    }
+    
+    /**
+     * Create PostgreSQL replication stream decoded by pgoutput plugin.
+     *
+     * @param connection connection
+     * @param slotName slot name
+     * @param startPosition start position
+     * @return replication stream
+     * @throws SQLException SQL exception
+     */
+    public PGReplicationStream createPgOutputReplicationStream(final Connection connection, final String slotName, final BaseLogSequenceNumber startPosition) throws SQLException {
+        return connection.unwrap(PGConnection.class).getReplicationAPI()
+                .replicationStream()
+                .logical()
+                .withStartPosition((LogSequenceNumber) startPosition.get())
+                .withSlotName(slotName)
+                .withSlotOption("proto_version", "1")
+                .withSlotOption("publication_names", PgOutputDecodingPlugin.PUBLICATION_NAME)
+                .start();
+    }
 }
@@ -109,8 +109,17 @@ public final class WALEventConverter {
         DataRecord result = createDataRecord(PipelineSQLOperationType.DELETE, event, event.getPrimaryKeys().size());
         // TODO Unique key may be a column within unique index
         List<String> primaryKeyColumns = tableMetaData.getPrimaryKeyColumns();
-        for (int i = 0; i < event.getPrimaryKeys().size(); i++) {
-            result.addColumn(new NormalColumn(primaryKeyColumns.get(i), event.getPrimaryKeys().get(i), null, true, true));
+        if (null == event.getKeyColumnNames()) {
+            for (int i = 0; i < event.getPrimaryKeys().size(); i++) {
+                result.addColumn(new NormalColumn(primaryKeyColumns.get(i), event.getPrimaryKeys().get(i), null, true, true));
+            }
+            return result;
+        }
+        for (String each : primaryKeyColumns) {
+            int index = event.getKeyColumnNames().indexOf(each);
+            if (index >= 0) {
+                result.addColumn(new NormalColumn(each, event.getPrimaryKeys().get(index), null, true, true));
+            }
         }
         return result;
     }
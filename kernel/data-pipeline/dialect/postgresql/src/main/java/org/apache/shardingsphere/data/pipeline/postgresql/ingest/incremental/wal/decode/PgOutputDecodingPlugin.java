@@ -0,0 +1,312 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.decode;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.codec.DecoderException;
+import org.apache.commons.codec.binary.Hex;
+import org.apache.shardingsphere.data.pipeline.core.exception.IngestException;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.event.AbstractRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.event.AbstractWALEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.event.BeginTXEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.event.CommitTXEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.event.WriteRowEvent;
+import org.apache.shardingsphere.infra.annotation.HighFrequencyInvocation;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decoding plugin for the built-in pgoutput logical replication protocol.
+ *
+ * <p>
+ * Tuple values are decoded from text format, in the same way as test_decoding plugin.
+ * Relation messages are cached by relation ID, since pgoutput only sends them before the first change of a relation and after its definition changed.
+ * </p>
+ */
+@HighFrequencyInvocation
+@RequiredArgsConstructor
+public final class PgOutputDecodingPlugin implements DecodingPlugin {
+    
+    /**
+     * Name of pgoutput plugin.
+     */
+    public static final String PLUGIN_NAME = "pgoutput";
+    
+    /**
+     * Name of the publication which pgoutput plugin subscribes.
+     */
+    public static final String PUBLICATION_NAME = "shardingsphere_pipeline";
+    
+    private static final int BOOL_OID = 16;
+    
+    private static final int BYTEA_OID = 17;
+    
+    private static final int INT8_OID = 20;
+    
+    private static final int INT2_OID = 21;
+    
+    private static final int INT4_OID = 23;
+    
+    private static final int FLOAT4_OID = 700;
+    
+    private static final int FLOAT8_OID = 701;
+    
+    private static final int DATE_OID = 1082;
+    
+    private static final int TIME_OID = 1083;
+    
+    private static final int TIMESTAMP_OID = 1114;
+    
+    private static final int NUMERIC_OID = 1700;
+    
+    private final BaseTimestampUtils timestampUtils;
+    
+    private final Map<Integer, Relation> relations = new HashMap<>();
+    
+    private long currentXid;
+    
+    @Override
+    public AbstractWALEvent decode(final ByteBuffer data, final BaseLogSequenceNumber logSequenceNumber) {
+        AbstractWALEvent result;
+        char messageType = (char) data.get();
+        switch (messageType) {
+            case 'B':
+                result = readBeginEvent(data);
+                break;
+            case 'C':
+                result = new CommitTXEvent(currentXid, null);
+                break;
+            case 'R':
+                readRelation(data);
+                result = new PlaceholderEvent();
+                break;
+            case 'I':
+                result = readWriteRowEvent(data);
+                break;
+            case 'U':
+                result = readUpdateRowEvent(data);
+                break;
+            case 'D':
+                result = readDeleteRowEvent(data);
+                break;
+            default:
+                result = new PlaceholderEvent();
+                break;
+        }
+        result.setLogSequenceNumber(logSequenceNumber);
+        return result;
+    }
+    
+    private BeginTXEvent readBeginEvent(final ByteBuffer data) {
+        data.getLong();
+        data.getLong();
+        currentXid = Integer.toUnsignedLong(data.getInt());
+        return new BeginTXEvent(currentXid, null);
+    }
+    
+    private void readRelation(final ByteBuffer data) {
+        int relationId = data.getInt();
+        String schemaName = readString(data);
+        String tableName = readString(data);
+        data.get();
+        int columnCount = data.getShort();
+        List<RelationColumn> columns = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            boolean key = 0 != (data.get() & 1);
+            String columnName = readString(data);
+            int typeOid = data.getInt();
+            data.getInt();
+            columns.add(new RelationColumn(columnName, typeOid, key));
+        }
+        relations.put(relationId, new Relation(schemaName, tableName, columns));
+    }
+    
+    private AbstractRowEvent readWriteRowEvent(final ByteBuffer data) {
+        Relation relation = getRelation(data.getInt());
+        data.get();
+        WriteRowEvent result = new WriteRowEvent();
+        result.setAfterRow(readTupleData(data, relation, null));
+        return setTable(result, relation);
+    }
+    
+    private AbstractRowEvent readUpdateRowEvent(final ByteBuffer data) {
+        Relation relation = getRelation(data.getInt());
+        char tupleType = (char) data.get();
+        List<Object> oldRow = null;
+        if ('K' == tupleType || 'O' == tupleType) {
+            List<Object> beforeRow = readTupleData(data, relation, null);
+            // key tuple only holds replica identity columns, unchanged TOAST values can only be taken from full old tuple
+            oldRow = 'O' == tupleType ? beforeRow : null;
+            data.get();
+        }
+        UpdateRowEvent result = new UpdateRowEvent();
+        result.setAfterRow(readTupleData(data, relation, oldRow));
+        return setTable(result, relation);
+    }
+    
+    private AbstractRowEvent readDeleteRowEvent(final ByteBuffer data) {
+        Relation relation = getRelation(data.getInt());
+        data.get();
+        List<Object> beforeRow = readTupleData(data, relation, null);
+        List<Object> primaryKeys = new ArrayList<>(beforeRow.size());
+        List<String> keyColumnNames = new ArrayList<>(beforeRow.size());
+        for (int i = 0; i < beforeRow.size(); i++) {
+            if (relation.getColumns().get(i).isKey()) {
+                primaryKeys.add(beforeRow.get(i));
+                keyColumnNames.add(relation.getColumns().get(i).getName());
+            }
+        }
+        DeleteRowEvent result = new DeleteRowEvent();
+        result.setPrimaryKeys(primaryKeys);
+        result.setKeyColumnNames(keyColumnNames);
+        return setTable(result, relation);
+    }
+    
+    private Relation getRelation(final int relationId) {
+        Relation result = relations.get(relationId);
+        if (null == result) {
+            throw new IngestException("Unknown relation id: " + relationId);
+        }
+        return result;
+    }
+    
+    private AbstractRowEvent setTable(final AbstractRowEvent rowEvent, final Relation relation) {
+        rowEvent.setSchemaName(relation.getSchemaName());
+        rowEvent.setTableName(relation.getTableName());
+        return rowEvent;
+    }
+    
+    private List<Object> readTupleData(final ByteBuffer data, final Relation relation, final List<Object> oldRow) {
+        int columnCount = data.getShort();
+        List<Object> result = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            RelationColumn column = relation.getColumns().get(i);
+            char valueType = (char) data.get();
+            switch (valueType) {
+                case 'n':
+                    result.add(null);
+                    break;
+                case 'u':
+                    if (null == oldRow) {
+                        throw new IngestException(String.format("Unchanged TOAST value of column `%s` in table `%s` is not sent, please set REPLICA IDENTITY FULL on the table",
+                                column.getName(), relation.getTableName()));
+                    }
+                    result.add(oldRow.get(i));
+                    break;
+                case 't':
+                    result.add(readTextValue(readValueBytes(data), column));
+                    break;
+                case 'b':
+                    throw new IngestException(String.format("Binary value of column `%s` in table `%s` is not supported", column.getName(), relation.getTableName()));
+                default:
+                    throw new IngestException("Unknown tuple value type: " + valueType);
+            }
+        }
+        return result;
+    }
+    
+    private byte[] readValueBytes(final ByteBuffer data) {
+        byte[] result = new byte[data.getInt()];
+        data.get(result);
+        return result;
+    }
+    
+    private Object readTextValue(final byte[] value, final RelationColumn column) {
+        String text = new String(value, StandardCharsets.UTF_8);
+        switch (column.getTypeOid()) {
+            case NUMERIC_OID:
+                return new BigDecimal(text);
+            case INT2_OID:
+                return Short.parseShort(text);
+            case INT4_OID:
+                return Integer.parseInt(text);
+            case INT8_OID:
+                return Long.parseLong(text);
+            case FLOAT4_OID:
+                return Float.parseFloat(text);
+            case FLOAT8_OID:
+                return Double.parseDouble(text);
+            case BOOL_OID:
+                return "t".equals(text);
+            case TIME_OID:
+                try {
+                    return timestampUtils.toTime(null, text);
+                } catch (final SQLException ex) {
+                    throw new DecodingException(ex);
+                }
+            case DATE_OID:
+                return Date.valueOf(text);
+            case TIMESTAMP_OID:
+                try {
+                    return timestampUtils.toTimestamp(null, text);
+                } catch (final SQLException ex) {
+                    throw new DecodingException(ex);
+                }
+            case BYTEA_OID:
+                try {
+                    return Hex.decodeHex(text.substring(2));
+                } catch (final DecoderException ex) {
+                    throw new DecodingException(ex);
+                }
+            default:
+                return text;
+        }
+    }
+    
+    private String readString(final ByteBuffer data) {
+        int startPosition = data.position();
+        while (0 != data.get()) {
+            continue;
+        }
+        return new String(data.array(), data.arrayOffset() + startPosition, data.position() - startPosition - 1, StandardCharsets.UTF_8);
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class Relation {
+        
+        private final String schemaName;
+        
+        private final String tableName;
+        
+        private final List<RelationColumn> columns;
+    }
+    
+    @RequiredArgsConstructor
+    @Getter
+    private static final class RelationColumn {
+        
+        private final String name;
+        
+        private final int typeOid;
+        
+        private final boolean key;
+    }
+}
@@ -32,4 +32,6 @@ import java.util.List;
 public final class DeleteRowEvent extends AbstractRowEvent {
     
     private List<Object> primaryKeys;
+    
+    private List<String> keyColumnNames;
 }
@@ -21,6 +21,7 @@ import org.apache.shardingsphere.data.pipeline.core.exception.PipelineInternalEx
 import org.apache.shardingsphere.data.pipeline.core.ingest.position.DialectIncrementalPositionManager;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.position.slot.PostgreSQLSlotManager;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.WALPosition;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.decode.PgOutputDecodingPlugin;
 import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.decode.PostgreSQLLogSequenceNumber;
 import org.postgresql.replication.LogSequenceNumber;
 
@@ -38,6 +39,8 @@ public final class PostgreSQLIncrementalPositionManager implements DialectIncrem
     
     private final PostgreSQLSlotManager slotManager = new PostgreSQLSlotManager("test_decoding");
     
+    private final PostgreSQLSlotManager pgOutputSlotManager = new PostgreSQLSlotManager(PgOutputDecodingPlugin.PLUGIN_NAME);
+    
     @Override
     public WALPosition init(final String data) {
         return new WALPosition(new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf(data)));
@@ -46,11 +49,23 @@ public final class PostgreSQLIncrementalPositionManager implements DialectIncrem
     @Override
     public WALPosition init(final DataSource dataSource, final String slotNameSuffix) throws SQLException {
         try (Connection connection = dataSource.getConnection()) {
-            slotManager.create(connection, slotNameSuffix);
+            (isPgOutputPublicationExisted(connection) ? pgOutputSlotManager : slotManager).create(connection, slotNameSuffix);
             return getWALPosition(connection, getLogSequenceNumberSQL(connection.getMetaData()));
         }
     }
     
+    private boolean isPgOutputPublicationExisted(final Connection connection) throws SQLException {
+        if (connection.getMetaData().getDatabaseMajorVersion() < 10) {
+            return false;
+        }
+        try (PreparedStatement preparedStatement = connection.prepareStatement("SELECT 1 FROM pg_publication WHERE pubname=?")) {
+            preparedStatement.setString(1, PgOutputDecodingPlugin.PUBLICATION_NAME);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next();
+            }
+        }
+    }
+    
     private WALPosition getWALPosition(final Connection connection, final String logSequenceNumberSQL) throws SQLException {
         try (
                 PreparedStatement preparedStatement = connection.prepareStatement(logSequenceNumberSQL);
@@ -74,6 +89,7 @@ public final class PostgreSQLIncrementalPositionManager implements DialectIncrem
     public void destroy(final DataSource dataSource, final String slotNameSuffix) throws SQLException {
         try (Connection connection = dataSource.getConnection()) {
             slotManager.dropIfExisted(connection, slotNameSuffix);
+            pgOutputSlotManager.dropIfExisted(connection, slotNameSuffix);
         }
     }
     
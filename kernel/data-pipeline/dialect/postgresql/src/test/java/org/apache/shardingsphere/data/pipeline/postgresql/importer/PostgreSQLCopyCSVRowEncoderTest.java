@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.importer;
+
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.NormalColumn;
+import org.junit.jupiter.api.Test;
+import org.postgresql.util.PGobject;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Array;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PostgreSQLCopyCSVRowEncoderTest {
+    
+    @Test
+    void assertBuildCopySQL() {
+        assertThat(PostgreSQLCopyCSVRowEncoder.buildCopySQL("foo_schema.foo_tbl", Arrays.asList("id", "\"name\"")),
+                is("COPY foo_schema.foo_tbl(id,\"name\") FROM STDIN WITH (FORMAT 'csv')"));
+    }
+    
+    @Test
+    void assertEncode() throws SQLException {
+        DataRecord dataRecord = new DataRecord(PipelineSQLOperationType.INSERT, "foo_tbl", new IngestPlaceholderPosition(), 5);
+        dataRecord.addColumn(new NormalColumn("id", 1, true, true));
+        dataRecord.addColumn(new NormalColumn("name", "a\"b,c", true, false));
+        dataRecord.addColumn(new NormalColumn("empty", "", true, false));
+        dataRecord.addColumn(new NormalColumn("nullable", null, true, false));
+        dataRecord.addColumn(new NormalColumn("data", new byte[]{0x01, (byte) 0xAB}, true, false));
+        assertThat(new String(new PostgreSQLCopyCSVRowEncoder().encode(dataRecord), StandardCharsets.UTF_8), is("\"1\",\"a\"\"b,c\",\"\",,\\x01ab\n"));
+    }
+    
+    @Test
+    void assertEncodeScalarValues() throws SQLException {
+        DataRecord dataRecord = new DataRecord(PipelineSQLOperationType.INSERT, "foo_tbl", new IngestPlaceholderPosition(), 7);
+        dataRecord.addColumn(new NormalColumn("bool_col", true, true, false));
+        dataRecord.addColumn(new NormalColumn("int2_col", (short) 2, true, false));
+        dataRecord.addColumn(new NormalColumn("int8_col", 8L, true, false));
+        dataRecord.addColumn(new NormalColumn("float4_col", 1.5F, true, false));
+        dataRecord.addColumn(new NormalColumn("float8_col", Double.NaN, true, false));
+        dataRecord.addColumn(new NormalColumn("numeric_col", new BigDecimal("1E+3"), true, false));
+        dataRecord.addColumn(new NormalColumn("uuid_col", UUID.fromString("123e4567-e89b-12d3-a456-426614174000"), true, false));
+        assertThat(new String(new PostgreSQLCopyCSVRowEncoder().encode(dataRecord), StandardCharsets.UTF_8),
+                is("\"true\",\"2\",\"8\",\"1.5\",\"NaN\",\"1000\",\"123e4567-e89b-12d3-a456-426614174000\"\n"));
+    }
+    
+    @Test
+    void assertEncodeTemporalValues() throws SQLException {
+        Timestamp timestamp = Timestamp.valueOf("2024-01-02 03:04:05.123456");
+        String offset = ZoneId.systemDefault().getRules().getOffset(timestamp.toLocalDateTime()).getId();
+        DataRecord dataRecord = new DataRecord(PipelineSQLOperationType.INSERT, "foo_tbl", new IngestPlaceholderPosition(), 3);
+        dataRecord.addColumn(new NormalColumn("date_col", Date.valueOf("2024-01-02"), true, false));
+        dataRecord.addColumn(new NormalColumn("time_col", new Time(Time.valueOf("03:04:05").getTime() + 120L), true, false));
+        dataRecord.addColumn(new NormalColumn("timestamp_col", timestamp, true, false));
+        assertThat(new String(new PostgreSQLCopyCSVRowEncoder().encode(dataRecord), StandardCharsets.UTF_8),
+                is("\"2024-01-02\",\"03:04:05.120\",\"2024-01-02 03:04:05.123456" + offset + "\"\n"));
+    }
+    
+    @Test
+    void assertEncodeDriverObjectValues() throws SQLException {
+        PGobject json = new PGobject();
+        json.setType("json");
+        json.setValue("{\"k\": \"v\"}");
+        PGobject emptyBit = new PGobject();
+        emptyBit.setType("bit");
+        Array array = mock(Array.class);
+        when(array.toString()).thenReturn("{1,2}");
+        SQLXML xml = mock(SQLXML.class);
+        when(xml.getString()).thenReturn("<a>b</a>");
+        DataRecord dataRecord = new DataRecord(PipelineSQLOperationType.INSERT, "foo_tbl", new IngestPlaceholderPosition(), 4);
+        dataRecord.addColumn(new NormalColumn("json_col", json, true, false));
+        dataRecord.addColumn(new NormalColumn("bit_col", emptyBit, true, false));
+        dataRecord.addColumn(new NormalColumn("array_col", array, true, false));
+        dataRecord.addColumn(new NormalColumn("xml_col", xml, true, false));
+        assertThat(new String(new PostgreSQLCopyCSVRowEncoder().encode(dataRecord), StandardCharsets.UTF_8), is("\"{\"\"k\"\": \"\"v\"\"}\",,\"{1,2}\",\"<a>b</a>\"\n"));
+    }
+}
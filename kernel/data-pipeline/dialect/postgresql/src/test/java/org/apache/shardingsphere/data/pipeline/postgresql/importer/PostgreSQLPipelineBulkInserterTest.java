@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.importer;
+
+import org.apache.shardingsphere.data.pipeline.core.constant.PipelineSQLOperationType;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.type.DialectPipelineBulkInserter;
+import org.apache.shardingsphere.data.pipeline.core.ingest.position.type.placeholder.IngestPlaceholderPosition;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.DataRecord;
+import org.apache.shardingsphere.data.pipeline.core.ingest.record.NormalColumn;
+import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PostgreSQLPipelineBulkInserterTest {
+    
+    private final DialectPipelineBulkInserter bulkInserter = DatabaseTypedSPILoader.getService(DialectPipelineBulkInserter.class, TypedSPILoader.getService(DatabaseType.class, "PostgreSQL"));
+    
+    @Mock
+    private Connection connection;
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private PGConnection pgConnection;
+    
+    @Mock
+    private CopyIn copyIn;
+    
+    @Test
+    void assertBulkInsert() throws SQLException {
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getCopyAPI().copyIn("COPY foo_tbl(id,name) FROM STDIN WITH (FORMAT 'csv')")).thenReturn(copyIn);
+        when(copyIn.endCopy()).thenReturn(2L);
+        assertThat(bulkInserter.bulkInsert(connection, "foo_tbl", Arrays.asList("id", "name"), Arrays.asList(createDataRecord(1, "foo"), createDataRecord(2, "bar"))), is(2L));
+        byte[] firstRow = "\"1\",\"foo\"\n".getBytes(StandardCharsets.UTF_8);
+        verify(copyIn).writeToCopy(firstRow, 0, firstRow.length);
+        byte[] secondRow = "\"2\",\"bar\"\n".getBytes(StandardCharsets.UTF_8);
+        verify(copyIn).writeToCopy(secondRow, 0, secondRow.length);
+        verify(copyIn, never()).cancelCopy();
+    }
+    
+    @Test
+    void assertBulkInsertCancelCopyOnFailure() throws SQLException {
+        when(connection.unwrap(PGConnection.class)).thenReturn(pgConnection);
+        when(pgConnection.getCopyAPI().copyIn(any())).thenReturn(copyIn);
+        doThrow(SQLException.class).when(copyIn).writeToCopy(any(), anyInt(), anyInt());
+        when(copyIn.isActive()).thenReturn(true);
+        assertThrows(SQLException.class, () -> bulkInserter.bulkInsert(connection, "foo_tbl", Arrays.asList("id", "name"), Collections.singleton(createDataRecord(1, "foo"))));
+        verify(copyIn).cancelCopy();
+    }
+    
+    private DataRecord createDataRecord(final int id, final String name) {
+        DataRecord result = new DataRecord(PipelineSQLOperationType.INSERT, "foo_tbl", new IngestPlaceholderPosition(), 2);
+        result.addColumn(new NormalColumn("id", id, true, true));
+        result.addColumn(new NormalColumn("name", name, true, false));
+        return result;
+    }
+}
@@ -35,6 +35,7 @@ import org.postgresql.replication.fluent.ChainedStreamBuilder;
 import org.postgresql.replication.fluent.logical.ChainedLogicalStreamBuilder;
 
 import java.sql.Connection;
+import java.sql.DatabaseMetaData;
 import java.sql.SQLException;
 import java.util.HashMap;
 import java.util.Map;
@@ -43,6 +44,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -61,6 +63,9 @@ class PostgreSQLLogicalReplicationTest {
     @Mock
     private ChainedLogicalStreamBuilder chainedLogicalStreamBuilder;
     
+    @Mock
+    private DatabaseMetaData databaseMetaData;
+    
     private PostgreSQLLogicalReplication logicalReplication;
     
     @BeforeEach
@@ -98,6 +103,29 @@ class PostgreSQLLogicalReplicationTest {
         }
     }
     
+    @Test
+    void assertCreatePgOutputReplicationStream() throws SQLException {
+        LogSequenceNumber startPosition = LogSequenceNumber.valueOf(100L);
+        when(connection.unwrap(PGConnection.class)).thenReturn(connection);
+        when(connection.getReplicationAPI()).thenReturn(pgReplicationConnection);
+        when(pgReplicationConnection.replicationStream()).thenReturn(chainedStreamBuilder);
+        when(chainedStreamBuilder.logical()).thenReturn(chainedLogicalStreamBuilder);
+        when(chainedLogicalStreamBuilder.withStartPosition(startPosition)).thenReturn(chainedLogicalStreamBuilder);
+        when(chainedLogicalStreamBuilder.withSlotName("")).thenReturn(chainedLogicalStreamBuilder);
+        when(chainedLogicalStreamBuilder.withSlotOption(anyString(), anyString())).thenReturn(chainedLogicalStreamBuilder);
+        logicalReplication.createPgOutputReplicationStream(connection, "", new PostgreSQLLogSequenceNumber(startPosition));
+        verify(chainedLogicalStreamBuilder).withSlotOption("publication_names", "shardingsphere_pipeline");
+        verify(chainedLogicalStreamBuilder, never()).withSlotOption(eq("binary"), anyString());
+        verify(chainedLogicalStreamBuilder).start();
+    }
+    
+    @Test
+    void assertIsPgOutputSlotBeforePostgreSQL10() throws SQLException {
+        when(connection.getMetaData()).thenReturn(databaseMetaData);
+        when(databaseMetaData.getDatabaseMajorVersion()).thenReturn(9);
+        assertFalse(logicalReplication.isPgOutputSlot(connection, ""));
+    }
+    
     @Test
     void assertCreateReplicationStreamFailure() throws SQLException {
         when(connection.unwrap(PGConnection.class)).thenThrow(new SQLException(""));
@@ -65,6 +65,7 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.isA;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class WALEventConverterTest {
     
@@ -185,6 +186,21 @@ class WALEventConverterTest {
         assertThat(((DataRecord) record).getType(), is(PipelineSQLOperationType.DELETE));
     }
     
+    @Test
+    void assertConvertDeleteRowEventWithFullReplicaIdentity() {
+        DeleteRowEvent event = new DeleteRowEvent();
+        event.setSchemaName("");
+        event.setTableName("t_order");
+        event.setPrimaryKeys(Arrays.asList(1, 101L, "OK"));
+        event.setKeyColumnNames(Arrays.asList("user_id", "order_id", "status"));
+        DataRecord actual = (DataRecord) walEventConverter.convert(event);
+        assertThat(actual.getType(), is(PipelineSQLOperationType.DELETE));
+        assertThat(actual.getColumnCount(), is(1));
+        assertThat(actual.getColumn(0).getName(), is("order_id"));
+        assertThat(actual.getColumn(0).getOldValue(), is(101L));
+        assertTrue(actual.getColumn(0).isUniqueKey());
+    }
+    
     @Test
     void assertConvertPlaceholderEvent() {
         Record record = walEventConverter.convert(new PlaceholderEvent());
@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.decode;
+
+import org.apache.shardingsphere.data.pipeline.core.exception.IngestException;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.event.AbstractWALEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.event.BeginTXEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.event.CommitTXEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.event.DeleteRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.event.PlaceholderEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.event.UpdateRowEvent;
+import org.apache.shardingsphere.data.pipeline.postgresql.ingest.incremental.wal.event.WriteRowEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.replication.LogSequenceNumber;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.isA;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class PgOutputDecodingPluginTest {
+    
+    private final PostgreSQLLogSequenceNumber logSequenceNumber = new PostgreSQLLogSequenceNumber(LogSequenceNumber.valueOf("0/14EFDB8"));
+    
+    private PgOutputDecodingPlugin decodingPlugin;
+    
+    @BeforeEach
+    void setUp() throws IOException {
+        decodingPlugin = new PgOutputDecodingPlugin(null);
+        MessageWriter relation = new MessageWriter('R').writeInt(16385).writeString("public").writeString("t_order").writeByte('d').writeShort(8);
+        relation.writeColumn(true, "order_id", 23).writeColumn(false, "status", 1043).writeColumn(false, "amount", 1700).writeColumn(false, "create_time", 1114);
+        relation.writeColumn(false, "valid", 16).writeColumn(false, "data", 17).writeColumn(false, "uid", 2950).writeColumn(false, "remark", 25);
+        assertThat(decodingPlugin.decode(relation.toByteBuffer(), logSequenceNumber), isA(PlaceholderEvent.class));
+    }
+    
+    @Test
+    void assertDecodeBeginAndCommitTXEvent() throws IOException {
+        AbstractWALEvent begin = decodingPlugin.decode(new MessageWriter('B').writeLong(100L).writeLong(0L).writeInt(616281).toByteBuffer(), logSequenceNumber);
+        assertThat(((BeginTXEvent) begin).getXid(), is(616281L));
+        assertThat(begin.getLogSequenceNumber(), is(logSequenceNumber));
+        AbstractWALEvent commit = decodingPlugin.decode(new MessageWriter('C').writeByte(0).writeLong(100L).writeLong(200L).writeLong(0L).toByteBuffer(), logSequenceNumber);
+        assertThat(((CommitTXEvent) commit).getXid(), is(616281L));
+    }
+    
+    @Test
+    void assertDecodeTextWriteRowEvent() throws IOException {
+        MessageWriter insert = new MessageWriter('I').writeInt(16385).writeByte('N').writeShort(8);
+        insert.writeText("1").writeText("ok").writeText("12.34").writeByte('n').writeText("f").writeText("\\x0102").writeText("123e4567-e89b-12d3-a456-426614174000").writeText("foo");
+        WriteRowEvent actual = (WriteRowEvent) decodingPlugin.decode(insert.toByteBuffer(), logSequenceNumber);
+        assertThat(actual.getAfterRow(), is(Arrays.asList(1, "ok", new BigDecimal("12.34"), null, false, actual.getAfterRow().get(5), "123e4567-e89b-12d3-a456-426614174000", "foo")));
+        assertThat(actual.getAfterRow().get(5), is(new byte[]{1, 2}));
+    }
+    
+    @Test
+    void assertDecodeUpdateRowEventWithUnchangedToastValue() throws IOException {
+        MessageWriter update = new MessageWriter('U').writeInt(16385).writeByte('O').writeShort(8);
+        update.writeText("1").writeText("ok").writeByte('n').writeByte('n').writeByte('n').writeByte('n').writeByte('n').writeText("foo");
+        update.writeByte('N').writeShort(8).writeText("1").writeText("done").writeByte('n').writeByte('n').writeByte('n').writeByte('n').writeByte('n').writeByte('u');
+        UpdateRowEvent actual = (UpdateRowEvent) decodingPlugin.decode(update.toByteBuffer(), logSequenceNumber);
+        assertThat(actual.getAfterRow(), is(Arrays.asList(1, "done", null, null, null, null, null, "foo")));
+    }
+    
+    @Test
+    void assertDecodeUpdateRowEventWithUnchangedToastValueWithoutOldTuple() throws IOException {
+        MessageWriter update = new MessageWriter('U').writeInt(16385).writeByte('N').writeShort(8);
+        update.writeText("1").writeText("done").writeByte('n').writeByte('n').writeByte('n').writeByte('n').writeByte('n').writeByte('u');
+        assertThrows(IngestException.class, () -> decodingPlugin.decode(update.toByteBuffer(), logSequenceNumber));
+    }
+    
+    @Test
+    void assertDecodeUpdateRowEventWithUnchangedToastValueWithKeyTuple() throws IOException {
+        MessageWriter update = new MessageWriter('U').writeInt(16385).writeByte('K').writeShort(8);
+        update.writeText("2").writeByte('n').writeByte('n').writeByte('n').writeByte('n').writeByte('n').writeByte('n').writeByte('n');
+        update.writeByte('N').writeShort(8).writeText("1").writeText("done").writeByte('n').writeByte('n').writeByte('n').writeByte('n').writeByte('n').writeByte('u');
+        assertThrows(IngestException.class, () -> decodingPlugin.decode(update.toByteBuffer(), logSequenceNumber));
+    }
+    
+    @Test
+    void assertDecodeDeleteRowEvent() throws IOException {
+        MessageWriter delete = new MessageWriter('D').writeInt(16385).writeByte('K').writeShort(8);
+        delete.writeText("1").writeByte('n').writeByte('n').writeByte('n').writeByte('n').writeByte('n').writeByte('n').writeByte('n');
+        DeleteRowEvent actual = (DeleteRowEvent) decodingPlugin.decode(delete.toByteBuffer(), logSequenceNumber);
+        assertThat(actual.getTableName(), is("t_order"));
+        assertThat(actual.getPrimaryKeys(), is(Collections.singletonList(1)));
+        assertThat(actual.getKeyColumnNames(), is(Collections.singletonList("order_id")));
+    }
+    
+    @Test
+    void assertDecodeDeleteRowEventWithFullReplicaIdentity() throws IOException {
+        MessageWriter relation = new MessageWriter('R').writeInt(16386).writeString("public").writeString("t_order_item").writeByte('f').writeShort(3);
+        relation.writeColumn(true, "user_id", 23).writeColumn(true, "status", 1043).writeColumn(true, "order_id", 23);
+        decodingPlugin.decode(relation.toByteBuffer(), logSequenceNumber);
+        MessageWriter delete = new MessageWriter('D').writeInt(16386).writeByte('O').writeShort(3).writeText("10").writeText("ok").writeText("1");
+        DeleteRowEvent actual = (DeleteRowEvent) decodingPlugin.decode(delete.toByteBuffer(), logSequenceNumber);
+        assertThat(actual.getTableName(), is("t_order_item"));
+        assertThat(actual.getPrimaryKeys(), is(Arrays.asList(10, "ok", 1)));
+        assertThat(actual.getKeyColumnNames(), is(Arrays.asList("user_id", "status", "order_id")));
+    }
+    
+    @Test
+    void assertDecodeBinaryValue() throws IOException {
+        MessageWriter insert = new MessageWriter('I').writeInt(16385).writeByte('N').writeShort(8).writeBinary(new byte[4]);
+        assertThrows(IngestException.class, () -> decodingPlugin.decode(insert.toByteBuffer(), logSequenceNumber));
+    }
+    
+    @Test
+    void assertDecodeWithUnknownRelation() throws IOException {
+        assertThrows(IngestException.class, () -> decodingPlugin.decode(new MessageWriter('I').writeInt(1).writeByte('N').writeShort(0).toByteBuffer(), logSequenceNumber));
+    }
+    
+    @Test
+    void assertDecodeOtherMessage() throws IOException {
+        assertThat(decodingPlugin.decode(new MessageWriter('T').writeInt(0).toByteBuffer(), logSequenceNumber), isA(PlaceholderEvent.class));
+    }
+    
+    private static final class MessageWriter {
+        
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        
+        private final DataOutputStream output = new DataOutputStream(bytes);
+        
+        MessageWriter(final char messageType) throws IOException {
+            output.writeByte(messageType);
+        }
+        
+        MessageWriter writeByte(final int value) throws IOException {
+            output.writeByte(value);
+            return this;
+        }
+        
+        MessageWriter writeShort(final int value) throws IOException {
+            output.writeShort(value);
+            return this;
+        }
+        
+        MessageWriter writeInt(final int value) throws IOException {
+            output.writeInt(value);
+            return this;
+        }
+        
+        MessageWriter writeLong(final long value) throws IOException {
+            output.writeLong(value);
+            return this;
+        }
+        
+        MessageWriter writeString(final String value) throws IOException {
+            output.write(value.getBytes(StandardCharsets.UTF_8));
+            output.writeByte(0);
+            return this;
+        }
+        
+        MessageWriter writeColumn(final boolean key, final String name, final int typeOid) throws IOException {
+            return writeByte(key ? 1 : 0).writeString(name).writeInt(typeOid).writeInt(-1);
+        }
+        
+        MessageWriter writeText(final String value) throws IOException {
+            byte[] text = value.getBytes(StandardCharsets.UTF_8);
+            writeByte('t').writeInt(text.length);
+            output.write(text);
+            return this;
+        }
+        
+        MessageWriter writeBinary(final byte[] value) throws IOException {
+            writeByte('b').writeInt(value.length);
+            output.write(value);
+            return this;
+        }
+        
+        ByteBuffer toByteBuffer() {
+            return ByteBuffer.wrap(bytes.toByteArray());
+        }
+    }
+}
@@ -44,7 +44,9 @@ import java.sql.SQLException;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -70,11 +72,15 @@ class PostgreSQLIncrementalPositionManagerTest {
     @Mock
     private PostgreSQLSlotManager slotManager;
     
+    @Mock
+    private PostgreSQLSlotManager pgOutputSlotManager;
+    
     @BeforeEach
     void setUp() throws SQLException, ReflectiveOperationException {
         dataSource = new MockedDataSource(connection);
         when(connection.getMetaData()).thenReturn(databaseMetaData);
         Plugins.getMemberAccessor().set(PostgreSQLIncrementalPositionManager.class.getDeclaredField("slotManager"), incrementalPositionManager, slotManager);
+        Plugins.getMemberAccessor().set(PostgreSQLIncrementalPositionManager.class.getDeclaredField("pgOutputSlotManager"), incrementalPositionManager, pgOutputSlotManager);
     }
     
     @Test
@@ -97,6 +103,7 @@ class PostgreSQLIncrementalPositionManagerTest {
     @Test
     void assertInitWithPostgreSQL10() throws SQLException {
         when(databaseMetaData.getDatabaseMajorVersion()).thenReturn(10);
+        when(connection.prepareStatement("SELECT 1 FROM pg_publication WHERE pubname=?")).thenReturn(mock(PreparedStatement.class, RETURNS_DEEP_STUBS));
         PreparedStatement preparedStatement = mockPreparedStatement(POSTGRESQL_10_LSN);
         when(connection.prepareStatement("SELECT PG_CURRENT_WAL_LSN()")).thenReturn(preparedStatement);
         WALPosition actual = (WALPosition) incrementalPositionManager.init(dataSource, "");
@@ -104,6 +111,21 @@ class PostgreSQLIncrementalPositionManagerTest {
         verify(slotManager).create(connection, "");
     }
     
+    @Test
+    void assertInitWithPgOutputPublication() throws SQLException {
+        when(databaseMetaData.getDatabaseMajorVersion()).thenReturn(14);
+        PreparedStatement publicationPreparedStatement = mock(PreparedStatement.class, RETURNS_DEEP_STUBS);
+        when(publicationPreparedStatement.executeQuery().next()).thenReturn(true);
+        when(connection.prepareStatement("SELECT 1 FROM pg_publication WHERE pubname=?")).thenReturn(publicationPreparedStatement);
+        PreparedStatement preparedStatement = mockPreparedStatement(POSTGRESQL_10_LSN);
+        when(connection.prepareStatement("SELECT PG_CURRENT_WAL_LSN()")).thenReturn(preparedStatement);
+        WALPosition actual = (WALPosition) incrementalPositionManager.init(dataSource, "");
+        assertThat(actual.getLogSequenceNumber().get(), is(LogSequenceNumber.valueOf(POSTGRESQL_10_LSN)));
+        verify(publicationPreparedStatement).setString(1, "shardingsphere_pipeline");
+        verify(pgOutputSlotManager).create(connection, "");
+        verify(slotManager, never()).create(connection, "");
+    }
+    
     @Test
     void assertInitFailed() throws SQLException {
         when(databaseMetaData.getDatabaseMajorVersion()).thenReturn(1);
@@ -123,5 +145,6 @@ class PostgreSQLIncrementalPositionManagerTest {
     void assertDestroy() throws SQLException {
         incrementalPositionManager.destroy(dataSource, "");
         verify(slotManager).dropIfExisted(connection, "");
+        verify(pgOutputSlotManager).dropIfExisted(connection, "");
     }
 }
@@ -30,7 +30,9 @@ import org.apache.shardingsphere.data.pipeline.core.exception.PipelineJobCanceli
 import org.apache.shardingsphere.data.pipeline.core.exception.job.PrepareJobWithGetBinlogPositionException;
 import org.apache.shardingsphere.data.pipeline.core.execute.PipelineExecuteEngine;
 import org.apache.shardingsphere.data.pipeline.core.importer.Importer;
+import org.apache.shardingsphere.data.pipeline.core.importer.PartitionedChannelConsumerImporter;
 import org.apache.shardingsphere.data.pipeline.core.importer.SingleChannelConsumerImporter;
+import org.apache.shardingsphere.data.pipeline.core.importer.sink.PipelineSink;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.Dumper;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.incremental.CreateIncrementalDumperParameter;
 import org.apache.shardingsphere.data.pipeline.core.ingest.dumper.incremental.DialectIncrementalDumperCreator;
@@ -63,6 +65,7 @@ import org.apache.shardingsphere.data.pipeline.scenario.migration.config.Migrati
 import org.apache.shardingsphere.data.pipeline.scenario.migration.context.MigrationJobItemContext;
 import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPILoader;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.generic.UnsupportedSQLOperationException;
 import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
@@ -71,8 +74,10 @@ import org.apache.shardingsphere.mode.manager.ContextManager;
 import org.apache.shardingsphere.parser.rule.SQLParserRule;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 
 /**
  * Migration job preparer.
@@ -175,9 +180,26 @@ public final class MigrationJobPreparer implements PipelineJobPreparer<Migration
         CreateIncrementalDumperParameter param = new CreateIncrementalDumperParameter(
                 dumperContext, dumperContext.getCommonContext().getPosition(), channel, jobItemContext.getSourceMetaDataLoader(), jobItemContext.getDataSourceManager());
         Dumper dumper = IncrementalDumperCreator.create(param);
-        Collection<Importer> importers = Collections.singletonList(new SingleChannelConsumerImporter(channel, taskConfig.getImporterConfig().getBatchSize(), 1000L,
-                jobItemContext.getSink(), jobItemContext));
+        Collection<Importer> importers = Collections.singletonList(createIncrementalImporter(jobItemContext, channel));
         PipelineTask incrementalTask = new IncrementalTask(dumperContext.getCommonContext().getDataSourceName(), incrementalExecuteEngine, dumper, importers, taskProgress);
         jobItemContext.getIncrementalTasks().add(incrementalTask);
     }
+    
+    private Importer createIncrementalImporter(final MigrationJobItemContext jobItemContext, final PipelineChannel channel) {
+        int batchSize = jobItemContext.getTaskConfig().getImporterConfig().getBatchSize();
+        int concurrency = jobItemContext.getTaskConfig().getImporterConfig().getConcurrency();
+        if (concurrency <= 1 || !isPartitionedImportEnabled(jobItemContext)) {
+            return new SingleChannelConsumerImporter(channel, batchSize, 1000L, jobItemContext.getSink(), jobItemContext);
+        }
+        List<PipelineSink> sinks = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            sinks.add(jobItemContext.getSink());
+        }
+        return new PartitionedChannelConsumerImporter(channel, batchSize, 1000L, sinks, jobItemContext);
+    }
+    
+    private boolean isPartitionedImportEnabled(final MigrationJobItemContext jobItemContext) {
+        ContextManager contextManager = PipelineContextManager.getContext(PipelineJobIdUtils.parseContextKey(jobItemContext.getJobId()));
+        return contextManager.getMetaDataContexts().getMetaData().getProps().<Boolean>getValue(ConfigurationPropertyKey.MIGRATION_INCREMENTAL_PARTITIONED_IMPORT_ENABLED);
+    }
 }
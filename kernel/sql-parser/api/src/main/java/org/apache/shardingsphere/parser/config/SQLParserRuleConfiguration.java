@@ -32,4 +32,10 @@ public final class SQLParserRuleConfiguration implements GlobalRuleConfiguration
     private final CacheOption parseTreeCache;
     
     private final CacheOption sqlStatementCache;
+    
+    private final CacheOption sqlFingerprintCache;
+    
+    public SQLParserRuleConfiguration(final CacheOption parseTreeCache, final CacheOption sqlStatementCache) {
+        this(parseTreeCache, sqlStatementCache, new CacheOption(0, 0L));
+    }
 }
@@ -31,9 +31,11 @@ public final class DefaultSQLParserRuleConfigurationBuilder implements DefaultGl
     
     public static final CacheOption SQL_STATEMENT_CACHE_OPTION = new CacheOption(2000, 65535L);
     
+    public static final CacheOption SQL_FINGERPRINT_CACHE_OPTION = new CacheOption(0, 0L);
+    
     @Override
     public SQLParserRuleConfiguration build() {
-        return new SQLParserRuleConfiguration(PARSE_TREE_CACHE_OPTION, SQL_STATEMENT_CACHE_OPTION);
+        return new SQLParserRuleConfiguration(PARSE_TREE_CACHE_OPTION, SQL_STATEMENT_CACHE_OPTION, SQL_FINGERPRINT_CACHE_OPTION);
     }
     
     @Override
@@ -36,6 +36,7 @@ public final class YamlSQLParserRuleConfigurationSwapper implements YamlRuleConf
         YamlSQLParserRuleConfiguration result = new YamlSQLParserRuleConfiguration();
         result.setParseTreeCache(cacheOptionSwapper.swapToYamlConfiguration(data.getParseTreeCache()));
         result.setSqlStatementCache(cacheOptionSwapper.swapToYamlConfiguration(data.getSqlStatementCache()));
+        result.setSqlFingerprintCache(cacheOptionSwapper.swapToYamlConfiguration(data.getSqlFingerprintCache()));
         return result;
     }
     
@@ -47,7 +48,10 @@ public final class YamlSQLParserRuleConfigurationSwapper implements YamlRuleConf
         CacheOption sqlStatementCacheOption = null == yamlConfig.getSqlStatementCache()
                 ? DefaultSQLParserRuleConfigurationBuilder.SQL_STATEMENT_CACHE_OPTION
                 : cacheOptionSwapper.swapToObject(yamlConfig.getSqlStatementCache());
-        return new SQLParserRuleConfiguration(parseTreeCacheOption, sqlStatementCacheOption);
+        CacheOption sqlFingerprintCacheOption = null == yamlConfig.getSqlFingerprintCache()
+                ? DefaultSQLParserRuleConfigurationBuilder.SQL_FINGERPRINT_CACHE_OPTION
+                : cacheOptionSwapper.swapToObject(yamlConfig.getSqlFingerprintCache());
+        return new SQLParserRuleConfiguration(parseTreeCacheOption, sqlStatementCacheOption, sqlFingerprintCacheOption);
     }
     
     @Override
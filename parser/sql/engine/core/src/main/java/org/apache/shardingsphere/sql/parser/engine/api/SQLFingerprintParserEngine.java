@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.engine.api;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ListTokenSource;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.sql.parser.engine.core.ParseASTNode;
+import org.apache.shardingsphere.sql.parser.engine.core.database.fingerprint.SQLFingerprint;
+import org.apache.shardingsphere.sql.parser.engine.core.database.fingerprint.SQLFingerprintGenerator;
+import org.apache.shardingsphere.sql.parser.engine.core.database.fingerprint.SQLTemplateTokenBinder;
+import org.apache.shardingsphere.sql.parser.engine.core.database.parser.SQLParserExecutor;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.SQLStatement;
+
+import java.util.List;
+
+/**
+ * SQL fingerprint parser engine.
+ * 
+ * <p>SQL is lexed only once to generate fingerprint, parse tree is cached by fingerprint and built by template tokens,
+ * SQLs differ only in literals reuse the cached parse tree and are visited with their own literals re-bound.</p>
+ */
+public final class SQLFingerprintParserEngine {
+    
+    private final SQLFingerprintGenerator fingerprintGenerator;
+    
+    private final SQLParserExecutor sqlParserExecutor;
+    
+    private final SQLStatementVisitorEngine visitorEngine;
+    
+    private final Cache<String, ParseTree> parseTreeTemplateCache;
+    
+    public SQLFingerprintParserEngine(final DatabaseType databaseType, final CacheOption cacheOption) {
+        fingerprintGenerator = new SQLFingerprintGenerator(databaseType);
+        sqlParserExecutor = new SQLParserExecutor(databaseType);
+        visitorEngine = new SQLStatementVisitorEngine(databaseType);
+        parseTreeTemplateCache = Caffeine.newBuilder().softValues().initialCapacity(cacheOption.getInitialCapacity()).maximumSize(cacheOption.getMaximumSize()).recordStats().build();
+    }
+    
+    /**
+     * Update cache option.
+     *
+     * @param cacheOption cache option
+     */
+    public void updateCacheOption(final CacheOption cacheOption) {
+        parseTreeTemplateCache.policy().eviction().ifPresent(eviction -> eviction.setMaximum(cacheOption.getMaximumSize()));
+    }
+    
+    /**
+     * Parse to SQL statement.
+     *
+     * @param sql SQL to be parsed
+     * @return SQL statement
+     */
+    public SQLStatement parse(final String sql) {
+        SQLFingerprint fingerprint = fingerprintGenerator.generate(sql);
+        List<Token> previousTokens = SQLTemplateTokenBinder.bind(fingerprint.getDefaultChannelTokens());
+        try {
+            ParseTree parseTree = parseTreeTemplateCache.get(fingerprint.getValue(), key -> parseTemplate(sql, fingerprint));
+            return visitorEngine.visit(new ParseASTNode(parseTree, fingerprint.getTokenStream()));
+        } finally {
+            SQLTemplateTokenBinder.restore(previousTokens);
+        }
+    }
+    
+    private ParseTree parseTemplate(final String sql, final SQLFingerprint fingerprint) {
+        CommonTokenStream templateTokenStream = new CommonTokenStream(new ListTokenSource(SQLTemplateTokenBinder.createTemplateTokens(fingerprint.getDefaultChannelTokens())));
+        return sqlParserExecutor.parse(sql, templateTokenStream).getParseTree();
+    }
+    
+    /**
+     * Get cache stats.
+     *
+     * @return cache stats
+     */
+    public CacheStats getCacheStats() {
+        return parseTreeTemplateCache.stats();
+    }
+}
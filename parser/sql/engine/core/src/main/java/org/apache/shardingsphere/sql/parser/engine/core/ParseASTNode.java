@@ -17,6 +17,7 @@
 
 package org.apache.shardingsphere.sql.parser.engine.core;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.antlr.v4.runtime.CharStream;
 import org.antlr.v4.runtime.CommonToken;
@@ -36,6 +37,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public final class ParseASTNode implements ASTNode {
     
+    @Getter
     private final ParseTree parseTree;
     
     private final CommonTokenStream tokenStream;
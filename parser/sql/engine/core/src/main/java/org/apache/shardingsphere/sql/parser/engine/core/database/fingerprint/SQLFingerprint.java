@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.engine.core.database.fingerprint;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Token;
+
+import java.util.List;
+
+/**
+ * SQL fingerprint.
+ * 
+ * <p>Fingerprint is the text of all default channel tokens with literal tokens replaced by placeholders,
+ * SQLs with same fingerprint have same parse tree structure and differ only in literals, comments and blanks.</p>
+ */
+@RequiredArgsConstructor
+@Getter
+public final class SQLFingerprint {
+    
+    private final String value;
+    
+    private final CommonTokenStream tokenStream;
+    
+    private final List<Token> defaultChannelTokens;
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.engine.core.database.fingerprint;
+
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.Vocabulary;
+import org.apache.shardingsphere.database.connector.core.spi.DatabaseTypedSPILoader;
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.sql.parser.api.parser.SQLLexer;
+import org.apache.shardingsphere.sql.parser.engine.core.SQLParserFactory;
+import org.apache.shardingsphere.sql.parser.spi.DialectSQLParserFacade;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * SQL fingerprint generator.
+ */
+public final class SQLFingerprintGenerator {
+    
+    private static final Collection<String> LITERAL_TOKEN_NAMES = new HashSet<>(Arrays.asList(
+            "STRING_", "SINGLE_QUOTED_TEXT", "DOUBLE_QUOTED_TEXT", "ALTERNATIVE_QUOTED_TEXT", "NCHAR_TEXT", "UCHAR_TEXT",
+            "NUMBER_", "INTEGER_", "INT_NUM_", "FLOAT_NUM_", "DECIMAL_NUM_", "HEX_DIGIT_", "BIT_NUM_"));
+    
+    private static final char LITERAL_PLACEHOLDER = '\u0000';
+    
+    private static final char TOKEN_DELIMITER = ' ';
+    
+    private final Class<? extends SQLLexer> lexerClass;
+    
+    private final BitSet literalTokenTypes;
+    
+    public SQLFingerprintGenerator(final DatabaseType databaseType) {
+        lexerClass = DatabaseTypedSPILoader.getService(DialectSQLParserFacade.class, databaseType).getLexerClass();
+        literalTokenTypes = getLiteralTokenTypes(((Lexer) SQLParserFactory.newTokenStream("", lexerClass).getTokenSource()).getVocabulary());
+    }
+    
+    private BitSet getLiteralTokenTypes(final Vocabulary vocabulary) {
+        BitSet result = new BitSet();
+        for (int i = 0; i <= vocabulary.getMaxTokenType(); i++) {
+            if (LITERAL_TOKEN_NAMES.contains(vocabulary.getSymbolicName(i))) {
+                result.set(i);
+            }
+        }
+        return result;
+    }
+    
+    /**
+     * Generate SQL fingerprint.
+     *
+     * @param sql SQL
+     * @return SQL fingerprint
+     */
+    public SQLFingerprint generate(final String sql) {
+        CommonTokenStream tokenStream = SQLParserFactory.newTokenStream(sql, lexerClass);
+        tokenStream.fill();
+        List<Token> defaultChannelTokens = new ArrayList<>(tokenStream.size());
+        StringBuilder value = new StringBuilder(sql.length());
+        for (Token each : tokenStream.getTokens()) {
+            if (Token.DEFAULT_CHANNEL != each.getChannel()) {
+                continue;
+            }
+            defaultChannelTokens.add(each);
+            if (Token.EOF == each.getType()) {
+                continue;
+            }
+            if (literalTokenTypes.get(each.getType())) {
+                value.append(LITERAL_PLACEHOLDER).append(each.getType());
+            } else {
+                value.append(each.getText());
+            }
+            value.append(TOKEN_DELIMITER);
+        }
+        return new SQLFingerprint(value.toString(), tokenStream, defaultChannelTokens);
+    }
+}
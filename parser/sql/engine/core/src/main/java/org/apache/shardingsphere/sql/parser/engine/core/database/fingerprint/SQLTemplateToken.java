@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.engine.core.database.fingerprint;
+
+import lombok.RequiredArgsConstructor;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+
+/**
+ * SQL template token.
+ * 
+ * <p>Template token only keeps token type, the text and position are resolved from the token bound by {@link SQLTemplateTokenBinder},
+ * so one parse tree built by template tokens can be visited by all SQLs with same fingerprint.</p>
+ */
+@RequiredArgsConstructor
+public final class SQLTemplateToken implements Token {
+    
+    private final int ordinal;
+    
+    private final int type;
+    
+    @Override
+    public int getType() {
+        return type;
+    }
+    
+    @Override
+    public int getChannel() {
+        return DEFAULT_CHANNEL;
+    }
+    
+    @Override
+    public String getText() {
+        return SQLTemplateTokenBinder.getBoundToken(ordinal).getText();
+    }
+    
+    @Override
+    public int getLine() {
+        return SQLTemplateTokenBinder.getBoundToken(ordinal).getLine();
+    }
+    
+    @Override
+    public int getCharPositionInLine() {
+        return SQLTemplateTokenBinder.getBoundToken(ordinal).getCharPositionInLine();
+    }
+    
+    @Override
+    public int getTokenIndex() {
+        return SQLTemplateTokenBinder.getBoundToken(ordinal).getTokenIndex();
+    }
+    
+    @Override
+    public int getStartIndex() {
+        return SQLTemplateTokenBinder.getBoundToken(ordinal).getStartIndex();
+    }
+    
+    @Override
+    public int getStopIndex() {
+        return SQLTemplateTokenBinder.getBoundToken(ordinal).getStopIndex();
+    }
+    
+    @Override
+    public TokenSource getTokenSource() {
+        return SQLTemplateTokenBinder.getBoundToken(ordinal).getTokenSource();
+    }
+    
+    @Override
+    public CharStream getInputStream() {
+        return SQLTemplateTokenBinder.getBoundToken(ordinal).getInputStream();
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("[@%d,<%d>]", ordinal, type);
+    }
+}
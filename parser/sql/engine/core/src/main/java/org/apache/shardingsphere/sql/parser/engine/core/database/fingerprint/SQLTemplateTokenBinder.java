@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.sql.parser.engine.core.database.fingerprint;
+
+import com.google.common.base.Preconditions;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.antlr.v4.runtime.Token;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * SQL template token binder.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class SQLTemplateTokenBinder {
+    
+    private static final ThreadLocal<List<Token>> BOUND_TOKENS = new ThreadLocal<>();
+    
+    /**
+     * Create template tokens.
+     *
+     * @param defaultChannelTokens default channel tokens
+     * @return template tokens
+     */
+    public static List<Token> createTemplateTokens(final List<Token> defaultChannelTokens) {
+        List<Token> result = new ArrayList<>(defaultChannelTokens.size());
+        for (int i = 0; i < defaultChannelTokens.size(); i++) {
+            result.add(new SQLTemplateToken(i, defaultChannelTokens.get(i).getType()));
+        }
+        return result;
+    }
+    
+    /**
+     * Bind default channel tokens of current SQL to template tokens of current thread.
+     *
+     * @param defaultChannelTokens default channel tokens
+     * @return previous bound tokens, should be restored after current SQL visited
+     */
+    public static List<Token> bind(final List<Token> defaultChannelTokens) {
+        List<Token> result = BOUND_TOKENS.get();
+        BOUND_TOKENS.set(defaultChannelTokens);
+        return result;
+    }
+    
+    /**
+     * Restore previous bound tokens.
+     *
+     * @param previousTokens previous bound tokens
+     */
+    public static void restore(final List<Token> previousTokens) {
+        if (null == previousTokens) {
+            BOUND_TOKENS.remove();
+        } else {
+            BOUND_TOKENS.set(previousTokens);
+        }
+    }
+    
+    static Token getBoundToken(final int ordinal) {
+        List<Token> boundTokens = BOUND_TOKENS.get();
+        Preconditions.checkState(null != boundTokens, "SQL template token can not be resolved without bound tokens.");
+        return boundTokens.get(ordinal);
+    }
+}
@@ -90,15 +90,15 @@ public final class ProxyDatabaseConnectionManager implements DatabaseConnectionM
     public List<Connection> getConnections(final String databaseName, final String dataSourceName, final int connectionOffset, final int connectionSize,
                                            final ConnectionMode connectionMode) throws SQLException {
         Preconditions.checkNotNull(databaseName, "Current database name is null.");
-        Collection<Connection> connections;
+        List<Connection> connections;
         String cacheKey = getKey(databaseName, dataSourceName);
         synchronized (cachedConnections) {
-            connections = cachedConnections.get(cacheKey);
+            connections = new ArrayList<>(cachedConnections.get(cacheKey));
         }
         List<Connection> result;
         int maxConnectionSize = connectionOffset + connectionSize;
         if (connections.size() >= maxConnectionSize) {
-            result = new ArrayList<>(connections).subList(connectionOffset, maxConnectionSize);
+            result = connections.subList(connectionOffset, maxConnectionSize);
         } else if (connections.isEmpty()) {
             Collection<Connection> newConnections = createNewConnections(databaseName, dataSourceName, maxConnectionSize, connectionMode);
             result = new ArrayList<>(newConnections).subList(connectionOffset, maxConnectionSize);
@@ -31,6 +31,7 @@ import org.apache.shardingsphere.infra.binder.context.segment.insert.values.Inse
 import org.apache.shardingsphere.infra.binder.context.segment.table.TablesContext;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.type.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
@@ -48,7 +49,9 @@ import org.apache.shardingsphere.infra.executor.sql.prepare.driver.DriverExecuti
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.JDBCDriverType;
 import org.apache.shardingsphere.infra.executor.sql.prepare.driver.jdbc.StatementOption;
 import org.apache.shardingsphere.infra.executor.sql.prepare.raw.RawExecutionPrepareEngine;
+import org.apache.shardingsphere.infra.metadata.ShardingSphereMetaData;
 import org.apache.shardingsphere.infra.metadata.database.ShardingSphereDatabase;
+import org.apache.shardingsphere.infra.metadata.database.resource.unit.StorageUnit;
 import org.apache.shardingsphere.infra.rule.ShardingSphereRule;
 import org.apache.shardingsphere.infra.rule.attribute.raw.RawExecutionRuleAttribute;
 import org.apache.shardingsphere.infra.session.connection.ConnectionContext;
@@ -248,9 +251,42 @@ public final class ProxySQLExecutor {
             }
         }
         executeTransactionHooksBeforeExecuteSQL(databaseConnectionManager.getConnectionSession());
+        if (isCompletionOrderQuery(executionContext.getSqlStatementContext(), executionGroupContext, databaseName, isExceptionThrown)) {
+            return regularExecutor.executeInCompletionOrder(executionContext.getQueryContext(), executionGroupContext);
+        }
         return regularExecutor.execute(executionContext.getQueryContext(), executionGroupContext, isReturnGeneratedKeys, isExceptionThrown);
     }
     
+    private boolean isCompletionOrderQuery(final SQLStatementContext sqlStatementContext, final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext,
+                                           final String databaseName, final boolean isExceptionThrown) {
+        if (!isExceptionThrown || executionGroupContext.getInputGroups().size() < 2 || !isUnorderedQuery(sqlStatementContext)
+                || getTransactionContext(databaseConnectionManager.getConnectionSession()).isDistributedTransactionStarted()) {
+            return false;
+        }
+        ShardingSphereMetaData metaData = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData();
+        ShardingSphereDatabase database = metaData.getDatabase(databaseName);
+        return isSameStorageTypes(database) && metaData.getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_BACKEND_COMPLETION_ORDER_QUERY_ENABLED);
+    }
+    
+    private boolean isUnorderedQuery(final SQLStatementContext sqlStatementContext) {
+        if (!(sqlStatementContext instanceof SelectStatementContext)) {
+            return false;
+        }
+        SelectStatementContext selectStatementContext = (SelectStatementContext) sqlStatementContext;
+        return selectStatementContext.getOrderByContext().getItems().isEmpty() && selectStatementContext.getGroupByContext().getItems().isEmpty()
+                && selectStatementContext.getProjectionsContext().getAggregationProjections().isEmpty() && !selectStatementContext.getProjectionsContext().isDistinctRow()
+                && !selectStatementContext.isNeedAggregateRewrite() && !selectStatementContext.getPaginationContext().isHasPagination();
+    }
+    
+    private boolean isSameStorageTypes(final ShardingSphereDatabase database) {
+        for (StorageUnit each : database.getResourceMetaData().getStorageUnits().values()) {
+            if (!each.getStorageType().equals(database.getProtocolType())) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
     @SuppressWarnings({"unchecked", "rawtypes"})
     private void executeTransactionHooksBeforeExecuteSQL(final ConnectionSession connectionSession) throws SQLException {
         if (!getTransactionContext(connectionSession).isInTransaction()) {
@@ -35,6 +35,7 @@ import org.apache.shardingsphere.infra.connection.kernel.KernelProcessor;
 import org.apache.shardingsphere.infra.exception.ShardingSpherePreconditions;
 import org.apache.shardingsphere.infra.exception.kernel.metadata.resource.storageunit.EmptyStorageUnitException;
 import org.apache.shardingsphere.infra.exception.kernel.metadata.rule.EmptyRuleException;
+import org.apache.shardingsphere.infra.executor.kernel.model.CompletionOrderResultList;
 import org.apache.shardingsphere.infra.executor.sql.context.ExecutionContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.SQLExecutorExceptionHandler;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
@@ -66,6 +67,7 @@ import org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction.ProxyB
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCell;
 import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRowReader;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeaderBuilderEngine;
@@ -89,6 +91,7 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -125,6 +128,8 @@ public final class StandardDatabaseProxyConnector implements DatabaseProxyConnec
     
     private MergedResult mergedResult;
     
+    private CompletionOrderResultList<ExecuteResult> completionOrderResults;
+    
     public StandardDatabaseProxyConnector(final JDBCDriverType driverType, final QueryContext queryContext, final ProxyDatabaseConnectionManager databaseConnectionManager) {
         this.driverType = driverType;
         this.queryContext = queryContext;
@@ -247,12 +252,21 @@ public final class StandardDatabaseProxyConnector implements DatabaseProxyConnec
             pushDownMetaDataRefreshEngine.refresh(contextManager.getPersistServiceFacade().getModeFacade().getMetaDataManagerService(),
                     database, contextManager.getMetaDataContexts().getMetaData().getProps(), executionContext.getRouteContext().getRouteUnits());
         }
+        if (executeResults instanceof CompletionOrderResultList) {
+            completionOrderResults = (CompletionOrderResultList<ExecuteResult>) executeResults;
+            return processExecuteQuery(queryContext.getSqlStatementContext(), castToQueryResults(executeResults), (QueryResult) executeResults.get(0));
+        }
         Object executeResultSample = executeResults.iterator().next();
         return executeResultSample instanceof QueryResult
                 ? processExecuteQuery(queryContext.getSqlStatementContext(), executeResults.stream().map(QueryResult.class::cast).collect(Collectors.toList()), (QueryResult) executeResultSample)
                 : processExecuteUpdate(executeResults.stream().map(UpdateResult.class::cast).collect(Collectors.toList()));
     }
     
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private List<QueryResult> castToQueryResults(final List<ExecuteResult> executeResults) {
+        return (List) executeResults;
+    }
+    
     private boolean isCurrentTransactionCommitRequired(final SQLStatement sqlStatement) {
         DialectTransactionOption transactionOption = new DatabaseTypeRegistry(sqlStatement.getDatabaseType()).getDialectDatabaseMetaData().getTransactionOption();
         return !databaseConnectionManager.getConnectionSession().isAutoCommit() && sqlStatement instanceof DDLStatement
@@ -363,11 +377,53 @@ public final class StandardDatabaseProxyConnector implements DatabaseProxyConnec
         return new QueryResponseRow(cells);
     }
     
+    @Override
+    public Optional<QueryResponseRowReader> findQueryResponseRowReader() {
+        if (null == mergedResult) {
+            return Optional.empty();
+        }
+        List<Class<?>> valueTypes = new ArrayList<>(queryHeaders.size());
+        for (QueryHeader each : queryHeaders) {
+            valueTypes.add(getValueType(each));
+        }
+        return Optional.of(columnIndex -> readValue(columnIndex, valueTypes.get(columnIndex - 1)));
+    }
+    
+    private Class<?> getValueType(final QueryHeader queryHeader) {
+        switch (queryHeader.getColumnType()) {
+            case Types.BOOLEAN:
+                return boolean.class;
+            case Types.TINYINT:
+            case Types.SMALLINT:
+                return int.class;
+            case Types.INTEGER:
+                return long.class;
+            case Types.BIGINT:
+                return queryHeader.isSigned() ? long.class : Object.class;
+            case Types.REAL:
+                return float.class;
+            case Types.DOUBLE:
+                return double.class;
+            default:
+                return Object.class;
+        }
+    }
+    
+    private Object readValue(final int columnIndex, final Class<?> valueType) throws SQLException {
+        Object result = mergedResult.getValue(columnIndex, valueType);
+        return Object.class == valueType || !mergedResult.wasNull() ? result : null;
+    }
+    
     @Override
     public void close() throws SQLException {
+        if (null != completionOrderResults) {
+            completionOrderResults.awaitCompletion();
+            completionOrderResults = null;
+        }
         Collection<SQLException> result = new LinkedList<>();
         result.addAll(closeResultSets());
         result.addAll(closeStatements());
+        closeMergedResult().ifPresent(result::add);
         closeSQLFederationEngine().ifPresent(result::add);
         if (result.isEmpty()) {
             return;
@@ -408,7 +464,21 @@ public final class StandardDatabaseProxyConnector implements DatabaseProxyConnec
     }
     
     private boolean isCachedPreparedStatement(final Statement statement) {
-        return statement instanceof PreparedStatement && databaseConnectionManager.getConnectionSession().getPreparedStatementCacheContext().contains(statement);
+        return statement instanceof PreparedStatement && databaseConnectionManager.getConnectionSession().getPreparedStatementCacheContext().release(statement);
+    }
+    
+    private Optional<SQLException> closeMergedResult() {
+        if (null == mergedResult) {
+            return Optional.empty();
+        }
+        try {
+            mergedResult.close();
+        } catch (final SQLException ex) {
+            return Optional.of(ex);
+        } finally {
+            mergedResult = null;
+        }
+        return Optional.empty();
     }
     
     private Optional<SQLException> closeSQLFederationEngine() {
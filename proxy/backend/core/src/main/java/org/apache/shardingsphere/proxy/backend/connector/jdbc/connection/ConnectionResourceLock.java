@@ -20,18 +20,17 @@ package org.apache.shardingsphere.proxy.backend.connector.jdbc.connection;
 import io.netty.channel.ChannelHandlerContext;
 import lombok.SneakyThrows;
 
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Connection resource lock.
+ * 
+ * <p>Waiting is woken up by channel writability changed and channel inactive events, writability is checked under lock so that no event is missed.</p>
  */
 public final class ConnectionResourceLock {
     
-    private static final long DEFAULT_TIMEOUT_MILLISECONDS = 200L;
-    
     private final Lock lock = new ReentrantLock();
     
     private final Condition condition = lock.newCondition();
@@ -41,17 +40,19 @@ public final class ConnectionResourceLock {
      *
      * @param context channel handler context
      */
-    @SuppressWarnings("ResultOfMethodCallIgnored")
     @SneakyThrows(InterruptedException.class)
     public void doAwait(final ChannelHandlerContext context) {
-        while (!context.channel().isWritable() && context.channel().isActive()) {
-            context.flush();
-            lock.lock();
-            try {
-                condition.await(DEFAULT_TIMEOUT_MILLISECONDS, TimeUnit.MILLISECONDS);
-            } finally {
-                lock.unlock();
+        if (context.channel().isWritable() || !context.channel().isActive()) {
+            return;
+        }
+        context.flush();
+        lock.lock();
+        try {
+            while (!context.channel().isWritable() && context.channel().isActive()) {
+                condition.await();
             }
+        } finally {
+            lock.unlock();
         }
     }
     
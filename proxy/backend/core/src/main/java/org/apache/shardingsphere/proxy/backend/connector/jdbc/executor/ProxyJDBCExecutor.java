@@ -20,6 +20,7 @@ package org.apache.shardingsphere.proxy.backend.connector.jdbc.executor;
 import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
+import org.apache.shardingsphere.infra.executor.kernel.model.CompletionOrderResultList;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroupContext;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutionUnit;
 import org.apache.shardingsphere.infra.executor.sql.execute.engine.driver.jdbc.JDBCExecutor;
@@ -82,4 +83,31 @@ public final class ProxyJDBCExecutor {
             processEngine.completeSQLExecution(executionGroupContext.getReportContext().getProcessId());
         }
     }
+    
+    /**
+     * Execute in completion order.
+     *
+     * @param queryContext query context
+     * @param executionGroupContext execution group context
+     * @return execute results in completion order
+     */
+    public List<ExecuteResult> executeInCompletionOrder(final QueryContext queryContext, final ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext) {
+        String processId = executionGroupContext.getReportContext().getProcessId();
+        MetaDataContexts metaDataContexts = ProxyContext.getInstance().getContextManager().getMetaDataContexts();
+        ShardingSphereDatabase database = metaDataContexts.getMetaData().getDatabase(connectionSession.getUsedDatabaseName());
+        DatabaseType protocolType = database.getProtocolType();
+        processEngine.executeSQL(executionGroupContext, queryContext);
+        SQLStatementContext context = queryContext.getSqlStatementContext();
+        CompletionOrderResultList<ExecuteResult> result;
+        try {
+            result = jdbcExecutor.executeInCompletionOrder(executionGroupContext,
+                    ProxyJDBCExecutorCallbackFactory.newInstance(type, protocolType, database.getResourceMetaData(), context.getSqlStatement(), databaseProxyConnector, false, true, true),
+                    ProxyJDBCExecutorCallbackFactory.newInstance(type, protocolType, database.getResourceMetaData(), context.getSqlStatement(), databaseProxyConnector, false, true, false));
+        } catch (final RuntimeException ex) {
+            processEngine.completeSQLExecution(processId);
+            throw ex;
+        }
+        result.whenCompleted(() -> processEngine.completeSQLExecution(processId));
+        return result;
+    }
 }
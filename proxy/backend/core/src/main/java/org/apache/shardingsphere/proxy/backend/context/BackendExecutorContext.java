@@ -19,6 +19,7 @@ package org.apache.shardingsphere.proxy.backend.context;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.executor.kernel.ExecutorEngine;
 
@@ -51,8 +52,9 @@ public final class BackendExecutorContext {
      */
     public synchronized void init() {
         closeExecutorEngine();
-        executorEngine = ExecutorEngine.createExecutorEngineWithSize(
-                ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE));
+        ConfigurationProperties props = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps();
+        executorEngine = ExecutorEngine.createExecutorEngine(
+                props.<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE), props.<Boolean>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED));
         lifecycleState = LifecycleState.RUNNING;
     }
     
@@ -18,10 +18,12 @@
 package org.apache.shardingsphere.proxy.backend.handler;
 
 import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRowReader;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 
 import java.sql.SQLException;
 import java.util.Collections;
+import java.util.Optional;
 
 /**
  * Proxy backend handler.
@@ -56,6 +58,15 @@ public interface ProxyBackendHandler {
         return new QueryResponseRow(Collections.emptyList());
     }
     
+    /**
+     * Find query response row reader.
+     *
+     * @return query response row reader, empty if row values can only be got by row data
+     */
+    default Optional<QueryResponseRowReader> findQueryResponseRowReader() {
+        return Optional.empty();
+    }
+    
     /**
      * Close.
      *
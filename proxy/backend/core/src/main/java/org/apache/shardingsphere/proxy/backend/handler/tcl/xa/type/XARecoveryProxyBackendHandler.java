@@ -21,9 +21,11 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.proxy.backend.connector.DatabaseProxyConnector;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
 import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRowReader;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 
 import java.sql.SQLException;
+import java.util.Optional;
 
 /**
  * XA recovery proxy backend handler.
@@ -43,6 +45,11 @@ public final class XARecoveryProxyBackendHandler implements ProxyBackendHandler
         return databaseProxyConnector.getRowData();
     }
     
+    @Override
+    public Optional<QueryResponseRowReader> findQueryResponseRowReader() {
+        return databaseProxyConnector.findQueryResponseRowReader();
+    }
+    
     @Override
     public ResponseHeader execute() throws SQLException {
         return databaseProxyConnector.execute();
@@ -17,32 +17,45 @@
 
 package org.apache.shardingsphere.proxy.backend.session;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import lombok.Getter;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Statement;
-import java.util.Iterator;
-import java.util.LinkedHashMap;
+import java.util.Collection;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Prepared statement cache context.
+ * 
+ * <p>Statements are partitioned by backend connection, each partition is bounded by W-TinyLFU, so one-off statements can not flush out hot ones.
+ * JDBC statements keep identity equality, which makes them usable as keys of the reverse index.
+ * Statement evicted while in use is left to its user to close, see {@link #release(Statement)}.</p>
  */
 public final class PreparedStatementCacheContext {
     
-    private static final int DEFAULT_MAX_SIZE = 128;
+    private static final int DEFAULT_MAX_SIZE_PER_CONNECTION = 256;
     
     @Getter
     private final int maxSize;
     
-    private final Map<CacheKey, PreparedStatement> cachedPreparedStatements = new LinkedHashMap<>(16, 0.75F, true);
+    private final Map<Connection, Cache<CacheKey, PreparedStatement>> partitions = new ConcurrentHashMap<>();
+    
+    private final Map<Statement, CacheKey> cacheKeys = new ConcurrentHashMap<>();
+    
+    private final Collection<Statement> inUseStatements = ConcurrentHashMap.newKeySet();
+    
+    private volatile CacheStats closedPartitionStats = CacheStats.empty();
     
     public PreparedStatementCacheContext() {
-        this(DEFAULT_MAX_SIZE);
+        this(DEFAULT_MAX_SIZE_PER_CONNECTION);
     }
     
     public PreparedStatementCacheContext(final int maxSize) {
@@ -60,20 +73,22 @@ public final class PreparedStatementCacheContext {
      * @return prepared statement
      * @throws SQLException SQL exception
      */
-    public synchronized PreparedStatement getOrCreate(final Connection connection, final String sql, final boolean returnGeneratedKeys,
-                                                      final PreparedStatementCacheKey preparedStatementCacheKey, final PreparedStatementSupplier supplier) throws SQLException {
+    public PreparedStatement getOrCreate(final Connection connection, final String sql, final boolean returnGeneratedKeys,
+                                         final PreparedStatementCacheKey preparedStatementCacheKey, final PreparedStatementSupplier supplier) throws SQLException {
         CacheKey cacheKey = new CacheKey(connection, sql, returnGeneratedKeys, preparedStatementCacheKey);
-        PreparedStatement cachedPreparedStatement = cachedPreparedStatements.get(cacheKey);
+        Cache<CacheKey, PreparedStatement> partition = partitions.computeIfAbsent(connection, unused -> createPartition());
+        PreparedStatement cachedPreparedStatement = partition.getIfPresent(cacheKey);
         if (null != cachedPreparedStatement && !isClosed(cachedPreparedStatement)) {
+            inUseStatements.add(cachedPreparedStatement);
             return cachedPreparedStatement;
         }
         if (null != cachedPreparedStatement) {
-            cachedPreparedStatements.remove(cacheKey);
-            closeQuietly(cachedPreparedStatement);
+            partition.invalidate(cacheKey);
         }
         PreparedStatement result = supplier.get();
-        cachedPreparedStatements.put(cacheKey, result);
-        evictIfNecessary();
+        inUseStatements.add(result);
+        cacheKeys.put(result, cacheKey);
+        partition.put(cacheKey, result);
         return result;
     }
     
@@ -83,8 +98,19 @@ public final class PreparedStatementCacheContext {
      * @param statement statement
      * @return cached or not
      */
-    public synchronized boolean contains(final Statement statement) {
-        return cachedPreparedStatements.containsValue(statement);
+    public boolean contains(final Statement statement) {
+        return cacheKeys.containsKey(statement);
+    }
+    
+    /**
+     * Release statement after use.
+     *
+     * @param statement statement
+     * @return whether statement is still cached, statement not cached should be closed by caller
+     */
+    public boolean release(final Statement statement) {
+        inUseStatements.remove(statement);
+        return cacheKeys.containsKey(statement);
     }
     
     /**
@@ -92,15 +118,14 @@ public final class PreparedStatementCacheContext {
      *
      * @param statement statement
      */
-    public synchronized void invalidate(final Statement statement) {
-        Iterator<Entry<CacheKey, PreparedStatement>> iterator = cachedPreparedStatements.entrySet().iterator();
-        while (iterator.hasNext()) {
-            Entry<CacheKey, PreparedStatement> entry = iterator.next();
-            if (entry.getValue() == statement) {
-                iterator.remove();
-                closeQuietly(entry.getValue());
-                break;
-            }
+    public void invalidate(final Statement statement) {
+        CacheKey cacheKey = cacheKeys.get(statement);
+        if (null == cacheKey) {
+            return;
+        }
+        Cache<CacheKey, PreparedStatement> partition = partitions.get(cacheKey.connection);
+        if (null != partition) {
+            partition.asMap().remove(cacheKey, statement);
         }
     }
     
@@ -109,25 +134,24 @@ public final class PreparedStatementCacheContext {
      *
      * @param preparedStatementCacheKey prepared statement cache key
      */
-    public synchronized void invalidate(final PreparedStatementCacheKey preparedStatementCacheKey) {
-        Iterator<Entry<CacheKey, PreparedStatement>> iterator = cachedPreparedStatements.entrySet().iterator();
-        while (iterator.hasNext()) {
-            Entry<CacheKey, PreparedStatement> entry = iterator.next();
-            if (preparedStatementCacheKey.equals(entry.getKey().preparedStatementCacheKey)) {
-                iterator.remove();
-                closeQuietly(entry.getValue());
-            }
+    public void invalidate(final PreparedStatementCacheKey preparedStatementCacheKey) {
+        for (Cache<CacheKey, PreparedStatement> each : partitions.values()) {
+            each.asMap().keySet().removeIf(cacheKey -> preparedStatementCacheKey.equals(cacheKey.preparedStatementCacheKey));
         }
     }
     
     /**
      * Close all cached statements.
      */
-    public synchronized void closeAll() {
-        for (PreparedStatement each : cachedPreparedStatements.values()) {
-            closeQuietly(each);
+    public void closeAll() {
+        for (Connection each : partitions.keySet()) {
+            Cache<CacheKey, PreparedStatement> partition = partitions.remove(each);
+            if (null != partition) {
+                partition.invalidateAll();
+                closedPartitionStats = closedPartitionStats.plus(partition.stats());
+            }
         }
-        cachedPreparedStatements.clear();
+        inUseStatements.clear();
     }
     
     /**
@@ -135,19 +159,39 @@ public final class PreparedStatementCacheContext {
      *
      * @return cache size
      */
-    public synchronized int size() {
-        return cachedPreparedStatements.size();
+    public int size() {
+        long result = 0L;
+        for (Cache<CacheKey, PreparedStatement> each : partitions.values()) {
+            each.cleanUp();
+            result += each.estimatedSize();
+        }
+        return (int) result;
     }
     
-    private void evictIfNecessary() {
-        while (cachedPreparedStatements.size() > maxSize) {
-            Iterator<Entry<CacheKey, PreparedStatement>> iterator = cachedPreparedStatements.entrySet().iterator();
-            if (!iterator.hasNext()) {
-                break;
-            }
-            Entry<CacheKey, PreparedStatement> eldest = iterator.next();
-            iterator.remove();
-            closeQuietly(eldest.getValue());
+    /**
+     * Get cache statistics, including hit and eviction counts.
+     *
+     * @return cache statistics
+     */
+    public CacheStats getStats() {
+        CacheStats result = closedPartitionStats;
+        for (Cache<CacheKey, PreparedStatement> each : partitions.values()) {
+            result = result.plus(each.stats());
+        }
+        return result;
+    }
+    
+    private Cache<CacheKey, PreparedStatement> createPartition() {
+        return Caffeine.newBuilder().maximumSize(maxSize).executor(Runnable::run).recordStats().<CacheKey, PreparedStatement>removalListener(this::onRemoval).build();
+    }
+    
+    private void onRemoval(final CacheKey cacheKey, final PreparedStatement preparedStatement, final RemovalCause cause) {
+        if (null == cacheKey || null == preparedStatement) {
+            return;
+        }
+        cacheKeys.remove(preparedStatement, cacheKey);
+        if (!cause.wasEvicted() || !inUseStatements.contains(preparedStatement)) {
+            closeQuietly(preparedStatement);
         }
     }
     
@@ -46,6 +46,15 @@ public final class RequiredSessionVariableRecorder {
         sessionVariables.put(variableName, variableValue);
     }
     
+    /**
+     * Copy recorded variables to another recorder.
+     *
+     * @param recorder recorder to copy to
+     */
+    public void copyTo(final RequiredSessionVariableRecorder recorder) {
+        recorder.sessionVariables.putAll(sessionVariables);
+    }
+    
     /**
      * Return true if no session variable was set.
      *
@@ -27,9 +27,12 @@ import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.database.exception.core.exception.transaction.TableModifyInTransactionException;
 import org.apache.shardingsphere.infra.binder.context.segment.insert.keygen.GeneratedKeyContext;
 import org.apache.shardingsphere.infra.binder.context.segment.insert.values.InsertValueContext;
+import org.apache.shardingsphere.infra.binder.context.segment.select.orderby.OrderByItem;
+import org.apache.shardingsphere.infra.binder.context.segment.select.projection.impl.AggregationProjection;
 import org.apache.shardingsphere.infra.binder.context.segment.table.TablesContext;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.type.dml.InsertStatementContext;
+import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.infra.config.rule.RuleConfiguration;
 import org.apache.shardingsphere.infra.executor.kernel.model.ExecutionGroup;
@@ -107,6 +110,7 @@ import java.sql.Statement;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -193,6 +197,7 @@ class ProxySQLExecutorTest {
         when(metaData.getDatabase("foo_db")).thenReturn(database);
         when(metaData.getAllDatabases()).thenReturn(Collections.singleton(database));
         when(metaData.getProps().<Integer>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_SIZE)).thenReturn(0);
+        when(metaData.getProps().<Boolean>getValue(ConfigurationPropertyKey.KERNEL_EXECUTOR_VIRTUAL_THREAD_ENABLED)).thenReturn(false);
         when(metaData.getProps().<Integer>getValue(ConfigurationPropertyKey.MAX_CONNECTIONS_SIZE_PER_QUERY)).thenReturn(1);
         when(transactionRule.getDefaultType()).thenReturn(TransactionType.XA);
         when(metaData.getGlobalRuleMetaData()).thenReturn(new RuleMetaData(Arrays.asList(mock(SQLFederationRule.class), transactionRule)));
@@ -349,6 +354,55 @@ class ProxySQLExecutorTest {
         }
     }
     
+    @SuppressWarnings("rawtypes")
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("executeInCompletionOrderScenarios")
+    void assertExecuteInCompletionOrder(final String name, final boolean completionOrderQueryEnabled, final int groupSize, final boolean hasOrderBy, final boolean hasGroupBy,
+                                        final boolean hasAggregation, final boolean hasPagination, final boolean expectedCompletionOrder) throws SQLException {
+        when(connectionSession.getUsedDatabaseName()).thenReturn("foo_db");
+        when(database.getRuleMetaData().getRules()).thenReturn(createRules(false));
+        when(database.getResourceMetaData().getStorageUnits()).thenReturn(Collections.emptyMap());
+        when(metaData.getProps().<Boolean>getValue(ConfigurationPropertyKey.PROXY_BACKEND_COMPLETION_ORDER_QUERY_ENABLED)).thenReturn(completionOrderQueryEnabled);
+        ProxySQLExecutor proxySQLExecutor = createProxySQLExecutor("foo_schema", true);
+        setExecutorField(proxySQLExecutor, "regularExecutor", regularExecutor);
+        ExecutionContext executionContext = mock(ExecutionContext.class, RETURNS_DEEP_STUBS);
+        SelectStatementContext sqlStatementContext = createSelectStatementContext(hasOrderBy, hasGroupBy, hasAggregation, hasPagination);
+        when(executionContext.getSqlStatementContext()).thenReturn(sqlStatementContext);
+        when(executionContext.getQueryContext().getParameters()).thenReturn(Collections.emptyList());
+        when(executionContext.getExecutionUnits()).thenReturn(Collections.emptyList());
+        Collection<ExecutionGroup<JDBCExecutionUnit>> inputGroups = new LinkedList<>();
+        for (int i = 0; i < groupSize; i++) {
+            inputGroups.add(new ExecutionGroup<>(Collections.singletonList(mock(JDBCExecutionUnit.class))));
+        }
+        ExecutionGroupContext<JDBCExecutionUnit> executionGroupContext = new ExecutionGroupContext<>(inputGroups, mock(ExecutionGroupReportContext.class));
+        List<ExecuteResult> expected = Collections.singletonList(mock(ExecuteResult.class));
+        when(regularExecutor.executeInCompletionOrder(executionContext.getQueryContext(), executionGroupContext)).thenReturn(expected);
+        when(regularExecutor.execute(executionContext.getQueryContext(), executionGroupContext, false, true)).thenReturn(expected);
+        try (
+                MockedConstruction<DriverExecutionPrepareEngine> ignored = mockConstruction(DriverExecutionPrepareEngine.class,
+                        (mock, context) -> when(mock.prepare(anyString(), eq(executionContext), anyCollection(), any(ExecutionGroupReportContext.class))).thenReturn(executionGroupContext))) {
+            assertThat(proxySQLExecutor.execute(executionContext), is(expected));
+        }
+        if (expectedCompletionOrder) {
+            verify(regularExecutor).executeInCompletionOrder(executionContext.getQueryContext(), executionGroupContext);
+            verify(regularExecutor, never()).execute(any(), any(), anyBoolean(), anyBoolean());
+        } else {
+            verify(regularExecutor, never()).executeInCompletionOrder(any(), any());
+            verify(regularExecutor).execute(executionContext.getQueryContext(), executionGroupContext, false, true);
+        }
+    }
+    
+    private Stream<Arguments> executeInCompletionOrderScenarios() {
+        return Stream.of(
+                Arguments.of("unordered-query", true, 2, false, false, false, false, true),
+                Arguments.of("disabled", false, 2, false, false, false, false, false),
+                Arguments.of("single-execution-group", true, 1, false, false, false, false, false),
+                Arguments.of("order-by", true, 2, true, false, false, false, false),
+                Arguments.of("group-by", true, 2, false, true, false, false, false),
+                Arguments.of("aggregation", true, 2, false, false, true, false, false),
+                Arguments.of("pagination", true, 2, false, false, false, true, false));
+    }
+    
     @ParameterizedTest(name = "{0}")
     @MethodSource("executeFallbackScenarios")
     void assertExecuteFallback(final String name, final boolean hasRawExecutionRule, final SQLStatement sqlStatement, final boolean hasSaneResult) throws SQLException {
@@ -540,6 +594,18 @@ class ProxySQLExecutorTest {
         return result;
     }
     
+    private SelectStatementContext createSelectStatementContext(final boolean hasOrderBy, final boolean hasGroupBy, final boolean hasAggregation, final boolean hasPagination) {
+        SelectStatementContext result = mock(SelectStatementContext.class, RETURNS_DEEP_STUBS);
+        when(result.getSqlStatement().getDatabaseType()).thenReturn(fixtureDatabaseType);
+        when(result.getOrderByContext().getItems()).thenReturn(hasOrderBy ? Collections.singleton(mock(OrderByItem.class)) : Collections.emptyList());
+        when(result.getGroupByContext().getItems()).thenReturn(hasGroupBy ? Collections.singleton(mock(OrderByItem.class)) : Collections.emptyList());
+        when(result.getProjectionsContext().getAggregationProjections()).thenReturn(hasAggregation ? Collections.singletonList(mock(AggregationProjection.class)) : Collections.emptyList());
+        when(result.getProjectionsContext().isDistinctRow()).thenReturn(false);
+        when(result.isNeedAggregateRewrite()).thenReturn(false);
+        when(result.getPaginationContext().isHasPagination()).thenReturn(hasPagination);
+        return result;
+    }
+    
     private Collection<ShardingSphereRule> createRules(final boolean hasRawExecutionRule) {
         RuleAttributes attributes = hasRawExecutionRule ? new RuleAttributes(mock(RawExecutionRuleAttribute.class)) : new RuleAttributes();
         ShardingSphereRule result = new ShardingSphereRule() {
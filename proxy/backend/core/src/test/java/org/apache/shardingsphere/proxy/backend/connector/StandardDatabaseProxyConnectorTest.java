@@ -71,6 +71,7 @@ import org.apache.shardingsphere.proxy.backend.connector.jdbc.statement.JDBCBack
 import org.apache.shardingsphere.proxy.backend.connector.jdbc.transaction.ProxyBackendTransactionManager;
 import org.apache.shardingsphere.proxy.backend.context.BackendExecutorContext;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRowReader;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeaderBuilder;
@@ -126,6 +127,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.isA;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
@@ -759,7 +761,7 @@ class StandardDatabaseProxyConnectorTest {
         DatabaseProxyConnector engine = createDatabaseProxyConnector(JDBCDriverType.STATEMENT, createQueryContext(createSQLStatementContext(new SQLStatement(databaseType)), mockDatabase()));
         PreparedStatement preparedStatement = mock(PreparedStatement.class);
         engine.add(preparedStatement);
-        when(databaseConnectionManager.getConnectionSession().getPreparedStatementCacheContext().contains(preparedStatement)).thenReturn(true, false);
+        when(databaseConnectionManager.getConnectionSession().getPreparedStatementCacheContext().release(preparedStatement)).thenReturn(true, false);
         engine.close();
         engine.close();
         verify(preparedStatement, never()).cancel();
@@ -813,6 +815,33 @@ class StandardDatabaseProxyConnectorTest {
         verify(mergedResult).next();
     }
     
+    @Test
+    void assertFindQueryResponseRowReader() throws SQLException {
+        DatabaseProxyConnector engine = createDatabaseProxyConnector(JDBCDriverType.STATEMENT, createQueryContext(createSQLStatementContext(new SQLStatement(databaseType)), mockDatabase()));
+        MergedResult mergedResult = mock(MergedResult.class);
+        when(mergedResult.getValue(1, long.class)).thenReturn(1L);
+        when(mergedResult.getValue(2, long.class)).thenReturn(0L);
+        when(mergedResult.wasNull()).thenReturn(false, true);
+        when(mergedResult.getValue(3, Object.class)).thenReturn("foo");
+        setField(engine, "mergedResult", mergedResult);
+        setField(engine, "queryHeaders", Arrays.asList(createQueryHeader(Types.BIGINT, true), createQueryHeader(Types.INTEGER, true), createQueryHeader(Types.BIGINT, false)));
+        Optional<QueryResponseRowReader> actual = engine.findQueryResponseRowReader();
+        assertTrue(actual.isPresent());
+        assertThat(actual.get().readValue(1), is(1L));
+        assertNull(actual.get().readValue(2));
+        assertThat(actual.get().readValue(3), is("foo"));
+    }
+    
+    @Test
+    void assertFindQueryResponseRowReaderWithoutMergedResult() {
+        assertFalse(createDatabaseProxyConnector(JDBCDriverType.STATEMENT, createQueryContext(createSQLStatementContext(new SQLStatement(databaseType)), mockDatabase()))
+                .findQueryResponseRowReader().isPresent());
+    }
+    
+    private QueryHeader createQueryHeader(final int columnType, final boolean signed) {
+        return new QueryHeader("foo_schema", "foo_tbl", "foo_col", "foo_col", columnType, "foo_type", 10, 0, signed, false, false, false);
+    }
+    
     @Test
     void assertCloseWithSQLExceptionThrownBySQLFederationEngine() throws SQLException {
         DatabaseProxyConnector engine = createDatabaseProxyConnector(JDBCDriverType.STATEMENT, createQueryContext(createSQLStatementContext(new SQLStatement(databaseType)), mockDatabase()));
@@ -28,6 +28,7 @@ import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -67,20 +68,59 @@ class PreparedStatementCacheContextTest {
     }
     
     @Test
-    void assertEvictWithLRU() throws SQLException {
-        PreparedStatementCacheContext cacheContext = new PreparedStatementCacheContext(2);
+    void assertEvictWithFrequency() throws SQLException {
+        PreparedStatementCacheContext cacheContext = new PreparedStatementCacheContext(8);
+        Connection connection = mock(Connection.class);
+        PreparedStatement hot = mock(PreparedStatement.class);
+        PreparedStatement cold = mock(PreparedStatement.class);
+        cacheContext.getOrCreate(connection, "SELECT 0", false, new PreparedStatementCacheKey("statement-0"), () -> hot);
+        cacheContext.getOrCreate(connection, "SELECT 1", false, new PreparedStatementCacheKey("statement-1"), () -> cold);
+        createOneOffPreparedStatements(cacheContext, connection, 2, 8);
+        for (int i = 0; i < 5; i++) {
+            cacheContext.getOrCreate(connection, "SELECT 0", false, new PreparedStatementCacheKey("statement-0"), () -> mock(PreparedStatement.class));
+        }
+        cacheContext.release(hot);
+        cacheContext.release(cold);
+        createOneOffPreparedStatements(cacheContext, connection, 8, 40);
+        assertThat(cacheContext.size(), is(8));
+        assertTrue(cacheContext.contains(hot));
+        assertFalse(cacheContext.contains(cold));
+        verify(cold).close();
+        assertThat(cacheContext.getStats().hitCount(), is(5L));
+        assertThat(cacheContext.getStats().evictionCount(), is(32L));
+    }
+    
+    @Test
+    void assertEvictInUsePreparedStatement() throws SQLException {
+        PreparedStatementCacheContext cacheContext = new PreparedStatementCacheContext(1);
         Connection connection = mock(Connection.class);
         PreparedStatement first = mock(PreparedStatement.class);
         PreparedStatement second = mock(PreparedStatement.class);
-        PreparedStatement third = mock(PreparedStatement.class);
         cacheContext.getOrCreate(connection, "SELECT 1", false, new PreparedStatementCacheKey("statement-1"), () -> first);
         cacheContext.getOrCreate(connection, "SELECT 2", false, new PreparedStatementCacheKey("statement-2"), () -> second);
-        cacheContext.getOrCreate(connection, "SELECT 1", false, new PreparedStatementCacheKey("statement-1"), () -> first);
-        cacheContext.getOrCreate(connection, "SELECT 3", false, new PreparedStatementCacheKey("statement-3"), () -> third);
-        assertFalse(cacheContext.contains(second));
-        assertTrue(cacheContext.contains(first));
-        assertTrue(cacheContext.contains(third));
-        verify(second).close();
+        assertThat(cacheContext.size(), is(1));
+        PreparedStatement evicted = cacheContext.contains(first) ? second : first;
+        verify(evicted, never()).close();
+        assertFalse(cacheContext.release(evicted));
+    }
+    
+    @Test
+    void assertPartitionByConnection() throws SQLException {
+        PreparedStatementCacheContext cacheContext = new PreparedStatementCacheContext(1);
+        PreparedStatement first = mock(PreparedStatement.class);
+        PreparedStatement second = mock(PreparedStatement.class);
+        PreparedStatementCacheKey preparedStatementCacheKey = new PreparedStatementCacheKey("statement-1");
+        cacheContext.getOrCreate(mock(Connection.class), "SELECT 1", false, preparedStatementCacheKey, () -> first);
+        cacheContext.getOrCreate(mock(Connection.class), "SELECT 1", false, preparedStatementCacheKey, () -> second);
+        assertThat(cacheContext.size(), is(2));
+        assertTrue(cacheContext.release(first));
+        assertTrue(cacheContext.release(second));
+    }
+    
+    private void createOneOffPreparedStatements(final PreparedStatementCacheContext cacheContext, final Connection connection, final int startInclusive, final int endExclusive) throws SQLException {
+        for (int i = startInclusive; i < endExclusive; i++) {
+            cacheContext.getOrCreate(connection, "SELECT " + i, false, new PreparedStatementCacheKey("statement-" + i), () -> mock(PreparedStatement.class));
+        }
     }
     
     @Test
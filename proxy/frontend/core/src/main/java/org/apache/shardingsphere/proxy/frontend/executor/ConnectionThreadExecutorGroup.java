@@ -19,11 +19,13 @@ package org.apache.shardingsphere.proxy.frontend.executor;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.apache.shardingsphere.infra.executor.kernel.thread.VirtualThreadUtils;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
@@ -33,6 +35,7 @@ import java.util.concurrent.TimeUnit;
  * <p>
  * Manage the thread for each connection session invoking.
  * This ensures XA transaction framework processed by current thread id.
+ * The thread may be a virtual thread, which keeps the same thread affinity while costs much less when connection is idle.
  * </p>
  */
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -57,11 +60,24 @@ public final class ConnectionThreadExecutorGroup {
      * @param connectionId connection id
      */
     public void register(final int connectionId) {
-        executorServices.put(connectionId, newSingleThreadExecutorService(connectionId));
+        register(connectionId, false);
     }
     
-    private ExecutorService newSingleThreadExecutorService(final int connectionId) {
-        return new ThreadPoolExecutor(0, 1, 1L, TimeUnit.HOURS, new LinkedBlockingQueue<>(), runnable -> new Thread(runnable, String.format("Connection-%d-ThreadExecutor", connectionId)));
+    /**
+     * Register connection.
+     *
+     * @param connectionId connection id
+     * @param virtualThreadEnabled whether to use virtual thread if supported by current JVM
+     */
+    public void register(final int connectionId, final boolean virtualThreadEnabled) {
+        executorServices.put(connectionId, newSingleThreadExecutorService(connectionId, virtualThreadEnabled));
+    }
+    
+    private ExecutorService newSingleThreadExecutorService(final int connectionId, final boolean virtualThreadEnabled) {
+        String threadName = String.format("Connection-%d-ThreadExecutor", connectionId);
+        ThreadFactory platformThreadFactory = runnable -> new Thread(runnable, threadName);
+        ThreadFactory threadFactory = virtualThreadEnabled ? VirtualThreadUtils.createThreadFactory(threadName).orElse(platformThreadFactory) : platformThreadFactory;
+        return new ThreadPoolExecutor(0, 1, 1L, TimeUnit.HOURS, new LinkedBlockingQueue<>(), threadFactory);
     }
     
     /**
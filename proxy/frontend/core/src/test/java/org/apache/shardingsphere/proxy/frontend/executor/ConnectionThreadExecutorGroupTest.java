@@ -20,9 +20,12 @@ package org.apache.shardingsphere.proxy.frontend.executor;
 import org.junit.jupiter.api.Test;
 
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -37,6 +40,16 @@ class ConnectionThreadExecutorGroupTest {
         ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
     }
     
+    @Test
+    void assertRegisterWithVirtualThreadEnabled() throws ExecutionException, InterruptedException {
+        int connectionId = 5;
+        ConnectionThreadExecutorGroup.getInstance().register(connectionId, true);
+        ExecutorService executorService = ConnectionThreadExecutorGroup.getInstance().get(connectionId);
+        Thread expected = executorService.submit(Thread::currentThread).get();
+        assertThat(executorService.submit(Thread::currentThread).get(), is(expected));
+        ConnectionThreadExecutorGroup.getInstance().unregisterAndAwaitTermination(connectionId);
+    }
+    
     @Test
     void assertUnregisterWithRegisteredConnectionId() {
         int connectionId = 2;
@@ -31,6 +31,7 @@ import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.database.exception.core.exception.SQLDialectException;
 import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.database.protocol.payload.PacketPayload;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.executor.sql.process.Process;
 import org.apache.shardingsphere.infra.executor.sql.process.ProcessEngine;
 import org.apache.shardingsphere.infra.executor.sql.process.ProcessRegistry;
@@ -65,6 +66,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Properties;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -109,6 +111,7 @@ class FrontendChannelInboundHandlerTest {
         channel = new EmbeddedChannel(false, true);
         ContextManager contextManager = mock(ContextManager.class, RETURNS_DEEP_STUBS);
         when(contextManager.getMetaDataContexts().getMetaData().getGlobalRuleMetaData()).thenReturn(new RuleMetaData(Arrays.asList(mock(TransactionRule.class), mock(AuthorityRule.class))));
+        when(contextManager.getMetaDataContexts().getMetaData().getProps()).thenReturn(new ConfigurationProperties(new Properties()));
         when(ProxyContext.getInstance().getContextManager()).thenReturn(contextManager);
         frontendChannelInboundHandler = new FrontendChannelInboundHandler(frontendEngine, channel);
         channel.pipeline().addLast(frontendChannelInboundHandler);
@@ -188,6 +191,8 @@ class FrontendChannelInboundHandlerTest {
     void assertChannelInactiveWithUnexpectedException() throws Exception {
         ProxyDatabaseConnectionManager databaseConnectionManager = mock(ProxyDatabaseConnectionManager.class);
         when(databaseConnectionManager.closeAllResources()).thenReturn(Collections.singleton(new SQLException("assertChannelInactiveWithUnexpectedException")));
+        ConnectionResourceLock connectionResourceLock = mock(ConnectionResourceLock.class);
+        when(databaseConnectionManager.getConnectionResourceLock()).thenReturn(connectionResourceLock);
         setDatabaseConnectionManager(databaseConnectionManager);
         ProcessEngine processEngine = mock(ProcessEngine.class);
         setProcessEngine(processEngine);
@@ -203,6 +208,7 @@ class FrontendChannelInboundHandlerTest {
             mockedConnectionThreadExecutorGroup.when(ConnectionThreadExecutorGroup::getInstance).thenReturn(connectionThreadExecutorGroup);
             channel.register();
             channel.pipeline().fireChannelInactive();
+            verify(connectionResourceLock).doNotify();
             verify(connectionThreadExecutorGroup).unregisterAndAwaitTermination(CONNECTION_ID);
             verify(databaseConnectionManager).closeAllResources();
             verify(processEngine).disconnect("process-id");
@@ -219,6 +225,7 @@ class FrontendChannelInboundHandlerTest {
         try {
             ProxyDatabaseConnectionManager databaseConnectionManager = mock(ProxyDatabaseConnectionManager.class);
             when(databaseConnectionManager.closeAllResources()).thenReturn(Collections.singleton(new SQLException("assertChannelInactiveWithExpectedException")));
+            when(databaseConnectionManager.getConnectionResourceLock()).thenReturn(mock(ConnectionResourceLock.class));
             setDatabaseConnectionManager(databaseConnectionManager);
             ExecutorService executorService = MoreExecutors.newDirectExecutorService();
             UserExecutorGroup userExecutorGroup = mock(UserExecutorGroup.class);
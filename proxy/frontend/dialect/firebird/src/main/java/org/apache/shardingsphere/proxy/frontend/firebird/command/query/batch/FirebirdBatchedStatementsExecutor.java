@@ -79,7 +79,7 @@ public final class FirebirdBatchedStatementsExecutor {
     
     private static final int NOT_EXECUTED = Integer.MIN_VALUE;
     
-    private final KernelProcessor kernelProcessor = new KernelProcessor();
+    private final KernelProcessor kernelProcessor = new KernelProcessor(true);
     
     private final JDBCExecutor jdbcExecutor;
     
@@ -165,7 +165,7 @@ public final class FirebirdBatchedStatementsExecutor {
     }
     
     private QueryContext createQueryContext(final SQLStatementContext sqlStatementContext, final List<Object> params, final HintValueContext hintValueContext) {
-        return new QueryContext(sqlStatementContext, preparedStatement.getSql(), params, hintValueContext, connectionSession.getConnectionContext(), metaDataContexts.getMetaData());
+        return new QueryContext(sqlStatementContext, preparedStatement.getSql(), params, hintValueContext, connectionSession.getConnectionContext(), metaDataContexts.getMetaData(), true);
     }
     
     private ExecutionContext createExecutionContext(final QueryContext queryContext) {
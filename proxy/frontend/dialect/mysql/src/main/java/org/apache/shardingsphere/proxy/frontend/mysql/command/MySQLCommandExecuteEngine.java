@@ -27,6 +27,7 @@ import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.database.protocol.packet.command.CommandPacket;
 import org.apache.shardingsphere.database.protocol.packet.command.CommandPacketType;
 import org.apache.shardingsphere.database.protocol.payload.PacketPayload;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
 import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
 import org.apache.shardingsphere.proxy.backend.connector.ProxyDatabaseConnectionManager;
 import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
@@ -76,8 +77,31 @@ public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
         if (ResponseType.QUERY != queryCommandExecutor.getResponseType() || !context.channel().isActive()) {
             return;
         }
+        ConfigurationProperties props = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps();
+        int flushBytesThreshold = props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD);
+        if (flushBytesThreshold > 0) {
+            writeQueryDataInBatch(context, databaseConnectionManager, queryCommandExecutor, flushBytesThreshold);
+        } else {
+            writeQueryDataByCount(context, databaseConnectionManager, queryCommandExecutor, props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD));
+        }
+        context.write(new MySQLEofPacket(ServerStatusFlagCalculator.calculateFor(databaseConnectionManager.getConnectionSession(), true)));
+    }
+    
+    private void writeQueryDataInBatch(final ChannelHandlerContext context, final ProxyDatabaseConnectionManager databaseConnectionManager,
+                                       final QueryCommandExecutor queryCommandExecutor, final int flushBytesThreshold) throws SQLException {
+        MySQLPacketBatchWriter writer = new MySQLPacketBatchWriter(context, databaseConnectionManager.getConnectionResourceLock(), flushBytesThreshold);
+        try {
+            while (queryCommandExecutor.next()) {
+                writer.write(queryCommandExecutor.getQueryRowPacket());
+            }
+        } finally {
+            writer.writePacketBatch();
+        }
+    }
+    
+    private void writeQueryDataByCount(final ChannelHandlerContext context, final ProxyDatabaseConnectionManager databaseConnectionManager,
+                                       final QueryCommandExecutor queryCommandExecutor, final int flushThreshold) throws SQLException {
         int count = 0;
-        int flushThreshold = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps().<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD);
         while (queryCommandExecutor.next()) {
             count++;
             databaseConnectionManager.getConnectionResourceLock().doAwait(context);
@@ -88,6 +112,5 @@ public final class MySQLCommandExecuteEngine implements CommandExecuteEngine {
                 count = 0;
             }
         }
-        context.write(new MySQLEofPacket(ServerStatusFlagCalculator.calculateFor(databaseConnectionManager.getConnectionSession(), true)));
     }
 }
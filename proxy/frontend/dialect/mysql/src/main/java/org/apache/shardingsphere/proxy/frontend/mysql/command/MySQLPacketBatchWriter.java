@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.concurrent.ScheduledFuture;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.database.protocol.constant.CommonConstants;
+import org.apache.shardingsphere.database.protocol.mysql.constant.MySQLConstants;
+import org.apache.shardingsphere.database.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.database.protocol.mysql.packet.MySQLPacketBatch;
+import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ConnectionResourceLock;
+
+import java.nio.charset.Charset;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Packet batch writer for MySQL.
+ * 
+ * <p>Packets are encoded into pooled buffer by calling thread, and handed to channel with flush once byte budget is used up.
+ * So small rows share one write task and one flush, while large rows are flushed each without waiting for a row count.
+ * Latency budget is watched by a flush scheduled on channel event loop when a batch starts,
+ * so rows already buffered are flushed in time even if calling thread is blocked on fetching next row from a slow data source.</p>
+ */
+@RequiredArgsConstructor
+public final class MySQLPacketBatchWriter {
+    
+    private static final long LATENCY_BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(10L);
+    
+    private final ChannelHandlerContext context;
+    
+    private final ConnectionResourceLock connectionResourceLock;
+    
+    private final int byteBudget;
+    
+    private MySQLPacketBatch packetBatch;
+    
+    private ScheduledFuture<?> scheduledFlush;
+    
+    /**
+     * Write packet.
+     *
+     * @param packet packet to be written
+     */
+    public void write(final DatabasePacket packet) {
+        if (packet instanceof MySQLPacket && addToPacketBatch((MySQLPacket) packet)) {
+            if (isByteBudgetUsedUp()) {
+                flush();
+            }
+            return;
+        }
+        writePacketBatch();
+        connectionResourceLock.doAwait(context);
+        context.write(packet);
+    }
+    
+    private synchronized boolean addToPacketBatch(final MySQLPacket packet) {
+        if (null == packetBatch) {
+            packetBatch = new MySQLPacketBatch(context.alloc().ioBuffer(), getResultCharset());
+            scheduledFlush = context.executor().schedule(this::flushExpiredPacketBatch, LATENCY_BUDGET_NANOS, TimeUnit.NANOSECONDS);
+        }
+        return packetBatch.add(packet);
+    }
+    
+    private synchronized boolean isByteBudgetUsedUp() {
+        return null != packetBatch && packetBatch.getSize() >= byteBudget;
+    }
+    
+    private synchronized MySQLPacketBatch takePacketBatch() {
+        MySQLPacketBatch result = packetBatch;
+        packetBatch = null;
+        if (null != scheduledFlush) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        if (null != result && 0 == result.getPacketCount()) {
+            result.release();
+            return null;
+        }
+        return result;
+    }
+    
+    private void flushExpiredPacketBatch() {
+        MySQLPacketBatch toBeWritten = takePacketBatch();
+        // Runs on event loop, which must not wait for channel writability it is responsible for.
+        if (null != toBeWritten) {
+            context.writeAndFlush(toBeWritten);
+        }
+    }
+    
+    private Charset getResultCharset() {
+        Charset result = context.channel().attr(MySQLConstants.RESULT_CHARSET_ATTRIBUTE_KEY).get();
+        return null == result ? context.channel().attr(CommonConstants.CHARSET_ATTRIBUTE_KEY).get() : result;
+    }
+    
+    /**
+     * Hand buffered packets to channel and flush.
+     */
+    public void flush() {
+        writePacketBatch();
+        context.flush();
+    }
+    
+    /**
+     * Hand buffered packets to channel without flush.
+     */
+    public void writePacketBatch() {
+        MySQLPacketBatch toBeWritten = takePacketBatch();
+        if (null == toBeWritten) {
+            return;
+        }
+        connectionResourceLock.doAwait(context);
+        context.write(toBeWritten);
+    }
+}
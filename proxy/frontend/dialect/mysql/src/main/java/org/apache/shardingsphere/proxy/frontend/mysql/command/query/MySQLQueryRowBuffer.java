@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query;
+
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.database.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.database.protocol.mysql.packet.MySQLPacketBatch;
+import org.apache.shardingsphere.database.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.database.protocol.payload.PacketPayload;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRowReader;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Query row buffer for MySQL.
+ * 
+ * <p>Row packet and its values are reused by rows of one query result once the packet is written into payload,
+ * which happens in reading thread if packets are written in batch.
+ * Packets handed to channel but not written yet are never reused, new ones are created instead.
+ * Packets too large to be batched are handed to channel after being written into batch once, so they are never reused.</p>
+ */
+@RequiredArgsConstructor
+public final class MySQLQueryRowBuffer {
+    
+    private final int columnCount;
+    
+    private final Function<List<Object>, MySQLPacket> packetFactory;
+    
+    private final AtomicReference<BufferedRowPacket> writtenPacket = new AtomicReference<>();
+    
+    /**
+     * Read current row into row packet.
+     *
+     * @param reader query response row reader
+     * @return row packet
+     * @throws SQLException SQL exception
+     */
+    public MySQLPacket read(final QueryResponseRowReader reader) throws SQLException {
+        BufferedRowPacket result = writtenPacket.getAndSet(null);
+        if (null == result) {
+            result = new BufferedRowPacket(Arrays.asList(new Object[columnCount]));
+        }
+        for (int columnIndex = 1; columnIndex <= columnCount; columnIndex++) {
+            result.values.set(columnIndex - 1, reader.readValue(columnIndex));
+        }
+        return result;
+    }
+    
+    private final class BufferedRowPacket extends MySQLPacket {
+        
+        private final List<Object> values;
+        
+        private final MySQLPacket packet;
+        
+        BufferedRowPacket(final List<Object> values) {
+            this.values = values;
+            packet = packetFactory.apply(values);
+        }
+        
+        @Override
+        protected void write(final MySQLPacketPayload payload) {
+            int startIndex = payload.getByteBuf().writerIndex();
+            packet.write((PacketPayload) payload);
+            if (payload.getByteBuf().writerIndex() - startIndex < MySQLPacketBatch.MAX_PACKET_LENGTH) {
+                writtenPacket.set(this);
+            }
+        }
+    }
+}
@@ -22,6 +22,7 @@ import lombok.RequiredArgsConstructor;
 import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
 import org.apache.shardingsphere.database.exception.mysql.exception.UnsupportedPreparedStatementException;
 import org.apache.shardingsphere.database.protocol.binary.BinaryCell;
+import org.apache.shardingsphere.database.protocol.binary.BinaryColumnType;
 import org.apache.shardingsphere.database.protocol.binary.BinaryRow;
 import org.apache.shardingsphere.database.protocol.mysql.constant.MySQLBinaryColumnType;
 import org.apache.shardingsphere.database.protocol.mysql.constant.MySQLConstants;
@@ -40,13 +41,16 @@ import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandlerFactory;
 import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseCell;
 import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRowReader;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
+import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.UpdateResponseHeader;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.ServerStatusFlagCalculator;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.MySQLQueryRowBuffer;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.binary.MySQLServerPreparedStatement;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.builder.ResponsePacketBuilder;
 
@@ -71,6 +75,12 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
     @Getter
     private ResponseType responseType;
     
+    private QueryResponseRowReader queryResponseRowReader;
+    
+    private List<QueryHeader> queryHeaders;
+    
+    private MySQLQueryRowBuffer queryRowBuffer;
+    
     @Override
     public Collection<DatabasePacket> execute() throws SQLException {
         MySQLServerPreparedStatement preparedStatement = updateAndGetPreparedStatement();
@@ -144,6 +154,8 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
     
     private Collection<DatabasePacket> processQuery(final QueryResponseHeader queryResponseHeader) {
         responseType = ResponseType.QUERY;
+        queryResponseRowReader = proxyBackendHandler.findQueryResponseRowReader().orElse(null);
+        queryHeaders = queryResponseHeader.getQueryHeaders();
         int characterSet = connectionSession.getAttributeMap().attr(MySQLConstants.CHARACTER_SET_ATTRIBUTE_KEY).get().getId();
         return ResponsePacketBuilder.buildQueryResponsePackets(queryResponseHeader, characterSet, ServerStatusFlagCalculator.calculateFor(connectionSession, true));
     }
@@ -160,8 +172,23 @@ public final class MySQLComStmtExecuteExecutor implements QueryCommandExecutor {
     
     @Override
     public MySQLPacket getQueryRowPacket() throws SQLException {
-        QueryResponseRow queryResponseRow = proxyBackendHandler.getRowData();
-        return new MySQLBinaryResultSetRowPacket(createBinaryRow(queryResponseRow));
+        if (null == queryResponseRowReader) {
+            QueryResponseRow queryResponseRow = proxyBackendHandler.getRowData();
+            return new MySQLBinaryResultSetRowPacket(createBinaryRow(queryResponseRow));
+        }
+        if (null == queryRowBuffer) {
+            List<BinaryColumnType> columnTypes = createColumnTypes();
+            queryRowBuffer = new MySQLQueryRowBuffer(columnTypes.size(), values -> new MySQLBinaryResultSetRowPacket(columnTypes, values));
+        }
+        return queryRowBuffer.read(queryResponseRowReader);
+    }
+    
+    private List<BinaryColumnType> createColumnTypes() {
+        List<BinaryColumnType> result = new ArrayList<>(queryHeaders.size());
+        for (QueryHeader each : queryHeaders) {
+            result.add(MySQLBinaryColumnType.valueOfJDBCType(each.getColumnType()));
+        }
+        return result;
     }
     
     private BinaryRow createBinaryRow(final QueryResponseRow queryResponseRow) {
@@ -24,6 +24,7 @@ import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.te
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
 import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
+import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRowReader;
 import org.apache.shardingsphere.proxy.backend.response.header.ResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryResponseHeader;
 import org.apache.shardingsphere.proxy.backend.response.header.update.MultiStatementsUpdateResponseHeader;
@@ -32,6 +33,7 @@ import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.executor.QueryCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.command.executor.ResponseType;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.ServerStatusFlagCalculator;
+import org.apache.shardingsphere.proxy.frontend.mysql.command.query.MySQLQueryRowBuffer;
 import org.apache.shardingsphere.proxy.frontend.mysql.command.query.builder.ResponsePacketBuilder;
 
 import java.sql.SQLException;
@@ -52,6 +54,10 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     @Getter
     private volatile ResponseType responseType;
     
+    private QueryResponseRowReader queryResponseRowReader;
+    
+    private MySQLQueryRowBuffer queryRowBuffer;
+    
     public MySQLComQueryPacketExecutor(final MySQLComQueryPacket packet, final ConnectionSession connectionSession) throws SQLException {
         this.connectionSession = connectionSession;
         proxyBackendHandler = MySQLComQueryBackendHandlerFactory.newInstance(packet, connectionSession);
@@ -73,6 +79,8 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     
     private Collection<DatabasePacket> processQuery(final QueryResponseHeader queryResponseHeader) {
         responseType = ResponseType.QUERY;
+        queryResponseRowReader = proxyBackendHandler.findQueryResponseRowReader().orElse(null);
+        queryRowBuffer = new MySQLQueryRowBuffer(queryResponseHeader.getQueryHeaders().size(), MySQLTextResultSetRowPacket::new);
         return ResponsePacketBuilder.buildQueryResponsePackets(queryResponseHeader, characterSet, ServerStatusFlagCalculator.calculateFor(connectionSession, true));
     }
     
@@ -97,7 +105,10 @@ public final class MySQLComQueryPacketExecutor implements QueryCommandExecutor {
     
     @Override
     public MySQLPacket getQueryRowPacket() throws SQLException {
-        return new MySQLTextResultSetRowPacket(proxyBackendHandler.getRowData().getData());
+        if (null == queryResponseRowReader) {
+            return new MySQLTextResultSetRowPacket(proxyBackendHandler.getRowData().getData());
+        }
+        return queryRowBuffer.read(queryResponseRowReader);
     }
     
     @Override
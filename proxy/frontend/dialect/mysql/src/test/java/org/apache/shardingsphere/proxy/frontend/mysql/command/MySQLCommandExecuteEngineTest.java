@@ -19,9 +19,13 @@ package org.apache.shardingsphere.proxy.frontend.mysql.command;
 
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import io.netty.channel.ChannelHandlerContext;
+import org.apache.shardingsphere.database.protocol.mysql.constant.MySQLConstants;
+import org.apache.shardingsphere.database.protocol.mysql.packet.MySQLPacketBatch;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.MySQLCommandPacket;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.MySQLCommandPacketType;
+import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
 import org.apache.shardingsphere.database.protocol.mysql.packet.generic.MySQLEofPacket;
 import org.apache.shardingsphere.database.protocol.mysql.packet.generic.MySQLErrPacket;
 import org.apache.shardingsphere.database.protocol.mysql.payload.MySQLPacketPayload;
@@ -47,6 +51,7 @@ import org.mockito.Mock;
 
 import java.nio.charset.StandardCharsets;
 import java.sql.SQLException;
+import java.util.Collections;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
@@ -106,7 +111,8 @@ class MySQLCommandExecuteEngineTest {
         when(queryCommandExecutor.getQueryRowPacket()).thenReturn(rowPacket);
         ProxyContext proxyContext = mock(ProxyContext.class, RETURNS_DEEP_STUBS);
         when(proxyContext.getContextManager().getMetaDataContexts().getMetaData().getProps())
-                .thenReturn(new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD.getKey(), 2))));
+                .thenReturn(new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_THRESHOLD.getKey(), 2),
+                        new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD.getKey(), 0))));
         ConnectionResourceLock connectionResourceLock = mock(ConnectionResourceLock.class);
         when(databaseConnectionManager.getConnectionResourceLock()).thenReturn(connectionResourceLock);
         when(ProxyContext.getInstance()).thenReturn(proxyContext);
@@ -117,6 +123,27 @@ class MySQLCommandExecuteEngineTest {
         verify(context).write(isA(MySQLEofPacket.class));
     }
     
+    @Test
+    void assertWriteQueryDataInPacketBatch() throws SQLException {
+        when(context.channel().isActive()).thenReturn(true);
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        when(context.channel().attr(MySQLConstants.RESULT_CHARSET_ATTRIBUTE_KEY).get()).thenReturn(StandardCharsets.UTF_8);
+        when(queryCommandExecutor.getResponseType()).thenReturn(ResponseType.QUERY);
+        when(queryCommandExecutor.next()).thenReturn(true, true, false);
+        when(queryCommandExecutor.getQueryRowPacket()).thenReturn(new MySQLTextResultSetRowPacket(Collections.singleton("foo")), new MySQLTextResultSetRowPacket(Collections.singleton("bar")));
+        ProxyContext proxyContext = mock(ProxyContext.class, RETURNS_DEEP_STUBS);
+        when(proxyContext.getContextManager().getMetaDataContexts().getMetaData().getProps())
+                .thenReturn(new ConfigurationProperties(PropertiesBuilder.build(new Property(ConfigurationPropertyKey.PROXY_FRONTEND_FLUSH_BYTES_THRESHOLD.getKey(), 1))));
+        ConnectionResourceLock connectionResourceLock = mock(ConnectionResourceLock.class);
+        when(databaseConnectionManager.getConnectionResourceLock()).thenReturn(connectionResourceLock);
+        when(ProxyContext.getInstance()).thenReturn(proxyContext);
+        new MySQLCommandExecuteEngine().writeQueryData(context, databaseConnectionManager, queryCommandExecutor, 0);
+        verify(connectionResourceLock, times(2)).doAwait(context);
+        verify(context, times(2)).write(isA(MySQLPacketBatch.class));
+        verify(context, times(2)).flush();
+        verify(context).write(isA(MySQLEofPacket.class));
+    }
+    
     @Test
     void assertWriteQueryDataReturnsWhenResponseIsNotQuery() throws SQLException {
         when(queryCommandExecutor.getResponseType()).thenReturn(ResponseType.UPDATE);
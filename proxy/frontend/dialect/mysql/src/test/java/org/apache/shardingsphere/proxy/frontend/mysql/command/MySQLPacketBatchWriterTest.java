@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command;
+
+import io.netty.buffer.UnpooledByteBufAllocator;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.ScheduledFuture;
+import org.apache.shardingsphere.database.protocol.mysql.constant.MySQLConstants;
+import org.apache.shardingsphere.database.protocol.mysql.packet.MySQLPacketBatch;
+import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.proxy.backend.connector.jdbc.connection.ConnectionResourceLock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MySQLPacketBatchWriterTest {
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ChannelHandlerContext context;
+    
+    @Mock
+    private EventExecutor executor;
+    
+    @Mock
+    private ScheduledFuture<?> scheduledFlush;
+    
+    @Mock
+    private ConnectionResourceLock connectionResourceLock;
+    
+    @BeforeEach
+    void setUp() {
+        when(context.alloc()).thenReturn(UnpooledByteBufAllocator.DEFAULT);
+        when(context.channel().attr(MySQLConstants.RESULT_CHARSET_ATTRIBUTE_KEY).get()).thenReturn(StandardCharsets.UTF_8);
+        when(context.executor()).thenReturn(executor);
+        doReturn(scheduledFlush).when(executor).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+    }
+    
+    @Test
+    void assertFlushOnEventLoopWhenLatencyBudgetUsedUp() {
+        MySQLPacketBatchWriter writer = new MySQLPacketBatchWriter(context, connectionResourceLock, Integer.MAX_VALUE);
+        writer.write(new MySQLTextResultSetRowPacket(Collections.singleton("foo")));
+        writer.write(new MySQLTextResultSetRowPacket(Collections.singleton("bar")));
+        ArgumentCaptor<Runnable> scheduledFlushTask = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).schedule(scheduledFlushTask.capture(), eq(TimeUnit.MILLISECONDS.toNanos(10L)), eq(TimeUnit.NANOSECONDS));
+        verify(context, never()).write(any());
+        scheduledFlushTask.getValue().run();
+        verify(context).writeAndFlush(isA(MySQLPacketBatch.class));
+        verify(connectionResourceLock, never()).doAwait(context);
+        writer.writePacketBatch();
+        verify(context, never()).write(any());
+    }
+    
+    @Test
+    void assertCancelScheduledFlushWhenByteBudgetUsedUp() {
+        MySQLPacketBatchWriter writer = new MySQLPacketBatchWriter(context, connectionResourceLock, 1);
+        writer.write(new MySQLTextResultSetRowPacket(Collections.singleton("foo")));
+        ArgumentCaptor<Runnable> scheduledFlushTask = ArgumentCaptor.forClass(Runnable.class);
+        verify(executor).schedule(scheduledFlushTask.capture(), anyLong(), any(TimeUnit.class));
+        verify(scheduledFlush).cancel(false);
+        verify(connectionResourceLock).doAwait(context);
+        verify(context).write(isA(MySQLPacketBatch.class));
+        verify(context).flush();
+        scheduledFlushTask.getValue().run();
+        verify(context, never()).writeAndFlush(any());
+    }
+}
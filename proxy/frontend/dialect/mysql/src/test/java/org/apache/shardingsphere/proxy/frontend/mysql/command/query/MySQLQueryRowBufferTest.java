@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.mysql.command.query;
+
+import io.netty.buffer.Unpooled;
+import org.apache.shardingsphere.database.protocol.mysql.packet.MySQLPacket;
+import org.apache.shardingsphere.database.protocol.mysql.packet.MySQLPacketBatch;
+import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
+import org.apache.shardingsphere.database.protocol.mysql.payload.MySQLPacketPayload;
+import org.apache.shardingsphere.database.protocol.payload.PacketPayload;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Arrays;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class MySQLQueryRowBufferTest {
+    
+    private final MySQLQueryRowBuffer queryRowBuffer = new MySQLQueryRowBuffer(2, MySQLTextResultSetRowPacket::new);
+    
+    @Test
+    void assertReadAfterPacketWritten() throws SQLException {
+        MySQLPacket firstPacket = queryRowBuffer.read(columnIndex -> 1 == columnIndex ? 1L : "foo");
+        MySQLPacketPayload firstPayload = mock(MySQLPacketPayload.class, RETURNS_DEEP_STUBS);
+        firstPacket.write((PacketPayload) firstPayload);
+        verify(firstPayload).writeLongStringLenenc(1L);
+        verify(firstPayload).writeStringLenenc("foo");
+        MySQLPacket secondPacket = queryRowBuffer.read(columnIndex -> 1 == columnIndex ? 2L : "bar");
+        assertThat(secondPacket, is(sameInstance(firstPacket)));
+        MySQLPacketPayload secondPayload = mock(MySQLPacketPayload.class, RETURNS_DEEP_STUBS);
+        secondPacket.write((PacketPayload) secondPayload);
+        verify(secondPayload).writeLongStringLenenc(2L);
+        verify(secondPayload).writeStringLenenc("bar");
+    }
+    
+    @Test
+    void assertReadBeforePacketWritten() throws SQLException {
+        MySQLPacket firstPacket = queryRowBuffer.read(columnIndex -> 1 == columnIndex ? 1L : "foo");
+        MySQLPacket secondPacket = queryRowBuffer.read(columnIndex -> 1 == columnIndex ? 2L : "bar");
+        assertThat(secondPacket, not(sameInstance(firstPacket)));
+        MySQLPacketPayload payload = mock(MySQLPacketPayload.class, RETURNS_DEEP_STUBS);
+        firstPacket.write((PacketPayload) payload);
+        verify(payload).writeLongStringLenenc(1L);
+        verify(payload).writeStringLenenc("foo");
+    }
+    
+    @Test
+    void assertReadAfterOversizePacketWrittenIntoBatch() throws SQLException {
+        char[] oversizeChars = new char[MySQLPacketBatch.MAX_PACKET_LENGTH];
+        Arrays.fill(oversizeChars, 'x');
+        String oversizeValue = new String(oversizeChars);
+        MySQLPacket oversizePacket = queryRowBuffer.read(columnIndex -> 1 == columnIndex ? 1L : oversizeValue);
+        MySQLPacketBatch packetBatch = new MySQLPacketBatch(Unpooled.buffer(), StandardCharsets.UTF_8);
+        try {
+            assertFalse(packetBatch.add(oversizePacket));
+            MySQLPacket normalPacket = queryRowBuffer.read(columnIndex -> 1 == columnIndex ? 2L : "bar");
+            assertThat(normalPacket, not(sameInstance(oversizePacket)));
+            assertTrue(packetBatch.add(normalPacket));
+        } finally {
+            packetBatch.release();
+        }
+        MySQLPacketPayload payload = mock(MySQLPacketPayload.class, RETURNS_DEEP_STUBS);
+        oversizePacket.write((PacketPayload) payload);
+        verify(payload).writeLongStringLenenc(1L);
+        verify(payload).writeStringLenenc(oversizeValue);
+    }
+}
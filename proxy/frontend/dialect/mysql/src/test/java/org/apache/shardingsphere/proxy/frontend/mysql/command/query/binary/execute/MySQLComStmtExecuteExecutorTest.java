@@ -35,6 +35,7 @@ import org.apache.shardingsphere.database.protocol.mysql.packet.generic.MySQLEof
 import org.apache.shardingsphere.database.protocol.mysql.packet.generic.MySQLOKPacket;
 import org.apache.shardingsphere.database.protocol.mysql.payload.MySQLPacketPayload;
 import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.database.protocol.payload.PacketPayload;
 import org.apache.shardingsphere.infra.binder.context.statement.SQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.type.CommonSQLStatementContext;
 import org.apache.shardingsphere.infra.binder.context.statement.type.dml.SelectStatementContext;
@@ -213,6 +214,24 @@ class MySQLComStmtExecuteExecutorTest {
         verify(proxyBackendHandler).close();
     }
     
+    @Test
+    void assertGetQueryRowPacketWithQueryResponseRowReader() throws SQLException {
+        MySQLComStmtExecutePacket packet = mock(MySQLComStmtExecutePacket.class);
+        when(packet.getStatementId()).thenReturn(1);
+        MySQLComStmtExecuteExecutor executor = new MySQLComStmtExecuteExecutor(packet, connectionSession);
+        QueryHeader queryHeader = mock(QueryHeader.class);
+        when(queryHeader.getColumnType()).thenReturn(Types.INTEGER);
+        when(queryHeader.getColumnTypeName()).thenReturn("INT");
+        when(proxyBackendHandler.execute()).thenReturn(new QueryResponseHeader(Collections.singletonList(queryHeader)));
+        when(proxyBackendHandler.findQueryResponseRowReader()).thenReturn(Optional.of(columnIndex -> 1));
+        when(ProxyBackendHandlerFactory.newInstance(eq(databaseType), any(QueryContext.class), eq(connectionSession), anyBoolean())).thenReturn(proxyBackendHandler);
+        executor.execute();
+        MySQLPacketPayload payload = mock(MySQLPacketPayload.class, RETURNS_DEEP_STUBS);
+        executor.getQueryRowPacket().write((PacketPayload) payload);
+        verify(payload).writeInt4(1);
+        verify(proxyBackendHandler, never()).getRowData();
+    }
+    
     @Test
     void assertIsUpdateResponse() throws SQLException {
         MySQLComStmtExecutePacket packet = mock(MySQLComStmtExecutePacket.class);
@@ -22,7 +22,9 @@ import org.apache.shardingsphere.database.protocol.mysql.constant.MySQLConstants
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.text.MySQLTextResultSetRowPacket;
 import org.apache.shardingsphere.database.protocol.mysql.packet.command.query.text.query.MySQLComQueryPacket;
 import org.apache.shardingsphere.database.protocol.mysql.packet.generic.MySQLOKPacket;
+import org.apache.shardingsphere.database.protocol.mysql.payload.MySQLPacketPayload;
 import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.database.protocol.payload.PacketPayload;
 import org.apache.shardingsphere.proxy.backend.handler.ProxyBackendHandler;
 import org.apache.shardingsphere.proxy.backend.response.data.QueryResponseRow;
 import org.apache.shardingsphere.proxy.backend.response.header.query.QueryHeader;
@@ -47,13 +49,16 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.Optional;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.isA;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -123,6 +128,21 @@ class MySQLComQueryPacketExecutorTest {
         assertThat(new MySQLComQueryPacketExecutor(packet, connectionSession).getQueryRowPacket(), isA(MySQLTextResultSetRowPacket.class));
     }
     
+    @Test
+    void assertGetQueryRowPacketWithQueryResponseRowReader() throws SQLException {
+        MySQLComQueryPacketExecutor actual = new MySQLComQueryPacketExecutor(packet, connectionSession);
+        QueryHeader queryHeader = mock(QueryHeader.class);
+        when(queryHeader.getColumnTypeName()).thenReturn("VARCHAR");
+        when(proxyBackendHandler.execute()).thenReturn(new QueryResponseHeader(Arrays.asList(queryHeader, queryHeader)));
+        when(proxyBackendHandler.findQueryResponseRowReader()).thenReturn(Optional.of(columnIndex -> 1 == columnIndex ? 1L : "foo"));
+        actual.execute();
+        MySQLPacketPayload payload = mock(MySQLPacketPayload.class, RETURNS_DEEP_STUBS);
+        actual.getQueryRowPacket().write((PacketPayload) payload);
+        verify(payload).writeLongStringLenenc(1L);
+        verify(payload).writeStringLenenc("foo");
+        verify(proxyBackendHandler, never()).getRowData();
+    }
+    
     @Test
     void assertClose() throws SQLException {
         MySQLComQueryPacketExecutor actual = new MySQLComQueryPacketExecutor(packet, connectionSession);
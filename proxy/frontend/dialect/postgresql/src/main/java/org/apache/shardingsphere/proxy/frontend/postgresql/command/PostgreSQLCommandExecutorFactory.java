@@ -32,12 +32,16 @@ import org.apache.shardingsphere.database.protocol.postgresql.packet.command.que
 import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.simple.PostgreSQLComQueryPacket;
 import org.apache.shardingsphere.database.protocol.postgresql.type.ColumnTypeOIDResolver;
 import org.apache.shardingsphere.database.protocol.postgresql.type.PostgreSQLColumnTypeOIDResolver;
+import org.apache.shardingsphere.infra.config.props.ConfigurationProperties;
+import org.apache.shardingsphere.infra.config.props.ConfigurationPropertyKey;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
 import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
 import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.generic.PostgreSQLComTerminationExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.generic.PostgreSQLUnsupportedCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.PostgreSQLAggregatedBatchedStatementsCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.PostgreSQLAggregatedCommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.PostgreSQLPipelinedStatementsCommandExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.bind.PostgreSQLComBindExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.close.PostgreSQLComCloseExecutor;
 import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.describe.PostgreSQLComDescribeExecutor;
@@ -84,11 +88,37 @@ public final class PostgreSQLCommandExecutorFactory {
         if (aggregatedCommandPacket.isContainsBatchedStatements()) {
             return new PostgreSQLAggregatedCommandExecutor(getExecutorsOfAggregatedBatchedStatements(aggregatedCommandPacket, connectionSession, portalContext));
         }
-        List<CommandExecutor> result = new ArrayList<>(aggregatedCommandPacket.getPackets().size());
-        for (PostgreSQLCommandPacket each : aggregatedCommandPacket.getPackets()) {
+        return new PostgreSQLAggregatedCommandExecutor(getExecutorsOfAggregatedStatements(aggregatedCommandPacket, connectionSession, portalContext));
+    }
+    
+    private static List<CommandExecutor> getExecutorsOfAggregatedStatements(final PostgreSQLAggregatedCommandPacket aggregatedCommandPacket,
+                                                                           final ConnectionSession connectionSession, final PortalContext portalContext) throws SQLException {
+        List<PostgreSQLCommandPacket> packets = aggregatedCommandPacket.getPackets();
+        List<CommandExecutor> result = new ArrayList<>(packets.size());
+        int pipelineMaxConcurrency = -1;
+        int index = 0;
+        while (index < packets.size()) {
+            if (0 != pipelineMaxConcurrency) {
+                int pipelinedEndIndex = PostgreSQLPipelinedStatementsCommandExecutor.getPipelinedStatementsEndIndex(packets, index);
+                if (pipelinedEndIndex > index && pipelineMaxConcurrency < 0) {
+                    pipelineMaxConcurrency = getPipelineMaxConcurrency();
+                }
+                if (pipelinedEndIndex > index && pipelineMaxConcurrency > 0) {
+                    result.add(new PostgreSQLPipelinedStatementsCommandExecutor(portalContext, connectionSession, packets.subList(index, pipelinedEndIndex), pipelineMaxConcurrency));
+                    index = pipelinedEndIndex;
+                    continue;
+                }
+            }
+            PostgreSQLCommandPacket each = packets.get(index++);
             result.add(getCommandExecutor((PostgreSQLCommandPacketType) each.getIdentifier(), each, connectionSession, portalContext));
         }
-        return new PostgreSQLAggregatedCommandExecutor(result);
+        return result;
+    }
+    
+    private static int getPipelineMaxConcurrency() {
+        ConfigurationProperties props = ProxyContext.getInstance().getContextManager().getMetaDataContexts().getMetaData().getProps();
+        int result = props.<Integer>getValue(ConfigurationPropertyKey.PROXY_FRONTEND_POSTGRESQL_PIPELINE_MAX_CONCURRENCY);
+        return result > 1 ? result : 0;
     }
     
     private static List<CommandExecutor> getExecutorsOfAggregatedBatchedStatements(final PostgreSQLAggregatedCommandPacket aggregatedCommandPacket,
@@ -69,7 +69,7 @@ import java.util.Optional;
  */
 public final class PostgreSQLBatchedStatementsExecutor {
     
-    private final KernelProcessor kernelProcessor = new KernelProcessor();
+    private final KernelProcessor kernelProcessor = new KernelProcessor(true);
     
     private final JDBCExecutor jdbcExecutor;
     
@@ -128,7 +128,7 @@ public final class PostgreSQLBatchedStatementsExecutor {
     }
     
     private QueryContext createQueryContext(final SQLStatementContext sqlStatementContext, final List<Object> params, final HintValueContext hintValueContext) {
-        return new QueryContext(sqlStatementContext, preparedStatement.getSql(), params, hintValueContext, connectionSession.getConnectionContext(), metaDataContexts.getMetaData());
+        return new QueryContext(sqlStatementContext, preparedStatement.getSql(), params, hintValueContext, connectionSession.getConnectionContext(), metaDataContexts.getMetaData(), true);
     }
     
     private ExecutionContext createExecutionContext(final QueryContext queryContext) {
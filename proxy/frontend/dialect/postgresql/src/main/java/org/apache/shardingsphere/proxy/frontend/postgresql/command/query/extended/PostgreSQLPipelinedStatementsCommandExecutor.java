@@ -0,0 +1,333 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLBindCompletePacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLComBindPacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.describe.PostgreSQLComDescribePacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.execute.PostgreSQLComExecutePacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.parse.PostgreSQLComParsePacket;
+import org.apache.shardingsphere.database.protocol.postgresql.type.ColumnTypeOIDResolver;
+import org.apache.shardingsphere.database.protocol.postgresql.type.PostgreSQLColumnTypeOIDResolver;
+import org.apache.shardingsphere.infra.executor.sql.process.ProcessEngine;
+import org.apache.shardingsphere.infra.metadata.user.Grantee;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.command.executor.CommandExecutor;
+import org.apache.shardingsphere.proxy.frontend.executor.UserExecutorGroup;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PortalContext;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.bind.PostgreSQLComBindExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.describe.PostgreSQLComDescribeExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.execute.PostgreSQLComExecuteExecutor;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.parse.PostgreSQLComParseExecutor;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.SelectStatement;
+
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Command executor for pipelined independent statements before Sync in PostgreSQL.
+ *
+ * <p>Each statement consists of optional Parse, Bind, optional Describe portal and Execute.
+ * Read-only statements on unnamed portals in auto commit mode are executed concurrently, other statements wait for in-flight statements and are executed serially.
+ * Responses are buffered and returned in protocol order.</p>
+ * 
+ * <p>Each in-flight statement runs in a pipeline session forked from the connection session, which owns its backend connections and process,
+ * so concurrent statements never share a JDBC connection or overwrite each other's process.
+ * Pipeline sessions replay the session variables of the connection session and are closed when the pipelined statements are done.</p>
+ */
+@RequiredArgsConstructor
+public final class PostgreSQLPipelinedStatementsCommandExecutor implements CommandExecutor {
+    
+    private static final int MIN_PIPELINED_STATEMENT_COUNT = 2;
+    
+    private static final ColumnTypeOIDResolver COLUMN_TYPE_OID_RESOLVER = new PostgreSQLColumnTypeOIDResolver();
+    
+    private static final ProcessEngine PROCESS_ENGINE = new ProcessEngine();
+    
+    private final PortalContext portalContext;
+    
+    private final ConnectionSession connectionSession;
+    
+    private final List<PostgreSQLCommandPacket> packets;
+    
+    private final int maxConcurrency;
+    
+    private final Collection<ConnectionSession> pipelineSessions = new LinkedHashSet<>();
+    
+    private final Deque<ConnectionSession> idlePipelineSessions = new LinkedList<>();
+    
+    /**
+     * Get end index (exclusive) of pipelined statements.
+     *
+     * @param packets packets
+     * @param beginIndex begin index
+     * @return end index of pipelined statements, or begin index if less than 2 statements can be pipelined
+     */
+    public static int getPipelinedStatementsEndIndex(final List<PostgreSQLCommandPacket> packets, final int beginIndex) {
+        int result = beginIndex;
+        int statementCount = 0;
+        int statementLength;
+        while ((statementLength = getStatementLength(packets, result)) > 0) {
+            result += statementLength;
+            statementCount++;
+        }
+        return statementCount < MIN_PIPELINED_STATEMENT_COUNT ? beginIndex : result;
+    }
+    
+    private static int getStatementLength(final List<PostgreSQLCommandPacket> packets, final int beginIndex) {
+        int index = beginIndex;
+        if (index < packets.size() && packets.get(index) instanceof PostgreSQLComParsePacket) {
+            index++;
+        }
+        if (index >= packets.size() || !(packets.get(index) instanceof PostgreSQLComBindPacket)) {
+            return 0;
+        }
+        String portal = ((PostgreSQLComBindPacket) packets.get(index++)).getPortal();
+        if (index < packets.size() && packets.get(index) instanceof PostgreSQLComDescribePacket && isDescribePortal((PostgreSQLComDescribePacket) packets.get(index), portal)) {
+            index++;
+        }
+        if (index >= packets.size() || !(packets.get(index) instanceof PostgreSQLComExecutePacket) || !Objects.equals(portal, ((PostgreSQLComExecutePacket) packets.get(index)).getPortal())) {
+            return 0;
+        }
+        return index + 1 - beginIndex;
+    }
+    
+    private static boolean isDescribePortal(final PostgreSQLComDescribePacket packet, final String portal) {
+        return 'P' == packet.getType() && Objects.equals(portal, packet.getName());
+    }
+    
+    @Override
+    public Collection<DatabasePacket> execute() throws SQLException {
+        List<DatabasePacket> result = new LinkedList<>();
+        Deque<PipelinedStatement> inFlightStatements = new LinkedList<>();
+        try {
+            int index = 0;
+            while (index < packets.size()) {
+                int statementLength = getStatementLength(packets, index);
+                PipelinedStatement statement = new PipelinedStatement(packets.subList(index, index + statementLength));
+                index += statementLength;
+                statement.parse();
+                if (!isPipelinable(statement, inFlightStatements)) {
+                    awaitAll(inFlightStatements, result);
+                    result.addAll(statement.executeSerially());
+                    continue;
+                }
+                if (inFlightStatements.size() >= maxConcurrency) {
+                    await(inFlightStatements.removeFirst(), result);
+                }
+                statement.submit();
+                inFlightStatements.addLast(statement);
+            }
+            awaitAll(inFlightStatements, result);
+        } finally {
+            try {
+                abandonAll(inFlightStatements);
+            } finally {
+                closePipelineSessions();
+            }
+        }
+        return result;
+    }
+    
+    private boolean isPipelinable(final PipelinedStatement statement, final Collection<PipelinedStatement> inFlightStatements) {
+        if (!statement.getBindPacket().getPortal().isEmpty() || 0 != statement.getExecutePacket().getMaxRows() || connectionSession.getTransactionStatus().isInTransaction()) {
+            return false;
+        }
+        PostgreSQLServerPreparedStatement preparedStatement = statement.getPreparedStatement();
+        if (!(preparedStatement.getSqlStatementContext().getSqlStatement() instanceof SelectStatement)) {
+            return false;
+        }
+        for (PipelinedStatement each : inFlightStatements) {
+            if (each.getPreparedStatement() == preparedStatement) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private ConnectionSession borrowPipelineSession() {
+        ConnectionSession result = idlePipelineSessions.pollFirst();
+        if (null == result) {
+            result = createPipelineSession();
+            pipelineSessions.add(result);
+        }
+        return result;
+    }
+    
+    private ConnectionSession createPipelineSession() {
+        ConnectionSession result = new ConnectionSession(connectionSession.getProtocolType(), connectionSession.getAttributeMap());
+        Grantee grantee = connectionSession.getConnectionContext().getGrantee();
+        result.setGrantee(grantee);
+        result.setCurrentDatabaseName(connectionSession.getCurrentDatabaseName());
+        result.setConnectionId(connectionSession.getConnectionId());
+        result.setAutoCommit(connectionSession.isAutoCommit());
+        result.setReadOnly(connectionSession.isReadOnly());
+        connectionSession.getIsolationLevel().ifPresent(result::setIsolationLevel);
+        connectionSession.getRequiredSessionVariableRecorder().copyTo(result.getRequiredSessionVariableRecorder());
+        connectionSession.getConnectionContext().getWriteContext().copyTo(result.getConnectionContext().getWriteContext());
+        result.setProcessId(PROCESS_ENGINE.connect(result.getUsedDatabaseName(), grantee));
+        return result;
+    }
+    
+    private void closePipelineSessions() {
+        for (ConnectionSession each : pipelineSessions) {
+            // Failures of closing connections are logged by the connection manager, and the executed results are not affected.
+            each.getDatabaseConnectionManager().closeAllResources();
+            PROCESS_ENGINE.disconnect(each.getProcessId());
+        }
+        pipelineSessions.clear();
+        idlePipelineSessions.clear();
+    }
+    
+    private void awaitAll(final Deque<PipelinedStatement> inFlightStatements, final List<DatabasePacket> responses) throws SQLException {
+        while (!inFlightStatements.isEmpty()) {
+            await(inFlightStatements.removeFirst(), responses);
+        }
+    }
+    
+    private void await(final PipelinedStatement statement, final List<DatabasePacket> responses) throws SQLException {
+        List<DatabasePacket> executedResponses;
+        try {
+            executedResponses = statement.getResult();
+        } catch (final SQLException | RuntimeException ex) {
+            statement.getPortal().close();
+            throw ex;
+        }
+        idlePipelineSessions.addLast(statement.getPipelineSession());
+        portalContext.add(statement.getPortal());
+        responses.addAll(statement.getParseResponses());
+        responses.addAll(executedResponses);
+    }
+    
+    private void abandonAll(final Deque<PipelinedStatement> inFlightStatements) throws SQLException {
+        while (!inFlightStatements.isEmpty()) {
+            PipelinedStatement statement = inFlightStatements.removeFirst();
+            try {
+                statement.getResult();
+                // CHECKSTYLE:OFF
+            } catch (final Exception ignored) {
+                // CHECKSTYLE:ON
+            }
+            statement.getPortal().close();
+        }
+    }
+    
+    private final class PipelinedStatement {
+        
+        private final PostgreSQLComParsePacket parsePacket;
+        
+        @Getter
+        private final PostgreSQLComBindPacket bindPacket;
+        
+        private final PostgreSQLComDescribePacket describePacket;
+        
+        @Getter
+        private final PostgreSQLComExecutePacket executePacket;
+        
+        @Getter
+        private final List<DatabasePacket> parseResponses = new LinkedList<>();
+        
+        @Getter
+        private Portal portal;
+        
+        @Getter
+        private ConnectionSession pipelineSession;
+        
+        private Future<List<DatabasePacket>> future;
+        
+        private PipelinedStatement(final List<PostgreSQLCommandPacket> statementPackets) {
+            int index = 0;
+            parsePacket = statementPackets.get(index) instanceof PostgreSQLComParsePacket ? (PostgreSQLComParsePacket) statementPackets.get(index++) : null;
+            bindPacket = (PostgreSQLComBindPacket) statementPackets.get(index++);
+            describePacket = statementPackets.get(index) instanceof PostgreSQLComDescribePacket ? (PostgreSQLComDescribePacket) statementPackets.get(index++) : null;
+            executePacket = (PostgreSQLComExecutePacket) statementPackets.get(index);
+        }
+        
+        private PostgreSQLServerPreparedStatement getPreparedStatement() {
+            return connectionSession.getServerPreparedStatementRegistry().getPreparedStatement(bindPacket.getStatementId());
+        }
+        
+        private void parse() throws SQLException {
+            if (null != parsePacket) {
+                parseResponses.addAll(execute(new PostgreSQLComParseExecutor(parsePacket, connectionSession)));
+            }
+        }
+        
+        private List<DatabasePacket> executeSerially() throws SQLException {
+            List<DatabasePacket> result = new LinkedList<>(parseResponses);
+            result.addAll(execute(new PostgreSQLComBindExecutor(portalContext, bindPacket, connectionSession)));
+            if (null != describePacket) {
+                result.addAll(execute(new PostgreSQLComDescribeExecutor(portalContext, describePacket, connectionSession, COLUMN_TYPE_OID_RESOLVER)));
+            }
+            result.addAll(execute(new PostgreSQLComExecuteExecutor(portalContext, executePacket)));
+            return result;
+        }
+        
+        private Collection<DatabasePacket> execute(final CommandExecutor executor) throws SQLException {
+            try {
+                return executor.execute();
+            } finally {
+                executor.close();
+            }
+        }
+        
+        private void submit() throws SQLException {
+            pipelineSession = borrowPipelineSession();
+            portal = new PostgreSQLComBindExecutor(portalContext, bindPacket, connectionSession).createPortal(pipelineSession.getDatabaseConnectionManager());
+            future = UserExecutorGroup.getInstance().getExecutorService().submit(() -> {
+                portal.bind();
+                List<DatabasePacket> result = new LinkedList<>();
+                result.add(PostgreSQLBindCompletePacket.getInstance());
+                if (null != describePacket) {
+                    result.add(portal.describe());
+                }
+                result.addAll(portal.execute(executePacket.getMaxRows()));
+                return result;
+            });
+        }
+        
+        private List<DatabasePacket> getResult() throws SQLException {
+            try {
+                return future.get();
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new SQLException(ex);
+            } catch (final ExecutionException ex) {
+                Throwable cause = ex.getCause();
+                if (cause instanceof SQLException) {
+                    throw (SQLException) cause;
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new SQLException(cause);
+            }
+        }
+    }
+}
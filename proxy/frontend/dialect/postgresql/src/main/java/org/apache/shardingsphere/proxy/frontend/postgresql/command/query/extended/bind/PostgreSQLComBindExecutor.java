@@ -48,13 +48,23 @@ public final class PostgreSQLComBindExecutor implements CommandExecutor {
     
     @Override
     public Collection<DatabasePacket> execute() throws SQLException {
-        PostgreSQLServerPreparedStatement preparedStatement = connectionSession.getServerPreparedStatementRegistry().getPreparedStatement(packet.getStatementId());
-        List<Object> parameters = preparedStatement.adjustParametersOrder(packet.readParameters(preparedStatement.getParameterTypes()));
-        PostgreSQLPreparedStatementParameterTypeResolver.resolveParameterTypes(connectionSession, preparedStatement, parameters);
-        ProxyDatabaseConnectionManager databaseConnectionManager = connectionSession.getDatabaseConnectionManager();
-        Portal portal = new Portal(packet.getPortal(), preparedStatement, parameters, packet.readResultFormats(), databaseConnectionManager);
+        Portal portal = createPortal(connectionSession.getDatabaseConnectionManager());
         portalContext.add(portal);
         portal.bind();
         return Collections.singleton(PostgreSQLBindCompletePacket.getInstance());
     }
+    
+    /**
+     * Create portal without adding it to portal context or binding it.
+     *
+     * @param databaseConnectionManager database connection manager to execute portal with
+     * @return created portal
+     * @throws SQLException SQL exception
+     */
+    public Portal createPortal(final ProxyDatabaseConnectionManager databaseConnectionManager) throws SQLException {
+        PostgreSQLServerPreparedStatement preparedStatement = connectionSession.getServerPreparedStatementRegistry().getPreparedStatement(packet.getStatementId());
+        List<Object> parameters = preparedStatement.adjustParametersOrder(packet.readParameters(preparedStatement.getParameterTypes()));
+        PostgreSQLPreparedStatementParameterTypeResolver.resolveParameterTypes(connectionSession, preparedStatement, parameters);
+        return new Portal(packet.getPortal(), preparedStatement, parameters, packet.readResultFormats(), databaseConnectionManager);
+    }
 }
@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended;
+
+import org.apache.shardingsphere.database.protocol.packet.DatabasePacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.PostgreSQLCommandPacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLBindCompletePacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.bind.PostgreSQLComBindPacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.describe.PostgreSQLComDescribePacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.execute.PostgreSQLComExecutePacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.parse.PostgreSQLComParsePacket;
+import org.apache.shardingsphere.database.protocol.postgresql.packet.command.query.extended.sync.PostgreSQLComSyncPacket;
+import org.apache.shardingsphere.proxy.backend.connector.ProxyDatabaseConnectionManager;
+import org.apache.shardingsphere.proxy.backend.context.ProxyContext;
+import org.apache.shardingsphere.proxy.backend.session.ConnectionSession;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.PortalContext;
+import org.apache.shardingsphere.proxy.frontend.postgresql.command.query.extended.bind.PostgreSQLComBindExecutor;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.SelectStatement;
+import org.apache.shardingsphere.test.infra.framework.extension.mock.AutoMockExtension;
+import org.apache.shardingsphere.test.infra.framework.extension.mock.StaticMockSettings;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.MockedConstruction;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockConstruction;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@ExtendWith(AutoMockExtension.class)
+@StaticMockSettings(ProxyContext.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class PostgreSQLPipelinedStatementsCommandExecutorTest {
+    
+    @Mock
+    private PortalContext portalContext;
+    
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private ConnectionSession connectionSession;
+    
+    @Test
+    void assertGetPipelinedStatementsEndIndex() {
+        List<PostgreSQLCommandPacket> packets = Arrays.asList(mock(PostgreSQLComParsePacket.class), createBindPacket("s1"), createDescribePortalPacket(), createExecutePacket(),
+                createBindPacket("s2"), createExecutePacket(), mock(PostgreSQLComSyncPacket.class));
+        assertThat(PostgreSQLPipelinedStatementsCommandExecutor.getPipelinedStatementsEndIndex(packets, 0), is(6));
+        assertThat(PostgreSQLPipelinedStatementsCommandExecutor.getPipelinedStatementsEndIndex(packets, 4), is(4));
+    }
+    
+    @Test
+    void assertExecuteConcurrentlyAndRespondInProtocolOrder() throws SQLException, InterruptedException {
+        Portal firstPortal = mock(Portal.class);
+        Portal secondPortal = mock(Portal.class);
+        CountDownLatch secondBound = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            assertTrue(secondBound.await(10L, TimeUnit.SECONDS));
+            return null;
+        }).when(firstPortal).bind();
+        doAnswer(invocation -> {
+            secondBound.countDown();
+            return null;
+        }).when(secondPortal).bind();
+        DatabasePacket firstResponse = mock(DatabasePacket.class);
+        DatabasePacket secondResponse = mock(DatabasePacket.class);
+        when(firstPortal.execute(anyInt())).thenReturn(Collections.singletonList(firstResponse));
+        when(secondPortal.execute(anyInt())).thenReturn(Collections.singletonList(secondResponse));
+        List<Portal> portals = new ArrayList<>(Arrays.asList(firstPortal, secondPortal));
+        mockSelectPreparedStatement("s1");
+        mockSelectPreparedStatement("s2");
+        List<ProxyDatabaseConnectionManager> databaseConnectionManagers = new ArrayList<>(2);
+        Collection<DatabasePacket> actual;
+        try (MockedConstruction<PostgreSQLComBindExecutor> ignored = mockConstruction(PostgreSQLComBindExecutor.class, (mock, context) -> when(mock.createPortal(any())).thenAnswer(invocation -> {
+            databaseConnectionManagers.add(invocation.getArgument(0));
+            return portals.remove(0);
+        }))) {
+            actual = new PostgreSQLPipelinedStatementsCommandExecutor(portalContext, connectionSession,
+                    Arrays.asList(createBindPacket("s1"), createExecutePacket(), createBindPacket("s2"), createExecutePacket()), 2).execute();
+        }
+        assertThat(new ArrayList<>(actual), is(Arrays.asList(PostgreSQLBindCompletePacket.getInstance(), firstResponse, PostgreSQLBindCompletePacket.getInstance(), secondResponse)));
+        assertThat(databaseConnectionManagers.size(), is(2));
+        assertThat(databaseConnectionManagers.get(0), not(databaseConnectionManagers.get(1)));
+        assertThat(databaseConnectionManagers.get(0), not(connectionSession.getDatabaseConnectionManager()));
+        assertThat(databaseConnectionManagers.get(0).getConnectionSession().getProcessId(), not(databaseConnectionManagers.get(1).getConnectionSession().getProcessId()));
+        InOrder inOrder = inOrder(portalContext);
+        inOrder.verify(portalContext).add(firstPortal);
+        inOrder.verify(portalContext).add(secondPortal);
+    }
+    
+    @Test
+    void assertExecuteWithFailedStatement() throws SQLException {
+        Portal firstPortal = mock(Portal.class);
+        Portal secondPortal = mock(Portal.class);
+        doAnswer(invocation -> {
+            throw new SQLException("failed");
+        }).when(firstPortal).bind();
+        List<Portal> portals = new ArrayList<>(Arrays.asList(firstPortal, secondPortal));
+        mockSelectPreparedStatement("s1");
+        mockSelectPreparedStatement("s2");
+        try (MockedConstruction<PostgreSQLComBindExecutor> ignored = mockConstruction(PostgreSQLComBindExecutor.class, (mock, context) -> when(mock.createPortal(any())).thenReturn(portals.remove(0)))) {
+            assertThrows(SQLException.class, () -> new PostgreSQLPipelinedStatementsCommandExecutor(portalContext, connectionSession,
+                    Arrays.asList(createBindPacket("s1"), createExecutePacket(), createBindPacket("s2"), createExecutePacket()), 2).execute());
+        }
+        verify(firstPortal).close();
+        verify(secondPortal).close();
+        verify(portalContext, never()).add(any(Portal.class));
+    }
+    
+    private void mockSelectPreparedStatement(final String statementId) {
+        PostgreSQLServerPreparedStatement preparedStatement = mock(PostgreSQLServerPreparedStatement.class, Answers.RETURNS_DEEP_STUBS);
+        when(preparedStatement.getSqlStatementContext().getSqlStatement()).thenReturn(mock(SelectStatement.class));
+        when(connectionSession.getServerPreparedStatementRegistry().getPreparedStatement(statementId)).thenReturn(preparedStatement);
+    }
+    
+    private PostgreSQLComBindPacket createBindPacket(final String statementId) {
+        PostgreSQLComBindPacket result = mock(PostgreSQLComBindPacket.class);
+        when(result.getPortal()).thenReturn("");
+        when(result.getStatementId()).thenReturn(statementId);
+        return result;
+    }
+    
+    private PostgreSQLComDescribePacket createDescribePortalPacket() {
+        PostgreSQLComDescribePacket result = mock(PostgreSQLComDescribePacket.class);
+        when(result.getType()).thenReturn('P');
+        when(result.getName()).thenReturn("");
+        return result;
+    }
+    
+    private PostgreSQLComExecutePacket createExecutePacket() {
+        PostgreSQLComExecutePacket result = mock(PostgreSQLComExecutePacket.class);
+        when(result.getPortal()).thenReturn("");
+        return result;
+    }
+}
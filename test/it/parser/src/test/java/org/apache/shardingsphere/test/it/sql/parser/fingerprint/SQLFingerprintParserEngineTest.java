@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.shardingsphere.test.it.sql.parser.fingerprint;
+
+import org.apache.shardingsphere.database.connector.core.type.DatabaseType;
+import org.apache.shardingsphere.infra.spi.type.typed.TypedSPILoader;
+import org.apache.shardingsphere.sql.parser.engine.api.CacheOption;
+import org.apache.shardingsphere.sql.parser.engine.api.SQLFingerprintParserEngine;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.BinaryOperationExpression;
+import org.apache.shardingsphere.sql.parser.statement.core.segment.dml.expr.simple.LiteralExpressionSegment;
+import org.apache.shardingsphere.sql.parser.statement.core.statement.type.dml.SelectStatement;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class SQLFingerprintParserEngineTest {
+    
+    private final SQLFingerprintParserEngine engine = new SQLFingerprintParserEngine(TypedSPILoader.getService(DatabaseType.class, "MySQL"), new CacheOption(16, 16L));
+    
+    @Test
+    void assertParseWithSameFingerprint() {
+        assertLiteralCondition((SelectStatement) engine.parse("SELECT * FROM t_order WHERE order_id = 1"), 39, 39, "1");
+        assertLiteralCondition((SelectStatement) engine.parse("SELECT * FROM t_order /* comment */ WHERE order_id = 10000"), 53, 57, "10000");
+        assertThat(engine.getCacheStats().missCount(), is(1L));
+        assertThat(engine.getCacheStats().hitCount(), is(1L));
+    }
+    
+    @Test
+    void assertParseWithDifferentLiteralType() {
+        engine.parse("SELECT * FROM t_order WHERE order_id = 1");
+        assertLiteralCondition((SelectStatement) engine.parse("SELECT * FROM t_order WHERE order_id = 'foo'"), 39, 43, "foo");
+        assertThat(engine.getCacheStats().missCount(), is(2L));
+    }
+    
+    @Test
+    void assertParseWithDifferentIdentifier() {
+        engine.parse("SELECT * FROM t_order WHERE order_id = 1");
+        engine.parse("SELECT * FROM t_order_item WHERE order_id = 1");
+        assertThat(engine.getCacheStats().missCount(), is(2L));
+    }
+    
+    @Test
+    void assertParseWithComments() {
+        engine.parse("SELECT * FROM t_order WHERE order_id = 1");
+        assertThat(engine.parse("/* SHARDINGSPHERE_HINT: DATA_SOURCE_NAME=ds_0 */ SELECT * FROM t_order WHERE order_id = 2").getComments().size(), is(1));
+        assertThat(engine.getCacheStats().hitCount(), is(1L));
+    }
+    
+    private void assertLiteralCondition(final SelectStatement actual, final int expectedStartIndex, final int expectedStopIndex, final String expectedLiteral) {
+        BinaryOperationExpression condition = (BinaryOperationExpression) actual.getWhere().orElseThrow(IllegalStateException::new).getExpr();
+        LiteralExpressionSegment literal = (LiteralExpressionSegment) condition.getRight();
+        assertThat(literal.getStartIndex(), is(expectedStartIndex));
+        assertThat(literal.getStopIndex(), is(expectedStopIndex));
+        assertThat(String.valueOf(literal.getLiterals()), is(expectedLiteral));
+        assertThat(condition.getStopIndex(), is(expectedStopIndex));
+    }
+}
@@ -37,6 +37,7 @@ import org.apache.shardingsphere.test.it.data.pipeline.core.fixture.algorithm.Fi
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -44,6 +45,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -51,12 +53,15 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -109,7 +114,34 @@ class PipelineDataSourceSinkTest {
         verify(preparedStatement).setObject(1, 1);
         verify(preparedStatement).setObject(2, 10);
         verify(preparedStatement).setObject(3, PipelineSQLOperationType.INSERT);
-        verify(preparedStatement).addBatch();
+        verify(preparedStatement).executeUpdate();
+    }
+    
+    @Test
+    void assertWriteInsertDataRecordsSplitByBytesBudget() throws SQLException {
+        char[] user = new char[100 * 1024];
+        Arrays.fill(user, 'x');
+        List<Record> records = new LinkedList<>();
+        for (int i = 1; i <= 12; i++) {
+            records.add(getInsertDataRecord(i, new String(user)));
+        }
+        records.add(new FinishedRecord(new IngestFinishedPosition()));
+        when(connection.prepareStatement(any())).thenReturn(preparedStatement);
+        when(channel.fetch(anyInt(), anyLong())).thenReturn(records);
+        importer.run();
+        ArgumentCaptor<String> sqlCaptor = ArgumentCaptor.forClass(String.class);
+        verify(connection, times(3)).prepareStatement(sqlCaptor.capture());
+        assertThat(countInsertRows(sqlCaptor.getAllValues().get(0)), is(5));
+        assertThat(countInsertRows(sqlCaptor.getAllValues().get(1)), is(5));
+        assertThat(countInsertRows(sqlCaptor.getAllValues().get(2)), is(2));
+        verify(preparedStatement).setObject(1, 6);
+        verify(preparedStatement).setObject(1, 11);
+        verify(preparedStatement, times(3)).executeUpdate();
+        verify(connection).commit();
+    }
+    
+    private int countInsertRows(final String sql) {
+        return sql.split("\\(\\?,\\?,\\?\\)", -1).length - 1;
     }
     
     @Test
@@ -160,6 +192,14 @@ class PipelineDataSourceSinkTest {
         return result;
     }
     
+    private DataRecord getInsertDataRecord(final int id, final String user) {
+        DataRecord result = new DataRecord(PipelineSQLOperationType.INSERT, TABLE_NAME, new IngestPlaceholderPosition(), 3);
+        result.addColumn(new NormalColumn("id", id, false, true));
+        result.addColumn(new NormalColumn("user", user, true, false));
+        result.addColumn(new NormalColumn("status", PipelineSQLOperationType.INSERT, true, false));
+        return result;
+    }
+    
     private List<Record> mockRecords(final DataRecord dataRecord) {
         List<Record> result = new LinkedList<>();
         result.add(dataRecord);